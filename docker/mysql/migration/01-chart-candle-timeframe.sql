@@ -0,0 +1,15 @@
+-- ====================================
+-- chart_candles 타임프레임 컬럼 추가
+-- ====================================
+-- ddl-auto=update는 컬럼만 추가하고 기존 유니크 제약은 바꾸지 않으므로
+-- 운영 DB에는 배포 전에 이 스크립트를 한 번 실행합니다.
+
+USE autocoin_db;
+
+ALTER TABLE chart_candles
+    ADD COLUMN timeframe VARCHAR(5) NOT NULL DEFAULT '1m' AFTER market;
+
+-- (market, candleTime) -> (market, timeframe, candleTime)
+ALTER TABLE chart_candles
+    DROP INDEX uk_chart_candle_market_time,
+    ADD CONSTRAINT uk_chart_candle_market_time UNIQUE (market, timeframe, candleTime);
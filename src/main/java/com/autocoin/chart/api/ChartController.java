@@ -1,21 +1,36 @@
 package com.autocoin.chart.api;
 
 import com.autocoin.chart.application.ChartService;
+import com.autocoin.chart.application.ChartSseService;
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
 import com.autocoin.chart.dto.LightweightChartDto;
+import com.autocoin.chart.infrastructure.CandleBinaryCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 차트 데이터 REST API 컨트롤러
  * - 차트 데이터 조회 API 제공
  * - lightweight-charts 형태로 응답
+ * - Accept: application/x-autocoin-candles 요청 시 컬럼형 바이너리로 응답 (/fast, /database)
+ * - STOMP를 쓰지 않는 클라이언트용 실시간 SSE 스트림 (/stream)
  */
 @Slf4j
 @RestController
@@ -25,11 +40,28 @@ import java.util.List;
 public class ChartController {
 
     private final ChartService chartService;
+    private final ChartSseService chartSseService;
+
+    // /database 최대 조회 건수 (JSON 스트리밍 응답)
+    @Value("${app.chart.database.max-limit:100000}")
+    private int maxDatabaseLimit;
+
+    // /database 바이너리 응답 최대 조회 건수 (전체를 메모리에 올려 인코딩하므로 낮게 유지)
+    @Value("${app.chart.database.binary-max-limit:1000}")
+    private int maxDatabaseBinaryLimit;
+
+    // /fast 공개 캐시 유지 시간 (이후 ETag로 재검증)
+    @Value("${app.chart.fast.max-age-seconds:1}")
+    private long fastMaxAgeSeconds;
 
     /**
      * 빠른 차트 데이터 조회 (거래소 방식)
      * - 캐시에서 즉시 반환, 외부 API 호출 없음
+     * - 메모리 링 버퍼에 있으면 JSON을 바로 응답, 없으면 Redis 조회
+     * - 최신 캔들 시각 + 쓰기 버전 ETag, If-None-Match 일치 시 304 (본문 생성/Redis 조회 없음)
+     * - Cache-Control은 짧은 max-age + must-revalidate (진행 중 캔들은 분 중간에도 바뀌고 수집도 분 경계 후 몇 초에 걸쳐 끝나므로 ETag/304로 재검증)
      * @param market 마켓 코드 (선택사항, 기본값: KRW-BTC)
+     * @param interval 타임프레임 (1m, 3m, 5m, 15m, 1h, 4h, 1d)
      * @return lightweight-charts 형태의 캔들 데이터
      */
     @GetMapping("/fast")
@@ -37,11 +69,15 @@ public class ChartController {
         summary = "빠른 차트 데이터 조회", 
         description = "캐시된 데이터를 즉시 반환합니다. 외부 API 호출 없이 0.1초 내 응답. 거래소 방식."
     )
-    public ResponseEntity<List<LightweightChartDto>> getFastChartData(
+    public ResponseEntity<?> getFastChartData(
             @Parameter(description = "마켓 코드 (예: KRW-BTC)", example = "KRW-BTC")
-            @RequestParam(value = "market", required = false, defaultValue = "KRW-BTC") String market) {
+            @RequestParam(value = "market", required = false, defaultValue = "KRW-BTC") String market,
+            @Parameter(description = "타임프레임 (1m, 3m, 5m, 15m, 1h, 4h, 1d)", example = "1m")
+            @RequestParam(value = "interval", required = false, defaultValue = "1m") String interval,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
-        log.info("Fast chart data requested for market: {}", market);
+        log.debug("Fast chart data requested for market: {}, interval: {}", market, interval);
         
         try {
             // 마켓 코드 검증
@@ -49,16 +85,56 @@ public class ChartController {
                 return ResponseEntity.badRequest().build();
             }
 
-            List<LightweightChartDto> chartData = chartService.getFastChartData(market.trim().toUpperCase());
+            String targetMarket = market.trim().toUpperCase();
+            Timeframe timeframe = Timeframe.fromCode(interval);
+
+            boolean binary = CandleBinaryCodec.isRequested(accept);
+            CacheControl cacheControl = revalidateAfter(fastMaxAgeSeconds);
+
+            // 조건부 요청: 메모리 버전만 비교하고 본문은 만들지 않음
+            String etag = chartService.getFastChartETag(targetMarket, timeframe, binary);
+            if (etag != null && matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(cacheControl)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .build();
+            }
+
+            if (binary) {
+                byte[] body = chartService.getFastChartBinary(targetMarket, timeframe);
+                if (body == null) {
+                    return ResponseEntity.noContent().build();
+                }
+                return cacheable(etag != null ? etag : chartService.getFastChartETag(targetMarket, timeframe, true),
+                        cacheControl)
+                        .contentType(CandleBinaryCodec.MEDIA_TYPE)
+                        .body(body);
+            }
+
+            // 메모리 hot tier
+            byte[] json = chartService.getFastChartJson(targetMarket, timeframe);
+            if (json != null) {
+                return cacheable(etag, cacheControl)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(json);
+            }
+
+            List<Candle> chartData = chartService.getFastChartData(targetMarket, timeframe);
             
             if (chartData.isEmpty()) {
                 log.warn("No fast chart data available for market: {}", market);
                 return ResponseEntity.noContent().build();
             }
 
+            // Redis에서 읽으며 메모리를 채웠으므로 이후 요청부터 ETag 비교 가능
             log.info("Fast returning {} chart data points for market: {}", chartData.size(), market);
-            return ResponseEntity.ok(chartData);
+            return cacheable(chartService.getFastChartETag(targetMarket, timeframe, false), cacheControl)
+                    .body(chartData);
 
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid chart interval requested: {}", interval);
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("Error retrieving fast chart data for market: {}, error: {}", market, e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
@@ -67,17 +143,22 @@ public class ChartController {
 
     /**
      * 🎆 DB에서 차트 데이터 조회 (영구 저장된 데이터)
+     * - JSON은 DB 커서에서 읽는 즉시 응답 스트림에 기록 (최신순)
+     * - 바이너리는 헤더에 개수/공통 자릿수가 필요해 한 번에 인코딩하므로 binary-max-limit까지만 조회
      */
     @GetMapping("/database")
     @Operation(
         summary = "DB 차트 데이터 조회", 
         description = "데이터베이스에 영구 저장된 실제 업비트 차트 데이터를 조회합니다. Redis 우회 및 안정성 보장."
     )
-    public ResponseEntity<List<LightweightChartDto>> getDatabaseChartData(
+    public ResponseEntity<?> getDatabaseChartData(
             @Parameter(description = "마켓 코드 (예: KRW-BTC)", example = "KRW-BTC")
             @RequestParam(value = "market", required = false, defaultValue = "KRW-BTC") String market,
             @Parameter(description = "캔듡 개수", example = "100")
-            @RequestParam(value = "limit", required = false, defaultValue = "100") int limit) {
+            @RequestParam(value = "limit", required = false, defaultValue = "100") int limit,
+            @Parameter(description = "타임프레임 (1m, 3m, 5m, 15m, 1h, 4h, 1d)", example = "1m")
+            @RequestParam(value = "interval", required = false, defaultValue = "1m") String interval,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         
         long startTime = System.currentTimeMillis();
         
@@ -87,21 +168,41 @@ public class ChartController {
                 return ResponseEntity.badRequest().build();
             }
             
-            // limit 제한
-            limit = Math.min(Math.max(limit, 10), 1000);
-            
-            List<LightweightChartDto> chartData = chartService.getChartDataFromDatabase(market.trim().toUpperCase(), limit);
-            
-            long duration = System.currentTimeMillis() - startTime;
-            
-            if (chartData.isEmpty()) {
-                log.warn("No database chart data available for market: {} after {}ms", market, duration);
+            String targetMarket = market.trim().toUpperCase();
+            Timeframe timeframe = Timeframe.fromCode(interval);
+
+            if (CandleBinaryCodec.isRequested(accept)) {
+                int binaryLimit = Math.min(Math.max(limit, 10), Math.max(10, maxDatabaseBinaryLimit));
+                List<Candle> chartData = chartService.getChartDataFromDatabase(targetMarket, timeframe, binaryLimit);
+                if (chartData.isEmpty()) {
+                    log.warn("No database chart data available for market: {}", market);
+                    return ResponseEntity.noContent().build();
+                }
+                log.info("Database chart data loaded in {}ms with {} candles for market: {}",
+                        System.currentTimeMillis() - startTime, chartData.size(), market);
+                return binary(CandleBinaryCodec.encode(chartData));
+            }
+
+            // limit 제한 (JSON은 스트리밍으로 기록하므로 크게 허용)
+            int targetLimit = Math.min(Math.max(limit, 10), Math.max(10, maxDatabaseLimit));
+
+            if (!chartService.hasChartDataInDatabase(targetMarket, timeframe)) {
+                log.warn("No database chart data available for market: {}", market);
                 return ResponseEntity.noContent().build();
             }
-            
-            log.info("Database chart data loaded in {}ms with {} candles for market: {}", duration, chartData.size(), market);
-            return ResponseEntity.ok(chartData);
 
+            StreamingResponseBody body = out -> {
+                int rows = chartService.writeChartDataFromDatabase(targetMarket, timeframe, targetLimit, out);
+                log.info("Database chart data streamed in {}ms with {} candles for market: {}",
+                        System.currentTimeMillis() - startTime, rows, targetMarket);
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid chart interval requested: {}", interval);
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             long errorTime = System.currentTimeMillis() - startTime;
             log.error("Database chart data loading failed after {}ms for market: {}, error: {}", errorTime, market, e.getMessage());
@@ -109,6 +210,46 @@ public class ChartController {
         }
     }
 
+    /**
+     * 실시간 차트 SSE 스트림
+     * - 한 연결에서 여러 마켓을 구독 (event: candle, stream, snapshot, reset)
+     * - Last-Event-ID 헤더(또는 lastEventId 파라미터)로 끊긴 지점부터 재개
+     * @param markets 쉼표로 구분한 마켓 코드 (예: KRW-BTC,KRW-ETH)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "실시간 차트 SSE 스트림",
+        description = "STOMP 없이 HTTP로 여러 마켓의 실시간 캔들을 수신합니다. Last-Event-ID로 재개할 수 있습니다."
+    )
+    public ResponseEntity<SseEmitter> streamChartData(
+            @Parameter(description = "마켓 코드 목록 (예: KRW-BTC,KRW-ETH)", example = "KRW-BTC")
+            @RequestParam(value = "markets") String markets,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        List<String> targetMarkets = Arrays.stream(markets.split(","))
+                .map(String::trim)
+                .filter(market -> !market.isEmpty())
+                .map(String::toUpperCase)
+                .distinct()
+                .toList();
+        if (targetMarkets.isEmpty() || targetMarkets.size() > chartSseService.getMaxMarkets()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        SseEmitter emitter = chartSseService.open(targetMarkets, lastEventId != null ? lastEventId : lastEventIdParam);
+        if (emitter == null) {
+            log.warn("Chart SSE connection limit reached, rejecting markets: {}", targetMarkets);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        // 프록시 버퍼링 없이 바로 전달
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .cacheControl(CacheControl.noStore())
+                .body(emitter);
+    }
+
     /**
      * 더미 데이터 조회 (테스트용)
      */
@@ -181,4 +322,43 @@ public class ChartController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    private static ResponseEntity<byte[]> binary(byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(CandleBinaryCodec.MEDIA_TYPE)
+                .body(body);
+    }
+
+    private static ResponseEntity.BodyBuilder cacheable(String etag, CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT);
+        return etag != null ? builder.eTag(etag) : builder;
+    }
+
+    /**
+     * 짧은 시간만 공개 캐시 허용 후 재검증 (공개 시세 데이터, 재검증은 ETag 비교로 본문 없이 304)
+     */
+    private static CacheControl revalidateAfter(long seconds) {
+        return CacheControl.maxAge(Math.max(0, seconds), TimeUnit.SECONDS).cachePublic().mustRevalidate();
+    }
+
+    /**
+     * If-None-Match 비교 (목록, 약한 비교, * 허용)
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
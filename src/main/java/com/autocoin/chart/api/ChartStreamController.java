@@ -0,0 +1,29 @@
+package com.autocoin.chart.api;
+
+import com.autocoin.chart.application.CandleStreamService;
+import com.autocoin.chart.dto.CandleStreamMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 실시간 캔들 스트림 STOMP 컨트롤러 (프로토콜 v2)
+ * - SUBSCRIBE /app/chart/v2/{market} → 진행 중 캔들 snapshot 1회 응답
+ * - 이후 diff/close는 /topic/chart/v2/{market} 구독으로 수신 (snapshot의 q 이후 번호만 적용)
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ChartStreamController {
+
+    private final CandleStreamService candleStreamService;
+
+    @SubscribeMapping("/chart/v2/{market}")
+    public CandleStreamMessage snapshot(@DestinationVariable String market) {
+        CandleStreamMessage snapshot = candleStreamService.snapshot(market.trim().toUpperCase());
+        log.debug("Chart stream snapshot requested for market: {} (available: {})", market, snapshot != null);
+        return snapshot;
+    }
+}
@@ -0,0 +1,369 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.domain.entity.CandleBackfillCheckpoint;
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.repository.CandleBackfillCheckpointJpaRepository;
+import com.autocoin.chart.dto.UpbitCandleDto;
+import com.autocoin.chart.infrastructure.ChartUpbitApiClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 1분봉 히스토리 백필 서비스
+ * - 마켓별로 chart_candles의 누락 구간을 탐지하고 Upbit to 커서로 과거 방향 페이지 조회
+ * - 페이지(최대 200개)는 초당 요청 한도 안에서 동시 조회
+ * - 확인이 끝난 구간은 체크포인트(chart_backfill_checkpoints)로 저장해 재시작 후 이어서 진행
+ * - 저장한 1분봉은 롤업 서비스에 넘겨 해당 구간의 상위 타임프레임 캔들을 다시 집계
+ * - 진행률/처리량은 Micrometer 메트릭으로 제공
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CandleBackfillService {
+
+    private final ChartUpbitApiClient chartUpbitApiClient;
+    private final ChartDatabaseService chartDatabaseService;
+    private final CandleBackfillCheckpointJpaRepository checkpointRepository;
+    private final CandleIngestionService candleIngestionService;
+    private final CandleRollupService candleRollupService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.chart.backfill.enabled:${app.init.enabled:false}}")
+    private boolean enabled;
+
+    // 백필 대상 기간 (현재 시각 기준 과거 N일)
+    @Value("${app.chart.backfill.days:7}")
+    private int days;
+
+    @Value("${app.chart.backfill.concurrency:4}")
+    private int concurrency;
+
+    // 수집(CandleIngestionService)과 같은 요청 한도를 나눠 쓰므로 낮게 유지
+    @Value("${app.chart.backfill.requests-per-second:4}")
+    private int requestsPerSecond;
+
+    private static final String DEFAULT_MARKET = "KRW-BTC";
+    private static final long MINUTE = Timeframe.ONE_MINUTE.getSeconds();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Map<String, Progress> progresses = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void startExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(Math.max(1, concurrency) + 1, runnable -> {
+            Thread thread = new Thread(runnable, "candle-backfill-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stopExecutor() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 후 백그라운드 백필
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleBackfill();
+    }
+
+    /**
+     * 주기적 누락 구간 백필 (기본: 매시 30분)
+     * - 스케줄러 스레드를 막지 않도록 백필 전용 스레드에서 실행
+     */
+    @Scheduled(cron = "${app.chart.backfill.cron:0 30 * * * *}")
+    public void scheduleBackfill() {
+        if (enabled) {
+            executor.execute(this::backfill);
+        }
+    }
+
+    /**
+     * 추적 중인 전체 마켓 백필 (동시에 한 번만 실행)
+     */
+    public void backfill() {
+        if (!enabled) {
+            log.debug("Candle backfill is disabled (app.chart.backfill.enabled=false)");
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Candle backfill is already running, skipping");
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            List<String> markets = resolveMarkets();
+            log.info("Candle backfill started for {} markets ({} days)", markets.size(), days);
+
+            for (String market : markets) {
+                try {
+                    backfillMarket(market);
+                } catch (Exception e) {
+                    log.error("Candle backfill failed for market: {}, error: {}", market, e.getMessage());
+                }
+            }
+        } finally {
+            long elapsedNanos = sample.stop(meterRegistry.timer("chart.backfill.run"));
+            running.set(false);
+            log.info("Candle backfill finished in {}s", TimeUnit.NANOSECONDS.toSeconds(elapsedNanos));
+        }
+    }
+
+    /**
+     * 마켓 단위 백필
+     * - 체크포인트 이후(최신 방향) 구간을 먼저, 이전(과거 방향) 구간을 나중에 확인
+     * - 페이지 묶음(wave)이 모두 성공할 때마다 체크포인트 갱신, 실패 시 다음 주기에 재시도
+     */
+    private void backfillMarket(String market) {
+        long now = Timeframe.ONE_MINUTE.bucketStart(System.currentTimeMillis() / 1000);
+        long targetFrom = now - days * Timeframe.ONE_DAY.getSeconds();
+
+        CandleBackfillCheckpoint checkpoint = checkpointRepository.findByMarket(market)
+            .orElseGet(() -> CandleBackfillCheckpoint.builder()
+                .market(market)
+                .verifiedFrom(now)
+                .verifiedTo(now)
+                .build());
+
+        // 체크포인트 구간 바깥만 누락 탐지
+        List<Page> newerPages = planPages(
+            chartDatabaseService.findCandleTimes(market, Timeframe.ONE_MINUTE, checkpoint.getVerifiedTo(), now),
+            checkpoint.getVerifiedTo(), now);
+        List<Page> olderPages = checkpoint.getVerifiedFrom() > targetFrom
+            ? planPages(
+                chartDatabaseService.findCandleTimes(market, Timeframe.ONE_MINUTE, targetFrom, checkpoint.getVerifiedFrom()),
+                targetFrom, checkpoint.getVerifiedFrom())
+            : List.of();
+
+        Progress progress = progress(market);
+        progress.start(newerPages.size() + olderPages.size(),
+            newerPages.stream().mapToLong(Page::missingMinutes).sum()
+                + olderPages.stream().mapToLong(Page::missingMinutes).sum());
+
+        if (newerPages.isEmpty() && olderPages.isEmpty()) {
+            checkpoint.extendTo(now);
+            checkpoint.extendFrom(targetFrom);
+            checkpointRepository.save(checkpoint);
+            log.debug("No gaps found for market: {}", market);
+            return;
+        }
+
+        log.info("Backfilling market: {} - {} pages ({} newer, {} older), {} missing minutes",
+            market, newerPages.size() + olderPages.size(), newerPages.size(), olderPages.size(),
+            progress.missingMinutes.get());
+
+        if (!runPages(market, newerPages, progress)) {
+            return;
+        }
+        checkpoint.extendTo(now);
+        checkpointRepository.save(checkpoint);
+
+        int waveSize = Math.max(1, concurrency);
+        for (int start = 0; start < olderPages.size(); start += waveSize) {
+            List<Page> wave = olderPages.subList(start, Math.min(start + waveSize, olderPages.size()));
+            if (!runPages(market, wave, progress)) {
+                return;
+            }
+            checkpoint.extendFrom(wave.get(wave.size() - 1).from());
+            checkpointRepository.save(checkpoint);
+        }
+
+        checkpoint.extendFrom(targetFrom);
+        checkpointRepository.save(checkpoint);
+    }
+
+    /**
+     * 페이지 동시 조회 후 일괄 저장 및 롤업 재집계
+     * - 요청은 1/requestsPerSecond 초 간격으로 분산 예약
+     * @return 모든 페이지 성공 여부
+     */
+    private boolean runPages(String market, List<Page> pages, Progress progress) {
+        if (pages.isEmpty()) {
+            return true;
+        }
+
+        long intervalMillis = 1000L / Math.max(1, requestsPerSecond);
+        List<CompletableFuture<List<UpbitCandleDto>>> futures = new ArrayList<>(pages.size());
+
+        for (int i = 0; i < pages.size(); i++) {
+            Page page = pages.get(i);
+            CompletableFuture<List<UpbitCandleDto>> future = new CompletableFuture<>();
+            executor.schedule(() -> {
+                try {
+                    future.complete(fetch(market, page));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            }, i * intervalMillis, TimeUnit.MILLISECONDS);
+            futures.add(future);
+        }
+
+        List<UpbitCandleDto> batch = new ArrayList<>();
+        boolean success = true;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                batch.addAll(futures.get(i).join());
+                progress.pageDone(pages.get(i));
+            } catch (Exception e) {
+                success = false;
+                log.warn("Backfill page failed for market: {} (to={}), error: {}",
+                    market, pages.get(i).to(), e.getMessage());
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            chartDatabaseService.saveUpbitCandles(batch);
+            meterRegistry.counter("chart.backfill.candles", "market", market).increment(batch.size());
+            candleRollupService.onBackfilledCandles(market, batch.stream()
+                .map(Candle::from)
+                .filter(Objects::nonNull)
+                .toList());
+        }
+        return success;
+    }
+
+    private List<UpbitCandleDto> fetch(String market, Page page) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            List<UpbitCandleDto> candles = chartUpbitApiClient.getCandles(market, page.count(), page.to());
+            sample.stop(meterRegistry.timer("chart.backfill.page", "result", "success"));
+            return candles;
+        } catch (RuntimeException e) {
+            sample.stop(meterRegistry.timer("chart.backfill.page", "result", "error"));
+            throw e;
+        }
+    }
+
+    /**
+     * 누락 구간을 조회 페이지로 변환
+     * - 저장된 캔들 시각 사이의 빈 분을 누락 구간으로 보고, 구간 끝에서 과거 방향으로 200개씩 분할
+     * - 거래가 없는 분은 Upbit에도 캔들이 없으므로 해당 페이지는 더 과거 캔들을 돌려줄 수 있음 (중복은 저장 시 제거)
+     * @param storedTimes 저장된 캔들 시각 (시간 오름차순, [from, to) 범위)
+     * @param from 탐지 시작 시각 (포함)
+     * @param to 탐지 종료 시각 (미포함)
+     * @return 조회 페이지 (최신순)
+     */
+    static List<Page> planPages(List<Long> storedTimes, long from, long to) {
+        List<long[]> gaps = new ArrayList<>();
+        long expected = from;
+        for (long time : storedTimes) {
+            if (time > expected) {
+                gaps.add(new long[]{expected, time});
+            }
+            expected = Math.max(expected, time + MINUTE);
+        }
+        if (expected < to) {
+            gaps.add(new long[]{expected, to});
+        }
+
+        List<Page> pages = new ArrayList<>();
+        for (int g = gaps.size() - 1; g >= 0; g--) {
+            long gapFrom = gaps.get(g)[0];
+            long cursor = gaps.get(g)[1];
+            while (cursor > gapFrom) {
+                int count = (int) Math.min(ChartUpbitApiClient.MAX_CANDLES_PER_REQUEST, (cursor - gapFrom) / MINUTE);
+                if (count <= 0) {
+                    break;
+                }
+                pages.add(new Page(cursor - count * MINUTE, cursor, count));
+                cursor -= count * MINUTE;
+            }
+        }
+        pages.sort(Comparator.comparingLong(Page::to).reversed());
+        return pages;
+    }
+
+    private List<String> resolveMarkets() {
+        List<String> markets = candleIngestionService.getTrackedMarkets();
+        if (markets.isEmpty()) {
+            candleIngestionService.refreshMarkets();
+            markets = candleIngestionService.getTrackedMarkets();
+        }
+        return markets.isEmpty() ? List.of(DEFAULT_MARKET) : markets;
+    }
+
+    /**
+     * 마켓별 진행 상태 (최초 조회 시 게이지 등록)
+     */
+    private Progress progress(String market) {
+        return progresses.computeIfAbsent(market, key -> {
+            Progress progress = new Progress();
+            Gauge.builder("chart.backfill.progress", progress, Progress::ratio)
+                .description("Fraction of planned backfill pages completed in the current run")
+                .tag("market", key)
+                .register(meterRegistry);
+            Gauge.builder("chart.backfill.missing.minutes", progress.missingMinutes, AtomicLong::get)
+                .description("Missing 1m candles still to be backfilled")
+                .tag("market", key)
+                .register(meterRegistry);
+            return progress;
+        });
+    }
+
+    /**
+     * 조회 페이지 (to 미포함, from 포함)
+     */
+    record Page(long from, long to, int count) {
+
+        long missingMinutes() {
+            return count;
+        }
+    }
+
+    private static final class Progress {
+
+        private final AtomicInteger totalPages = new AtomicInteger();
+        private final AtomicInteger donePages = new AtomicInteger();
+        private final AtomicLong missingMinutes = new AtomicLong();
+
+        private void start(int pages, long minutes) {
+            totalPages.set(pages);
+            donePages.set(0);
+            missingMinutes.set(minutes);
+        }
+
+        private void pageDone(Page page) {
+            donePages.incrementAndGet();
+            missingMinutes.addAndGet(-page.missingMinutes());
+        }
+
+        private double ratio() {
+            int total = totalPages.get();
+            return total == 0 ? 1.0 : (double) donePages.get() / total;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.dto.UpbitCandleDto;
+import com.autocoin.chart.infrastructure.CandleDataRepository;
+import com.autocoin.chart.infrastructure.CandleMemoryCache;
+import com.autocoin.chart.infrastructure.ChartUpbitApiClient;
+import com.autocoin.upbit.dto.UpbitMarketDto;
+import com.autocoin.upbit.infrastructure.UpbitApiClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다중 마켓 캔들 수집 서비스
+ * - 설정된 마켓 목록 또는 Upbit 마켓 목록(quote currency 기준)을 추적
+ * - 매분 마켓별 최신 캔들을 초당 요청 한도 안에서 분산 조회
+ * - 제한된 스레드 풀에서 동시 실행 후 메모리/Redis/DB에 일괄 저장
+ * - 마감된 1분봉은 상위 타임프레임 롤업으로 전달
+ * - 실시간 전송: v1 전체 캔들(ChartService) + v2 snapshot/diff 스트림(CandleStreamService), 구독 활성 마켓만
+ * - 마켓별 수집 지연(lag) 메트릭 제공
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CandleIngestionService {
+
+    private final ChartUpbitApiClient chartUpbitApiClient;
+    private final UpbitApiClient upbitApiClient;
+    private final CandleDataRepository candleDataRepository;
+    private final CandleMemoryCache candleMemoryCache;
+    private final ChartDatabaseService chartDatabaseService;
+    private final ChartService chartService;
+    private final CandleRollupService candleRollupService;
+    private final CandleStreamService candleStreamService;
+    private final MarketSubscriptionRegistry marketSubscriptionRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.init.enabled:false}")
+    private boolean initEnabled;
+
+    // 비어 있으면 Upbit 마켓 목록에서 조회
+    @Value("${app.chart.ingestion.markets:}")
+    private String configuredMarkets;
+
+    @Value("${app.chart.ingestion.quote-currency:KRW}")
+    private String quoteCurrency;
+
+    @Value("${app.chart.ingestion.max-markets:50}")
+    private int maxMarkets;
+
+    // Upbit 캔들 API 초당 요청 한도(10)보다 약간 낮게
+    @Value("${app.chart.ingestion.requests-per-second:8}")
+    private int requestsPerSecond;
+
+    @Value("${app.chart.ingestion.threads:4}")
+    private int threads;
+
+    // 직전 캔들(마감)과 현재 캔들(진행 중)을 함께 조회
+    @Value("${app.chart.ingestion.candles-per-fetch:2}")
+    private int candlesPerFetch;
+
+    @Value("${app.chart.ingestion.cycle-timeout-seconds:50}")
+    private long cycleTimeoutSeconds;
+
+    private static final String DEFAULT_MARKET = "KRW-BTC";
+
+    private final Map<String, AtomicLong> latestCandleTimes = new ConcurrentHashMap<>();
+
+    private volatile List<String> trackedMarkets = List.of();
+
+    private final AtomicBoolean cycleRunning = new AtomicBoolean();
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void startExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "candle-ingest-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stopExecutor() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 추적 마켓 목록 갱신 (매시 정각)
+     */
+    @Scheduled(cron = "${app.chart.ingestion.market-refresh-cron:0 0 * * * *}")
+    public void refreshMarkets() {
+        if (!initEnabled) {
+            return;
+        }
+
+        trackedMarkets = resolveMarkets();
+        log.info("Candle ingestion tracking {} markets", trackedMarkets.size());
+    }
+
+    /**
+     * 매분 캔들 수집
+     * - 마켓별 조회를 1/requestsPerSecond 초 간격으로 분산 예약하고 바로 반환 (공용 스케줄러 스레드를 붙잡지 않음)
+     * - 모든 조회가 끝나거나 cycle-timeout-seconds가 지나면 수집 스레드에서 한 번에 저장
+     * - 이전 주기가 아직 끝나지 않았으면 이번 주기는 건너뜀
+     */
+    @Scheduled(cron = "${app.chart.ingestion.cron:1 * * * * *}")
+    public void ingest() {
+        if (!initEnabled) {
+            log.debug("Candle ingestion is disabled (app.init.enabled=false)");
+            return;
+        }
+
+        runCycle();
+    }
+
+    /**
+     * 수집 주기 시작 (완료 시 저장까지 끝나는 future 반환)
+     */
+    CompletableFuture<Void> runCycle() {
+        if (!cycleRunning.compareAndSet(false, true)) {
+            meterRegistry.counter("chart.ingestion.cycle.skipped").increment();
+            log.warn("Previous candle ingestion cycle is still running, skipping this cycle");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            if (trackedMarkets.isEmpty()) {
+                trackedMarkets = resolveMarkets();
+            }
+
+            List<String> markets = trackedMarkets;
+            Timer.Sample cycle = Timer.start(meterRegistry);
+
+            long intervalMillis = 1000L / Math.max(1, requestsPerSecond);
+            List<CompletableFuture<List<UpbitCandleDto>>> futures = new ArrayList<>(markets.size());
+
+            for (int i = 0; i < markets.size(); i++) {
+                String market = markets.get(i);
+                CompletableFuture<List<UpbitCandleDto>> future = new CompletableFuture<>();
+                executor.schedule(() -> future.complete(fetch(market)), i * intervalMillis, TimeUnit.MILLISECONDS);
+                futures.add(future);
+            }
+
+            CompletableFuture<?>[] all = futures.toArray(new CompletableFuture<?>[0]);
+            return CompletableFuture.allOf(all)
+                .orTimeout(cycleTimeoutSeconds, TimeUnit.SECONDS)
+                .handleAsync((ignored, error) -> {
+                    if (error != null) {
+                        log.warn("Candle ingestion cycle did not finish within {}s: {}",
+                                cycleTimeoutSeconds, error.getMessage());
+                    }
+                    finishCycle(markets, futures, cycle);
+                    return (Void) null;
+                }, executor)
+                .whenComplete((ignored, error) -> cycleRunning.set(false));
+
+        } catch (RuntimeException e) {
+            cycleRunning.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 끝난 조회 결과를 마켓별 저장 후 DB에 일괄 저장 (시간 안에 끝나지 않은 마켓은 건너뜀)
+     */
+    private void finishCycle(List<String> markets, List<CompletableFuture<List<UpbitCandleDto>>> futures,
+                             Timer.Sample cycle) {
+        List<UpbitCandleDto> batch = new ArrayList<>();
+        for (int i = 0; i < markets.size(); i++) {
+            List<UpbitCandleDto> candles = futures.get(i).getNow(List.of());
+            if (!candles.isEmpty()) {
+                store(markets.get(i), candles);
+                batch.addAll(candles);
+            }
+        }
+
+        saveBatchToDatabase(batch);
+
+        long elapsedNanos = cycle.stop(meterRegistry.timer("chart.ingestion.cycle"));
+        log.info("Candle ingestion cycle finished: {} markets, {} candles in {}ms",
+                markets.size(), batch.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    /**
+     * 현재 추적 중인 마켓 목록
+     */
+    public List<String> getTrackedMarkets() {
+        return trackedMarkets;
+    }
+
+    /**
+     * 마켓별 캔들 조회 (실패 시 빈 리스트)
+     */
+    private List<UpbitCandleDto> fetch(String market) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            List<UpbitCandleDto> candles = chartUpbitApiClient.getCandles(market, candlesPerFetch);
+            sample.stop(meterRegistry.timer("chart.ingestion.fetch", "result", "success"));
+            return candles;
+        } catch (Exception e) {
+            sample.stop(meterRegistry.timer("chart.ingestion.fetch", "result", "error"));
+            meterRegistry.counter("chart.ingestion.fetch.errors", "market", market).increment();
+            log.warn("Failed to fetch candles for market: {}, error: {}", market, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 마켓 단위 저장 (메모리, Redis), 실시간 전송(구독 중인 마켓), 롤업
+     */
+    private void store(String market, List<UpbitCandleDto> candles) {
+        try {
+            // Redis(warm tier)는 Upbit 원본 형태 유지, 이후 경로는 고정소수점 레코드 사용
+            candleDataRepository.saveCandles(market, candles);
+
+            List<Candle> records = candles.stream()
+                .map(Candle::from)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingLong(Candle::time))
+                .toList();
+            if (records.isEmpty()) {
+                return;
+            }
+
+            candleMemoryCache.putCandles(market, Timeframe.ONE_MINUTE, records);
+
+            Candle latest = records.get(records.size() - 1);
+            latestCandleTime(market).set(latest.time());
+            if (marketSubscriptionRegistry.isActive(market)) {
+                chartService.sendRealtimeUpdate(market, latest);
+                candleStreamService.onCandles(market, records);
+            }
+
+            long now = System.currentTimeMillis() / 1000;
+            candleRollupService.onClosedCandles(market, records.stream()
+                .filter(candle -> candle.time() + Timeframe.ONE_MINUTE.getSeconds() <= now)
+                .toList());
+
+        } catch (Exception e) {
+            log.error("Failed to store candles for market: {}, error: {}", market, e.getMessage());
+        }
+    }
+
+    /**
+     * 수집 주기 전체 캔들을 DB에 한 번에 저장
+     */
+    private void saveBatchToDatabase(List<UpbitCandleDto> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            chartDatabaseService.saveUpbitCandles(batch);
+        } catch (Exception e) {
+            log.error("Failed to save ingestion batch to database ({} candles): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 마켓별 최신 캔들 시각 (최초 조회 시 lag 게이지 등록)
+     */
+    private AtomicLong latestCandleTime(String market) {
+        return latestCandleTimes.computeIfAbsent(market, key -> {
+            AtomicLong latest = new AtomicLong();
+            Gauge.builder("chart.ingestion.lag.seconds", latest,
+                    value -> value.get() == 0 ? 0 : System.currentTimeMillis() / 1000.0 - value.get())
+                .description("Seconds since the open time of the latest ingested 1m candle")
+                .tag("market", key)
+                .register(meterRegistry);
+            return latest;
+        });
+    }
+
+    /**
+     * 추적 대상 마켓 결정
+     * - 설정 값이 있으면 그대로 사용
+     * - 없으면 Upbit 마켓 목록 중 quote currency가 일치하는 마켓 (최대 maxMarkets개)
+     */
+    private List<String> resolveMarkets() {
+        if (configuredMarkets != null && !configuredMarkets.isBlank()) {
+            return Arrays.stream(configuredMarkets.split(","))
+                .map(String::trim)
+                .filter(market -> !market.isEmpty())
+                .map(String::toUpperCase)
+                .distinct()
+                .toList();
+        }
+
+        try {
+            String prefix = quoteCurrency.toUpperCase() + "-";
+            List<String> discovered = upbitApiClient.getMarkets().stream()
+                .map(UpbitMarketDto::market)
+                .filter(market -> market != null && market.startsWith(prefix))
+                .limit(Math.max(1, maxMarkets))
+                .toList();
+
+            if (!discovered.isEmpty()) {
+                return discovered;
+            }
+        } catch (Exception e) {
+            log.error("Failed to discover markets, keeping previous list: {}", e.getMessage());
+        }
+
+        return trackedMarkets.isEmpty() ? List.of(DEFAULT_MARKET) : trackedMarkets;
+    }
+}
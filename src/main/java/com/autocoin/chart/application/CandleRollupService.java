@@ -0,0 +1,364 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.TickScale;
+import com.autocoin.chart.infrastructure.CandleDataRepository;
+import com.autocoin.chart.infrastructure.CandleMemoryCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캔들 롤업 서비스
+ * - 마감된 1분봉을 받아 3m/5m/15m/1h/4h/1d 캔들을 증분 집계 (고정소수점 long 연산)
+ * - 진행 중인 상위 캔들은 메모리/Redis에 갱신
+ * - 구간이 넘어가 마감된 상위 캔들은 DB(chart_candles)에도 저장
+ * - 이미 지난 시각의 1분봉이 뒤늦게 들어오면(수집 실패 후 백필 등) 해당 구간을 DB 1분봉으로 다시 집계
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CandleRollupService {
+
+    private final CandleMemoryCache candleMemoryCache;
+    private final CandleDataRepository candleDataRepository;
+    private final ChartDatabaseService chartDatabaseService;
+
+    private static final List<Timeframe> ROLLUP_TIMEFRAMES = Arrays.stream(Timeframe.values())
+        .filter(timeframe -> timeframe != Timeframe.ONE_MINUTE)
+        .toList();
+
+    private static final long DAY = Timeframe.ONE_DAY.getSeconds();
+
+    // 마켓별 집계 상태
+    private final Map<String, MarketRollup> rollups = new ConcurrentHashMap<>();
+
+    /**
+     * 마감된 1분봉 반영
+     * - 이미 반영한 시각의 캔들은 무시 (중복 수집 허용)
+     * - 반영한 적 없는 과거 시각의 캔들은 그 캔들이 속한 구간을 다시 집계
+     * @param market 마켓 코드
+     * @param closedCandles 마감된 1분봉 레코드 리스트 (순서 무관)
+     */
+    public void onClosedCandles(String market, List<Candle> closedCandles) {
+        if (closedCandles == null || closedCandles.isEmpty()) {
+            return;
+        }
+
+        NavigableMap<Long, Candle> minutes = byTime(closedCandles);
+        MarketRollup rollup = rollups.computeIfAbsent(market, key -> seed(key, minutes.firstKey()));
+
+        synchronized (rollup) {
+            List<Candle> fresh = new ArrayList<>();
+            List<Candle> late = new ArrayList<>();
+            for (Candle candle : minutes.values()) {
+                if (candle.time() > rollup.lastMinute) {
+                    fresh.add(candle);
+                } else if (!rollup.foldedMinutes.contains(candle.time())) {
+                    late.add(candle);
+                }
+            }
+
+            Map<Timeframe, NavigableMap<Long, Candle>> sealed = emptyUpdates();
+            for (Timeframe timeframe : ROLLUP_TIMEFRAMES) {
+                RollupState state = rollup.states.get(timeframe);
+                for (Candle candle : fresh) {
+                    Candle closed = state.fold(candle);
+                    if (closed != null) {
+                        sealed.get(timeframe).put(closed.time(), closed);
+                    }
+                }
+            }
+
+            if (!late.isEmpty()) {
+                refold(market, rollup, late, minutes, sealed);
+            }
+            rollup.markFolded(minutes.navigableKeySet());
+
+            for (Timeframe timeframe : ROLLUP_TIMEFRAMES) {
+                publish(market, timeframe, sealed.get(timeframe).values(), rollup.states.get(timeframe).toCandle());
+            }
+        }
+    }
+
+    /**
+     * 백필로 저장된 1분봉 반영 (DB 저장 후 호출)
+     * - 집계 중인 마켓은 onClosedCandles와 같이 처리
+     * - 집계 상태가 없는 마켓은 해당 구간 중 이미 닫힌 구간만 DB 1분봉으로 다시 집계
+     *   (진행 중 구간은 첫 수집 시 DB 1분봉으로 시드)
+     * @param market 마켓 코드
+     * @param candles 저장된 1분봉 레코드 리스트 (순서 무관)
+     */
+    public void onBackfilledCandles(String market, List<Candle> candles) {
+        if (candles == null || candles.isEmpty()) {
+            return;
+        }
+        if (rollups.containsKey(market)) {
+            onClosedCandles(market, candles);
+            return;
+        }
+
+        NavigableMap<Long, Candle> minutes = byTime(candles);
+        Map<Timeframe, NavigableMap<Long, Candle>> sealed = emptyUpdates();
+        refold(market, null, minutes.values(), minutes, sealed);
+
+        for (Timeframe timeframe : ROLLUP_TIMEFRAMES) {
+            publish(market, timeframe, sealed.get(timeframe).values(), null);
+        }
+    }
+
+    /**
+     * 뒤늦게 들어온 1분봉이 속한 구간 재집계
+     * - 일 단위로 DB 1분봉을 읽고 이번에 받은 캔들(아직 DB 저장 전일 수 있음)로 덮어쓴 뒤 해당 구간만 다시 집계
+     * - 닫힌 구간은 sealed에 담고, 진행 중 구간은 DB 1분봉이 집계 상태를 모두 포함할 때만 상태를 교체
+     * @param rollup 마켓 집계 상태 (없으면 현재 시각 기준으로 닫힌 구간만 반영)
+     */
+    private void refold(String market, MarketRollup rollup, Iterable<Candle> late,
+                        NavigableMap<Long, Candle> received, Map<Timeframe, NavigableMap<Long, Candle>> sealed) {
+        Map<Long, List<Candle>> lateByDay = new TreeMap<>();
+        for (Candle candle : late) {
+            lateByDay.computeIfAbsent(Timeframe.ONE_DAY.bucketStart(candle.time()), day -> new ArrayList<>()).add(candle);
+        }
+        long now = System.currentTimeMillis() / 1000;
+
+        for (Map.Entry<Long, List<Candle>> entry : lateByDay.entrySet()) {
+            long day = entry.getKey();
+            NavigableMap<Long, Candle> dayMinutes = new TreeMap<>();
+            try {
+                chartDatabaseService.findCandles(market, Timeframe.ONE_MINUTE, day, day + DAY - 1)
+                    .forEach(candle -> dayMinutes.put(candle.time(), candle));
+            } catch (Exception e) {
+                log.warn("Failed to load 1m candles for rollup refold, market: {}, day: {}, error: {}",
+                    market, day, e.getMessage());
+                continue;
+            }
+            dayMinutes.putAll(received.subMap(day, true, day + DAY - 1, true));
+
+            for (Timeframe timeframe : ROLLUP_TIMEFRAMES) {
+                RollupState state = rollup != null ? rollup.states.get(timeframe) : null;
+                long closedBefore = state != null ? state.bucketStart : now;
+
+                Set<Long> buckets = new HashSet<>();
+                entry.getValue().forEach(candle -> buckets.add(timeframe.bucketStart(candle.time())));
+
+                for (Candle candle : aggregate(market, timeframe, dayMinutes.values(), buckets)) {
+                    if (state != null && candle.time() == state.bucketStart) {
+                        if (dayMinutes.containsKey(state.lastMinute)) {
+                            state.replace(candle);
+                        }
+                    } else if (candle.time() + timeframe.getSeconds() <= closedBefore) {
+                        sealed.get(timeframe).put(candle.time(), candle);
+                    }
+                }
+            }
+        }
+
+        log.info("Refolded rollups for market: {} from {} late 1m candles", market, lateByDay.values().stream()
+            .mapToInt(List::size).sum());
+    }
+
+    /**
+     * 1분봉(시간 오름차순) 중 지정한 구간에 속한 것만 집계
+     */
+    private static List<Candle> aggregate(String market, Timeframe timeframe, Iterable<Candle> minutes, Set<Long> buckets) {
+        RollupState state = new RollupState(market, timeframe);
+        List<Candle> candles = new ArrayList<>();
+        for (Candle candle : minutes) {
+            if (buckets.contains(timeframe.bucketStart(candle.time()))) {
+                Candle closed = state.fold(candle);
+                if (closed != null) {
+                    candles.add(closed);
+                }
+            }
+        }
+        Candle last = state.toCandle();
+        if (last != null) {
+            candles.add(last);
+        }
+        return candles;
+    }
+
+    /**
+     * 집계 결과 저장
+     * - 마감 + 진행 중 캔들: 메모리, Redis
+     * - 마감 캔들: DB
+     */
+    private void publish(String market, Timeframe timeframe, Collection<Candle> sealed, Candle forming) {
+        List<Candle> updates = new ArrayList<>(sealed);
+        if (forming != null) {
+            updates.add(forming);
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        try {
+            candleMemoryCache.putCandles(market, timeframe, updates);
+            candleDataRepository.saveCandles(market, timeframe.getCode(),
+                updates.stream().map(Candle::toUpbitCandleDto).toList());
+
+            if (!sealed.isEmpty()) {
+                chartDatabaseService.saveCandles(List.copyOf(sealed), timeframe);
+                log.debug("Sealed {} {} candles for market: {}", sealed.size(), timeframe.getCode(), market);
+            }
+
+        } catch (Exception e) {
+            log.error("Failed to publish {} rollup for market: {}, error: {}", timeframe.getCode(), market, e.getMessage());
+        }
+    }
+
+    /**
+     * 마켓 최초 집계 시 상태 생성
+     * - 재시작 직후에도 진행 중 구간이 온전하도록 DB 1분봉으로 현재 구간을 채움
+     */
+    private MarketRollup seed(String market, long firstCandleTime) {
+        MarketRollup rollup = new MarketRollup();
+        ROLLUP_TIMEFRAMES.forEach(timeframe -> rollup.states.put(timeframe, new RollupState(market, timeframe)));
+
+        try {
+            long dayStart = Timeframe.ONE_DAY.bucketStart(firstCandleTime);
+            List<Candle> history = chartDatabaseService.findCandles(
+                market, Timeframe.ONE_MINUTE, dayStart, firstCandleTime - 1);
+
+            for (RollupState state : rollup.states.values()) {
+                long bucketStart = state.timeframe.bucketStart(firstCandleTime);
+                history.stream()
+                    .filter(candle -> candle.time() >= bucketStart)
+                    .forEach(state::fold);
+            }
+            rollup.markFolded(byTime(history).navigableKeySet());
+
+            log.info("Seeded rollup state for market: {} with {} stored 1m candles", market, history.size());
+
+        } catch (Exception e) {
+            log.warn("Failed to seed rollup state for market: {}, starting empty. Error: {}", market, e.getMessage());
+        }
+
+        return rollup;
+    }
+
+    private static NavigableMap<Long, Candle> byTime(List<Candle> candles) {
+        NavigableMap<Long, Candle> minutes = new TreeMap<>();
+        candles.forEach(candle -> minutes.put(candle.time(), candle));
+        return minutes;
+    }
+
+    private static Map<Timeframe, NavigableMap<Long, Candle>> emptyUpdates() {
+        Map<Timeframe, NavigableMap<Long, Candle>> updates = new EnumMap<>(Timeframe.class);
+        ROLLUP_TIMEFRAMES.forEach(timeframe -> updates.put(timeframe, new TreeMap<>()));
+        return updates;
+    }
+
+    /**
+     * 마켓 집계 상태
+     * - 타임프레임별 진행 중 캔들 + 최근(당일/전일) 반영한 1분봉 시각
+     * - 반영한 시각으로 중복 수집과 뒤늦게 채워진 분을 구분
+     */
+    private static final class MarketRollup {
+
+        private final Map<Timeframe, RollupState> states = new EnumMap<>(Timeframe.class);
+        private final NavigableSet<Long> foldedMinutes = new TreeSet<>();
+        private long lastMinute = Long.MIN_VALUE;
+
+        private void markFolded(NavigableSet<Long> minutes) {
+            if (minutes.isEmpty()) {
+                return;
+            }
+            foldedMinutes.addAll(minutes);
+            lastMinute = Math.max(lastMinute, minutes.last());
+            foldedMinutes.headSet(Timeframe.ONE_DAY.bucketStart(lastMinute) - DAY).clear();
+        }
+    }
+
+    /**
+     * 마켓/타임프레임별 진행 중 캔들 집계 상태 (고정소수점)
+     */
+    private static final class RollupState {
+
+        private final String market;
+        private final Timeframe timeframe;
+
+        private long bucketStart = -1;
+        private long lastMinute = Long.MIN_VALUE;
+        private long open;
+        private long high;
+        private long low;
+        private long close;
+        private long volume;
+        private TickScale scale;
+
+        private RollupState(String market, Timeframe timeframe) {
+            this.market = market;
+            this.timeframe = timeframe;
+        }
+
+        /**
+         * 1분봉 반영
+         * @return 구간이 넘어가 마감된 캔들 (없으면 null)
+         */
+        private Candle fold(Candle candle) {
+            long time = candle.time();
+            if (time <= lastMinute) {
+                return null;
+            }
+
+            Candle closed = null;
+            long bucket = timeframe.bucketStart(time);
+
+            if (bucket != bucketStart) {
+                closed = toCandle();
+                bucketStart = bucket;
+                scale = candle.scale();
+                open = candle.open();
+                high = candle.high();
+                low = candle.low();
+                volume = 0;
+            } else {
+                high = Math.max(high, candle.high());
+                low = Math.min(low, candle.low());
+            }
+
+            close = candle.close();
+            // 거래량 합계가 long 범위를 넘으면 최대값으로 고정
+            long sum = volume + candle.volume();
+            volume = ((volume ^ sum) & (candle.volume() ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+            lastMinute = time;
+
+            return closed;
+        }
+
+        /**
+         * 진행 중 구간을 다시 집계한 캔들로 교체 (반영한 마지막 시각은 유지)
+         */
+        private void replace(Candle candle) {
+            scale = candle.scale();
+            open = candle.open();
+            high = candle.high();
+            low = candle.low();
+            close = candle.close();
+            volume = candle.volume();
+        }
+
+        private Candle toCandle() {
+            if (bucketStart < 0) {
+                return null;
+            }
+            return new Candle(market, bucketStart, open, high, low, close, volume, scale);
+        }
+    }
+}
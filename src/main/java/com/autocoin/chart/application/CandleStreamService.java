@@ -0,0 +1,164 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.dto.CandleStreamMessage;
+import com.autocoin.chart.infrastructure.CandleMemoryCache;
+import com.autocoin.chart.infrastructure.ChartBroadcaster;
+import com.autocoin.chart.infrastructure.ChartPublisherLease;
+import com.autocoin.chart.infrastructure.ChartStreamSequence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 캔들 스트림 (프로토콜 v2, snapshot + diff)
+ * - 마켓별 마지막 전송 캔들을 기억하고 바뀐 필드만 diff로 전송
+ * - 캔들 시각이 넘어가면 이전 캔들 close 표시 후 새 캔들 전체 전송
+ * - 수집/flush/틱 스레드가 동시에 호출하므로 번호 부여와 전송을 마켓별 잠금 안에서 함께 처리 (전송 순서 = 번호 순서)
+ * - 여러 노드가 수집해도 마켓 임대(ChartPublisherLease)를 가진 노드만 발행, 임대가 없는 노드는 스트림 상태를 비움
+ *   (임대를 넘겨받으면 새 캔들 전체부터 다시 발행)
+ * - redis 모드는 번호를 Redis 공유 카운터(ChartStreamSequence)로 다시 부여하고 snapshot도 Redis에서 읽어
+ *   발행 노드가 바뀌거나 다른 노드가 snapshot에 응답해도 snapshot + diff 번호가 이어짐
+ * - 구독 시 snapshot은 ChartStreamController(@SubscribeMapping)가 응답
+ * - 기존 /topic/chart/{market} (v1) 메시지는 ChartService가 그대로 전송
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CandleStreamService {
+
+    public static final String TOPIC_PREFIX = "/topic/chart/v2/";
+
+    private final ChartBroadcaster chartBroadcaster;
+    private final CandleMemoryCache candleMemoryCache;
+    private final ChartPublisherLease chartPublisherLease;
+    private final ChartStreamSequence chartStreamSequence;
+
+    private final Map<String, MarketStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * 캔들 갱신 반영 (시간 오름차순)
+     * @param market 마켓 코드
+     * @param candles 마감/진행 중 1분봉
+     */
+    public void onCandles(String market, List<Candle> candles) {
+        if (candles == null || candles.isEmpty()) {
+            return;
+        }
+        if (!chartPublisherLease.isPublisher(market)) {
+            streams.remove(market);
+            return;
+        }
+
+        MarketStream stream = streams.computeIfAbsent(market, key -> new MarketStream(TOPIC_PREFIX + key));
+        List<CandleStreamMessage> messages = new ArrayList<>(candles.size() + 1);
+        synchronized (stream) {
+            for (Candle candle : candles) {
+                stream.apply(candle, messages);
+            }
+            if (!messages.isEmpty() && chartStreamSequence.isClustered()) {
+                renumber(stream, messages);
+            }
+            // 잠금을 풀고 보내면 다른 스레드의 다음 번호가 먼저 나갈 수 있음
+            for (CandleStreamMessage message : messages) {
+                chartBroadcaster.broadcast(stream.topic, message);
+            }
+        }
+    }
+
+    /**
+     * 공유 카운터로 번호 다시 부여 (Redis 오류 시 노드 번호 유지)
+     */
+    private void renumber(MarketStream stream, List<CandleStreamMessage> messages) {
+        long last = chartStreamSequence.reserve(stream.last, messages.size());
+        if (last < 0) {
+            return;
+        }
+        long first = last - messages.size() + 1;
+        for (int i = 0; i < messages.size(); i++) {
+            messages.set(i, messages.get(i).withSeq(first + i));
+        }
+        stream.seq = last;
+    }
+
+    /**
+     * 캔들 1개 갱신 반영
+     */
+    public void onCandle(Candle candle) {
+        onCandles(candle.market(), List.of(candle));
+    }
+
+    /**
+     * 마켓 스트림 상태 제거 (구독이 끝나 비활성화된 마켓)
+     * - local 모드는 다시 활성화되면 번호를 새로 시작하므로 클라이언트는 snapshot부터 다시 받음
+     *   (redis 모드는 공유 카운터라 번호가 이어짐)
+     */
+    public void reset(String market) {
+        streams.remove(market);
+    }
+
+    /**
+     * 구독 시 snapshot
+     * - redis 모드: 발행 노드가 Redis에 기록한 마지막 캔들과 번호 (메모리 최신 1분봉보다 오래되지 않았을 때)
+     * - local 모드: 이 노드가 스트림을 발행 중이면 마지막 전송 캔들과 번호
+     * - 아니면 메모리 hot tier의 최신 1분봉 (번호 0)
+     * @return snapshot 메시지 (데이터가 없으면 null)
+     */
+    public CandleStreamMessage snapshot(String market) {
+        Candle latest = candleMemoryCache.latestCandle(market, Timeframe.ONE_MINUTE);
+        if (chartStreamSequence.isClustered()) {
+            CandleStreamMessage shared = chartStreamSequence.snapshot(market);
+            if (shared != null && (latest == null || shared.candle().time() >= latest.time())) {
+                return shared;
+            }
+            return latest == null ? null : CandleStreamMessage.snapshot(market, 0, latest);
+        }
+
+        MarketStream stream = streams.get(market);
+        if (stream != null) {
+            synchronized (stream) {
+                if (stream.last != null) {
+                    return CandleStreamMessage.snapshot(market, stream.seq, stream.last);
+                }
+            }
+        }
+        return latest == null ? null : CandleStreamMessage.snapshot(market, 0, latest);
+    }
+
+    /**
+     * 마켓별 스트림 상태 (토픽, 마지막 전송 캔들, 메시지 번호)
+     */
+    private static final class MarketStream {
+
+        private final String topic;
+        private Candle last;
+        private long seq;
+
+        private MarketStream(String topic) {
+            this.topic = topic;
+        }
+
+        private void apply(Candle candle, List<CandleStreamMessage> out) {
+            if (last != null && candle.time() < last.time()) {
+                return;
+            }
+
+            if (last != null && candle.time() > last.time()) {
+                // 마감 표시는 마지막으로 받은 값 기준 (직전 캔들 최종 값이 먼저 들어오면 그 값)
+                out.add(CandleStreamMessage.close(++seq, last));
+            }
+
+            int fields = CandleStreamMessage.changedFields(last, candle);
+            if (fields != 0) {
+                out.add(CandleStreamMessage.diff(++seq, candle, fields));
+            }
+            last = candle;
+        }
+    }
+}
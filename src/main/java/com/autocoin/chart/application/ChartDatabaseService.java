@@ -1,20 +1,22 @@
 package com.autocoin.chart.application;
 
 import com.autocoin.chart.domain.entity.ChartCandle;
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
 import com.autocoin.chart.domain.repository.ChartCandleJpaRepository;
-import com.autocoin.chart.dto.LightweightChartDto;
 import com.autocoin.chart.dto.UpbitCandleDto;
+import com.autocoin.chart.infrastructure.ChartCandleJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * 차트 데이터 DB 저장 서비스
@@ -28,109 +30,81 @@ import java.util.Collections;
 public class ChartDatabaseService {
 
     private final ChartCandleJpaRepository chartCandleRepository;
+    private final ChartCandleJdbcRepository chartCandleJdbcRepository;
 
     /**
-     * 업비트 캔들 데이터를 DB에 저장 (배치 최적화)
+     * 업비트 캔들 데이터를 DB에 저장 (다중 행 upsert, 1분봉)
      */
     public void saveUpbitCandles(List<UpbitCandleDto> upbitCandles) {
+        saveUpbitCandles(upbitCandles, Timeframe.ONE_MINUTE);
+    }
+
+    /**
+     * 업비트 캔들 데이터를 DB에 저장 (다중 행 upsert, 타임프레임 지정)
+     * - 기존 행 조회 없이 uk_chart_candle_market_time 기준으로 삽입/갱신
+     * - 같은 분의 캔들이 다시 들어오면 마지막 값으로 갱신 (진행 중 캔들 → 마감 캔들)
+     */
+    public void saveUpbitCandles(List<UpbitCandleDto> upbitCandles, Timeframe timeframe) {
         if (upbitCandles == null || upbitCandles.isEmpty()) {
             log.warn("No candles to save to database");
             return;
         }
 
         try {
-            log.info("💾 Saving {} candles to database (batch optimized)", upbitCandles.size());
-
-            // 유효한 캔들만 필터링
-            List<UpbitCandleDto> validCandles = upbitCandles.stream()
-                .filter(candle -> {
-                    if (!candle.isValid()) {
-                        log.warn("Invalid candle data skipped: {}", candle.getMarket());
-                        return false;
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
-
-            if (validCandles.isEmpty()) {
-                log.warn("No valid candles to save after filtering");
-                return;
-            }
+            long startTime = System.nanoTime();
 
-            // 배치로 기존 캔들 확인 - 효율적인 방식
-            Set<String> existingKeys = getExistingCandleKeysBatch(validCandles);
-            
-            // 새로운 캔들만 필터링
-            List<UpbitCandleDto> newCandles = validCandles.stream()
-                .filter(candle -> !existingKeys.contains(
-                    candle.getMarket() + "_" + candle.getUnixTimestamp()))
-                .collect(Collectors.toList());
-            
-            if (newCandles.isEmpty()) {
-                log.info("⏭️ All {} candles already exist in database", validCandles.size());
-                return;
+            // 유효한 캔들만 변환, 같은 키는 마지막 값 유지
+            Map<String, ChartCandle> chartCandles = new LinkedHashMap<>();
+            for (UpbitCandleDto candle : upbitCandles) {
+                if (!candle.isValid()) {
+                    log.warn("Invalid candle data skipped: {}", candle.getMarket());
+                    continue;
+                }
+                try {
+                    chartCandles.put(candle.getMarket() + "_" + candle.getUnixTimestamp(),
+                        ChartCandle.fromUpbitCandle(candle, timeframe));
+                } catch (Exception e) {
+                    log.warn("Failed to convert candle: {} - {}", candle.getMarket(), e.getMessage());
+                }
             }
-            
-            log.info("💾 Found {} new candles out of {} total", newCandles.size(), validCandles.size());
-            
-            // 새로운 캔들들을 ChartCandle로 변환하여 배치 저장
-            List<ChartCandle> chartCandles = newCandles.stream()
-                .map(upbitCandle -> {
-                    try {
-                        return ChartCandle.fromUpbitCandle(upbitCandle);
-                    } catch (Exception e) {
-                        log.warn("Failed to convert candle: {} - {}", upbitCandle.getMarket(), e.getMessage());
-                        return null;
-                    }
-                })
-                .filter(candle -> candle != null)
-                .collect(Collectors.toList());
-            
+
             if (chartCandles.isEmpty()) {
-                log.warn("No chart candles to save after conversion");
+                log.warn("No valid candles to save after filtering");
                 return;
             }
 
-            chartCandleRepository.saveAll(chartCandles);
-            log.info("✅ Database save completed for {} new candles", chartCandles.size());
+            int saved = chartCandleJdbcRepository.upsertAll(new ArrayList<>(chartCandles.values()));
+
+            long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime);
+            log.info("✅ Database upsert completed for {} {} candles in {}ms ({} rows/s)",
+                saved, timeframe.getCode(), elapsedMicros / 1000,
+                elapsedMicros == 0 ? saved : saved * 1_000_000L / elapsedMicros);
 
         } catch (Exception e) {
             log.error("❌ Failed to save candles to database: {}", e.getMessage(), e);
             throw new RuntimeException("차트 데이터 DB 저장 실패", e);
         }
     }
-    
+
     /**
-     * 배치로 기존 캔들 키들을 조회하여 중복 체크 최적화
-     * 개별 쿼리 대신 마켓별로 묶어서 처리
+     * 내부 캔들 레코드를 DB에 저장 (다중 행 upsert, 롤업 결과 등)
+     * - BigDecimal 변환은 ChartCandle 생성 시에만 수행
      */
-    private Set<String> getExistingCandleKeysBatch(List<UpbitCandleDto> candles) {
-        if (candles.isEmpty()) {
-            return Collections.emptySet();
+    public void saveCandles(List<Candle> candles, Timeframe timeframe) {
+        if (candles == null || candles.isEmpty()) {
+            return;
+        }
+
+        try {
+            int saved = chartCandleJdbcRepository.upsertAll(candles.stream()
+                .map(candle -> ChartCandle.fromCandle(candle, timeframe))
+                .toList());
+            log.debug("✅ Database upsert completed for {} {} candles", saved, timeframe.getCode());
+
+        } catch (Exception e) {
+            log.error("❌ Failed to save candles to database: {}", e.getMessage(), e);
+            throw new RuntimeException("차트 데이터 DB 저장 실패", e);
         }
-        
-        // 마켓별로 그룹화
-        var marketGroups = candles.stream()
-            .collect(Collectors.groupingBy(UpbitCandleDto::getMarket));
-        
-        Set<String> existingKeys = Collections.newSetFromMap(new java.util.concurrent.ConcurrentHashMap<>());
-        
-        // 마켓별로 배치 처리
-        marketGroups.forEach((market, marketCandles) -> {
-            Set<Long> candleTimes = marketCandles.stream()
-                .map(UpbitCandleDto::getUnixTimestamp)
-                .collect(Collectors.toSet());
-            
-            // 마켓별로 기존 데이터 조회
-            List<ChartCandle> existing = chartCandleRepository.findByMarketAndCandleTimeIn(market, candleTimes);
-            
-            // 기존 키 생성
-            existing.forEach(candle -> 
-                existingKeys.add(candle.getMarket() + "_" + candle.getCandleTime())
-            );
-        });
-        
-        return existingKeys;
     }
 
     /**
@@ -144,8 +118,9 @@ public class ChartDatabaseService {
 
         try {
             // 중복 체크
-            boolean exists = chartCandleRepository.existsByMarketAndCandleTime(
+            boolean exists = chartCandleRepository.existsByMarketAndTimeframeAndCandleTime(
                 upbitCandle.getMarket(), 
+                Timeframe.ONE_MINUTE.getCode(),
                 upbitCandle.getUnixTimestamp()
             );
 
@@ -163,19 +138,24 @@ public class ChartDatabaseService {
     }
 
     /**
-     * DB에서 차트 데이터 조회
+     * DB에서 차트 데이터 조회 (1분봉)
      */
     @Transactional(readOnly = true)
-    public List<LightweightChartDto> getChartDataFromDatabase(String market, int limit) {
-        try {
-            log.info("📖 Loading chart data from database: {} (limit: {})", market, limit);
+    public List<Candle> getChartDataFromDatabase(String market, int limit) {
+        return getChartDataFromDatabase(market, Timeframe.ONE_MINUTE, limit);
+    }
 
-            Pageable pageable = PageRequest.of(0, limit);
-            List<ChartCandle> candles = chartCandleRepository.findByMarketOrderByCandleTimeDesc(market, pageable);
+    /**
+     * DB에서 차트 데이터 조회 (타임프레임 지정)
+     */
+    @Transactional(readOnly = true)
+    public List<Candle> getChartDataFromDatabase(String market, Timeframe timeframe, int limit) {
+        try {
+            log.info("📖 Loading chart data from database: {} {} (limit: {})", market, timeframe.getCode(), limit);
 
-            List<LightweightChartDto> chartData = candles.stream()
-                .map(ChartCandle::toLightweightChartDto)
-                .toList();
+            // 엔티티를 영속성 컨텍스트에 올리지 않고 커서에서 바로 레코드로 변환
+            List<Candle> chartData = new ArrayList<>(Math.min(limit, 1000));
+            chartCandleJdbcRepository.streamLatest(market, timeframe.getCode(), limit, chartData::add);
 
             log.info("✅ Loaded {} chart data points from database for market: {}", chartData.size(), market);
             return chartData;
@@ -186,15 +166,63 @@ public class ChartDatabaseService {
         }
     }
 
+    /**
+     * DB 차트 데이터 스트리밍 조회 (최신순)
+     * - 리스트를 만들지 않고 행 단위로 consumer에 전달
+     * @return 전달한 캔들 수
+     */
+    @Transactional(readOnly = true)
+    public int streamChartData(String market, Timeframe timeframe, int limit, Consumer<Candle> consumer) {
+        return chartCandleJdbcRepository.streamLatest(market, timeframe.getCode(), limit, consumer);
+    }
+
+    /**
+     * 마켓/타임프레임 캔들 존재 여부
+     */
+    @Transactional(readOnly = true)
+    public boolean hasChartData(String market, Timeframe timeframe) {
+        return chartCandleRepository.existsByMarketAndTimeframe(market, timeframe.getCode());
+    }
+
+    /**
+     * 구간 캔들 데이터 조회 (시간 오름차순)
+     * @param market 마켓 코드
+     * @param timeframe 타임프레임
+     * @param fromEpochSecond 시작 시각 (포함)
+     * @param toEpochSecond 종료 시각 (포함)
+     */
+    @Transactional(readOnly = true)
+    public List<Candle> findCandles(String market, Timeframe timeframe, long fromEpochSecond, long toEpochSecond) {
+        return chartCandleRepository
+            .findByMarketAndTimeframeAndCandleTimeBetweenOrderByCandleTimeAsc(
+                market, timeframe.getCode(), fromEpochSecond, toEpochSecond)
+            .stream()
+            .map(ChartCandle::toCandle)
+            .toList();
+    }
+
+    /**
+     * 구간 내 저장된 캔들 시각 조회 (누락 구간 탐지용)
+     * @param fromEpochSecond 시작 시각 (포함)
+     * @param toEpochSecond 종료 시각 (미포함)
+     * @return 캔들 시각 리스트 (시간 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findCandleTimes(String market, Timeframe timeframe, long fromEpochSecond, long toEpochSecond) {
+        return chartCandleRepository.findCandleTimes(market, timeframe.getCode(), fromEpochSecond, toEpochSecond);
+    }
+
     /**
      * DB 저장된 데이터 현황 조회
      */
     @Transactional(readOnly = true)
     public DatabaseSummary getDatabaseSummary(String market) {
         try {
-            long totalCount = chartCandleRepository.countByMarket(market);
+            long totalCount = chartCandleRepository.countByMarketAndTimeframe(market, Timeframe.ONE_MINUTE.getCode());
             
-            ChartCandle latestCandle = chartCandleRepository.findFirstByMarketOrderByCandleTimeDesc(market).orElse(null);
+            ChartCandle latestCandle = chartCandleRepository
+                .findFirstByMarketAndTimeframeOrderByCandleTimeDesc(market, Timeframe.ONE_MINUTE.getCode())
+                .orElse(null);
             
             return DatabaseSummary.builder()
                 .market(market)
@@ -236,7 +264,7 @@ public class ChartDatabaseService {
      */
     public void cleanupOldData(String market, int keepCount) {
         try {
-            long totalCount = chartCandleRepository.countByMarket(market);
+            long totalCount = chartCandleRepository.countByMarketAndTimeframe(market, Timeframe.ONE_MINUTE.getCode());
             
             if (totalCount > keepCount) {
                 log.info("🧹 Cleaning up old data for market: {} (keeping latest {} out of {})", 
@@ -1,30 +1,41 @@
 package com.autocoin.chart.application;
 
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
 import com.autocoin.chart.dto.LightweightChartDto;
 import com.autocoin.chart.dto.RealtimeChartDto;
 import com.autocoin.chart.dto.UpbitCandleDto;
 import com.autocoin.chart.infrastructure.CandleDataRepository;
+import com.autocoin.chart.infrastructure.CandleBinaryCodec;
+import com.autocoin.chart.infrastructure.CandleMemoryCache;
+import com.autocoin.chart.infrastructure.ChartBroadcaster;
+import com.autocoin.chart.infrastructure.ChartPublisherLease;
 import com.autocoin.chart.infrastructure.ChartUpbitApiClient;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 
 /**
  * 차트 데이터 서비스
  * - Upbit API에서 캔들 데이터 조회
- * - Redis에 데이터 저장
- * - WebSocket을 통한 실시간 데이터 전송
- * - 스케줄링을 통한 주기적 업데이트
+ * - 메모리(hot) / Redis(warm)에 데이터 저장
+ * - WebSocket을 통한 실시간 데이터 전송 (다중 노드는 ChartBroadcaster 중계)
+ * - 주기적 수집은 CandleIngestionService 담당
  */
 @Slf4j
 @Service
@@ -33,14 +44,18 @@ public class ChartService {
 
     private final ChartUpbitApiClient upbitApiClient;
     private final CandleDataRepository candleDataRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final CandleMemoryCache candleMemoryCache;
+    private final ChartBroadcaster chartBroadcaster;
+    private final ChartPublisherLease chartPublisherLease;
     private final ChartDatabaseService chartDatabaseService; // DB 서비스 추가
+    private final ObjectMapper objectMapper;
 
     @Value("${app.init.enabled:false}")
     private boolean initEnabled;
 
     private static final String DEFAULT_MARKET = "KRW-BTC";
     private static final String WEBSOCKET_TOPIC = "/topic/chart";
+    private static final int HISTORY_CANDLE_COUNT = 1000;
 
     /**
      * 애플리케이션 시작 시 초기 데이터 로드 (조건부)
@@ -67,72 +82,96 @@ public class ChartService {
     }
 
     /**
-     * 1분마다 최신 캔들 데이터 업데이트
-     * - 정확한 1분 주기로 실행
-     * - Upbit API에서 최신 1개 캔들 조회
-     * - Redis에 저장 및 WebSocket 전송
+     * 빠른 차트 데이터 조회 (메모리 hot tier)
+     * - 링 버퍼에서 lightweight-charts JSON을 바로 생성
+     * - 메모리에 없으면 null (호출 측에서 getFastChartData로 fallback)
+     * @param market 마켓 코드
+     * @return JSON 바이트 배열 또는 null
      */
-    @Scheduled(cron = "0 * * * * *") // 매분 0초에 실행
-    public void updateCandleData() {
-        if (!initEnabled) {
-            log.debug("Chart data update is disabled (app.init.enabled=false)");
-            return;
-        }
-
-        log.debug("Starting scheduled candle data update");
-        
-        try {
-            // 최신 1개 캔들 데이터 조회
-            UpbitCandleDto latestCandle = upbitApiClient.getLatestCandle(DEFAULT_MARKET);
-            
-            if (latestCandle == null || !latestCandle.isValid()) {
-                log.warn("Invalid latest candle data received for market: {}", DEFAULT_MARKET);
-                return;
-            }
-
-            // Redis에 저장
-            candleDataRepository.addCandle(DEFAULT_MARKET, latestCandle);
-            
-            // 🎆 DB에도 저장
-            chartDatabaseService.saveSingleCandle(latestCandle);
+    public byte[] getFastChartJson(String market) {
+        return getFastChartJson(market, Timeframe.ONE_MINUTE);
+    }
 
-            // WebSocket으로 실시간 전송
-            sendRealtimeUpdate(latestCandle);
+    /**
+     * 빠른 차트 데이터 조회 (메모리 hot tier, 타임프레임 지정)
+     */
+    public byte[] getFastChartJson(String market, Timeframe timeframe) {
+        String targetMarket = (market != null && !market.trim().isEmpty()) ? market : DEFAULT_MARKET;
+        return candleMemoryCache.toLightweightChartJson(targetMarket, timeframe);
+    }
 
-            log.info("Successfully updated candle data for market: {} at {}", 
-                    DEFAULT_MARKET, latestCandle.getCandleDateTimeUtc());
+    /**
+     * 빠른 차트 데이터 ETag (메모리 hot tier 기준, Redis 조회 없음)
+     * - 마켓/타임프레임/표현 형식 + 최신 캔들 시각 + 최신 캔들 OHLCV 해시 (레플리카 간 같은 데이터면 같은 태그)
+     * @param binary 바이너리 표현 여부 (JSON과 다른 태그)
+     * @return 강한 ETag 또는 null (메모리에 데이터 없음)
+     */
+    public String getFastChartETag(String market, Timeframe timeframe, boolean binary) {
+        String targetMarket = (market != null && !market.trim().isEmpty()) ? market : DEFAULT_MARKET;
+        String version = candleMemoryCache.contentTag(targetMarket, timeframe);
+        if (version == null) {
+            return null;
+        }
+        return "\"" + targetMarket + "-" + timeframe.getCode() + "-" + version + (binary ? "-b" : "") + "\"";
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to update candle data: {}", e.getMessage(), e);
+    /**
+     * 빠른 차트 데이터 조회 (컬럼형 바이너리, CandleBinaryCodec 포맷)
+     * - 메모리에 없으면 Redis에서 읽어 인코딩 (메모리 캐시도 함께 채움)
+     * @return 인코딩 바이트 배열 또는 null (데이터 없음)
+     */
+    public byte[] getFastChartBinary(String market, Timeframe timeframe) {
+        String targetMarket = (market != null && !market.trim().isEmpty()) ? market : DEFAULT_MARKET;
+        byte[] binary = candleMemoryCache.toBinary(targetMarket, timeframe);
+        if (binary != null) {
+            return binary;
         }
+
+        List<Candle> chartData = getFastChartData(targetMarket, timeframe);
+        return chartData.isEmpty() ? null : CandleBinaryCodec.encode(chartData);
     }
 
     /**
      * 빠른 차트 데이터 조회 (거래소 방식)
      * - 캐시에서 즉시 반환, 외부 API 호출 없음
+     * - Redis(warm tier)에서 읽은 데이터로 메모리 캐시를 채움
      * @param market 마켓 코드
      * @return lightweight-charts 형태의 캔들 데이터
      */
-    public List<LightweightChartDto> getFastChartData(String market) {
+    public List<Candle> getFastChartData(String market) {
+        return getFastChartData(market, Timeframe.ONE_MINUTE);
+    }
+
+    /**
+     * 빠른 차트 데이터 조회 (타임프레임 지정)
+     * - 1분봉 외 타임프레임은 롤업 결과를 조회
+     */
+    public List<Candle> getFastChartData(String market, Timeframe timeframe) {
         String targetMarket = (market != null && !market.trim().isEmpty()) ? market : DEFAULT_MARKET;
         
-        log.debug("Fast retrieving chart data for market: {}", targetMarket);
+        log.debug("Fast retrieving {} chart data for market: {}", timeframe.getCode(), targetMarket);
         
         try {
             // 캐시에서 즉시 조회 (외부 API 호출 없음)
-            List<UpbitCandleDto> candles = candleDataRepository.getCandles(targetMarket);
+            List<UpbitCandleDto> candles = timeframe == Timeframe.ONE_MINUTE
+                ? candleDataRepository.getCandles(targetMarket)
+                : candleDataRepository.getCandles(targetMarket, timeframe.getCode());
             
             if (candles.isEmpty()) {
                 log.warn("No cached data found for market: {}, returning empty list", targetMarket);
                 return new ArrayList<>();
             }
 
-            // lightweight-charts 형태로 변환
-            List<LightweightChartDto> chartData = candles.stream()
-                .map(LightweightChartDto::from)
-                .sorted((a, b) -> Long.compare(a.getTime(), b.getTime())) // 시간 순 정렬
+            // 고정소수점 레코드로 변환 (lightweight-charts 형태로 직렬화), 시간 순 정렬
+            List<Candle> chartData = candles.stream()
+                .map(Candle::from)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingLong(Candle::time))
                 .toList();
 
+            // 다음 요청부터 메모리에서 응답하도록 적재
+            candleMemoryCache.putCandles(targetMarket, timeframe, chartData);
+
             log.info("Fast retrieved {} chart data points for market: {}", chartData.size(), targetMarket);
             return chartData;
 
@@ -147,11 +186,11 @@ public class ChartService {
      * - 거래소 방식: 미리 대량 데이터 준비
      */
     private void fetchAndStoreLargeHistoryData() {
-        log.info("Fetching large history data (1000 candles) for market: {}", DEFAULT_MARKET);
+        log.info("Fetching large history data ({} candles) for market: {}", HISTORY_CANDLE_COUNT, DEFAULT_MARKET);
         
         try {
-            // 1000개 캔들 데이터 가져오기
-            List<UpbitCandleDto> historyCandles = upbitApiClient.getCandles(DEFAULT_MARKET, 1000);
+            // 1000개 캔들 데이터 가져오기 (요청당 200개 상한 → to 커서로 페이지 조회)
+            List<UpbitCandleDto> historyCandles = upbitApiClient.getCandleHistory(DEFAULT_MARKET, HISTORY_CANDLE_COUNT);
             
             if (historyCandles.isEmpty()) {
                 log.warn("No history data received, using dummy data instead");
@@ -159,7 +198,8 @@ public class ChartService {
                 return;
             }
 
-            // Redis에 대량 저장
+            // 메모리 + Redis에 대량 저장
+            candleMemoryCache.putAll(DEFAULT_MARKET, historyCandles);
             candleDataRepository.saveCandles(DEFAULT_MARKET, historyCandles);
             
             // 🎆 DB에도 저장 (영구 보관)
@@ -188,6 +228,7 @@ public class ChartService {
                 .map(this::convertToUpbitCandle)
                 .toList();
                 
+            candleMemoryCache.putAll(DEFAULT_MARKET, dummyCandles);
             candleDataRepository.saveCandles(DEFAULT_MARKET, dummyCandles);
             log.info("Saved {} dummy candles for development", dummyCandles.size());
             
@@ -288,13 +329,20 @@ public class ChartService {
     /**
      * 🎆 DB에서 차트 데이터 조회 (영구 저장된 데이터)
      */
-    public List<LightweightChartDto> getChartDataFromDatabase(String market, int limit) {
+    public List<Candle> getChartDataFromDatabase(String market, int limit) {
+        return getChartDataFromDatabase(market, Timeframe.ONE_MINUTE, limit);
+    }
+
+    /**
+     * 🎆 DB에서 차트 데이터 조회 (타임프레임 지정)
+     */
+    public List<Candle> getChartDataFromDatabase(String market, Timeframe timeframe, int limit) {
         String targetMarket = (market != null && !market.trim().isEmpty()) ? market : DEFAULT_MARKET;
         
-        log.debug("🎆 Retrieving chart data from database for market: {} (limit: {})", targetMarket, limit);
+        log.debug("🎆 Retrieving {} chart data from database for market: {} (limit: {})", timeframe.getCode(), targetMarket, limit);
         
         try {
-            return chartDatabaseService.getChartDataFromDatabase(targetMarket, limit);
+            return chartDatabaseService.getChartDataFromDatabase(targetMarket, timeframe, limit);
             
         } catch (Exception e) {
             log.error("Failed to get chart data from database for market: {}, error: {}", targetMarket, e.getMessage());
@@ -303,16 +351,55 @@ public class ChartService {
     }
 
     /**
-     * WebSocket을 통한 실시간 업데이트 전송
+     * DB 차트 데이터 존재 여부
      */
-    private void sendRealtimeUpdate(UpbitCandleDto candle) {
+    public boolean hasChartDataInDatabase(String market, Timeframe timeframe) {
+        String targetMarket = (market != null && !market.trim().isEmpty()) ? market : DEFAULT_MARKET;
+        return chartDatabaseService.hasChartData(targetMarket, timeframe);
+    }
+
+    /**
+     * DB 차트 데이터를 JSON 배열로 출력 스트림에 직접 기록 (최신순)
+     * - 커서에서 읽은 캔들을 바로 직렬화하므로 조회 건수와 무관하게 메모리 일정
+     * @param out 응답 출력 스트림
+     * @return 기록한 캔들 수
+     */
+    public int writeChartDataFromDatabase(String market, Timeframe timeframe, int limit, OutputStream out)
+            throws IOException {
+        String targetMarket = (market != null && !market.trim().isEmpty()) ? market : DEFAULT_MARKET;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartArray();
+            int rows = chartDatabaseService.streamChartData(targetMarket, timeframe, limit, candle -> {
+                try {
+                    generator.writeObject(candle);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+            return rows;
+
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 쓰기 실패
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * WebSocket을 통한 실시간 업데이트 전송 (마켓별 토픽, 마켓 발행 임대를 가진 노드만)
+     */
+    public void sendRealtimeUpdate(String market, Candle candle) {
+        if (!chartPublisherLease.isPublisher(market)) {
+            return;
+        }
         try {
-            LightweightChartDto chartData = LightweightChartDto.from(candle);
-            RealtimeChartDto realtimeData = RealtimeChartDto.createCandleUpdate(DEFAULT_MARKET, chartData);
+            RealtimeChartDto realtimeData = RealtimeChartDto.createCandleUpdate(market, candle);
 
             // 특정 마켓 채널로 전송
-            String topic = WEBSOCKET_TOPIC + "/" + DEFAULT_MARKET;
-            messagingTemplate.convertAndSend(topic, realtimeData);
+            String topic = WEBSOCKET_TOPIC + "/" + market;
+            chartBroadcaster.broadcast(topic, realtimeData);
 
             log.debug("Sent realtime update to WebSocket topic: {}", topic);
 
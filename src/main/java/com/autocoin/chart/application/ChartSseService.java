@@ -0,0 +1,517 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.dto.CandleStreamMessage;
+import com.autocoin.chart.infrastructure.ChartBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 차트 SSE 스트림 (/api/chart/stream)
+ * - STOMP와 같은 브로드캐스트(ChartBroadcaster 로컬 리스너)를 받아 연결별로 전송, 재직렬화 없음
+ * - 한 연결에서 여러 마켓 다중화: event "candle"(v1 /topic/chart/{market}), "stream"(v2 diff/close), "snapshot"
+ * - 이벤트 ID는 "{bootId}-{번호}" (bootId는 노드 프로세스마다 새로 생성), 마켓별 최근 이벤트를 링 버퍼에 보관해 Last-Event-ID 재개 지원
+ * - 다른 노드/재시작 전 bootId이거나 형식이 맞지 않는 Last-Event-ID는 재개하지 않고 "reset" 후 snapshot
+ * - 버퍼보다 오래된 ID로 재개하면 "reset" 이벤트 후 snapshot 전송 (클라이언트는 /api/chart/fast로 다시 적재)
+ * - 연결마다 작은 전송 큐를 두고 작은 전송 스레드 풀에서 연결 단위로 순서대로 비움 (느린 연결 하나가 다른 연결을 막지 않음)
+ * - 연결 큐가 넘치면 대기 이벤트를 버리고 다음 전송을 "reset" + snapshot으로 대체
+ * - 한 번의 전송이 send-timeout-ms를 넘기면 그 연결만 종료 (chart.sse.evicted)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChartSseService {
+
+    static final String EVENT_CANDLE = "candle";
+    static final String EVENT_STREAM = "stream";
+    static final String EVENT_SNAPSHOT = "snapshot";
+    static final String EVENT_RESET = "reset";
+
+    private static final String CHART_TOPIC_PREFIX = "/topic/chart/";
+    private static final String SESSION_PREFIX = "sse-";
+
+    private final ChartBroadcaster chartBroadcaster;
+    private final CandleStreamService candleStreamService;
+    private final MarketSubscriptionRegistry marketSubscriptionRegistry;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 마켓별 재개용 이벤트 수
+    @Value("${app.chart.sse.replay-size:256}")
+    private int replaySize;
+
+    @Value("${app.chart.sse.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${app.chart.sse.heartbeat-seconds:20}")
+    private long heartbeatSeconds;
+
+    @Value("${app.chart.sse.max-connections:20000}")
+    private int maxConnections;
+
+    @Value("${app.chart.sse.max-markets:20}")
+    private int maxMarkets;
+
+    @Value("${app.chart.sse.sender-threads:4}")
+    private int senderThreads;
+
+    // 연결별 전송 대기 이벤트 한도 (초과 시 버리고 reset + snapshot)
+    @Value("${app.chart.sse.connection-queue-limit:64}")
+    private int connectionQueueLimit;
+
+    // 한 번의 전송 시간 한도 (초과 시 연결 종료)
+    @Value("${app.chart.sse.send-timeout-ms:10000}")
+    private long sendTimeoutMillis;
+
+    private static final long NO_EVENT_ID = -1;
+    private static final long FOREIGN_EVENT_ID = -2;
+
+    // 이 프로세스가 발급한 이벤트 ID 접두사 (다른 노드/재시작 전 ID와 구분)
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong eventIds = new AtomicLong();
+    private final AtomicLong connectionIds = new AtomicLong();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final Map<String, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final Map<String, ReplayBuffer> replays = new ConcurrentHashMap<>();
+
+    // 연결당 한 번에 비우는 최대 작업 수 (이후 다른 연결에 스레드 양보)
+    private static final int DRAIN_BATCH = 32;
+
+    private ExecutorService sender;
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    public void start() {
+        // 대기 작업은 연결당 최대 1개라 연결 수 한도가 곧 큐 한도
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "chart-sse-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chart-sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, heartbeatSeconds);
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, interval, interval, TimeUnit.SECONDS);
+        heartbeat.scheduleWithFixedDelay(this::evictStalled, 1, 1, TimeUnit.SECONDS);
+
+        Gauge.builder("chart.sse.connections", connectionCount, AtomicInteger::get)
+            .description("Open chart SSE connections")
+            .register(meterRegistry);
+
+        chartBroadcaster.addLocalListener(this::onBroadcast);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        if (sender != null) {
+            sender.shutdownNow();
+        }
+    }
+
+    /**
+     * SSE 연결 생성
+     * @param markets 구독 마켓 (대문자, 중복 제거된 상태)
+     * @param lastEventId 재개 기준 이벤트 ID (없으면 null, snapshot부터 시작)
+     * @return emitter (연결 한도 초과 시 null)
+     */
+    public SseEmitter open(List<String> markets, String lastEventId) {
+        return open(markets, lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter open(List<String> markets, String lastEventId, SseEmitter emitter) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            meterRegistry.counter("chart.sse.rejected").increment();
+            return null;
+        }
+
+        String id = SESSION_PREFIX + connectionIds.incrementAndGet();
+        Connection connection = new Connection(id, emitter, markets.toArray(String[]::new));
+
+        emitter.onCompletion(() -> close(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(error -> close(connection));
+
+        // 등록 후 전송 스레드에서 재개/snapshot 전송 (그 사이 이벤트는 lastSentId로 중복 제거)
+        // 다른 노드/재시작 전 ID나 아직 발급하지 않은 번호는 재개 불가로 처리
+        long current = eventIds.get();
+        long parsed = parseEventId(lastEventId, bootId);
+        boolean resumable = parsed >= 0 && parsed <= current;
+        long resumeFrom = resumable ? parsed : -1;
+        boolean reset = parsed != NO_EVENT_ID && !resumable;
+        connection.lastSentId = resumable ? parsed : current;
+        enqueue(connection, () -> resume(connection, resumeFrom, reset));
+        for (String market : connection.markets) {
+            connections.computeIfAbsent(market, key -> ConcurrentHashMap.newKeySet()).add(connection);
+            marketSubscriptionRegistry.subscribe(id, market, CHART_TOPIC_PREFIX + market);
+        }
+
+        log.debug("Chart SSE connection opened: {} markets: {} lastEventId: {}", id, markets, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * 연결당 최대 마켓 수
+     */
+    public int getMaxMarkets() {
+        return maxMarkets;
+    }
+
+    /**
+     * 브로드캐스트 수신 (STOMP 전송과 같은 JSON)
+     * - 이벤트 ID 부여/버퍼 저장/연결 큐 추가를 하나의 잠금 안에서 처리해 연결별 전송 순서 = ID 순서
+     */
+    private void onBroadcast(String destination, byte[] json) {
+        String name = eventName(destination);
+        if (name == null) {
+            return;
+        }
+        String market = destination.substring(destination.lastIndexOf('/') + 1);
+        synchronized (this) {
+            Set<Connection> subscribers = connections.get(market);
+            long eventId = eventIds.incrementAndGet();
+            Event event = new Event(eventId, formatEventId(eventId), name, json);
+            replays.computeIfAbsent(market, key -> new ReplayBuffer(replaySize)).add(event);
+            if (subscribers != null) {
+                for (Connection connection : subscribers) {
+                    enqueue(connection, () -> send(connection, event));
+                }
+            }
+        }
+    }
+
+    /**
+     * 연결 큐에 전송 작업 추가 (넘치면 대기 작업을 버리고 reset 표시), 비우는 작업이 없으면 예약
+     */
+    private void enqueue(Connection connection, Runnable task) {
+        synchronized (connection) {
+            if (connection.closed) {
+                return;
+            }
+            if (connection.pending.size() >= connectionQueueLimit) {
+                meterRegistry.counter("chart.sse.dropped").increment(connection.pending.size() + 1);
+                connection.pending.clear();
+                connection.resetPending = true;
+            } else {
+                connection.pending.addLast(task);
+            }
+            if (connection.draining) {
+                return;
+            }
+            connection.draining = true;
+        }
+        sender.execute(() -> drain(connection));
+    }
+
+    /**
+     * 연결 큐 비우기 (연결당 한 스레드만), 버려진 이벤트가 있었으면 먼저 reset + snapshot
+     */
+    private void drain(Connection connection) {
+        for (int i = 0; i < DRAIN_BATCH; i++) {
+            Runnable task;
+            boolean evicted = false;
+            synchronized (connection) {
+                if (connection.resetPending && !connection.closed) {
+                    connection.resetPending = false;
+                    task = () -> reset(connection);
+                } else {
+                    task = connection.pending.pollFirst();
+                }
+                if (task == null) {
+                    connection.draining = false;
+                    evicted = connection.evicted;
+                }
+            }
+            if (task == null) {
+                if (evicted) {
+                    // 전송 시간 초과로 종료된 연결은 막혀 있던 전송이 끝난 뒤 여기서 정리
+                    connection.emitter.complete();
+                }
+                return;
+            }
+            connection.sendStartedAt = System.currentTimeMillis();
+            try {
+                task.run();
+            } finally {
+                connection.sendStartedAt = 0;
+            }
+        }
+        sender.execute(() -> drain(connection));
+    }
+
+    /**
+     * 재개 ID 이후 이벤트 재전송, 재개 불가하거나 신규 연결이면 snapshot
+     */
+    private void resume(Connection connection, long resumeFrom, boolean reset) {
+        List<Event> missed = new ArrayList<>();
+        boolean gap = resumeFrom < 0;
+        if (resumeFrom >= 0) {
+            for (String market : connection.markets) {
+                ReplayBuffer buffer = replays.get(market);
+                if (buffer != null && !buffer.since(resumeFrom, missed)) {
+                    gap = true;
+                }
+            }
+        }
+
+        if (gap) {
+            if (reset || resumeFrom >= 0) {
+                sendRaw(connection, SseEmitter.event().name(EVENT_RESET).data(""));
+                meterRegistry.counter("chart.sse.resume", "result", "reset").increment();
+            }
+            sendSnapshots(connection);
+            return;
+        }
+
+        missed.sort(Comparator.comparingLong(Event::id));
+        for (Event event : missed) {
+            send(connection, event);
+        }
+        meterRegistry.counter("chart.sse.resume", "result", "replayed").increment();
+    }
+
+    /**
+     * 버려진 이벤트 대신 reset 후 현재 시점 snapshot (이후 대기 이벤트는 lastSentId로 중복 제거)
+     */
+    private void reset(Connection connection) {
+        connection.lastSentId = eventIds.get();
+        sendRaw(connection, SseEmitter.event().name(EVENT_RESET).data(""));
+        meterRegistry.counter("chart.sse.resume", "result", "dropped").increment();
+        sendSnapshots(connection);
+    }
+
+    private void sendSnapshots(Connection connection) {
+        for (String market : connection.markets) {
+            CandleStreamMessage snapshot = candleStreamService.snapshot(market);
+            if (snapshot == null) {
+                continue;
+            }
+            try {
+                sendRaw(connection, SseEmitter.event()
+                    .id(formatEventId(connection.lastSentId))
+                    .name(EVENT_SNAPSHOT)
+                    .data(objectMapper.writeValueAsBytes(snapshot), MediaType.APPLICATION_JSON));
+            } catch (Exception e) {
+                log.warn("Failed to serialize SSE snapshot for market: {}, error: {}", market, e.getMessage());
+            }
+        }
+    }
+
+    private void send(Connection connection, Event event) {
+        if (connection.closed || event.id() <= connection.lastSentId) {
+            return;
+        }
+        connection.lastSentId = event.id();
+        sendRaw(connection, SseEmitter.event()
+            .id(event.sseId())
+            .name(event.name())
+            .data(event.data(), MediaType.APPLICATION_JSON));
+    }
+
+    private void sendRaw(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed) {
+            return;
+        }
+        try {
+            connection.emitter.send(event);
+        } catch (Exception e) {
+            log.debug("Chart SSE send failed, closing {}: {}", connection.id, e.getMessage());
+            connection.emitter.completeWithError(e);
+            close(connection);
+        }
+    }
+
+    private void sendHeartbeats() {
+        connections.values().stream()
+            .flatMap(Set::stream)
+            .distinct()
+            .forEach(connection -> enqueue(connection, () -> sendRaw(connection, SseEmitter.event().comment(""))));
+    }
+
+    /**
+     * 전송이 send-timeout-ms 넘게 끝나지 않은 연결 종료 (emitter는 막힌 전송이 끝난 뒤 전송 스레드가 정리)
+     */
+    void evictStalled() {
+        long now = System.currentTimeMillis();
+        connections.values().stream()
+            .flatMap(Set::stream)
+            .distinct()
+            .filter(connection -> {
+                long started = connection.sendStartedAt;
+                return started > 0 && now - started > sendTimeoutMillis;
+            })
+            .forEach(connection -> {
+                meterRegistry.counter("chart.sse.evicted", "reason", "send-timeout").increment();
+                log.warn("Evicting slow chart SSE connection {}", connection.id);
+                boolean idle;
+                synchronized (connection) {
+                    connection.evicted = true;
+                    idle = !connection.draining;
+                }
+                close(connection);
+                if (idle) {
+                    connection.emitter.complete();
+                }
+            });
+    }
+
+    private void close(Connection connection) {
+        synchronized (connection) {
+            if (connection.closed) {
+                return;
+            }
+            connection.closed = true;
+            connection.pending.clear();
+        }
+        for (String market : connection.markets) {
+            Set<Connection> subscribers = connections.get(market);
+            if (subscribers != null) {
+                subscribers.remove(connection);
+            }
+        }
+        marketSubscriptionRegistry.disconnect(connection.id);
+        connectionCount.decrementAndGet();
+        log.debug("Chart SSE connection closed: {}", connection.id);
+    }
+
+    /**
+     * destination별 SSE 이벤트 이름 (차트 마켓 토픽이 아니면 null)
+     */
+    static String eventName(String destination) {
+        if (MarketSubscriptionRegistry.marketOf(destination) == null) {
+            return null;
+        }
+        return destination.startsWith(CandleStreamService.TOPIC_PREFIX) ? EVENT_STREAM : EVENT_CANDLE;
+    }
+
+    private String formatEventId(long eventId) {
+        return bootId + "-" + eventId;
+    }
+
+    /**
+     * Last-Event-ID의 이벤트 번호
+     * @return 번호, 값이 없으면 NO_EVENT_ID, 다른 bootId이거나 형식이 맞지 않으면 FOREIGN_EVENT_ID
+     */
+    static long parseEventId(String lastEventId, String bootId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return NO_EVENT_ID;
+        }
+        String value = lastEventId.trim();
+        int separator = value.lastIndexOf('-');
+        if (separator < 0 || !value.substring(0, separator).equals(bootId)) {
+            return FOREIGN_EVENT_ID;
+        }
+        try {
+            long eventId = Long.parseLong(value.substring(separator + 1));
+            return eventId >= 0 ? eventId : FOREIGN_EVENT_ID;
+        } catch (NumberFormatException e) {
+            return FOREIGN_EVENT_ID;
+        }
+    }
+
+    /**
+     * 전송 이벤트 (data는 STOMP로 보낸 JSON 바이트 그대로, sseId는 "{bootId}-{id}")
+     */
+    record Event(long id, String sseId, String name, byte[] data) {
+    }
+
+    /**
+     * 연결 상태 (lastSentId는 연결 큐를 비우는 스레드에서만 갱신, 큐/플래그는 연결 객체로 동기화)
+     */
+    private static final class Connection {
+
+        private final String id;
+        private final SseEmitter emitter;
+        private final String[] markets;
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean resetPending;
+        private volatile long sendStartedAt;
+        private volatile long lastSentId;
+        private volatile boolean closed;
+        private volatile boolean evicted;
+
+        private Connection(String id, SseEmitter emitter, String[] markets) {
+            this.id = id;
+            this.emitter = emitter;
+            this.markets = markets;
+        }
+    }
+
+    /**
+     * 마켓별 최근 이벤트 링 버퍼
+     */
+    static final class ReplayBuffer {
+
+        private final Event[] events;
+        private int next;
+        private int size;
+        // 버퍼에서 밀려난 가장 큰 이벤트 ID
+        private long evictedId = 0;
+
+        ReplayBuffer(int capacity) {
+            this.events = new Event[Math.max(1, capacity)];
+        }
+
+        synchronized void add(Event event) {
+            if (size == events.length) {
+                evictedId = events[next].id();
+            } else {
+                size++;
+            }
+            events[next] = event;
+            next = (next + 1) % events.length;
+        }
+
+        /**
+         * 기준 ID 이후 이벤트 수집
+         * @return 빠짐없이 수집했으면 true (기준 ID 이후 이벤트가 이미 밀려났으면 false)
+         */
+        synchronized boolean since(long lastId, List<Event> out) {
+            if (lastId < evictedId) {
+                return false;
+            }
+            int start = (next - size + events.length) % events.length;
+            for (int i = 0; i < size; i++) {
+                Event event = events[(start + i) % events.length];
+                if (event.id() > lastId) {
+                    out.add(event);
+                }
+            }
+            return true;
+        }
+    }
+}
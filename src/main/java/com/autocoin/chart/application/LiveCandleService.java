@@ -0,0 +1,275 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.FixedPoint;
+import com.autocoin.chart.domain.model.TickScale;
+import com.autocoin.chart.domain.model.TradeTick;
+import com.autocoin.chart.infrastructure.CandleDataRepository;
+import com.autocoin.chart.infrastructure.CandleMemoryCache;
+import com.autocoin.chart.infrastructure.TradeTickSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체결 틱 기반 실시간 1분봉 생성
+ * - TradeTickSource에서 받은 체결로 마켓별 진행 중 OHLCV 캔들을 메모리에서 갱신 (고정소수점)
+ * - 변경된 캔들은 push 주기마다 한 번만 메모리 캐시/v2 스트림(CandleStreamService)으로 전송
+ * - 분 경계가 지나면 캔들을 마감해 Redis(CandleDataRepository)에 저장
+ * - 대상 마켓 = 고정 마켓(app.chart.live.markets) + 구독 활성 마켓(MarketSubscriptionRegistry)
+ * - 매분 수집(CandleIngestionService)은 그대로 동작하며 Upbit 확정 캔들로 덮어씀
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveCandleService {
+
+    private final TradeTickSource tradeTickSource;
+    private final CandleMemoryCache candleMemoryCache;
+    private final CandleDataRepository candleDataRepository;
+    private final CandleStreamService candleStreamService;
+    private final MarketSubscriptionRegistry marketSubscriptionRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.chart.live.enabled:false}")
+    private boolean enabled;
+
+    // 구독과 무관하게 항상 유지할 마켓
+    @Value("${app.chart.live.markets:}")
+    private String configuredMarkets;
+
+    // 구독자 전송 최소 간격
+    @Value("${app.chart.live.push-interval-ms:250}")
+    private long pushIntervalMillis;
+
+    private final Map<String, LiveCandle> candles = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flusher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Live candle building is disabled (app.chart.live.enabled=false)");
+            return;
+        }
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-candle-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(50, pushIntervalMillis);
+        flusher.scheduleAtFixedRate(() -> flush(System.currentTimeMillis()), interval, interval, TimeUnit.MILLISECONDS);
+
+        List<String> markets = liveMarkets(marketSubscriptionRegistry.getActiveMarkets());
+        tradeTickSource.start(markets, this::onTick);
+        marketSubscriptionRegistry.addListener(this::onActiveMarketsChanged);
+        log.info("Live candle building started for markets: {} (push every {}ms)", markets, interval);
+    }
+
+    /**
+     * 구독 활성 마켓 변경 반영
+     * - 틱 공급 대상 교체, 빠진 마켓의 진행 중 캔들과 스트림 상태 제거
+     */
+    void onActiveMarketsChanged(Set<String> activeMarkets) {
+        List<String> markets = liveMarkets(activeMarkets);
+        tradeTickSource.updateMarkets(markets);
+
+        candles.keySet().removeIf(market -> {
+            if (markets.contains(market)) {
+                return false;
+            }
+            candleStreamService.reset(market);
+            return true;
+        });
+        log.info("Live candle markets updated: {}", markets);
+    }
+
+    @PreDestroy
+    public void stop() {
+        tradeTickSource.stop();
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+    }
+
+    /**
+     * 체결 반영
+     * - 진행 중 캔들보다 이후 분의 체결이면 진행 중 캔들을 마감하고 새 캔들 시작
+     * - 이미 마감한 분의 늦은 체결은 무시
+     */
+    public void onTick(TradeTick tick) {
+        LiveCandle live = candles.computeIfAbsent(tick.market(),
+            market -> new LiveCandle(market, TickScale.of(market, tick.price())));
+
+        Candle sealed;
+        synchronized (live) {
+            sealed = live.apply(tick);
+        }
+        meterRegistry.counter("chart.live.ticks").increment();
+
+        if (sealed != null) {
+            seal(sealed);
+        }
+    }
+
+    /**
+     * 변경된 진행 중 캔들 전송, 분 경계가 지난 캔들 마감
+     * @param nowMillis 현재 시각 (epoch millis)
+     */
+    void flush(long nowMillis) {
+        long currentMinute = Timeframe.ONE_MINUTE.bucketStart(nowMillis / 1000);
+
+        for (LiveCandle live : candles.values()) {
+            Candle push = null;
+            Candle sealed = null;
+            synchronized (live) {
+                if (live.bucketStart >= 0 && live.bucketStart < currentMinute) {
+                    sealed = live.seal();
+                } else if (live.dirty) {
+                    live.dirty = false;
+                    push = live.toCandle();
+                }
+            }
+
+            try {
+                if (sealed != null) {
+                    seal(sealed);
+                } else if (push != null) {
+                    candleMemoryCache.put(push.market(), Timeframe.ONE_MINUTE, push);
+                    candleStreamService.onCandle(push);
+                    meterRegistry.counter("chart.live.pushes").increment();
+                }
+            } catch (Exception e) {
+                log.warn("Failed to flush live candle for market: {}, error: {}", live.market, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 마켓별 진행 중 캔들 (없으면 null)
+     */
+    public Candle getLiveCandle(String market) {
+        LiveCandle live = candles.get(market);
+        if (live == null) {
+            return null;
+        }
+        synchronized (live) {
+            return live.toCandle();
+        }
+    }
+
+    /**
+     * 고정 마켓 + 구독 활성 마켓
+     */
+    private List<String> liveMarkets(Set<String> activeMarkets) {
+        Set<String> markets = new TreeSet<>(activeMarkets);
+        Arrays.stream(configuredMarkets.split(","))
+            .map(String::trim)
+            .filter(market -> !market.isEmpty())
+            .map(String::toUpperCase)
+            .forEach(markets::add);
+        return List.copyOf(markets);
+    }
+
+    /**
+     * 마감 캔들 저장 및 최종 값 전송
+     */
+    private void seal(Candle candle) {
+        try {
+            candleMemoryCache.put(candle.market(), Timeframe.ONE_MINUTE, candle);
+            candleDataRepository.saveCandles(candle.market(), List.of(candle.toUpbitCandleDto()));
+            candleStreamService.onCandle(candle);
+            meterRegistry.counter("chart.live.sealed").increment();
+            log.debug("Sealed live candle for market: {} at {}", candle.market(), candle.time());
+        } catch (Exception e) {
+            log.error("Failed to seal live candle for market: {}, error: {}", candle.market(), e.getMessage());
+        }
+    }
+
+    /**
+     * 마켓별 진행 중 캔들 상태
+     */
+    private static final class LiveCandle {
+
+        private final String market;
+        private final TickScale scale;
+
+        private long bucketStart = -1;
+        private long lastSealed = -1;
+        private long open;
+        private long high;
+        private long low;
+        private long close;
+        private long volume;
+        private boolean dirty;
+
+        private LiveCandle(String market, TickScale scale) {
+            this.market = market;
+            this.scale = scale;
+        }
+
+        /**
+         * @return 새 분으로 넘어가며 마감된 캔들 (없으면 null)
+         */
+        private Candle apply(TradeTick tick) {
+            long minute = Timeframe.ONE_MINUTE.bucketStart(tick.timestamp() / 1000);
+            if (minute <= lastSealed || minute < bucketStart) {
+                return null;
+            }
+
+            long price = FixedPoint.toScaled(tick.price(), scale.priceScale());
+            long amount = FixedPoint.toScaled(tick.volume(), scale.volumeScale());
+
+            Candle sealed = null;
+            if (minute != bucketStart) {
+                sealed = bucketStart >= 0 ? seal() : null;
+                bucketStart = minute;
+                open = price;
+                high = price;
+                low = price;
+                volume = 0;
+            } else {
+                high = Math.max(high, price);
+                low = Math.min(low, price);
+            }
+
+            close = price;
+            long sum = volume + amount;
+            volume = ((volume ^ sum) & (amount ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+            dirty = true;
+            return sealed;
+        }
+
+        private Candle seal() {
+            Candle candle = toCandle();
+            lastSealed = bucketStart;
+            bucketStart = -1;
+            dirty = false;
+            return candle;
+        }
+
+        private Candle toCandle() {
+            if (bucketStart < 0) {
+                return null;
+            }
+            return new Candle(market, bucketStart, open, high, low, close, volume, scale);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.autocoin.chart.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 마켓별 STOMP 구독 참조 카운트
+ * - /topic/chart/{market}, /topic/chart/v2/{market} SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 추적
+ * - 구독자가 있는 동안 + 마지막 구독 해제 후 linger 기간 동안 마켓 활성
+ * - 활성 마켓 집합이 바뀌면 리스너(LiveCandleService 등)에 통지
+ * - broadcast mode=redis이면 노드별 활성 마켓을 Redis ZSET(만료 시각 score)으로 공유
+ */
+@Slf4j
+@Service
+public class MarketSubscriptionRegistry {
+
+    private static final Pattern CHART_TOPIC = Pattern.compile("^/topic/chart/(?:v2/)?([A-Za-z0-9]+-[A-Za-z0-9]+)$");
+    private static final String CLUSTER_KEY = "chart:active-markets";
+
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final long lingerSeconds;
+
+    // 세션 → (구독 ID → 마켓)
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    // 마켓 → 구독 수
+    private final Map<String, Integer> counts = new HashMap<>();
+    // 구독 수가 0이 된 시각 (linger 중인 마켓)
+    private final Map<String, Long> releasedAt = new HashMap<>();
+    // 다른 노드가 공유한 활성 마켓
+    private volatile Set<String> remoteMarkets = Set.of();
+    private volatile Set<String> activeMarkets = Set.of();
+
+    private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+
+    public MarketSubscriptionRegistry(MeterRegistry meterRegistry,
+                                      ObjectProvider<StringRedisTemplate> redisTemplate,
+                                      @Value("${app.chart.broadcast.mode:local}") String broadcastMode,
+                                      @Value("${app.chart.subscription.linger-seconds:60}") long lingerSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.lingerSeconds = lingerSeconds;
+        this.redisTemplate = "redis".equalsIgnoreCase(broadcastMode) ? redisTemplate.getIfAvailable() : null;
+
+        Gauge.builder("chart.subscription.active.markets", this, registry -> registry.activeMarkets.size())
+            .description("Markets with subscribers or within the linger period")
+            .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    /**
+     * 마켓 활성 여부 (구독 중, linger 중, 다른 노드에서 활성)
+     */
+    public boolean isActive(String market) {
+        return activeMarkets.contains(market);
+    }
+
+    /**
+     * 현재 활성 마켓 집합
+     */
+    public Set<String> getActiveMarkets() {
+        return activeMarkets;
+    }
+
+    /**
+     * 활성 마켓 집합 변경 리스너 등록
+     */
+    public void addListener(Consumer<Set<String>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 구독 추가 (STOMP 이벤트, SSE 연결에서 호출)
+     * @param sessionId 세션 ID (SSE는 연결별 ID)
+     * @param subscriptionId 세션 내 구독 ID
+     * @param destination 차트 토픽 (차트 토픽이 아니면 무시)
+     */
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        String market = marketOf(destination);
+        if (sessionId == null || subscriptionId == null || market == null) {
+            return;
+        }
+
+        String previous = sessions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+            .put(subscriptionId, market);
+        synchronized (this) {
+            if (previous != null) {
+                decrement(previous, System.currentTimeMillis());
+            }
+            counts.merge(market, 1, Integer::sum);
+            releasedAt.remove(market);
+        }
+        refresh();
+    }
+
+    void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = sessionId != null ? sessions.get(sessionId) : null;
+        String market = subscriptions != null && subscriptionId != null ? subscriptions.remove(subscriptionId) : null;
+        if (market == null) {
+            return;
+        }
+        synchronized (this) {
+            decrement(market, System.currentTimeMillis());
+        }
+        refresh();
+    }
+
+    /**
+     * 세션의 모든 구독 해제
+     */
+    public void disconnect(String sessionId) {
+        Map<String, String> subscriptions = sessionId != null ? sessions.remove(sessionId) : null;
+        if (subscriptions == null || subscriptions.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            subscriptions.values().forEach(market -> decrement(market, now));
+        }
+        refresh();
+    }
+
+    /**
+     * linger가 끝난 마켓 비활성화, 클러스터 활성 마켓 공유
+     */
+    @Scheduled(fixedDelayString = "${app.chart.subscription.sweep-interval-ms:5000}")
+    public void sweep() {
+        sweep(System.currentTimeMillis());
+    }
+
+    void sweep(long nowMillis) {
+        synchronized (this) {
+            releasedAt.entrySet().removeIf(entry -> nowMillis - entry.getValue() >= lingerSeconds * 1000);
+        }
+        shareWithCluster(nowMillis);
+        refresh();
+    }
+
+    private void decrement(String market, long nowMillis) {
+        Integer count = counts.get(market);
+        if (count == null) {
+            return;
+        }
+        if (count <= 1) {
+            counts.remove(market);
+            releasedAt.put(market, nowMillis);
+        } else {
+            counts.put(market, count - 1);
+        }
+    }
+
+    /**
+     * 활성 집합 재계산 후 바뀌었으면 통지
+     * - 통지 순서가 뒤바뀌지 않도록 잠금 안에서 통지 (리스너는 레지스트리를 다시 호출하지 않음)
+     */
+    private synchronized void refresh() {
+        Set<String> next = new HashSet<>(counts.keySet());
+        next.addAll(releasedAt.keySet());
+        next.addAll(remoteMarkets);
+
+        Set<String> current = Set.copyOf(next);
+        if (current.equals(activeMarkets)) {
+            return;
+        }
+        activeMarkets = current;
+
+        log.info("Active chart markets changed: {}", current);
+        for (Consumer<Set<String>> listener : listeners) {
+            try {
+                listener.accept(current);
+            } catch (Exception e) {
+                log.warn("Market activation listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이 노드의 활성 마켓을 만료 시각과 함께 공유하고 다른 노드의 활성 마켓을 읽음
+     */
+    private void shareWithCluster(long nowMillis) {
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            Set<String> local;
+            synchronized (this) {
+                local = new HashSet<>(counts.keySet());
+                local.addAll(releasedAt.keySet());
+            }
+            double expiresAt = nowMillis + lingerSeconds * 1000.0;
+            for (String market : local) {
+                redisTemplate.opsForZSet().add(CLUSTER_KEY, market, expiresAt);
+            }
+            redisTemplate.opsForZSet().removeRangeByScore(CLUSTER_KEY, 0, nowMillis);
+
+            Set<String> remote = redisTemplate.opsForZSet().rangeByScore(CLUSTER_KEY, nowMillis, Double.MAX_VALUE);
+            remoteMarkets = remote != null ? Set.copyOf(remote) : Set.of();
+
+        } catch (Exception e) {
+            meterRegistry.counter("chart.subscription.cluster.errors").increment();
+            log.warn("Failed to share active markets via Redis: {}", e.getMessage());
+        }
+    }
+
+    static String marketOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = CHART_TOPIC.matcher(destination);
+        return matcher.matches() ? matcher.group(1).toUpperCase() : null;
+    }
+}
@@ -0,0 +1,240 @@
+package com.autocoin.chart.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 세션별 송신 큐 (느린 클라이언트 백프레셔)
+ * - SubProtocolWebSocketHandler가 세션마다 씌우는 ConcurrentWebSocketSessionDecorator 자리에 사용 (SlowConsumerWebSocketHandler)
+ * - 송신 중인 스레드가 있으면 큐에 넣고 바로 반환 (브로커 스레드가 느린 소켓에 묶이지 않음)
+ * - 충돌 허용 토픽(conflatable)은 큐에 같은 destination 메시지가 남아 있으면 최신 메시지로 교체
+ * - 대기 메시지 수/바이트가 한도를 넘거나 한 번의 송신이 시간 한도를 넘으면 SessionLimitExceededException
+ *   (SubProtocolWebSocketHandler가 세션을 SESSION_NOT_RELIABLE로 종료)
+ */
+@Slf4j
+public class ConflatingSessionDecorator extends ConcurrentWebSocketSessionDecorator {
+
+    private static final String MESSAGE_COMMAND = "MESSAGE";
+    private static final String DESTINATION_HEADER = "destination:";
+    // STOMP 헤더 영역 탐색 한도 (본문까지 읽지 않음)
+    private static final int MAX_HEADER_SCAN = 1024;
+
+    private final int queueLimit;
+    private final Predicate<String> conflatable;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger totalDepth;
+
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    private final Map<String, Pending> latestByDestination = new HashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private int bufferSize;
+    private volatile long sendStartTime;
+    private volatile boolean evicted;
+
+    public ConflatingSessionDecorator(WebSocketSession delegate, int sendTimeLimitMillis, int bufferSizeLimit,
+                                      int queueLimit, Predicate<String> conflatable, MeterRegistry meterRegistry,
+                                      AtomicInteger totalDepth) {
+        super(delegate, sendTimeLimitMillis, bufferSizeLimit);
+        this.queueLimit = queueLimit;
+        this.conflatable = conflatable;
+        this.meterRegistry = meterRegistry;
+        this.totalDepth = totalDepth;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        String destination = destinationOf(message);
+        if (evicted) {
+            count("websocket.outbound.dropped", destination);
+            return;
+        }
+
+        enqueue(destination, message);
+
+        do {
+            if (!tryFlush()) {
+                checkLimits();
+                break;
+            }
+        } while (depth() > 0 && !evicted);
+    }
+
+    /**
+     * 현재 큐 길이
+     */
+    public synchronized int depth() {
+        return queue.size();
+    }
+
+    /**
+     * 대기 중인 메시지 바이트 합계
+     */
+    @Override
+    public synchronized int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public long getTimeSinceSendStarted() {
+        long started = sendStartTime;
+        return started > 0 ? System.currentTimeMillis() - started : 0;
+    }
+
+    /**
+     * 연결 종료 시 남은 메시지 정리
+     */
+    public void release() {
+        synchronized (this) {
+            totalDepth.addAndGet(-queue.size());
+            queue.clear();
+            latestByDestination.clear();
+            bufferSize = 0;
+        }
+    }
+
+    private synchronized void enqueue(String destination, WebSocketMessage<?> message) {
+        if (destination != null && conflatable.test(destination)) {
+            Pending pending = latestByDestination.get(destination);
+            if (pending != null) {
+                bufferSize += message.getPayloadLength() - pending.message.getPayloadLength();
+                pending.message = message;
+                count("websocket.outbound.conflated", destination);
+                return;
+            }
+            pending = new Pending(destination, message);
+            latestByDestination.put(destination, pending);
+            queue.addLast(pending);
+        } else {
+            queue.addLast(new Pending(destination, message));
+        }
+        bufferSize += message.getPayloadLength();
+        totalDepth.incrementAndGet();
+    }
+
+    private synchronized Pending poll() {
+        Pending pending = queue.pollFirst();
+        if (pending != null) {
+            totalDepth.decrementAndGet();
+            bufferSize -= pending.message.getPayloadLength();
+            if (pending.destination != null) {
+                latestByDestination.remove(pending.destination, pending);
+            }
+        }
+        return pending;
+    }
+
+    private boolean tryFlush() throws IOException {
+        if (!flushLock.tryLock()) {
+            return false;
+        }
+        try {
+            Pending next;
+            while (!evicted && (next = poll()) != null) {
+                sendStartTime = System.currentTimeMillis();
+                getDelegate().sendMessage(next.message);
+                sendStartTime = 0;
+            }
+        } finally {
+            sendStartTime = 0;
+            flushLock.unlock();
+        }
+        return true;
+    }
+
+    private void checkLimits() {
+        if (getTimeSinceSendStarted() > getSendTimeLimit()) {
+            evict("send-time-limit");
+        } else if (depth() > queueLimit) {
+            evict("queue-limit");
+        } else if (getBufferSize() > getBufferSizeLimit()) {
+            evict("buffer-size-limit");
+        }
+    }
+
+    /**
+     * 남은 메시지를 버리고 세션 종료 요청 (한 번만)
+     */
+    private void evict(String reason) {
+        synchronized (this) {
+            if (evicted) {
+                return;
+            }
+            evicted = true;
+            queue.forEach(pending -> count("websocket.outbound.dropped", pending.destination));
+        }
+        release();
+
+        meterRegistry.counter("websocket.sessions.evicted", "reason", reason).increment();
+        log.warn("Evicting slow WebSocket session {} ({})", getId(), reason);
+        throw new SessionLimitExceededException(
+                "Slow WebSocket session " + getId() + " exceeded " + reason, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private void count(String name, String destination) {
+        meterRegistry.counter(name, "topic", destination != null ? destination : "none").increment();
+    }
+
+    /**
+     * STOMP MESSAGE 프레임의 destination 헤더 (그 외 프레임이면 null)
+     */
+    static String destinationOf(WebSocketMessage<?> message) {
+        String header;
+        if (message instanceof TextMessage text) {
+            String payload = text.getPayload();
+            header = payload.substring(0, Math.min(payload.length(), MAX_HEADER_SCAN));
+        } else if (message instanceof BinaryMessage binary) {
+            ByteBuffer buffer = binary.getPayload().duplicate();
+            byte[] bytes = new byte[Math.min(buffer.remaining(), MAX_HEADER_SCAN)];
+            buffer.get(bytes);
+            header = new String(bytes, StandardCharsets.UTF_8);
+        } else {
+            return null;
+        }
+
+        if (!header.startsWith(MESSAGE_COMMAND)) {
+            return null;
+        }
+        int headersEnd = header.indexOf("\n\n");
+        int start = header.indexOf("\n" + DESTINATION_HEADER);
+        if (start < 0 || (headersEnd >= 0 && start > headersEnd)) {
+            return null;
+        }
+        start += 1 + DESTINATION_HEADER.length();
+        int end = header.indexOf('\n', start);
+        if (end < 0) {
+            return null;
+        }
+        String destination = header.substring(start, end);
+        return destination.endsWith("\r") ? destination.substring(0, destination.length() - 1) : destination;
+    }
+
+    private static final class Pending {
+
+        private final String destination;
+        private WebSocketMessage<?> message;
+
+        private Pending(String destination, WebSocketMessage<?> message) {
+            this.destination = destination;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.autocoin.chart.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 구독자 간 프레임 공유 STOMP 인코더
+ * - SimpleBroker는 같은 payload 배열을 모든 구독 세션에 전달하고, 세션마다 다른 헤더는 subscription/message-id뿐
+ * - MESSAGE 프레임을 세션별 머리(command + subscription + message-id)와 공유 꼬리(나머지 헤더 + 본문 + NULL)로 나눠
+ *   꼬리는 payload 최초 인코딩 때 한 번만 만들고 이후 세션은 머리만 인코딩해 이어 붙임
+ * - 꼬리 캐시는 payload 배열 동일성 기준 고정 크기 슬롯 (밀려나면 다시 생성)
+ * - MESSAGE 외 프레임은 기본 인코더 사용
+ * - 메트릭: websocket.outbound.frame.cache{result=hit|miss}
+ */
+public class SharedFrameStompEncoder extends StompEncoder {
+
+    private static final byte[] MESSAGE_LINE = "MESSAGE\n".getBytes(StandardCharsets.UTF_8);
+    private static final int SLOTS = 256;
+    // StompHeaderAccessor.COMMAND_HEADER (private)
+    private static final String COMMAND_HEADER = "stompCommand";
+
+    private final AtomicReferenceArray<SharedTail> tails = new AtomicReferenceArray<>(SLOTS);
+    private final Counter hits;
+    private final Counter misses;
+
+    public SharedFrameStompEncoder(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter("websocket.outbound.frame.cache", "result", "hit");
+        this.misses = meterRegistry.counter("websocket.outbound.frame.cache", "result", "miss");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Map<String, Object> headers, byte[] payload) {
+        if (headers.get(SimpMessageHeaderAccessor.MESSAGE_TYPE_HEADER) == SimpMessageType.HEARTBEAT
+                || headers.get(COMMAND_HEADER) != StompCommand.MESSAGE) {
+            return super.encode(headers, payload);
+        }
+
+        Map<String, List<String>> nativeHeaders =
+                (Map<String, List<String>>) headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        if (nativeHeaders == null) {
+            return super.encode(headers, payload);
+        }
+
+        Map<String, List<String>> shared = new LinkedHashMap<>(nativeHeaders.size());
+        StringBuilder head = new StringBuilder(64);
+        nativeHeaders.forEach((name, values) -> {
+            if (StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER.equals(name)
+                    || StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER.equals(name)) {
+                appendHeader(head, name, values);
+            } else if (!StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER.equals(name)) {
+                shared.put(name, values);
+            }
+        });
+
+        byte[] tail = tail(shared, payload);
+        byte[] headBytes = head.toString().getBytes(StandardCharsets.UTF_8);
+
+        byte[] frame = new byte[MESSAGE_LINE.length + headBytes.length + tail.length];
+        System.arraycopy(MESSAGE_LINE, 0, frame, 0, MESSAGE_LINE.length);
+        System.arraycopy(headBytes, 0, frame, MESSAGE_LINE.length, headBytes.length);
+        System.arraycopy(tail, 0, frame, MESSAGE_LINE.length + headBytes.length, tail.length);
+        return frame;
+    }
+
+    /**
+     * 공유 꼬리 조회 (payload 배열 + 공유 헤더가 같으면 재사용)
+     */
+    private byte[] tail(Map<String, List<String>> shared, byte[] payload) {
+        int slot = System.identityHashCode(payload) & (SLOTS - 1);
+        SharedTail cached = tails.get(slot);
+        if (cached != null && cached.payload == payload && cached.headers.equals(shared)) {
+            hits.increment();
+            return cached.bytes;
+        }
+
+        StringBuilder builder = new StringBuilder(128);
+        shared.forEach((name, values) -> appendHeader(builder, name, values));
+        builder.append(StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER).append(':').append(payload.length).append("\n\n");
+        byte[] headerBytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+        byte[] bytes = new byte[headerBytes.length + payload.length + 1];
+        System.arraycopy(headerBytes, 0, bytes, 0, headerBytes.length);
+        System.arraycopy(payload, 0, bytes, headerBytes.length, payload.length);
+
+        tails.set(slot, new SharedTail(payload, Map.copyOf(shared), bytes));
+        misses.increment();
+        return bytes;
+    }
+
+    private static void appendHeader(StringBuilder out, String name, List<String> values) {
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            escape(out, name);
+            out.append(':');
+            escape(out, value);
+            out.append('\n');
+        }
+    }
+
+    /**
+     * STOMP 1.2 헤더 이스케이프 (\\, \r, \n, :)
+     */
+    private static void escape(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case ':' -> out.append("\\c");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    /**
+     * payload별 공유 꼬리 (headers는 불변 복사본)
+     */
+    private record SharedTail(byte[] payload, Map<String, List<String>> headers, byte[] bytes) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.autocoin.chart.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP 핸들러: 세션마다 ConcurrentWebSocketSessionDecorator 대신 ConflatingSessionDecorator 송신 큐 적용
+ * - 브로커 → 세션 송신이 모두 이 데코레이터를 거치므로 충돌/한도 초과 종료/토픽별 메트릭이 실제 송신 경로에 적용됨
+ * - 송신 시간/버퍼 한도는 WebSocketTransportRegistration 값(setSendTimeLimit/setSendBufferSizeLimit) 사용
+ * - 메트릭: websocket.outbound.queue.depth (전체 세션 큐 합계), websocket.outbound.sessions
+ */
+public class SlowConsumerWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final int queueLimit;
+    private final List<String> conflatePatterns;
+    private final MeterRegistry meterRegistry;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, ConflatingSessionDecorator> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger totalDepth = new AtomicInteger();
+
+    public SlowConsumerWebSocketHandler(MessageChannel clientInboundChannel, SubscribableChannel clientOutboundChannel,
+                                        int queueLimit, List<String> conflatePatterns, MeterRegistry meterRegistry) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.queueLimit = queueLimit;
+        this.conflatePatterns = conflatePatterns;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("websocket.outbound.queue.depth", totalDepth, AtomicInteger::get)
+            .description("Messages waiting in per-session outbound queues")
+            .register(meterRegistry);
+        Gauge.builder("websocket.outbound.sessions", sessions, Map::size)
+            .description("WebSocket sessions with an outbound queue")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        ConflatingSessionDecorator decorated = new ConflatingSessionDecorator(session, getSendTimeLimit(),
+            getSendBufferSizeLimit(), queueLimit, this::isConflatable, meterRegistry, totalDepth);
+        sessions.put(session.getId(), decorated);
+        return decorated;
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        ConflatingSessionDecorator decorated = sessions.remove(session.getId());
+        if (decorated != null) {
+            decorated.release();
+        }
+        super.afterConnectionClosed(session, closeStatus);
+    }
+
+    private boolean isConflatable(String destination) {
+        for (String pattern : conflatePatterns) {
+            if (pathMatcher.match(pattern, destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,50 @@
+package com.autocoin.chart.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * STOMP 메시지 브로커 구성 (@EnableWebSocketMessageBroker 대신 직접 확장)
+ * - 세션 데코레이터를 바꾸려면 SubProtocolWebSocketHandler 자체를 교체해야 해서 subProtocolWebSocketHandler 빈을 재정의
+ * - 엔드포인트/브로커/전송 한도 설정은 그대로 WebSocketConfig(WebSocketMessageBrokerConfigurer)에서 위임받음
+ */
+@Configuration
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final MeterRegistry meterRegistry;
+
+    // 세션별 대기 메시지 한도 (초과 시 세션 종료)
+    @Value("${app.websocket.outbound.session-queue-limit:500}")
+    private int sessionQueueLimit;
+
+    // 밀리면 최신 메시지만 유지할 destination 패턴 (v2 diff 토픽은 누적 필요하므로 제외)
+    @Value("${app.websocket.outbound.conflate-destinations:/topic/chart/*}")
+    private String conflateDestinations;
+
+    public WebSocketBrokerConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(
+            @Qualifier("clientInboundChannel") AbstractSubscribableChannel clientInboundChannel,
+            @Qualifier("clientOutboundChannel") AbstractSubscribableChannel clientOutboundChannel) {
+        List<String> patterns = Arrays.stream(conflateDestinations.split(","))
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .toList();
+
+        return new SlowConsumerWebSocketHandler(
+                clientInboundChannel, clientOutboundChannel, sessionQueueLimit, patterns, meterRegistry);
+    }
+}
@@ -1,24 +1,61 @@
 package com.autocoin.chart.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
 /**
  * WebSocket 설정 클래스
  * - STOMP 프로토콜 사용
  * - SimpleBroker 사용 (인메모리)
+ * - 다중 노드 전파는 ChartBroadcaster가 Redis pub/sub으로 중계 (app.chart.broadcast.mode=redis)
  * - CORS 설정 포함
+ * - 브로커 구성 자체는 WebSocketBrokerConfig (@EnableWebSocketMessageBroker 대신)
+ * - 느린 클라이언트 백프레셔: 세션별 송신 큐/시간 한도, 마켓 토픽 최신 메시지만 유지, 한도 초과 세션 종료 (SlowConsumerWebSocketHandler)
+ * - 팬아웃 시 MESSAGE 프레임 본문부를 구독자 간 공유 (SharedFrameStompEncoder)
  */
 @Slf4j
 @Configuration
-@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final MeterRegistry meterRegistry;
+
+    // 한 번의 송신이 이 시간을 넘기면 세션 종료
+    @Value("${app.websocket.outbound.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    // Spring 세션 데코레이터 버퍼 한도 (bytes)
+    @Value("${app.websocket.outbound.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${app.websocket.outbound.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${app.websocket.outbound.executor.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${app.websocket.outbound.executor.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${app.websocket.outbound.executor.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
     /**
      * STOMP 엔드포인트 등록
      * - 클라이언트가 /ws 경로로 WebSocket 연결
@@ -58,4 +95,53 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         
         log.info("Message broker configured - Topic: /topic, App prefix: /app");
     }
+
+    /**
+     * 전송 한도 (세션별 송신 큐 ConflatingSessionDecorator가 사용)
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+
+        log.info("WebSocket outbound limits - send time: {}ms, send buffer: {} bytes",
+                sendTimeLimitMillis, sendBufferSizeLimit);
+    }
+
+    /**
+     * STOMP 핸들러에 프레임 공유 인코더 적용
+     * - 엔드포인트 등록 시 StompSubProtocolHandler가 생성되므로 모든 싱글톤 생성 후 교체
+     */
+    @Bean
+    public SmartInitializingSingleton sharedFrameStompEncoderInstaller(
+            @Qualifier("subProtocolWebSocketHandler") WebSocketHandler webSocketHandler) {
+        return () -> {
+            WebSocketHandler handler = webSocketHandler instanceof WebSocketHandlerDecorator decorator
+                    ? decorator.getLastHandler()
+                    : webSocketHandler;
+            if (!(handler instanceof SubProtocolWebSocketHandler subProtocolHandler)) {
+                log.warn("Shared STOMP frame encoder not installed: unexpected handler {}", handler.getClass().getName());
+                return;
+            }
+
+            SharedFrameStompEncoder encoder = new SharedFrameStompEncoder(meterRegistry);
+            subProtocolHandler.getProtocolHandlers().stream()
+                    .filter(StompSubProtocolHandler.class::isInstance)
+                    .map(StompSubProtocolHandler.class::cast)
+                    .forEach(stompHandler -> stompHandler.setEncoder(encoder));
+            log.info("Shared STOMP frame encoder installed");
+        };
+    }
+
+    /**
+     * 클라이언트 송신 채널 스레드 풀 (브로커 → 세션)
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
 }
@@ -0,0 +1,59 @@
+package com.autocoin.chart.domain.entity;
+
+import com.autocoin.global.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 1분봉 백필 체크포인트 엔티티
+ * - [verifiedFrom, verifiedTo) 구간은 백필(누락 확인 및 조회)이 끝난 구간
+ * - 재시작 후에는 이 구간 바깥만 다시 확인
+ */
+@Entity
+@Table(
+    name = "chart_backfill_checkpoints",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chart_backfill_market", columnNames = {"market"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CandleBackfillCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String market; // KRW-BTC
+
+    @Column(nullable = false)
+    private Long verifiedFrom; // Unix timestamp (seconds, 포함)
+
+    @Column(nullable = false)
+    private Long verifiedTo; // Unix timestamp (seconds, 미포함)
+
+    @Builder
+    public CandleBackfillCheckpoint(String market, Long verifiedFrom, Long verifiedTo) {
+        this.market = market;
+        this.verifiedFrom = verifiedFrom;
+        this.verifiedTo = verifiedTo;
+    }
+
+    /**
+     * 과거 방향으로 확인 구간 확장
+     */
+    public void extendFrom(long verifiedFrom) {
+        this.verifiedFrom = Math.min(this.verifiedFrom, verifiedFrom);
+    }
+
+    /**
+     * 최신 방향으로 확인 구간 확장
+     */
+    public void extendTo(long verifiedTo) {
+        this.verifiedTo = Math.max(this.verifiedTo, verifiedTo);
+    }
+}
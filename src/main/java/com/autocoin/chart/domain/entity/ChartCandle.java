@@ -1,5 +1,7 @@
 package com.autocoin.chart.domain.entity;
 
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
 import com.autocoin.global.domain.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -16,6 +18,7 @@ import java.time.format.DateTimeFormatter;
  * 차트 캔들 데이터 엔티티
  * - 업비트에서 가져온 캔들 데이터를 DB에 저장
  * - Redis 캐시와 함께 사용하여 안정성 확보
+ * - 타임프레임(1m, 5m, 1h, 1d 등)별로 저장, 1분봉 외에는 롤업 결과
  */
 @Entity
 @Table(
@@ -23,7 +26,7 @@ import java.time.format.DateTimeFormatter;
     uniqueConstraints = {
         @UniqueConstraint(
             name = "uk_chart_candle_market_time",
-            columnNames = {"market", "candleTime"}
+            columnNames = {"market", "timeframe", "candleTime"}
         )
     },
     indexes = {
@@ -43,6 +46,9 @@ public class ChartCandle extends BaseEntity {
     @Column(nullable = false, length = 20)
     private String market; // KRW-BTC
 
+    @Column(nullable = false, length = 5, columnDefinition = "varchar(5) default '1m' not null")
+    private String timeframe; // 1m, 5m, 1h, 1d ...
+
     @Column(nullable = false)
     private Long candleTime; // Unix timestamp (seconds)
 
@@ -70,6 +76,7 @@ public class ChartCandle extends BaseEntity {
     @Builder
     public ChartCandle(
             String market,
+            String timeframe,
             Long candleTime,
             BigDecimal openPrice,
             BigDecimal highPrice,
@@ -80,6 +87,7 @@ public class ChartCandle extends BaseEntity {
             Long timestamp
     ) {
         this.market = market;
+        this.timeframe = timeframe != null ? timeframe : Timeframe.ONE_MINUTE.getCode();
         this.candleTime = candleTime;
         this.openPrice = openPrice;
         this.highPrice = highPrice;
@@ -91,9 +99,16 @@ public class ChartCandle extends BaseEntity {
     }
 
     /**
-     * UpbitCandleDto에서 ChartCandle 엔티티로 변환
+     * UpbitCandleDto에서 ChartCandle 엔티티로 변환 (1분봉)
      */
     public static ChartCandle fromUpbitCandle(com.autocoin.chart.dto.UpbitCandleDto upbitCandle) {
+        return fromUpbitCandle(upbitCandle, Timeframe.ONE_MINUTE);
+    }
+
+    /**
+     * UpbitCandleDto에서 ChartCandle 엔티티로 변환 (타임프레임 지정)
+     */
+    public static ChartCandle fromUpbitCandle(com.autocoin.chart.dto.UpbitCandleDto upbitCandle, Timeframe timeframe) {
         // candleDateTimeUtc가 null이거나 비어있으면 timestamp로부터 생성
         String utcDateTime = upbitCandle.getCandleDateTimeUtc();
         if (utcDateTime == null || utcDateTime.trim().isEmpty()) {
@@ -106,6 +121,7 @@ public class ChartCandle extends BaseEntity {
 
         return ChartCandle.builder()
                 .market(upbitCandle.getMarket())
+                .timeframe(timeframe.getCode())
                 .candleTime(upbitCandle.getUnixTimestamp())
                 .openPrice(upbitCandle.getOpeningPrice())
                 .highPrice(upbitCandle.getHighPrice())
@@ -129,4 +145,31 @@ public class ChartCandle extends BaseEntity {
         dto.setClose(this.closePrice);
         return dto;
     }
+
+    /**
+     * 내부 캔들 레코드에서 ChartCandle 엔티티로 변환 (JPA 경계에서만 BigDecimal 생성)
+     */
+    public static ChartCandle fromCandle(Candle candle, Timeframe timeframe) {
+        return ChartCandle.builder()
+                .market(candle.market())
+                .timeframe(timeframe.getCode())
+                .candleTime(candle.time())
+                .openPrice(candle.openPrice())
+                .highPrice(candle.highPrice())
+                .lowPrice(candle.lowPrice())
+                .closePrice(candle.closePrice())
+                .volume(candle.volumeAmount())
+                .candleDateTimeUtc(Instant.ofEpochSecond(candle.time()).atOffset(ZoneOffset.UTC)
+                        .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .timestamp(candle.time() * 1000)
+                .build();
+    }
+
+    /**
+     * 내부 캔들 레코드로 변환 (마켓 TickScale 자릿수)
+     */
+    public Candle toCandle() {
+        return Candle.of(this.market, this.candleTime, this.openPrice, this.highPrice, this.lowPrice,
+                this.closePrice, this.volume);
+    }
 }
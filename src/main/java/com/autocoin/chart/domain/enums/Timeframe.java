@@ -0,0 +1,61 @@
+package com.autocoin.chart.domain.enums;
+
+/**
+ * 캔들 타임프레임 열거형
+ * - 1분봉을 기준으로 상위 타임프레임을 집계
+ * - 구간 시작 시각은 UTC epoch 기준 정렬 (Upbit 일봉 기준 KST 09:00 = UTC 00:00과 동일)
+ */
+public enum Timeframe {
+    ONE_MINUTE("1m", 60),
+    THREE_MINUTES("3m", 180),
+    FIVE_MINUTES("5m", 300),
+    FIFTEEN_MINUTES("15m", 900),
+    ONE_HOUR("1h", 3_600),
+    FOUR_HOURS("4h", 14_400),
+    ONE_DAY("1d", 86_400);
+
+    private final String code;
+    private final long seconds;
+
+    Timeframe(String code, long seconds) {
+        this.code = code;
+        this.seconds = seconds;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public long getSeconds() {
+        return seconds;
+    }
+
+    /**
+     * 해당 시각이 속한 구간의 시작 시각
+     * @param epochSecond Unix timestamp (seconds)
+     * @return 구간 시작 Unix timestamp (seconds)
+     */
+    public long bucketStart(long epochSecond) {
+        return epochSecond - Math.floorMod(epochSecond, seconds);
+    }
+
+    /**
+     * 코드(1m, 5m, 1h, 1d 등)로 타임프레임 조회
+     * @param code 타임프레임 코드 (null 또는 빈 값이면 1m)
+     * @return 타임프레임
+     * @throws IllegalArgumentException 지원하지 않는 코드
+     */
+    public static Timeframe fromCode(String code) {
+        if (code == null || code.isBlank()) {
+            return ONE_MINUTE;
+        }
+
+        String normalized = code.trim().toLowerCase();
+        for (Timeframe timeframe : values()) {
+            if (timeframe.code.equals(normalized)) {
+                return timeframe;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 타임프레임: " + code);
+    }
+}
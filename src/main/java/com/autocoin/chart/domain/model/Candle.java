@@ -0,0 +1,144 @@
+package com.autocoin.chart.domain.model;
+
+import com.autocoin.chart.dto.UpbitCandleDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 내부 캔들 레코드 (고정소수점)
+ * - 가격/거래량은 마켓별 자릿수(TickScale)로 스케일한 long
+ * - 수집 → 메모리 → 롤업 → 응답 구간에서 BigDecimal 없이 사용
+ * - JSON은 lightweight-charts 형태 {"time","open","high","low","close"}로 직접 기록
+ */
+@JsonSerialize(using = Candle.Serializer.class)
+public record Candle(
+        String market,
+        long time, // Unix timestamp (seconds, 캔들 시작 시각)
+        long open,
+        long high,
+        long low,
+        long close,
+        long volume,
+        TickScale scale
+) {
+
+    /**
+     * Upbit 캔들 DTO → 내부 캔들
+     * @return 변환 결과 (필수 값이 없거나 가격이 0 이하이면 null)
+     */
+    public static Candle from(UpbitCandleDto dto) {
+        if (dto == null || dto.getMarket() == null || dto.getOpeningPrice() == null || dto.getHighPrice() == null
+                || dto.getLowPrice() == null || dto.getTradePrice() == null) {
+            return null;
+        }
+
+        Candle candle = of(dto.getMarket(), dto.getUnixTimestamp(), dto.getOpeningPrice(), dto.getHighPrice(),
+            dto.getLowPrice(), dto.getTradePrice(), dto.getCandleAccTradeVolume());
+        return candle.isValid() ? candle : null;
+    }
+
+    /**
+     * BigDecimal 가격/거래량 → 내부 캔들 (종가 기준 마켓 자릿수 적용)
+     */
+    public static Candle of(String market, long time, BigDecimal open, BigDecimal high, BigDecimal low,
+                            BigDecimal close, BigDecimal volume) {
+        TickScale scale = TickScale.of(market, close);
+        return new Candle(
+            market,
+            time,
+            FixedPoint.toScaled(open, scale.priceScale()),
+            FixedPoint.toScaled(high, scale.priceScale()),
+            FixedPoint.toScaled(low, scale.priceScale()),
+            FixedPoint.toScaled(close, scale.priceScale()),
+            FixedPoint.toScaled(volume, scale.volumeScale()),
+            scale
+        );
+    }
+
+    /**
+     * 가격 유효성 (모두 0보다 커야 함)
+     */
+    public boolean isValid() {
+        return open > 0 && high > 0 && low > 0 && close > 0;
+    }
+
+    public BigDecimal openPrice() {
+        return FixedPoint.toDecimal(open, scale.priceScale());
+    }
+
+    public BigDecimal highPrice() {
+        return FixedPoint.toDecimal(high, scale.priceScale());
+    }
+
+    public BigDecimal lowPrice() {
+        return FixedPoint.toDecimal(low, scale.priceScale());
+    }
+
+    public BigDecimal closePrice() {
+        return FixedPoint.toDecimal(close, scale.priceScale());
+    }
+
+    public BigDecimal volumeAmount() {
+        return FixedPoint.toDecimal(volume, scale.volumeScale());
+    }
+
+    /**
+     * 레거시 DTO로 변환 (Redis 저장 등)
+     */
+    public UpbitCandleDto toUpbitCandleDto() {
+        UpbitCandleDto dto = new UpbitCandleDto();
+        dto.setMarket(market);
+        dto.setCandleDateTimeUtc(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+            LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC)));
+        dto.setOpeningPrice(openPrice());
+        dto.setHighPrice(highPrice());
+        dto.setLowPrice(lowPrice());
+        dto.setTradePrice(closePrice());
+        dto.setCandleAccTradeVolume(volumeAmount());
+        dto.setTimestamp(time * 1000);
+        return dto;
+    }
+
+    /**
+     * lightweight-charts 형태 JSON 직렬화 (BigDecimal 없이 고정소수점 값을 직접 기록)
+     */
+    public static final class Serializer extends StdSerializer<Candle> {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final ThreadLocal<char[]> BUFFERS =
+            ThreadLocal.withInitial(() -> new char[FixedPoint.MAX_LENGTH]);
+
+        public Serializer() {
+            super(Candle.class);
+        }
+
+        @Override
+        public void serialize(Candle candle, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            char[] buffer = BUFFERS.get();
+            int scale = candle.scale().priceScale();
+
+            gen.writeStartObject();
+            gen.writeNumberField("time", candle.time());
+            writeField(gen, "open", candle.open(), scale, buffer);
+            writeField(gen, "high", candle.high(), scale, buffer);
+            writeField(gen, "low", candle.low(), scale, buffer);
+            writeField(gen, "close", candle.close(), scale, buffer);
+            gen.writeEndObject();
+        }
+
+        private static void writeField(JsonGenerator gen, String name, long value, int scale, char[] buffer)
+                throws IOException {
+            gen.writeFieldName(name);
+            gen.writeNumber(buffer, 0, FixedPoint.write(value, scale, buffer, 0));
+        }
+    }
+}
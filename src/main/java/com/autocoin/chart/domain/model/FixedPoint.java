@@ -0,0 +1,144 @@
+package com.autocoin.chart.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 고정소수점 long 변환/기록 유틸리티
+ * - 값 = scaled / 10^scale
+ * - BigDecimal 변환은 JPA/레거시 DTO 경계에서만 사용
+ * - 10진수 기록은 중간 객체 없이 byte[]/char[]에 직접 수행 (뒤쪽 0 제거)
+ */
+public final class FixedPoint {
+
+    /** 지원 최대 자릿수 */
+    public static final int MAX_SCALE = 12;
+
+    /** 기록 시 최대 길이 (부호 + 19자리 + 소수점) */
+    public static final int MAX_LENGTH = 21;
+
+    private static final long[] POW10 = new long[19];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private FixedPoint() {
+    }
+
+    /**
+     * BigDecimal → 고정소수점 long (자릿수를 넘는 값은 반올림)
+     * @throws ArithmeticException long 범위 초과
+     */
+    public static long toScaled(BigDecimal value, int scale) {
+        if (value == null) {
+            return 0L;
+        }
+        return value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 고정소수점 long → BigDecimal
+     */
+    public static BigDecimal toDecimal(long scaled, int scale) {
+        return BigDecimal.valueOf(scaled, scale);
+    }
+
+    /**
+     * 10^scale
+     */
+    public static long pow10(int scale) {
+        return POW10[scale];
+    }
+
+    /**
+     * 10진수로 기록 (byte[])
+     * @return 기록 후 위치
+     */
+    public static int write(long scaled, int scale, byte[] out, int pos) {
+        if (scaled < 0) {
+            out[pos++] = '-';
+            scaled = -scaled;
+        }
+
+        long factor = POW10[scale];
+        pos = writeDigits(scaled / factor, out, pos);
+
+        long fraction = scaled % factor;
+        if (fraction == 0) {
+            return pos;
+        }
+
+        out[pos++] = '.';
+        for (long divisor = factor / 10; fraction != 0; divisor /= 10) {
+            long digit = fraction / divisor;
+            out[pos++] = (byte) ('0' + digit);
+            fraction -= digit * divisor;
+        }
+        return pos;
+    }
+
+    /**
+     * 10진수로 기록 (char[], Jackson JsonGenerator.writeNumber용)
+     * @return 기록 후 위치
+     */
+    public static int write(long scaled, int scale, char[] out, int pos) {
+        if (scaled < 0) {
+            out[pos++] = '-';
+            scaled = -scaled;
+        }
+
+        long factor = POW10[scale];
+        pos = writeDigits(scaled / factor, out, pos);
+
+        long fraction = scaled % factor;
+        if (fraction == 0) {
+            return pos;
+        }
+
+        out[pos++] = '.';
+        for (long divisor = factor / 10; fraction != 0; divisor /= 10) {
+            long digit = fraction / divisor;
+            out[pos++] = (char) ('0' + digit);
+            fraction -= digit * divisor;
+        }
+        return pos;
+    }
+
+    /**
+     * long 값을 10진수로 기록 (byte[])
+     */
+    public static int writeDigits(long value, byte[] out, int pos) {
+        if (value < 0) {
+            out[pos++] = '-';
+            value = -value;
+        }
+
+        int end = pos + digitCount(value);
+        for (int i = end - 1; i >= pos; i--) {
+            out[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        return end;
+    }
+
+    private static int writeDigits(long value, char[] out, int pos) {
+        int end = pos + digitCount(value);
+        for (int i = end - 1; i >= pos; i--) {
+            out[i] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+        return end;
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        for (long v = value / 10; v != 0; v /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+}
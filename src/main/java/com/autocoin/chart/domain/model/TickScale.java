@@ -0,0 +1,68 @@
+package com.autocoin.chart.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마켓별 고정소수점 자릿수
+ * - 가격 자릿수: 마켓 기준 통화(KRW, BTC, USDT)의 최소 호가 단위를 담을 수 있는 자릿수
+ * - 거래량 자릿수: 일봉 누적 거래량이 long 범위를 넘지 않도록 최초 가격 수준으로 결정
+ * - 마켓별로 최초 한 번 결정되며 이후 변하지 않음 (같은 마켓의 고정소수점 값은 항상 같은 자릿수)
+ */
+public record TickScale(int priceScale, int volumeScale) {
+
+    private static final Map<String, TickScale> MARKET_SCALES = new ConcurrentHashMap<>();
+
+    // Upbit 거래량 최대 소수 자릿수
+    private static final int FULL_VOLUME_SCALE = 8;
+    // 저가 코인은 거래 수량이 커서 자릿수를 낮춤 (일 9.2e14개까지 표현)
+    private static final int REDUCED_VOLUME_SCALE = 4;
+
+    public TickScale {
+        if (priceScale < 0 || priceScale > FixedPoint.MAX_SCALE
+                || volumeScale < 0 || volumeScale > FixedPoint.MAX_SCALE) {
+            throw new IllegalArgumentException("지원하지 않는 자릿수: " + priceScale + "/" + volumeScale);
+        }
+    }
+
+    /**
+     * 마켓 자릿수 조회 (등록 전이면 기준 통화 기본값으로 등록)
+     */
+    public static TickScale of(String market) {
+        return of(market, null);
+    }
+
+    /**
+     * 마켓 자릿수 조회/등록
+     * @param market 마켓 코드
+     * @param referencePrice 최초 관측 가격 (거래량 자릿수 결정용)
+     */
+    public static TickScale of(String market, BigDecimal referencePrice) {
+        TickScale scale = MARKET_SCALES.get(market);
+        if (scale != null) {
+            return scale;
+        }
+        return MARKET_SCALES.computeIfAbsent(market, key -> defaultScale(key, referencePrice));
+    }
+
+    private static TickScale defaultScale(String market, BigDecimal referencePrice) {
+        String quote = market == null ? "" : market.substring(0, Math.max(0, market.indexOf('-')));
+
+        return switch (quote) {
+            // KRW 최소 호가 단위 0.000001원 (가격 0.01원 미만 구간)
+            case "KRW" -> new TickScale(6, volumeScale(referencePrice, "10"));
+            case "USDT" -> new TickScale(8, volumeScale(referencePrice, "0.01"));
+            default -> new TickScale(8, volumeScale(referencePrice, "0.000001"));
+        };
+    }
+
+    private static int volumeScale(BigDecimal referencePrice, String lowPriceThreshold) {
+        if (referencePrice == null) {
+            return FULL_VOLUME_SCALE;
+        }
+        return referencePrice.compareTo(new BigDecimal(lowPriceThreshold)) < 0
+            ? REDUCED_VOLUME_SCALE
+            : FULL_VOLUME_SCALE;
+    }
+}
@@ -0,0 +1,16 @@
+package com.autocoin.chart.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * 체결 틱
+ * - 실시간 캔들 생성 입력 (Upbit 체결 조회/웹소켓, 테스트용 리플레이 파일)
+ */
+public record TradeTick(
+        String market,
+        long timestamp, // 체결 시각 (epoch millis)
+        BigDecimal price,
+        BigDecimal volume,
+        long sequentialId // 체결 번호 (중복 제거용)
+) {
+}
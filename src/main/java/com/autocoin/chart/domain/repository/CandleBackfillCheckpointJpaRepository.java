@@ -0,0 +1,19 @@
+package com.autocoin.chart.domain.repository;
+
+import com.autocoin.chart.domain.entity.CandleBackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 백필 체크포인트 JPA Repository
+ */
+@Repository
+public interface CandleBackfillCheckpointJpaRepository extends JpaRepository<CandleBackfillCheckpoint, Long> {
+
+    /**
+     * 마켓별 체크포인트 조회
+     */
+    Optional<CandleBackfillCheckpoint> findByMarket(String market);
+}
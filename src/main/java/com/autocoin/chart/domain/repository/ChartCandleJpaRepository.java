@@ -3,6 +3,8 @@ package com.autocoin.chart.domain.repository;
 import com.autocoin.chart.domain.entity.ChartCandle;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,42 +13,64 @@ import java.util.Set;
 
 /**
  * 차트 캔들 데이터 JPA Repository
+ * - 모든 조회는 마켓 + 타임프레임 기준
  */
 @Repository
 public interface ChartCandleJpaRepository extends JpaRepository<ChartCandle, Long> {
 
     /**
-     * 특정 마켓의 최신 캔들 데이터 조회 (시간 순 정렬)
+     * 특정 마켓/타임프레임의 최신 캔들 데이터 조회 (시간 순 정렬)
      */
-    List<ChartCandle> findByMarketOrderByCandleTimeDesc(String market);
+    List<ChartCandle> findByMarketAndTimeframeOrderByCandleTimeDesc(String market, String timeframe);
 
     /**
-     * 특정 마켓의 최신 캔들 데이터 조회 (제한된 개수, 시간 순 정렬)
+     * 특정 마켓/타임프레임의 최신 캔들 데이터 조회 (제한된 개수, 시간 순 정렬)
      */
-    List<ChartCandle> findByMarketOrderByCandleTimeDesc(String market, Pageable pageable);
+    List<ChartCandle> findByMarketAndTimeframeOrderByCandleTimeDesc(String market, String timeframe, Pageable pageable);
 
     /**
-     * 특정 마켓과 시간의 캔들 데이터 존재 여부 확인
+     * 특정 마켓/타임프레임의 구간 캔들 데이터 조회 (시간 오름차순)
      */
-    boolean existsByMarketAndCandleTime(String market, Long candleTime);
+    List<ChartCandle> findByMarketAndTimeframeAndCandleTimeBetweenOrderByCandleTimeAsc(
+            String market, String timeframe, Long fromCandleTime, Long toCandleTime);
 
     /**
-     * 특정 마켓과 시간의 캔들 데이터 조회
+     * 특정 마켓/타임프레임과 시간의 캔들 데이터 존재 여부 확인
      */
-    Optional<ChartCandle> findByMarketAndCandleTime(String market, Long candleTime);
+    boolean existsByMarketAndTimeframeAndCandleTime(String market, String timeframe, Long candleTime);
 
     /**
-     * 특정 마켓의 캔들 데이터 개수 조회
+     * 특정 마켓/타임프레임의 캔들 데이터 존재 여부 확인
      */
-    long countByMarket(String market);
+    boolean existsByMarketAndTimeframe(String market, String timeframe);
 
     /**
-     * 특정 마켓의 최신 캔들 데이터 하나 조회
+     * 특정 마켓/타임프레임과 시간의 캔들 데이터 조회
      */
-    Optional<ChartCandle> findFirstByMarketOrderByCandleTimeDesc(String market);
+    Optional<ChartCandle> findByMarketAndTimeframeAndCandleTime(String market, String timeframe, Long candleTime);
 
     /**
-     * 특정 마켓과 시간 목록에 해당하는 캔들 데이터 조회 (배치 최적화)
+     * 특정 마켓/타임프레임의 캔들 데이터 개수 조회
      */
-    List<ChartCandle> findByMarketAndCandleTimeIn(String market, Set<Long> candleTimes);
+    long countByMarketAndTimeframe(String market, String timeframe);
+
+    /**
+     * 특정 마켓/타임프레임의 최신 캔들 데이터 하나 조회
+     */
+    Optional<ChartCandle> findFirstByMarketAndTimeframeOrderByCandleTimeDesc(String market, String timeframe);
+
+    /**
+     * 특정 마켓/타임프레임과 시간 목록에 해당하는 캔들 데이터 조회 (배치 최적화)
+     */
+    List<ChartCandle> findByMarketAndTimeframeAndCandleTimeIn(String market, String timeframe, Set<Long> candleTimes);
+
+    /**
+     * 특정 마켓/타임프레임의 구간 캔들 시각만 조회 (누락 구간 탐지용, 시간 오름차순)
+     */
+    @Query("SELECT c.candleTime FROM ChartCandle c WHERE c.market = :market AND c.timeframe = :timeframe "
+            + "AND c.candleTime >= :fromCandleTime AND c.candleTime < :toCandleTime ORDER BY c.candleTime ASC")
+    List<Long> findCandleTimes(@Param("market") String market,
+                               @Param("timeframe") String timeframe,
+                               @Param("fromCandleTime") Long fromCandleTime,
+                               @Param("toCandleTime") Long toCandleTime);
 }
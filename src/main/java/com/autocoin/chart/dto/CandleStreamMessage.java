@@ -0,0 +1,145 @@
+package com.autocoin.chart.dto;
+
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.FixedPoint;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * 실시간 캔들 스트림 메시지 (프로토콜 v2, /topic/chart/v2/{market})
+ * - snapshot: 구독 시 1회, 진행 중 캔들 전체 {"v":2,"t":"s","m":market,"q":seq,"time","o","h","l","c","vol"}
+ * - diff: 진행 중 캔들에서 바뀐 필드만 {"v":2,"t":"d","q":seq,"time", 바뀐 필드...}
+ *   (새 캔들 시작 시에는 모든 필드 포함)
+ * - close: 캔들 마감 표시, 최종 값 전체 포함 {"v":2,"t":"x","q":seq,"time","o","h","l","c","vol"}
+ * - q는 마켓별 연속 번호 (redis 모드는 Redis 공유 카운터라 발행 노드가 바뀌어도 이어짐,
+ *   snapshot q=0은 번호를 모르는 상태이므로 다음 메시지부터 기준)
+ */
+@JsonSerialize(using = CandleStreamMessage.Serializer.class)
+public record CandleStreamMessage(
+        String type,
+        String market,
+        long seq,
+        Candle candle,
+        int fields
+) {
+
+    public static final int VERSION = 2;
+
+    public static final String SNAPSHOT = "s";
+    public static final String DIFF = "d";
+    public static final String CLOSE = "x";
+
+    public static final int OPEN = 1;
+    public static final int HIGH = 1 << 1;
+    public static final int LOW = 1 << 2;
+    public static final int CLOSE_PRICE = 1 << 3;
+    public static final int VOLUME = 1 << 4;
+    public static final int ALL = OPEN | HIGH | LOW | CLOSE_PRICE | VOLUME;
+
+    public static CandleStreamMessage snapshot(String market, long seq, Candle candle) {
+        return new CandleStreamMessage(SNAPSHOT, market, seq, candle, ALL);
+    }
+
+    public static CandleStreamMessage diff(long seq, Candle candle, int fields) {
+        return new CandleStreamMessage(DIFF, candle.market(), seq, candle, fields);
+    }
+
+    public static CandleStreamMessage close(long seq, Candle candle) {
+        return new CandleStreamMessage(CLOSE, candle.market(), seq, candle, ALL);
+    }
+
+    /**
+     * 번호만 바꾼 메시지 (공유 카운터로 다시 번호 부여)
+     */
+    public CandleStreamMessage withSeq(long seq) {
+        return new CandleStreamMessage(type, market, seq, candle, fields);
+    }
+
+    /**
+     * 이전 캔들 대비 바뀐 필드 (시각이 다르면 전체)
+     */
+    public static int changedFields(Candle previous, Candle current) {
+        if (previous == null || previous.time() != current.time()) {
+            return ALL;
+        }
+        int fields = 0;
+        if (previous.open() != current.open()) {
+            fields |= OPEN;
+        }
+        if (previous.high() != current.high()) {
+            fields |= HIGH;
+        }
+        if (previous.low() != current.low()) {
+            fields |= LOW;
+        }
+        if (previous.close() != current.close()) {
+            fields |= CLOSE_PRICE;
+        }
+        if (previous.volume() != current.volume()) {
+            fields |= VOLUME;
+        }
+        return fields;
+    }
+
+    public boolean has(int field) {
+        return (fields & field) != 0;
+    }
+
+    /**
+     * 짧은 키 JSON 직렬화 (가격/거래량은 고정소수점 값을 소수로 직접 기록)
+     */
+    public static final class Serializer extends StdSerializer<CandleStreamMessage> {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final ThreadLocal<char[]> BUFFERS =
+            ThreadLocal.withInitial(() -> new char[FixedPoint.MAX_LENGTH]);
+
+        public Serializer() {
+            super(CandleStreamMessage.class);
+        }
+
+        @Override
+        public void serialize(CandleStreamMessage message, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            char[] buffer = BUFFERS.get();
+            Candle candle = message.candle();
+            int priceScale = candle.scale().priceScale();
+
+            gen.writeStartObject();
+            gen.writeNumberField("v", VERSION);
+            gen.writeStringField("t", message.type());
+            if (SNAPSHOT.equals(message.type())) {
+                gen.writeStringField("m", message.market());
+            }
+            gen.writeNumberField("q", message.seq());
+            gen.writeNumberField("time", candle.time());
+            if (message.has(OPEN)) {
+                writeField(gen, "o", candle.open(), priceScale, buffer);
+            }
+            if (message.has(HIGH)) {
+                writeField(gen, "h", candle.high(), priceScale, buffer);
+            }
+            if (message.has(LOW)) {
+                writeField(gen, "l", candle.low(), priceScale, buffer);
+            }
+            if (message.has(CLOSE_PRICE)) {
+                writeField(gen, "c", candle.close(), priceScale, buffer);
+            }
+            if (message.has(VOLUME)) {
+                writeField(gen, "vol", candle.volume(), candle.scale().volumeScale(), buffer);
+            }
+            gen.writeEndObject();
+        }
+
+        private static void writeField(JsonGenerator gen, String name, long value, int scale, char[] buffer)
+                throws IOException {
+            gen.writeFieldName(name);
+            gen.writeNumber(buffer, 0, FixedPoint.write(value, scale, buffer, 0));
+        }
+    }
+}
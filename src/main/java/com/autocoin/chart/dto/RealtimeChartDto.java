@@ -1,33 +1,46 @@
 package com.autocoin.chart.dto;
 
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.FixedPoint;
+import com.autocoin.chart.domain.model.TickScale;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 
 /**
  * WebSocket을 통해 전송되는 실시간 차트 데이터
+ * - 가격은 고정소수점 long + 자릿수로 보관하고 JSON에는 소수로 직접 기록
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonSerialize(using = RealtimeChartDto.Serializer.class)
 public class RealtimeChartDto {
 
     private String market; // KRW-BTC
     private long timestamp; // Unix timestamp (seconds)
-    private BigDecimal price; // 현재 가격
+    private long price; // 현재 가격 (고정소수점)
+    private int priceScale; // 가격 자릿수
     private String type; // 데이터 타입 ("candle", "price")
-    private LightweightChartDto candleData; // 캔들 데이터 (type이 "candle"일 때)
+    private Candle candleData; // 캔들 데이터 (type이 "candle"일 때)
 
     /**
      * 실시간 가격 데이터 생성
      */
     public static RealtimeChartDto createPriceUpdate(String market, BigDecimal price) {
+        int scale = TickScale.of(market, price).priceScale();
         return new RealtimeChartDto(
             market,
             System.currentTimeMillis() / 1000,
-            price,
+            FixedPoint.toScaled(price, scale),
+            scale,
             "price",
             null
         );
@@ -36,13 +49,49 @@ public class RealtimeChartDto {
     /**
      * 실시간 캔들 데이터 생성
      */
-    public static RealtimeChartDto createCandleUpdate(String market, LightweightChartDto candleData) {
+    public static RealtimeChartDto createCandleUpdate(String market, Candle candleData) {
         return new RealtimeChartDto(
             market,
-            candleData.getTime(),
-            candleData.getClose(),
+            candleData.time(),
+            candleData.close(),
+            candleData.scale().priceScale(),
             "candle",
             candleData
         );
     }
+
+    /**
+     * JSON 직렬화 {"market","timestamp","price","type","candleData"}
+     * - price는 priceScale 자릿수의 소수로 직접 기록
+     */
+    public static final class Serializer extends StdSerializer<RealtimeChartDto> {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final ThreadLocal<char[]> BUFFERS =
+            ThreadLocal.withInitial(() -> new char[FixedPoint.MAX_LENGTH]);
+
+        public Serializer() {
+            super(RealtimeChartDto.class);
+        }
+
+        @Override
+        public void serialize(RealtimeChartDto dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            char[] buffer = BUFFERS.get();
+
+            gen.writeStartObject();
+            gen.writeStringField("market", dto.getMarket());
+            gen.writeNumberField("timestamp", dto.getTimestamp());
+            gen.writeFieldName("price");
+            gen.writeNumber(buffer, 0, FixedPoint.write(dto.getPrice(), dto.getPriceScale(), buffer, 0));
+            gen.writeStringField("type", dto.getType());
+            gen.writeFieldName("candleData");
+            if (dto.getCandleData() != null) {
+                provider.defaultSerializeValue(dto.getCandleData(), gen);
+            } else {
+                gen.writeNull();
+            }
+            gen.writeEndObject();
+        }
+    }
 }
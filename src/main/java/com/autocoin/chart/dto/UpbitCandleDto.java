@@ -66,32 +66,37 @@ public class UpbitCandleDto {
         return market != null && 
                !market.trim().isEmpty() &&
                openingPrice != null && 
-               openingPrice.compareTo(BigDecimal.ZERO) > 0 &&
+               openingPrice.signum() > 0 &&
                highPrice != null && 
-               highPrice.compareTo(BigDecimal.ZERO) > 0 &&
+               highPrice.signum() > 0 &&
                lowPrice != null && 
-               lowPrice.compareTo(BigDecimal.ZERO) > 0 &&
+               lowPrice.signum() > 0 &&
                tradePrice != null && 
-               tradePrice.compareTo(BigDecimal.ZERO) > 0 &&
+               tradePrice.signum() > 0 &&
                candleDateTimeUtc != null &&
                !candleDateTimeUtc.trim().isEmpty();
     }
 
     /**
      * UTC 시간을 Unix timestamp로 변환
+     * - 캔들 시작 시각(candleDateTimeUtc) 우선
+     * - timestamp는 캔들 내 마지막 체결 시각이므로 시작 시각이 없을 때만 사용
      * @return Unix timestamp (seconds)
      */
     public long getUnixTimestamp() {
+        if (candleDateTimeUtc != null && !candleDateTimeUtc.isEmpty()) {
+            try {
+                LocalDateTime dateTime = LocalDateTime.parse(candleDateTimeUtc);
+                return dateTime.atZone(java.time.ZoneOffset.UTC).toEpochSecond();
+            } catch (Exception e) {
+                // timestamp로 대체
+            }
+        }
+
         if (timestamp != null) {
             return timestamp / 1000; // milliseconds -> seconds
         }
-        
-        // timestamp가 없으면 candleDateTimeUtc를 파싱
-        try {
-            LocalDateTime dateTime = LocalDateTime.parse(candleDateTimeUtc);
-            return dateTime.atZone(java.time.ZoneOffset.UTC).toEpochSecond();
-        } catch (Exception e) {
-            return System.currentTimeMillis() / 1000;
-        }
+
+        return System.currentTimeMillis() / 1000;
     }
 }
@@ -0,0 +1,239 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.FixedPoint;
+import com.autocoin.chart.domain.model.TickScale;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 캔들 컬럼형 바이너리 포맷 (application/x-autocoin-candles)
+ *
+ * <pre>
+ * u8      version (1)
+ * i8      exponent   가격 = raw / 10^exponent (음수면 raw * 10^-exponent)
+ * varint  count
+ * time    zigzag(time[0]), 이후 zigzag(time[i] - time[i-1])
+ * open    zigzag(open[0]), 이후 zigzag(open[i] - close[i-1])
+ * high    varint(high[i] - open[i])
+ * low     varint(open[i] - low[i])
+ * close   zigzag(close[i] - open[i])
+ * </pre>
+ * - 캔들은 시간 오름차순, 모든 열은 같은 exponent 사용
+ * - exponent는 마켓 자릿수에서 모든 가격의 공통 뒤쪽 0 개수를 뺀 값 (호가 단위로 나눈 정수를 기록)
+ */
+public final class CandleBinaryCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-autocoin-candles";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public static final byte VERSION = 1;
+
+    private static final int HEADER_BYTES = 2 + 5;
+    private static final int MAX_VARINT_BYTES = 10;
+    private static final int COLUMNS = 5;
+    private static final int MAX_SHIFT = 18;
+
+    private CandleBinaryCodec() {
+    }
+
+    /**
+     * 캔들 개수에 대한 최대 인코딩 크기
+     */
+    public static int maxEncodedLength(int count) {
+        return HEADER_BYTES + count * COLUMNS * MAX_VARINT_BYTES;
+    }
+
+    /**
+     * 요청이 바이너리 포맷을 명시했는지 (와일드카드는 JSON 유지)
+     * @param accept Accept 헤더 값
+     */
+    public static boolean isRequested(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(mediaType -> mediaType.equalsTypeAndSubtype(MEDIA_TYPE));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 링 버퍼 스냅샷 인코딩 (시간 오름차순 전제)
+     * @param out maxEncodedLength(snapshot.size) 이상의 버퍼
+     * @return 기록한 바이트 수
+     */
+    public static int encode(CandleRingBuffer.Snapshot snapshot, int priceScale, byte[] out) {
+        return encode(snapshot.size, snapshot.times, snapshot.opens, snapshot.highs, snapshot.lows, snapshot.closes,
+            priceScale, out);
+    }
+
+    /**
+     * 캔들 레코드 인코딩 (순서 무관, 시간 오름차순으로 기록)
+     * @return 인코딩 결과
+     */
+    public static byte[] encode(List<Candle> candles) {
+        List<Candle> sorted = candles.stream()
+            .sorted(Comparator.comparingLong(Candle::time))
+            .toList();
+
+        int n = sorted.size();
+        long[] times = new long[n];
+        long[] opens = new long[n];
+        long[] highs = new long[n];
+        long[] lows = new long[n];
+        long[] closes = new long[n];
+        for (int i = 0; i < n; i++) {
+            Candle candle = sorted.get(i);
+            times[i] = candle.time();
+            opens[i] = candle.open();
+            highs[i] = candle.high();
+            lows[i] = candle.low();
+            closes[i] = candle.close();
+        }
+
+        int priceScale = n == 0 ? 0 : sorted.get(0).scale().priceScale();
+        byte[] out = new byte[maxEncodedLength(n)];
+        int length = encode(n, times, opens, highs, lows, closes, priceScale, out);
+        return Arrays.copyOf(out, length);
+    }
+
+    /**
+     * 디코딩 (테스트 및 Java 클라이언트용)
+     * @param market 결과 레코드에 넣을 마켓 코드
+     * @return 캔들 레코드 (시간 오름차순, 자릿수는 exponent 기준)
+     */
+    public static List<Candle> decode(byte[] data, String market) {
+        int[] pos = {0};
+        byte version = data[pos[0]++];
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 캔들 바이너리 버전: " + version);
+        }
+        int exponent = data[pos[0]++];
+        int n = (int) readVarint(data, pos);
+
+        long[] times = new long[n];
+        long previous = 0;
+        for (int i = 0; i < n; i++) {
+            previous += unzigzag(readVarint(data, pos));
+            times[i] = previous;
+        }
+        long[] openDeltas = readColumn(data, pos, n, true);
+        long[] highDeltas = readColumn(data, pos, n, false);
+        long[] lowDeltas = readColumn(data, pos, n, false);
+        long[] closeDeltas = readColumn(data, pos, n, true);
+
+        // 음수 exponent는 자릿수 0으로 되돌려 정수 가격으로 복원
+        long multiplier = exponent < 0 ? FixedPoint.pow10(-exponent) : 1;
+        TickScale tickScale = new TickScale(Math.max(exponent, 0), 0);
+
+        List<Candle> candles = new ArrayList<>(n);
+        long previousClose = 0;
+        for (int i = 0; i < n; i++) {
+            long open = previousClose + openDeltas[i];
+            long close = open + closeDeltas[i];
+            candles.add(new Candle(market, times[i],
+                open * multiplier,
+                (open + highDeltas[i]) * multiplier,
+                (open - lowDeltas[i]) * multiplier,
+                close * multiplier,
+                0, tickScale));
+            previousClose = close;
+        }
+        return candles;
+    }
+
+    private static int encode(int n, long[] times, long[] opens, long[] highs, long[] lows, long[] closes,
+                              int priceScale, byte[] out) {
+        int shift = commonShift(n, opens, highs, lows, closes);
+        long divisor = FixedPoint.pow10(shift);
+
+        int pos = 0;
+        out[pos++] = VERSION;
+        out[pos++] = (byte) (priceScale - shift);
+        pos = writeVarint(out, pos, n);
+
+        long previous = 0;
+        for (int i = 0; i < n; i++) {
+            pos = writeVarint(out, pos, zigzag(times[i] - previous));
+            previous = times[i];
+        }
+
+        previous = 0;
+        for (int i = 0; i < n; i++) {
+            long open = opens[i] / divisor;
+            pos = writeVarint(out, pos, zigzag(open - previous));
+            previous = closes[i] / divisor;
+        }
+        for (int i = 0; i < n; i++) {
+            pos = writeVarint(out, pos, (highs[i] - opens[i]) / divisor);
+        }
+        for (int i = 0; i < n; i++) {
+            pos = writeVarint(out, pos, (opens[i] - lows[i]) / divisor);
+        }
+        for (int i = 0; i < n; i++) {
+            pos = writeVarint(out, pos, zigzag((closes[i] - opens[i]) / divisor));
+        }
+        return pos;
+    }
+
+    /**
+     * 모든 가격에 공통인 뒤쪽 0 개수 (0이 아닌 값 기준)
+     */
+    private static int commonShift(int n, long[]... columns) {
+        int shift = MAX_SHIFT;
+        for (long[] column : columns) {
+            for (int i = 0; i < n && shift > 0; i++) {
+                long value = column[i];
+                while (shift > 0 && value % FixedPoint.pow10(shift) != 0) {
+                    shift--;
+                }
+            }
+        }
+        return n == 0 ? 0 : shift;
+    }
+
+    private static long[] readColumn(byte[] data, int[] pos, int n, boolean signed) {
+        long[] column = new long[n];
+        for (int i = 0; i < n; i++) {
+            long value = readVarint(data, pos);
+            column[i] = signed ? unzigzag(value) : value;
+        }
+        return column;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int writeVarint(byte[] out, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static long readVarint(byte[] data, int[] pos) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = data[pos[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 varint");
+    }
+}
@@ -5,19 +5,28 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 캔들 데이터 Redis 저장소
  * - Redis 실패 시 in-memory 저장소로 fallback
  * - FIFO 방식으로 최신 100개 유지
+ * - 저장 방식 선택 (app.chart.redis.storage-mode)
+ *   - zset(기본값): candles:{market}:{timeframe} 정렬 집합, score = 캔들 시각(epoch second)
+ *   - blob: candles:{market} 키에 전체 리스트 저장 (기존 방식)
  */
 @Slf4j
 @Repository
@@ -25,14 +34,41 @@ import java.util.concurrent.ConcurrentHashMap;
 public class CandleDataRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
 
-    // Redis 실패 시 fallback용 in-memory 저장소
+    // Redis 실패 시 fallback용 in-memory 저장소 (키: {market}:{timeframe})
     private final ConcurrentHashMap<String, List<UpbitCandleDto>> inMemoryStorage = new ConcurrentHashMap<>();
 
+    // 기존 blob 키를 정렬 집합으로 옮긴 마켓 목록
+    private final Set<String> migratedMarkets = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.chart.redis.storage-mode:zset}")
+    private String storageModeValue;
+
     private static final int MAX_CANDLES = 100;
     private static final Duration TTL = Duration.ofMinutes(30);
 
+    public static final String DEFAULT_TIMEFRAME = "1m";
+
+    /**
+     * 정렬 집합 upsert 스크립트
+     * - 같은 score의 기존 멤버를 지우고 새 멤버 추가 (캔들 갱신)
+     * - 최신 ARGV[1]개만 남기고 trim, TTL 갱신
+     * - KEYS[1] = 정렬 집합 키, ARGV[1] = 최대 개수, ARGV[2] = TTL(초), ARGV[3..] = score, member 쌍
+     */
+    private static final RedisScript<Long> UPSERT_SCRIPT = new DefaultRedisScript<>(
+        "local key = KEYS[1]\n" +
+        "for i = 3, #ARGV, 2 do\n" +
+        "  redis.call('ZREMRANGEBYSCORE', key, ARGV[i], ARGV[i])\n" +
+        "  redis.call('ZADD', key, ARGV[i], ARGV[i + 1])\n" +
+        "end\n" +
+        "redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[1]) + 1))\n" +
+        "redis.call('EXPIRE', key, ARGV[2])\n" +
+        "return redis.call('ZCARD', key)",
+        Long.class
+    );
+
     /**
      * 캔들 데이터 저장/업데이트
      * @param market 마켓 코드
@@ -44,6 +80,11 @@ public class CandleDataRepository {
             return;
         }
 
+        if (getStorageMode() == CandleStorageMode.SORTED_SET) {
+            saveCandles(market, DEFAULT_TIMEFRAME, newCandles);
+            return;
+        }
+
         String key = generateKey(market);
 
         try {
@@ -63,8 +104,60 @@ public class CandleDataRepository {
                      market, e.getMessage());
             
             // Fallback: in-memory 저장
-            saveToInMemory(market, newCandles);
+            saveToInMemory(market, DEFAULT_TIMEFRAME, newCandles);
+        }
+    }
+
+    /**
+     * 캔들 데이터 저장/업데이트 (정렬 집합, 타임프레임별)
+     * - 캔들 시각이 같으면 덮어쓰고, 최신 MAX_CANDLES개만 유지
+     * - 스크립트 한 번으로 처리하므로 동시 저장 시에도 유실 없음
+     * @param market 마켓 코드
+     * @param timeframe 타임프레임 (예: 1m)
+     * @param newCandles 새로운 캔들 데이터 리스트
+     */
+    public void saveCandles(String market, String timeframe, Collection<UpbitCandleDto> newCandles) {
+        if (newCandles == null || newCandles.isEmpty()) {
+            log.warn("Empty candles provided for market: {}, timeframe: {}", market, timeframe);
+            return;
+        }
+
+        migrateLegacyIfNeeded(market, timeframe);
+
+        try {
+            long size = upsertSortedSet(market, timeframe, newCandles);
+
+            log.debug("Upserted {} candles to Redis sorted set for market: {}, timeframe: {} (size: {})",
+                     newCandles.size(), market, timeframe, size);
+
+        } catch (Exception e) {
+            log.error("Failed to save candles to Redis sorted set for market: {}, falling back to in-memory storage. Error: {}",
+                     market, e.getMessage());
+
+            saveToInMemory(market, timeframe, new ArrayList<>(newCandles));
+        }
+    }
+
+    /**
+     * 정렬 집합 upsert 실행 (실패 시 예외, fallback 없음)
+     * @return upsert 후 정렬 집합 크기
+     */
+    private long upsertSortedSet(String market, String timeframe, Collection<UpbitCandleDto> candles) throws Exception {
+        List<String> args = new ArrayList<>(2 + candles.size() * 2);
+        args.add(String.valueOf(MAX_CANDLES));
+        args.add(String.valueOf(TTL.toSeconds()));
+
+        for (UpbitCandleDto candle : candles) {
+            args.add(String.valueOf(candle.getUnixTimestamp()));
+            args.add(objectMapper.writeValueAsString(candle));
+        }
+
+        Long size = stringRedisTemplate.execute(
+            UPSERT_SCRIPT, List.of(generateKey(market, timeframe)), args.toArray());
+        if (size == null) {
+            throw new IllegalStateException("Sorted set upsert returned no result");
         }
+        return size;
     }
 
     /**
@@ -87,6 +180,10 @@ public class CandleDataRepository {
      * @return 캔들 데이터 리스트 (최신순)
      */
     public List<UpbitCandleDto> getCandles(String market) {
+        if (getStorageMode() == CandleStorageMode.SORTED_SET) {
+            return getCandles(market, DEFAULT_TIMEFRAME);
+        }
+
         String key = generateKey(market);
 
         try {
@@ -104,12 +201,145 @@ public class CandleDataRepository {
         }
 
         // Fallback: in-memory에서 조회
-        List<UpbitCandleDto> inMemoryCandles = inMemoryStorage.getOrDefault(market, List.of());
+        List<UpbitCandleDto> inMemoryCandles = inMemoryStorage.getOrDefault(inMemoryKey(market, DEFAULT_TIMEFRAME), List.of());
         log.debug("Retrieved {} candles from in-memory storage for market: {}", inMemoryCandles.size(), market);
         
         return new ArrayList<>(inMemoryCandles);
     }
 
+    /**
+     * 캔들 데이터 조회 (정렬 집합, 타임프레임별)
+     * @param market 마켓 코드
+     * @param timeframe 타임프레임 (예: 1m)
+     * @return 캔들 데이터 리스트 (최신순)
+     */
+    public List<UpbitCandleDto> getCandles(String market, String timeframe) {
+        migrateLegacyIfNeeded(market, timeframe);
+
+        try {
+            Set<String> members = stringRedisTemplate.opsForZSet()
+                .reverseRange(generateKey(market, timeframe), 0, MAX_CANDLES - 1);
+
+            List<UpbitCandleDto> candles = deserializeMembers(members);
+            if (!candles.isEmpty()) {
+                log.debug("Retrieved {} candles from Redis sorted set for market: {}, timeframe: {}",
+                         candles.size(), market, timeframe);
+                return candles;
+            }
+
+        } catch (Exception e) {
+            log.error("Failed to get candles from Redis sorted set for market: {}, trying in-memory storage. Error: {}",
+                     market, e.getMessage());
+        }
+
+        return new ArrayList<>(inMemoryStorage.getOrDefault(inMemoryKey(market, timeframe), List.of()));
+    }
+
+    /**
+     * 구간 캔들 데이터 조회 (정렬 집합, ZREVRANGEBYSCORE)
+     * @param market 마켓 코드
+     * @param timeframe 타임프레임 (예: 1m)
+     * @param fromEpochSecond 시작 시각 (포함, Unix timestamp seconds)
+     * @param toEpochSecond 종료 시각 (포함, Unix timestamp seconds)
+     * @return 구간 내 캔들 데이터 리스트 (최신순)
+     */
+    public List<UpbitCandleDto> getCandles(String market, String timeframe, long fromEpochSecond, long toEpochSecond) {
+        if (getStorageMode() != CandleStorageMode.SORTED_SET) {
+            return getCandles(market).stream()
+                .filter(candle -> {
+                    long time = candle.getUnixTimestamp();
+                    return time >= fromEpochSecond && time <= toEpochSecond;
+                })
+                .toList();
+        }
+
+        migrateLegacyIfNeeded(market, timeframe);
+
+        try {
+            Set<String> members = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScore(generateKey(market, timeframe), fromEpochSecond, toEpochSecond);
+            return deserializeMembers(members);
+
+        } catch (Exception e) {
+            log.error("Failed to get candle range from Redis for market: {}, timeframe: {}, error: {}",
+                     market, timeframe, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 기존 blob 키(candles:{market})를 정렬 집합으로 이전
+     * - 정렬 집합 저장이 확인된 뒤에만 기존 키 삭제 및 이전 완료 처리
+     * - Redis 조회/저장이 실패하거나 기존 값을 읽을 수 없으면 기존 키를 남겨 두고 다음 접근 시 다시 시도
+     * - 기존 키가 없을 때만 옮길 데이터 없이 이전 완료 처리
+     * @param market 마켓 코드
+     * @return 이전된 캔들 개수
+     */
+    public int migrateLegacyCandles(String market) {
+        String legacyKey = generateKey(market);
+
+        try {
+            List<UpbitCandleDto> legacyCandles = toCandles(legacyKey, redisTemplate.opsForValue().get(legacyKey));
+            if (legacyCandles.isEmpty()) {
+                migratedMarkets.add(market);
+                return 0;
+            }
+
+            upsertSortedSet(market, DEFAULT_TIMEFRAME, legacyCandles);
+            redisTemplate.delete(legacyKey);
+            migratedMarkets.add(market);
+
+            log.info("Migrated {} legacy candles to sorted set for market: {}", legacyCandles.size(), market);
+            return legacyCandles.size();
+
+        } catch (Exception e) {
+            log.error("Failed to migrate legacy candles for market: {}, error: {}", market, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 현재 저장 방식
+     */
+    public CandleStorageMode getStorageMode() {
+        return CandleStorageMode.from(storageModeValue);
+    }
+
+    /**
+     * 정렬 집합 모드에서 마켓별 최초 접근 시 기존 blob 키 이전
+     */
+    private void migrateLegacyIfNeeded(String market, String timeframe) {
+        if (DEFAULT_TIMEFRAME.equals(timeframe) && !migratedMarkets.contains(market)) {
+            migrateLegacyCandles(market);
+        }
+    }
+
+    /**
+     * 정렬 집합 멤버(JSON)를 캔들 데이터로 변환
+     */
+    private List<UpbitCandleDto> deserializeMembers(Set<String> members) {
+        if (members == null || members.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<UpbitCandleDto> candles = new ArrayList<>(members.size());
+        for (String member : members) {
+            try {
+                candles.add(objectMapper.readValue(member, UpbitCandleDto.class));
+            } catch (Exception e) {
+                log.warn("Skipped unreadable candle member: {}", e.getMessage());
+            }
+        }
+        return candles;
+    }
+
+    /**
+     * in-memory fallback 키 생성 (타임프레임별로 분리)
+     */
+    private String inMemoryKey(String market, String timeframe) {
+        return market + ":" + timeframe;
+    }
+
     /**
      * Redis 키 생성
      */
@@ -117,33 +347,52 @@ public class CandleDataRepository {
         return "candles:" + market;
     }
 
+    /**
+     * Redis 정렬 집합 키 생성
+     */
+    private String generateKey(String market, String timeframe) {
+        return "candles:" + market + ":" + timeframe;
+    }
+
     /**
      * Redis에서 캔들 데이터 조회
      */
-    @SuppressWarnings("unchecked")
     private List<UpbitCandleDto> getCandlesFromRedis(String key) {
         try {
-            Object value = redisTemplate.opsForValue().get(key);
-            
-            if (value == null) {
-                return new ArrayList<>();
-            }
+            return toCandles(key, redisTemplate.opsForValue().get(key));
+        } catch (Exception e) {
+            log.error("Failed to read candles from Redis key: {}, error: {}", key, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
 
-            if (value instanceof List) {
-                // 직접 List로 저장된 경우
-                return ((List<?>) value).stream()
-                    .filter(item -> item instanceof UpbitCandleDto)
-                    .map(item -> (UpbitCandleDto) item)
-                    .toList();
-            } else {
-                // JSON 문자열로 저장된 경우
-                String jsonValue = value.toString();
-                return objectMapper.readValue(jsonValue, new TypeReference<List<UpbitCandleDto>>() {});
+    /**
+     * blob 값을 캔들 데이터로 변환
+     * @return 캔들 데이터 리스트 (값이 없으면 빈 리스트)
+     * @throws IllegalStateException 값을 캔들 데이터로 읽을 수 없음
+     */
+    private List<UpbitCandleDto> toCandles(String key, Object value) {
+        if (value == null) {
+            return new ArrayList<>();
+        }
+
+        if (value instanceof List<?> items) {
+            // 직접 List로 저장된 경우
+            List<UpbitCandleDto> candles = new ArrayList<>(items.size());
+            for (Object item : items) {
+                if (!(item instanceof UpbitCandleDto candle)) {
+                    throw new IllegalStateException("Unreadable candle in Redis key: " + key);
+                }
+                candles.add(candle);
             }
+            return candles;
+        }
 
+        // JSON 문자열로 저장된 경우
+        try {
+            return objectMapper.readValue(value.toString(), new TypeReference<List<UpbitCandleDto>>() {});
         } catch (Exception e) {
-            log.error("Failed to deserialize candles from Redis key: {}, error: {}", key, e.getMessage());
-            return new ArrayList<>();
+            throw new IllegalStateException("Unreadable candles in Redis key: " + key, e);
         }
     }
 
@@ -178,12 +427,13 @@ public class CandleDataRepository {
     /**
      * In-memory 저장소에 저장 (fallback)
      */
-    private void saveToInMemory(String market, List<UpbitCandleDto> newCandles) {
-        List<UpbitCandleDto> existing = inMemoryStorage.getOrDefault(market, new ArrayList<>());
+    private void saveToInMemory(String market, String timeframe, List<UpbitCandleDto> newCandles) {
+        String key = inMemoryKey(market, timeframe);
+        List<UpbitCandleDto> existing = inMemoryStorage.getOrDefault(key, new ArrayList<>());
         List<UpbitCandleDto> merged = mergeAndLimitCandles(existing, newCandles);
         
-        inMemoryStorage.put(market, merged);
-        log.debug("Saved {} candles to in-memory storage for market: {}", merged.size(), market);
+        inMemoryStorage.put(key, merged);
+        log.debug("Saved {} candles to in-memory storage for market: {}, timeframe: {}", merged.size(), market, timeframe);
     }
 
     /**
@@ -193,7 +443,7 @@ public class CandleDataRepository {
     public void clearCorruptedRedisData(String market) {
         String key = generateKey(market);
         try {
-            redisTemplate.delete(key);
+            redisTemplate.delete(List.of(key, generateKey(market, DEFAULT_TIMEFRAME)));
             log.info("Cleared corrupted Redis data for market: {}", market);
         } catch (Exception e) {
             log.error("Failed to clear Redis data for market: {}, error: {}", market, e.getMessage());
@@ -210,6 +460,7 @@ public class CandleDataRepository {
             
             // In-memory 데이터 정리
             inMemoryStorage.clear();
+            migratedMarkets.clear();
             
             log.info("Cleared all cache data (Redis + In-memory)");
         } catch (Exception e) {
@@ -0,0 +1,275 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.FixedPoint;
+import com.autocoin.chart.domain.model.TickScale;
+import com.autocoin.chart.dto.UpbitCandleDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캔들 데이터 in-process 저장소 (hot tier)
+ * - 마켓/타임프레임별 CandleRingBuffer 보관, Redis(CandleDataRepository)는 warm tier
+ * - /api/chart/fast 응답 JSON을 응답 버퍼 외 할당 없이 직접 생성
+ */
+@Slf4j
+@Repository
+public class CandleMemoryCache {
+
+    private static final byte[] TIME = "{\"time\":".getBytes();
+    private static final byte[] OPEN = ",\"open\":".getBytes();
+    private static final byte[] HIGH = ",\"high\":".getBytes();
+    private static final byte[] LOW = ",\"low\":".getBytes();
+    private static final byte[] CLOSE = ",\"close\":".getBytes();
+
+    // 캔들 1개 JSON 최대 길이 (숫자 5개 x FixedPoint.MAX_LENGTH + 필드명)
+    private static final int MAX_CANDLE_JSON_BYTES = 160;
+
+    private final ConcurrentHashMap<String, CandleRingBuffer> buffers = new ConcurrentHashMap<>();
+
+    private final int capacity;
+    private final ThreadLocal<CandleRingBuffer.Snapshot> snapshots;
+    private final ThreadLocal<byte[]> encodeBuffers;
+
+    public CandleMemoryCache(@Value("${app.chart.memory.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+        this.snapshots = ThreadLocal.withInitial(() -> new CandleRingBuffer.Snapshot(capacity));
+        this.encodeBuffers = ThreadLocal.withInitial(() -> new byte[2 + capacity * (MAX_CANDLE_JSON_BYTES + 1)]);
+        log.info("Candle memory cache configured - capacity per market: {}", capacity);
+    }
+
+    /**
+     * 캔들 추가/갱신 (1분봉)
+     * @param market 마켓 코드
+     * @param candle 캔들 데이터
+     */
+    public void put(String market, UpbitCandleDto candle) {
+        put(market, Timeframe.ONE_MINUTE, candle);
+    }
+
+    /**
+     * 캔들 추가/갱신 (Upbit DTO, 타임프레임 지정)
+     */
+    public void put(String market, Timeframe timeframe, UpbitCandleDto candle) {
+        put(market, timeframe, Candle.from(candle));
+    }
+
+    /**
+     * 캔들 추가/갱신 (고정소수점 레코드)
+     * @param market 마켓 코드
+     * @param timeframe 타임프레임
+     * @param candle 캔들 레코드 (null이면 무시)
+     */
+    public void put(String market, Timeframe timeframe, Candle candle) {
+        if (candle == null) {
+            return;
+        }
+
+        TickScale scale = candle.scale();
+        buffers.computeIfAbsent(bufferKey(market, timeframe),
+                key -> new CandleRingBuffer(capacity, scale.priceScale(), scale.volumeScale()))
+            .append(candle.time(), candle.open(), candle.high(), candle.low(), candle.close(), candle.volume());
+    }
+
+    /**
+     * 캔들 일괄 추가 (1분봉)
+     */
+    public void putAll(String market, List<UpbitCandleDto> candles) {
+        putAll(market, Timeframe.ONE_MINUTE, candles);
+    }
+
+    /**
+     * 캔들 일괄 추가 (Upbit DTO, 순서 무관)
+     * @param market 마켓 코드
+     * @param timeframe 타임프레임
+     * @param candles 캔들 데이터 리스트 (순서 무관)
+     */
+    public void putAll(String market, Timeframe timeframe, List<UpbitCandleDto> candles) {
+        if (candles == null || candles.isEmpty()) {
+            return;
+        }
+
+        putCandles(market, timeframe, candles.stream()
+            .map(Candle::from)
+            .filter(Objects::nonNull)
+            .toList());
+    }
+
+    /**
+     * 캔들 레코드 일괄 추가 (시간 오름차순으로 정렬 후 적재)
+     * @param market 마켓 코드
+     * @param timeframe 타임프레임
+     * @param candles 캔들 레코드 리스트 (순서 무관)
+     */
+    public void putCandles(String market, Timeframe timeframe, List<Candle> candles) {
+        if (candles == null || candles.isEmpty()) {
+            return;
+        }
+
+        candles.stream()
+            .sorted(Comparator.comparingLong(Candle::time))
+            .forEach(candle -> put(market, timeframe, candle));
+
+        log.debug("Loaded {} {} candles into memory cache for market: {}", candles.size(), timeframe.getCode(), market);
+    }
+
+    /**
+     * 보관 중인 마켓 여부 (1분봉)
+     */
+    public boolean contains(String market) {
+        CandleRingBuffer buffer = getBuffer(market, Timeframe.ONE_MINUTE);
+        return buffer != null && buffer.latestTime() >= 0;
+    }
+
+    /**
+     * 마켓 링 버퍼 조회 (1분봉, 없으면 null)
+     */
+    public CandleRingBuffer getBuffer(String market) {
+        return getBuffer(market, Timeframe.ONE_MINUTE);
+    }
+
+    /**
+     * 마켓/타임프레임 링 버퍼 조회 (없으면 null)
+     */
+    public CandleRingBuffer getBuffer(String market, Timeframe timeframe) {
+        return buffers.get(bufferKey(market, timeframe));
+    }
+
+    /**
+     * 마켓/타임프레임 가장 최근 캔들 (없으면 null)
+     */
+    public Candle latestCandle(String market, Timeframe timeframe) {
+        CandleRingBuffer buffer = getBuffer(market, timeframe);
+        long[] values = new long[6];
+        if (buffer == null || !buffer.readLatest(values)) {
+            return null;
+        }
+        return new Candle(market, values[0], values[1], values[2], values[3], values[4], values[5],
+            new TickScale(buffer.priceScale(), buffer.volumeScale()));
+    }
+
+    /**
+     * 마켓/타임프레임 콘텐츠 태그 ("최신 캔들 시각-최신 캔들 OHLCV 해시", 데이터가 없으면 null)
+     * - 프로세스별 쓰기 횟수가 아닌 내용으로 만들어 같은 데이터를 가진 노드끼리 같은 값 (ETag 용도)
+     */
+    public String contentTag(String market, Timeframe timeframe) {
+        CandleRingBuffer buffer = getBuffer(market, timeframe);
+        long[] values = new long[6];
+        if (buffer == null || !buffer.readLatest(values)) {
+            return null;
+        }
+
+        long hash = values[0];
+        for (int i = 1; i < values.length; i++) {
+            hash = mix(hash * 31 + values[i]);
+        }
+        return values[0] + "-" + Long.toHexString(hash);
+    }
+
+    /**
+     * 64비트 해시 섞기 (SplitMix64 finalizer)
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * lightweight-charts 형태 JSON 생성 (1분봉)
+     */
+    public byte[] toLightweightChartJson(String market) {
+        return toLightweightChartJson(market, Timeframe.ONE_MINUTE);
+    }
+
+    /**
+     * lightweight-charts 형태 JSON 생성
+     * - [{"time":..,"open":..,"high":..,"low":..,"close":..}, ...] (시간 오름차순)
+     * @param market 마켓 코드
+     * @param timeframe 타임프레임
+     * @return JSON 바이트 배열 (데이터가 없으면 null)
+     */
+    public byte[] toLightweightChartJson(String market, Timeframe timeframe) {
+        CandleRingBuffer buffer = getBuffer(market, timeframe);
+        if (buffer == null) {
+            return null;
+        }
+
+        CandleRingBuffer.Snapshot snapshot = snapshots.get();
+        int size = buffer.readInto(snapshot);
+        if (size == 0) {
+            return null;
+        }
+
+        byte[] out = encodeBuffers.get();
+        int scale = buffer.priceScale();
+        int pos = 0;
+        out[pos++] = '[';
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                out[pos++] = ',';
+            }
+            pos = writeBytes(out, pos, TIME);
+            pos = FixedPoint.writeDigits(snapshot.times[i], out, pos);
+            pos = writeBytes(out, pos, OPEN);
+            pos = FixedPoint.write(snapshot.opens[i], scale, out, pos);
+            pos = writeBytes(out, pos, HIGH);
+            pos = FixedPoint.write(snapshot.highs[i], scale, out, pos);
+            pos = writeBytes(out, pos, LOW);
+            pos = FixedPoint.write(snapshot.lows[i], scale, out, pos);
+            pos = writeBytes(out, pos, CLOSE);
+            pos = FixedPoint.write(snapshot.closes[i], scale, out, pos);
+            out[pos++] = '}';
+        }
+        out[pos++] = ']';
+
+        return Arrays.copyOf(out, pos);
+    }
+
+    /**
+     * 컬럼형 바이너리 생성 (CandleBinaryCodec 포맷)
+     * @param market 마켓 코드
+     * @param timeframe 타임프레임
+     * @return 인코딩 바이트 배열 (데이터가 없으면 null)
+     */
+    public byte[] toBinary(String market, Timeframe timeframe) {
+        CandleRingBuffer buffer = getBuffer(market, timeframe);
+        if (buffer == null) {
+            return null;
+        }
+
+        CandleRingBuffer.Snapshot snapshot = snapshots.get();
+        if (buffer.readInto(snapshot) == 0) {
+            return null;
+        }
+
+        // JSON 버퍼가 바이너리 최대 크기보다 크므로 같은 버퍼 재사용
+        byte[] out = encodeBuffers.get();
+        int length = CandleBinaryCodec.encode(snapshot, buffer.priceScale(), out);
+        return Arrays.copyOf(out, length);
+    }
+
+    /**
+     * 전체 정리 (개발용)
+     */
+    public void clear() {
+        buffers.clear();
+    }
+
+    private static String bufferKey(String market, Timeframe timeframe) {
+        return market + ":" + timeframe.getCode();
+    }
+
+    private static int writeBytes(byte[] out, int pos, byte[] bytes) {
+        System.arraycopy(bytes, 0, out, pos, bytes.length);
+        return pos + bytes.length;
+    }
+}
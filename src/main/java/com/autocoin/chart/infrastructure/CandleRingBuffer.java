@@ -0,0 +1,253 @@
+package com.autocoin.chart.infrastructure;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 마켓별 고정 크기 캔들 링 버퍼 (in-process hot tier)
+ * - 시간/시가/고가/저가/종가/거래량을 primitive 배열로 보관
+ * - 가격과 거래량은 마켓 TickScale 자릿수의 고정소수점 long (버퍼 생성 시 고정)
+ * - 쓰기는 직렬화(synchronized), 읽기는 seqlock으로 락 없이 수행
+ */
+public final class CandleRingBuffer {
+
+    public static final int DEFAULT_SCALE = 8;
+
+    private static final VarHandle SEQUENCE;
+
+    static {
+        try {
+            SEQUENCE = MethodHandles.lookup().findVarHandle(CandleRingBuffer.class, "sequence", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int capacity;
+    private final int priceScale;
+    private final int volumeScale;
+    private final long[] times;
+    private final long[] opens;
+    private final long[] highs;
+    private final long[] lows;
+    private final long[] closes;
+    private final long[] volumes;
+
+    // 짝수 = 안정 상태, 홀수 = 쓰기 진행 중
+    @SuppressWarnings("unused")
+    private volatile long sequence;
+
+    // seqlock 구간 안에서만 변경되는 상태 (읽기 측은 sequence로 검증)
+    private int tail;
+    private int count;
+
+    public CandleRingBuffer(int capacity) {
+        this(capacity, DEFAULT_SCALE, DEFAULT_SCALE);
+    }
+
+    public CandleRingBuffer(int capacity, int priceScale, int volumeScale) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.priceScale = priceScale;
+        this.volumeScale = volumeScale;
+        this.times = new long[capacity];
+        this.opens = new long[capacity];
+        this.highs = new long[capacity];
+        this.lows = new long[capacity];
+        this.closes = new long[capacity];
+        this.volumes = new long[capacity];
+    }
+
+    /**
+     * 캔들 추가
+     * - 마지막 캔들과 시각이 같으면 덮어씀 (진행 중인 캔들 갱신)
+     * - 마지막 캔들보다 과거 시각이면 보관 중인 같은 시각 캔들만 덮어씀 (롤업 재집계), 없으면 무시
+     * @return 반영 여부
+     */
+    public synchronized boolean append(long time, long open, long high, long low, long close, long volume) {
+        int last = (tail - 1 + capacity) % capacity;
+        int index;
+        boolean overwrite;
+        if (count > 0 && time < times[last]) {
+            index = indexOf(time);
+            if (index < 0) {
+                return false;
+            }
+            overwrite = true;
+        } else {
+            overwrite = count > 0 && times[last] == time;
+            index = overwrite ? last : tail;
+        }
+
+        long seq = sequence;
+        SEQUENCE.setOpaque(this, seq + 1);
+        VarHandle.storeStoreFence();
+
+        times[index] = time;
+        opens[index] = open;
+        highs[index] = high;
+        lows[index] = low;
+        closes[index] = close;
+        volumes[index] = volume;
+
+        if (!overwrite) {
+            tail = (tail + 1) % capacity;
+            if (count < capacity) {
+                count++;
+            }
+        }
+
+        SEQUENCE.setRelease(this, seq + 2);
+        return true;
+    }
+
+    /**
+     * 보관 중인 캔들 중 같은 시각의 위치 (최신부터 역순 탐색, 없으면 -1)
+     */
+    private int indexOf(long time) {
+        for (int i = 1; i <= count; i++) {
+            int index = (tail - i + capacity) % capacity;
+            if (times[index] == time) {
+                return index;
+            }
+            if (times[index] < time) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 스냅샷 읽기 (락 없음)
+     * - 쓰기와 겹치면 재시도
+     * @param target 재사용 가능한 스냅샷 (capacity 이상)
+     * @return 읽은 캔들 개수 (시간 오름차순)
+     */
+    public int readInto(Snapshot target) {
+        while (true) {
+            long before = (long) SEQUENCE.getAcquire(this);
+            if ((before & 1L) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            int n = Math.min(count, capacity);
+            int start = (tail - n + capacity) % capacity;
+            copy(times, target.times, start, n);
+            copy(opens, target.opens, start, n);
+            copy(highs, target.highs, start, n);
+            copy(lows, target.lows, start, n);
+            copy(closes, target.closes, start, n);
+            copy(volumes, target.volumes, start, n);
+
+            VarHandle.loadLoadFence();
+            if ((long) SEQUENCE.getOpaque(this) == before) {
+                target.size = n;
+                return n;
+            }
+        }
+    }
+
+    /**
+     * 가장 최근 캔들 시각 (없으면 -1)
+     */
+    public long latestTime() {
+        while (true) {
+            long before = (long) SEQUENCE.getAcquire(this);
+            if ((before & 1L) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            long latest = count == 0 ? -1L : times[(tail - 1 + capacity) % capacity];
+
+            VarHandle.loadLoadFence();
+            if ((long) SEQUENCE.getOpaque(this) == before) {
+                return latest;
+            }
+        }
+    }
+
+    /**
+     * 가장 최근 캔들 읽기 (락 없음)
+     * @param target 길이 6 이상 (time, open, high, low, close, volume 순)
+     * @return 캔들 존재 여부
+     */
+    public boolean readLatest(long[] target) {
+        while (true) {
+            long before = (long) SEQUENCE.getAcquire(this);
+            if ((before & 1L) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            boolean present = count > 0;
+            if (present) {
+                int last = (tail - 1 + capacity) % capacity;
+                target[0] = times[last];
+                target[1] = opens[last];
+                target[2] = highs[last];
+                target[3] = lows[last];
+                target[4] = closes[last];
+                target[5] = volumes[last];
+            }
+
+            VarHandle.loadLoadFence();
+            if ((long) SEQUENCE.getOpaque(this) == before) {
+                return present;
+            }
+        }
+    }
+
+    /**
+     * 쓰기 버전 (쓰기마다 2씩 증가)
+     */
+    public long version() {
+        return (long) SEQUENCE.getAcquire(this);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int priceScale() {
+        return priceScale;
+    }
+
+    public int volumeScale() {
+        return volumeScale;
+    }
+
+    private void copy(long[] source, long[] target, int start, int n) {
+        int firstLength = Math.min(n, capacity - start);
+        System.arraycopy(source, start, target, 0, firstLength);
+        if (firstLength < n) {
+            System.arraycopy(source, 0, target, firstLength, n - firstLength);
+        }
+    }
+
+    /**
+     * 읽기용 스냅샷 (요청 스레드별로 재사용)
+     */
+    public static final class Snapshot {
+
+        public final long[] times;
+        public final long[] opens;
+        public final long[] highs;
+        public final long[] lows;
+        public final long[] closes;
+        public final long[] volumes;
+        public int size;
+
+        public Snapshot(int capacity) {
+            this.times = new long[capacity];
+            this.opens = new long[capacity];
+            this.highs = new long[capacity];
+            this.lows = new long[capacity];
+            this.closes = new long[capacity];
+            this.volumes = new long[capacity];
+        }
+    }
+}
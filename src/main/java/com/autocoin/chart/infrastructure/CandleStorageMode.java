@@ -0,0 +1,28 @@
+package com.autocoin.chart.infrastructure;
+
+/**
+ * Redis 캔들 저장 방식
+ * - BLOB: candles:{market} 키에 전체 리스트를 JSON 한 덩어리로 저장 (기존 방식)
+ * - SORTED_SET: candles:{market}:{timeframe} 정렬 집합에 캔들 시각(epoch second)을 score로 저장
+ */
+public enum CandleStorageMode {
+
+    BLOB,
+    SORTED_SET;
+
+    /**
+     * 설정 값(blob, zset, sorted-set 등)을 저장 방식으로 변환
+     * @param value 설정 값
+     * @return 저장 방식 (알 수 없는 값이면 BLOB)
+     */
+    public static CandleStorageMode from(String value) {
+        if (value == null) {
+            return BLOB;
+        }
+
+        return switch (value.trim().toLowerCase()) {
+            case "zset", "sorted-set", "sorted_set" -> SORTED_SET;
+            default -> BLOB;
+        };
+    }
+}
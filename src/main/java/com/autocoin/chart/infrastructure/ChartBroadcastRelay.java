@@ -0,0 +1,23 @@
+package com.autocoin.chart.infrastructure;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 STOMP 브로드캐스트 중계 채널
+ * - 한 노드가 publish한 프레임을 모든 노드(자기 자신 포함)의 구독자에게 전달
+ * - 프레임에 발행자 ID가 들어 있어 수신 측(ChartBroadcaster)이 임대 전환 중 중복 발행을 걸러냄
+ * - 운영: RedisChartBroadcastRelay (Redis pub/sub)
+ */
+public interface ChartBroadcastRelay {
+
+    /**
+     * 프레임 발행 (모든 노드로 전달)
+     * @param frame ChartBroadcaster가 인코딩한 프레임
+     */
+    void publish(byte[] frame);
+
+    /**
+     * 프레임 수신 리스너 등록
+     */
+    void subscribe(Consumer<byte[]> listener);
+}
@@ -0,0 +1,191 @@
+package com.autocoin.chart.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * STOMP 실시간 브로드캐스트
+ * - 중계(ChartBroadcastRelay)가 없으면 로컬 SimpleBroker로 바로 전송 (단일 노드)
+ * - 중계가 있으면 프레임을 한 번만 발행하고, 각 노드는 수신한 프레임을 로컬 구독자에게 전송
+ * - 페이로드는 발행 시 한 번만 JSON 직렬화해 불변 바이트로 전달 (구독자 수/수신 노드와 무관)
+ * - 프레임: 발행자 ID(UTF-8) + '\n' + destination(UTF-8) + '\n' + JSON
+ * - 발행은 마켓별 임대(ChartPublisherLease)를 가진 노드만 하지만, 임대가 넘어가는 동안 두 노드가 겹칠 수 있어
+ *   수신 측에서 destination별 현재 발행자 프레임만 전달 (발행자가 임대 시간 이상 조용하면 새 발행자로 교체)
+ * - 로컬 리스너(SSE 등)가 있으면 STOMP와 같은 직렬화 결과를 그대로 전달
+ */
+@Slf4j
+@Component
+public class ChartBroadcaster {
+
+    private static final byte SEPARATOR = '\n';
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChartBroadcastRelay relay;
+    private final MeterRegistry meterRegistry;
+    private final String publisherId;
+    private final byte[] publisherIdBytes;
+    private final long publisherTimeoutMillis;
+
+    private final List<BiConsumer<String, byte[]>> localListeners = new CopyOnWriteArrayList<>();
+    // destination → 현재 발행자 (중계 수신 중복 제거)
+    private final Map<String, Publisher> publishers = new ConcurrentHashMap<>();
+
+    public ChartBroadcaster(SimpMessagingTemplate messagingTemplate,
+                            ObjectMapper objectMapper,
+                            ObjectProvider<ChartBroadcastRelay> relay,
+                            MeterRegistry meterRegistry,
+                            ChartPublisherLease publisherLease) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.relay = relay.getIfAvailable();
+        this.meterRegistry = meterRegistry;
+        this.publisherId = publisherLease.nodeId();
+        this.publisherIdBytes = publisherId.getBytes(StandardCharsets.UTF_8);
+        this.publisherTimeoutMillis = publisherLease.leaseMillis();
+    }
+
+    @PostConstruct
+    public void subscribeRelay() {
+        if (relay == null) {
+            log.info("Chart broadcast mode: local (single node)");
+            return;
+        }
+        relay.subscribe(this::deliver);
+        log.info("Chart broadcast mode: relay ({})", relay.getClass().getSimpleName());
+    }
+
+    /**
+     * 로컬 전송 리스너 등록 (이 노드에서 전송되는 모든 destination, JSON 바이트)
+     * - 호출 스레드에서 바로 실행되므로 리스너는 오래 걸리는 작업을 넘겨서 처리해야 함
+     */
+    public void addLocalListener(BiConsumer<String, byte[]> listener) {
+        localListeners.add(listener);
+    }
+
+    /**
+     * 토픽으로 페이로드 전송 (모든 노드의 구독자에게)
+     * @param destination STOMP destination (예: /topic/chart/KRW-BTC)
+     * @param payload JSON 직렬화 대상
+     */
+    public void broadcast(String destination, Object payload) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(payload);
+        } catch (Exception e) {
+            log.error("Failed to serialize broadcast for destination: {}, error: {}", destination, e.getMessage());
+            return;
+        }
+
+        if (relay == null) {
+            sendLocal(destination, json);
+            return;
+        }
+
+        try {
+            relay.publish(encode(publisherIdBytes, destination, json));
+            meterRegistry.counter("chart.broadcast.relay.published").increment();
+        } catch (Exception e) {
+            // 중계 장애 시에도 이 노드의 구독자에게는 전달
+            meterRegistry.counter("chart.broadcast.relay.errors").increment();
+            log.warn("Broadcast relay publish failed, delivering locally only: {}", e.getMessage());
+            sendLocal(destination, json);
+        }
+    }
+
+    /**
+     * 중계 채널에서 수신한 프레임을 로컬 구독자에게 전송
+     */
+    void deliver(byte[] frame) {
+        deliver(frame, System.currentTimeMillis());
+    }
+
+    void deliver(byte[] frame, long nowMillis) {
+        int first = indexOf(frame, SEPARATOR, 0);
+        int second = first > 0 ? indexOf(frame, SEPARATOR, first + 1) : -1;
+        if (second <= first + 1) {
+            log.warn("Dropping malformed broadcast frame ({} bytes)", frame.length);
+            return;
+        }
+
+        String publisher = new String(frame, 0, first, StandardCharsets.UTF_8);
+        String destination = new String(frame, first + 1, second - first - 1, StandardCharsets.UTF_8);
+        if (!acceptPublisher(destination, publisher, nowMillis)) {
+            meterRegistry.counter("chart.broadcast.relay.duplicates").increment();
+            return;
+        }
+
+        sendLocal(destination, Arrays.copyOfRange(frame, second + 1, frame.length));
+        meterRegistry.counter("chart.broadcast.relay.delivered").increment();
+    }
+
+    /**
+     * destination의 현재 발행자 프레임인지 (다른 발행자는 현재 발행자가 임대 시간 이상 조용할 때만 교체)
+     */
+    private boolean acceptPublisher(String destination, String publisher, long nowMillis) {
+        boolean[] accepted = new boolean[1];
+        publishers.compute(destination, (key, current) -> {
+            if (current == null || current.id.equals(publisher)
+                    || nowMillis - current.lastSeen > publisherTimeoutMillis) {
+                accepted[0] = true;
+                return new Publisher(publisher, nowMillis);
+            }
+            return current;
+        });
+        return accepted[0];
+    }
+
+    private void sendLocal(String destination, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+
+        for (BiConsumer<String, byte[]> listener : localListeners) {
+            try {
+                listener.accept(destination, json);
+            } catch (Exception e) {
+                log.warn("Local broadcast listener failed for destination: {}, error: {}", destination, e.getMessage());
+            }
+        }
+    }
+
+    static byte[] encode(byte[] publisher, String destination, byte[] json) {
+        byte[] prefix = destination.getBytes(StandardCharsets.UTF_8);
+        byte[] frame = new byte[publisher.length + 1 + prefix.length + 1 + json.length];
+        System.arraycopy(publisher, 0, frame, 0, publisher.length);
+        frame[publisher.length] = SEPARATOR;
+        System.arraycopy(prefix, 0, frame, publisher.length + 1, prefix.length);
+        frame[publisher.length + 1 + prefix.length] = SEPARATOR;
+        System.arraycopy(json, 0, frame, publisher.length + prefix.length + 2, json.length);
+        return frame;
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record Publisher(String id, long lastSeen) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.entity.ChartCandle;
+import com.autocoin.chart.domain.model.Candle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * chart_candles 대량 쓰기/스트리밍 읽기 전용 JDBC 저장소
+ * - EntityManager를 거치지 않고 다중 행 upsert 한 문장으로 저장
+ * - GenerationType.IDENTITY 엔티티는 Hibernate JDBC 배치가 적용되지 않으므로 대량 저장은 이 경로 사용
+ * - MySQL/MariaDB: INSERT ... ON DUPLICATE KEY UPDATE (uk_chart_candle_market_time 기준)
+ * - H2(로컬/테스트): MERGE INTO ... KEY (market, timeframe, candleTime)
+ * - 대량 조회는 forward-only 커서로 행 단위 전달 (엔티티/리스트 적재 없음)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ChartCandleJdbcRepository {
+
+    private static final String COLUMNS =
+        "market, timeframe, candleTime, openPrice, highPrice, lowPrice, closePrice, volume, "
+        + "candleDateTimeUtc, timestamp, created_at, updated_at";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 중복 시 가격/거래량 갱신 (생성 시각은 유지)
+    private static final String ON_DUPLICATE_KEY_UPDATE =
+        " ON DUPLICATE KEY UPDATE openPrice = VALUES(openPrice), highPrice = VALUES(highPrice), "
+        + "lowPrice = VALUES(lowPrice), closePrice = VALUES(closePrice), volume = VALUES(volume), "
+        + "candleDateTimeUtc = VALUES(candleDateTimeUtc), timestamp = VALUES(timestamp), "
+        + "updated_at = VALUES(updated_at)";
+
+    private static final String SELECT_LATEST =
+        "SELECT market, candleTime, openPrice, highPrice, lowPrice, closePrice, volume FROM chart_candles "
+        + "WHERE market = ? AND timeframe = ? ORDER BY candleTime DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 문장에 담을 최대 행 수 (MySQL max_allowed_packet 기본 64MB 대비 충분히 작게)
+    @Value("${app.chart.database.upsert-chunk-size:500}")
+    private int chunkSize;
+
+    // H2 등 커서 fetch size를 그대로 쓰는 드라이버용
+    @Value("${app.chart.database.stream-fetch-size:500}")
+    private int streamFetchSize;
+
+    // 행 수별 SQL 캐시 (전체 청크는 항상 같은 SQL → 서버 측 statement 캐시 재사용)
+    private final Map<Integer, String> sqlCache = new ConcurrentHashMap<>();
+
+    private volatile Boolean h2;
+
+    /**
+     * 캔들 다중 행 upsert
+     * - 같은 (market, timeframe, candleTime) 행이 있으면 가격/거래량 갱신
+     * @param candles 저장할 캔들 (같은 키가 중복되지 않아야 함)
+     * @return 저장한 행 수
+     */
+    public int upsertAll(List<ChartCandle> candles) {
+        if (candles == null || candles.isEmpty()) {
+            return 0;
+        }
+
+        int size = Math.max(1, chunkSize);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < candles.size(); from += size) {
+            List<ChartCandle> chunk = candles.subList(from, Math.min(from + size, candles.size()));
+            jdbcTemplate.update(sql(chunk.size()), ps -> bind(ps, chunk, now));
+        }
+
+        return candles.size();
+    }
+
+    /**
+     * 최신 캔들부터 시간 역순 스트리밍 조회
+     * - forward-only/read-only 커서로 읽는 즉시 consumer에 전달 (조회 건수와 무관하게 메모리 일정)
+     * - MySQL Connector/J는 fetch size Integer.MIN_VALUE일 때만 행 단위 스트리밍
+     * @param market 마켓 코드
+     * @param timeframe 타임프레임 코드
+     * @param limit 최대 행 수
+     * @param consumer 행 처리기 (예외 발생 시 커서 종료 후 전파)
+     * @return 전달한 행 수
+     */
+    public int streamLatest(String market, String timeframe, int limit, Consumer<Candle> consumer) {
+        int fetchSize = isH2() ? Math.max(1, streamFetchSize) : Integer.MIN_VALUE;
+        int[] rows = {0};
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                SELECT_LATEST, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setString(1, market);
+            ps.setString(2, timeframe);
+            ps.setInt(3, limit);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            consumer.accept(Candle.of(
+                rs.getString(1),
+                rs.getLong(2),
+                rs.getBigDecimal(3),
+                rs.getBigDecimal(4),
+                rs.getBigDecimal(5),
+                rs.getBigDecimal(6),
+                rs.getBigDecimal(7)));
+            rows[0]++;
+        });
+
+        return rows[0];
+    }
+
+    private void bind(PreparedStatement ps, List<ChartCandle> chunk, Timestamp now) throws SQLException {
+        int index = 1;
+        for (ChartCandle candle : chunk) {
+            ps.setString(index++, candle.getMarket());
+            ps.setString(index++, candle.getTimeframe());
+            ps.setLong(index++, candle.getCandleTime());
+            ps.setBigDecimal(index++, candle.getOpenPrice());
+            ps.setBigDecimal(index++, candle.getHighPrice());
+            ps.setBigDecimal(index++, candle.getLowPrice());
+            ps.setBigDecimal(index++, candle.getClosePrice());
+            if (candle.getVolume() != null) {
+                ps.setBigDecimal(index++, candle.getVolume());
+            } else {
+                ps.setNull(index++, Types.DECIMAL);
+            }
+            ps.setString(index++, candle.getCandleDateTimeUtc());
+            ps.setLong(index++, candle.getTimestamp());
+            ps.setTimestamp(index++, now);
+            ps.setTimestamp(index++, now);
+        }
+    }
+
+    private String sql(int rows) {
+        return sqlCache.computeIfAbsent(rows, count -> {
+            StringBuilder sql = new StringBuilder(128 + count * (ROW_PLACEHOLDER.length() + 2));
+            if (isH2()) {
+                sql.append("MERGE INTO chart_candles (").append(COLUMNS)
+                    .append(") KEY (market, timeframe, candleTime) VALUES ");
+            } else {
+                sql.append("INSERT INTO chart_candles (").append(COLUMNS).append(") VALUES ");
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(ROW_PLACEHOLDER);
+            }
+
+            if (!isH2()) {
+                sql.append(ON_DUPLICATE_KEY_UPDATE);
+            }
+            return sql.toString();
+        });
+    }
+
+    /**
+     * H2는 MERGE ... KEY, 그 외(MySQL/MariaDB)는 ON DUPLICATE KEY UPDATE
+     */
+    private boolean isH2() {
+        Boolean result = h2;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+            result = product != null && product.toUpperCase(Locale.ROOT).contains("H2");
+            h2 = result;
+            log.info("Chart candle bulk upsert using {} syntax (database: {})",
+                result ? "MERGE" : "ON DUPLICATE KEY UPDATE", product);
+        }
+        return result;
+    }
+}
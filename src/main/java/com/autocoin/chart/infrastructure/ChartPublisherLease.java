@@ -0,0 +1,114 @@
+package com.autocoin.chart.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마켓별 실시간 발행 노드 임대 (broadcast mode=redis)
+ * - 모든 노드가 수집하더라도 마켓마다 임대를 가진 한 노드만 STOMP/SSE 메시지를 발행
+ * - 임대는 Redis 키(chart:publisher:{market}, 값=노드 ID)에 lease-ms 만료로 기록, 보유 노드가 lease-ms/3마다 갱신
+ * - 보유 노드가 멈추면 만료 후 다른 노드가 가져감
+ * - local 모드(단일 노드)와 Redis 오류 시에는 항상 발행 (중계도 로컬 전송으로 대체되므로 구독자 누락 없음)
+ * - 노드 ID는 중계 프레임의 발행자 ID로도 사용 (ChartBroadcaster 중복 제거)
+ */
+@Slf4j
+@Component
+public class ChartPublisherLease {
+
+    private static final String KEY_PREFIX = "chart:publisher:";
+
+    // KEYS[1]=임대, ARGV: 노드 ID, 만료(ms) → 1(보유) / 0(다른 노드 보유)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+        local owner = redis.call('GET', KEYS[1])
+        if owner and owner ~= ARGV[1] then return 0 end
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+        return 1
+        """, Long.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final long leaseMillis;
+
+    // 마켓 → 마지막 확인 결과 (lease-ms/3 동안 재사용)
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    public ChartPublisherLease(MeterRegistry meterRegistry,
+                               ObjectProvider<StringRedisTemplate> redisTemplate,
+                               @Value("${app.chart.broadcast.mode:local}") String broadcastMode,
+                               @Value("${app.chart.broadcast.lease-ms:3000}") long leaseMillis) {
+        this.meterRegistry = meterRegistry;
+        this.leaseMillis = leaseMillis;
+        this.redisTemplate = "redis".equalsIgnoreCase(broadcastMode) ? redisTemplate.getIfAvailable() : null;
+    }
+
+    /**
+     * 이 노드 ID (중계 프레임 발행자 ID)
+     */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 임대 만료 시간 (ms)
+     */
+    public long leaseMillis() {
+        return leaseMillis;
+    }
+
+    /**
+     * 노드 간 임대를 사용하는지 (redis 모드)
+     */
+    public boolean isClustered() {
+        return redisTemplate != null;
+    }
+
+    /**
+     * 이 노드가 마켓 메시지를 발행할지
+     * - 보유 중이면 갱신, 비어 있으면 획득, 다른 노드가 보유 중이면 false
+     */
+    public boolean isPublisher(String market) {
+        if (redisTemplate == null) {
+            return true;
+        }
+        return isPublisher(market, System.currentTimeMillis());
+    }
+
+    boolean isPublisher(String market, long nowMillis) {
+        Lease cached = leases.get(market);
+        if (cached != null && nowMillis - cached.checkedAt < leaseMillis / 3) {
+            return cached.owned;
+        }
+
+        boolean owned;
+        try {
+            Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + market),
+                nodeId, String.valueOf(leaseMillis));
+            owned = result != null && result == 1L;
+        } catch (Exception e) {
+            meterRegistry.counter("chart.broadcast.lease.errors").increment();
+            log.warn("Failed to check chart publisher lease for market: {}, error: {}", market, e.getMessage());
+            owned = true;
+        }
+
+        if (cached == null || cached.owned != owned) {
+            log.info("Chart publisher lease for {}: {}", market, owned ? "acquired" : "held by another node");
+        }
+        leases.put(market, new Lease(owned, nowMillis));
+        return owned;
+    }
+
+    private record Lease(boolean owned, long checkedAt) {
+    }
+}
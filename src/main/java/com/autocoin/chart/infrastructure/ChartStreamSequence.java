@@ -0,0 +1,119 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.TickScale;
+import com.autocoin.chart.dto.CandleStreamMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 노드 간 공유 스트림 번호/snapshot (프로토콜 v2, broadcast mode=redis)
+ * - 마켓별 q를 Redis INCRBY(chart:stream:seq:{market})로 부여해 발행 노드가 바뀌어도 번호가 이어짐
+ * - 번호 부여와 같은 스크립트에서 마지막 캔들(chart:stream:snapshot:{market})을 기록하고 MGET으로 함께 읽어
+ *   어느 노드가 snapshot에 응답해도 발행 노드와 같은 (q, 캔들)을 돌려줌
+ * - local 모드는 사용하지 않음 (CandleStreamService가 노드 안에서 번호 부여)
+ */
+@Slf4j
+@Component
+public class ChartStreamSequence {
+
+    private static final String SEQ_PREFIX = "chart:stream:seq:";
+    private static final String SNAPSHOT_PREFIX = "chart:stream:snapshot:";
+
+    // KEYS[1]=번호, KEYS[2]=snapshot, ARGV: 메시지 수, 마지막 캔들, 만료(ms) → 마지막 메시지 번호
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+        local q = redis.call('INCRBY', KEYS[1], ARGV[1])
+        redis.call('PEXPIRE', KEYS[1], ARGV[3])
+        redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+        return q
+        """, Long.class);
+
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMillis;
+
+    public ChartStreamSequence(MeterRegistry meterRegistry,
+                               ObjectProvider<StringRedisTemplate> redisTemplate,
+                               @Value("${app.chart.broadcast.mode:local}") String broadcastMode,
+                               @Value("${app.chart.broadcast.stream-state-ttl-ms:86400000}") long ttlMillis) {
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttlMillis;
+        this.redisTemplate = "redis".equalsIgnoreCase(broadcastMode) ? redisTemplate.getIfAvailable() : null;
+    }
+
+    /**
+     * 노드 간 번호를 공유하는지 (redis 모드)
+     */
+    public boolean isClustered() {
+        return redisTemplate != null;
+    }
+
+    /**
+     * 메시지 번호 예약 + snapshot 기록
+     * @param last 예약한 메시지까지 반영한 마지막 캔들
+     * @param count 예약할 메시지 수
+     * @return 예약한 마지막 번호 (첫 번호 = 반환값 - count + 1), Redis 오류 시 -1
+     */
+    public long reserve(Candle last, int count) {
+        try {
+            Long q = redisTemplate.execute(RESERVE_SCRIPT,
+                List.of(SEQ_PREFIX + last.market(), SNAPSHOT_PREFIX + last.market()),
+                String.valueOf(count), encode(last), String.valueOf(ttlMillis));
+            return q != null ? q : -1;
+        } catch (Exception e) {
+            meterRegistry.counter("chart.stream.sequence.errors").increment();
+            log.warn("Failed to reserve stream sequence for market: {}, error: {}", last.market(), e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 공유 snapshot (마지막 번호와 그 시점의 캔들)
+     * @return snapshot 메시지 (기록이 없거나 Redis 오류 시 null)
+     */
+    public CandleStreamMessage snapshot(String market) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(SEQ_PREFIX + market, SNAPSHOT_PREFIX + market));
+            if (values == null || values.get(0) == null || values.get(1) == null) {
+                return null;
+            }
+            return CandleStreamMessage.snapshot(market, Long.parseLong(values.get(0)), decode(market, values.get(1)));
+        } catch (Exception e) {
+            meterRegistry.counter("chart.stream.sequence.errors").increment();
+            log.warn("Failed to read stream snapshot for market: {}, error: {}", market, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캔들 → "time,open,high,low,close,volume,priceScale,volumeScale"
+     */
+    static String encode(Candle candle) {
+        return candle.time() + "," + candle.open() + "," + candle.high() + "," + candle.low() + ","
+            + candle.close() + "," + candle.volume() + ","
+            + candle.scale().priceScale() + "," + candle.scale().volumeScale();
+    }
+
+    static Candle decode(String market, String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 8) {
+            throw new IllegalStateException("Malformed stream snapshot: " + value);
+        }
+        return new Candle(market,
+            Long.parseLong(parts[0]),
+            Long.parseLong(parts[1]),
+            Long.parseLong(parts[2]),
+            Long.parseLong(parts[3]),
+            Long.parseLong(parts[4]),
+            Long.parseLong(parts[5]),
+            new TickScale(Integer.parseInt(parts[6]), Integer.parseInt(parts[7])));
+    }
+}
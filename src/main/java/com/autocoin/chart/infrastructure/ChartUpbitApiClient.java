@@ -1,10 +1,12 @@
 package com.autocoin.chart.infrastructure;
 
 import com.autocoin.chart.dto.UpbitCandleDto;
+import com.autocoin.upbit.exception.UpbitApiException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -12,11 +14,17 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Upbit 차트 API 클라이언트
- * - 1분봉 캔들 데이터 조회
+ * - 1분봉 캔들 데이터 조회 (to 커서 기반 과거 조회 포함)
  * - 재시도 로직 포함
  * - Rate Limit 고려
  */
@@ -25,9 +33,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ChartUpbitApiClient {
 
+    @Qualifier("upbitRestTemplate")
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
+    /** Upbit 캔들 API 1회 요청 최대 개수 */
+    public static final int MAX_CANDLES_PER_REQUEST = 200;
+
+    // to 파라미터 형식 (UTC, 예: 2024-01-01T00:00:00Z)
+    private static final DateTimeFormatter TO_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'").withZone(ZoneOffset.UTC);
+
     @Value("${app.upbit.api.url:https://api.upbit.com}")
     private String upbitApiUrl;
 
@@ -38,14 +54,79 @@ public class ChartUpbitApiClient {
      * @return 캔들 데이터 리스트 (최신순)
      */
     @Retryable(
-        value = {Exception.class}, 
+        retryFor = {Exception.class},
+        noRetryFor = {UpbitApiException.class}, // 레이트 리밋 초과(UPBIT_RATE_LIMITED)는 재시도하지 않고 바로 포기
         maxAttempts = 3, 
         backoff = @Backoff(delay = 1000)
     )
     public List<UpbitCandleDto> getCandles(String market, int count) {
+        return fetchCandles(market, count, null);
+    }
+
+    /**
+     * 특정 시각 이전의 1분봉 캔들 데이터 조회 (커서 페이지네이션)
+     * @param market 마켓 코드 (예: KRW-BTC)
+     * @param count 조회할 캔들 개수 (최대 200)
+     * @param toEpochSecond 이 시각 이전(미포함) 캔들만 조회 (Unix timestamp, seconds)
+     * @return 캔들 데이터 리스트 (최신순)
+     */
+    @Retryable(
+        retryFor = {Exception.class},
+        noRetryFor = {UpbitApiException.class}, // 레이트 리밋 초과(UPBIT_RATE_LIMITED)는 재시도하지 않고 바로 포기
+        maxAttempts = 3, 
+        backoff = @Backoff(delay = 1000)
+    )
+    public List<UpbitCandleDto> getCandles(String market, int count, long toEpochSecond) {
+        return fetchCandles(market, count, toEpochSecond);
+    }
+
+    /**
+     * 200개를 넘는 1분봉 히스토리 조회
+     * - Upbit count 상한(200) 단위로 to 커서를 과거로 이동하며 순차 조회
+     * @param market 마켓 코드
+     * @param total 조회할 전체 캔들 개수
+     * @return 캔들 데이터 리스트 (최신순, 중복 제거)
+     */
+    public List<UpbitCandleDto> getCandleHistory(String market, int total) {
+        Map<Long, UpbitCandleDto> candles = new LinkedHashMap<>();
+        Long cursor = null;
+
+        while (candles.size() < total) {
+            int count = Math.min(MAX_CANDLES_PER_REQUEST, total - candles.size());
+            List<UpbitCandleDto> page = fetchCandles(market, count, cursor);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            long oldest = Long.MAX_VALUE;
+            for (UpbitCandleDto candle : page) {
+                long time = candle.getUnixTimestamp();
+                candles.putIfAbsent(time, candle);
+                oldest = Math.min(oldest, time);
+            }
+
+            if (page.size() < count || (cursor != null && oldest >= cursor)) {
+                break; // 상장 시점 도달
+            }
+            cursor = oldest;
+        }
+
+        log.info("Fetched {} history candles for market: {} (requested: {})", candles.size(), market, total);
+        return new ArrayList<>(candles.values());
+    }
+
+    private List<UpbitCandleDto> fetchCandles(String market, int count, Long toEpochSecond) {
         try {
+            int pageSize = Math.min(Math.max(count, 1), MAX_CANDLES_PER_REQUEST);
+            if (pageSize != count) {
+                log.warn("Candle count {} clamped to {} for market: {}", count, pageSize, market);
+            }
+
             String url = String.format("%s/v1/candles/minutes/1?market=%s&count=%d", 
-                                     upbitApiUrl, market, count);
+                                     upbitApiUrl, market, pageSize);
+            if (toEpochSecond != null) {
+                url += "&to=" + TO_FORMATTER.format(Instant.ofEpochSecond(toEpochSecond));
+            }
             
             log.debug("Requesting Upbit candles: {}", url);
             
@@ -71,11 +152,14 @@ public class ChartUpbitApiClient {
                         candles.size(), validCandles.size());
             }
 
-            log.info("Successfully fetched {} valid candles for market: {}", 
+            log.debug("Successfully fetched {} valid candles for market: {}", 
                     validCandles.size(), market);
             
             return validCandles;
 
+        } catch (UpbitApiException e) {
+            // 레이트 리밋 초과는 감싸지 않고 그대로 던져 재시도 제외 대상이 되게 함
+            throw e;
         } catch (Exception e) {
             log.error("Failed to fetch candles from Upbit API for market: {}, error: {}", 
                      market, e.getMessage(), e);
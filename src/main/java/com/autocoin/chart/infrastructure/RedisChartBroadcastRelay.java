@@ -0,0 +1,63 @@
+package com.autocoin.chart.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 브로드캐스트 중계 (app.chart.broadcast.mode=redis)
+ * - 발행 노드 1회 PUBLISH, 모든 노드가 같은 채널을 구독해 로컬 STOMP 구독자에게 전달
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chart.broadcast.mode", havingValue = "redis")
+public class RedisChartBroadcastRelay implements ChartBroadcastRelay {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final String channel;
+    private final byte[] channelBytes;
+
+    private RedisMessageListenerContainer container;
+
+    public RedisChartBroadcastRelay(RedisConnectionFactory connectionFactory,
+                                    @Value("${app.chart.broadcast.channel:autocoin:chart:broadcast}") String channel) {
+        this.connectionFactory = connectionFactory;
+        this.channel = channel;
+        this.channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void publish(byte[] frame) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.publish(channelBytes, frame);
+        }
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<byte[]> listener) {
+        if (container == null) {
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.afterPropertiesSet();
+            container.start();
+        }
+        container.addMessageListener((message, pattern) -> listener.accept(message.getBody()), new ChannelTopic(channel));
+        log.info("Chart broadcast relay subscribed to Redis channel: {}", channel);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws Exception {
+        if (container != null) {
+            container.destroy();
+        }
+    }
+}
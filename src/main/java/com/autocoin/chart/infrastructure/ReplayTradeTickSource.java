@@ -0,0 +1,82 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.model.TradeTick;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 로컬 파일 재생 틱 공급원 (app.chart.live.source=replay, 개발/테스트용)
+ * - 한 줄에 체결 1건: market,timestamp(ms),price,volume,sequentialId
+ * - 빈 줄과 #으로 시작하는 줄은 무시
+ * - start 호출 시 대상 마켓 틱을 파일 순서대로 호출 스레드에서 모두 전달
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chart.live.source", havingValue = "replay")
+public class ReplayTradeTickSource implements TradeTickSource {
+
+    private final Path file;
+
+    public ReplayTradeTickSource(@Value("${app.chart.live.replay-file}") Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void start(List<String> markets, Consumer<TradeTick> sink) {
+        Set<String> targets = new HashSet<>(markets);
+        List<TradeTick> ticks = read(file);
+        ticks.stream()
+            .filter(tick -> targets.isEmpty() || targets.contains(tick.market()))
+            .forEach(sink);
+        log.info("Replayed {} trade ticks from {}", ticks.size(), file);
+    }
+
+    @Override
+    public void stop() {
+    }
+
+    /**
+     * 리플레이 파일 읽기
+     */
+    public static List<TradeTick> read(Path file) {
+        List<TradeTick> ticks = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length < 5) {
+                    throw new IllegalArgumentException("잘못된 리플레이 라인: " + line);
+                }
+                ticks.add(new TradeTick(
+                    columns[0].trim(),
+                    Long.parseLong(columns[1].trim()),
+                    new BigDecimal(columns[2].trim()),
+                    new BigDecimal(columns[3].trim()),
+                    Long.parseLong(columns[4].trim())
+                ));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("리플레이 파일 읽기 실패: " + file, e);
+        }
+        return ticks;
+    }
+}
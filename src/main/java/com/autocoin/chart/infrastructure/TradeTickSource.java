@@ -0,0 +1,34 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.model.TradeTick;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 체결 틱 공급원 (app.chart.live.source로 선택)
+ * - polling: Upbit 체결 내역 API 주기 조회 (UpbitTradePollingTickSource)
+ * - replay: 로컬 파일 재생 (ReplayTradeTickSource, 개발/테스트용)
+ */
+public interface TradeTickSource {
+
+    /**
+     * 틱 공급 시작
+     * @param markets 대상 마켓
+     * @param sink 틱 수신 처리기 (마켓별 체결 순서대로 호출)
+     */
+    void start(List<String> markets, Consumer<TradeTick> sink);
+
+    /**
+     * 공급 중인 대상 마켓 교체 (구독 활성 마켓 변경 시)
+     * - 기본 구현은 무시 (replay는 start 시 한 번만 재생)
+     * @param markets 새 대상 마켓
+     */
+    default void updateMarkets(List<String> markets) {
+    }
+
+    /**
+     * 틱 공급 중지
+     */
+    void stop();
+}
@@ -0,0 +1,158 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.model.TradeTick;
+import com.autocoin.upbit.dto.UpbitTradeDto;
+import com.autocoin.upbit.infrastructure.UpbitApiClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Upbit 체결 내역(/v1/trades/ticks) 폴링 틱 공급원
+ * - 마켓별 최신 체결 count개를 주기 조회하고 이미 전달한 체결 번호 이하는 제외
+ * - 조회 결과는 최신순이므로 체결 번호 오름차순으로 정렬해 전달
+ * - 마켓별 조회 시점을 주기 안에서 분산
+ * - 대상 마켓이 바뀌면 추가된 마켓만 예약하고 빠진 마켓 조회는 취소
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.chart.live.source", havingValue = "polling", matchIfMissing = true)
+public class UpbitTradePollingTickSource implements TradeTickSource {
+
+    private final UpbitApiClient upbitApiClient;
+
+    @Value("${app.chart.live.poll-interval-ms:1000}")
+    private long pollIntervalMillis;
+
+    // 한 번에 조회할 체결 수 (Upbit 최대 500)
+    @Value("${app.chart.live.poll-count:100}")
+    private int pollCount;
+
+    private final Map<String, Long> lastSequentialIds = new ConcurrentHashMap<>();
+
+    // 마켓별 예약된 조회 작업
+    private final Map<String, ScheduledFuture<?>> polls = new HashMap<>();
+
+    private ScheduledExecutorService executor;
+    private Consumer<TradeTick> sink;
+
+    @Override
+    public synchronized void start(List<String> markets, Consumer<TradeTick> sink) {
+        stop();
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trade-tick-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sink = sink;
+
+        updateMarkets(markets);
+        log.info("Trade tick polling started for {} markets every {}ms", markets.size(), interval());
+    }
+
+    @Override
+    public synchronized void updateMarkets(List<String> markets) {
+        if (executor == null) {
+            return;
+        }
+
+        Set<String> targets = new HashSet<>(markets);
+        polls.entrySet().removeIf(entry -> {
+            if (targets.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().cancel(false);
+            // 다시 활성화되면 기준점부터 새로 잡음
+            lastSequentialIds.remove(entry.getKey());
+            log.debug("Trade tick polling stopped for market: {}", entry.getKey());
+            return true;
+        });
+
+        List<String> added = markets.stream()
+            .filter(market -> !polls.containsKey(market))
+            .distinct()
+            .toList();
+        long interval = interval();
+        long stagger = interval / Math.max(1, added.size());
+        for (int i = 0; i < added.size(); i++) {
+            String market = added.get(i);
+            Consumer<TradeTick> target = sink;
+            polls.put(market, executor.scheduleWithFixedDelay(() -> poll(market, target),
+                i * stagger, interval, TimeUnit.MILLISECONDS));
+        }
+        if (!added.isEmpty()) {
+            log.debug("Trade tick polling added markets: {}", added);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        polls.clear();
+        lastSequentialIds.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private long interval() {
+        return Math.max(100, pollIntervalMillis);
+    }
+
+    private void poll(String market, Consumer<TradeTick> sink) {
+        try {
+            long last = lastSequentialIds.getOrDefault(market, -1L);
+            List<TradeTick> ticks = new ArrayList<>();
+            for (UpbitTradeDto trade : upbitApiClient.getTrades(market, null, pollCount, null)) {
+                TradeTick tick = toTick(market, trade);
+                if (tick != null && tick.sequentialId() > last) {
+                    ticks.add(tick);
+                }
+            }
+            if (ticks.isEmpty()) {
+                return;
+            }
+
+            ticks.sort(Comparator.comparingLong(TradeTick::sequentialId));
+            // 최초 조회는 기준점만 잡고 과거 체결은 건너뜀 (현재 분 캔들은 이후 틱으로 갱신)
+            if (last >= 0) {
+                ticks.forEach(sink);
+            }
+            lastSequentialIds.put(market, ticks.get(ticks.size() - 1).sequentialId());
+
+        } catch (Exception e) {
+            log.warn("Failed to poll trades for market: {}, error: {}", market, e.getMessage());
+        }
+    }
+
+    private static TradeTick toTick(String market, UpbitTradeDto trade) {
+        if (trade.timestamp() <= 0 || trade.sequentialId() <= 0) {
+            return null;
+        }
+        return new TradeTick(
+            market,
+            trade.timestamp(),
+            BigDecimal.valueOf(trade.tradePrice()),
+            BigDecimal.valueOf(trade.tradeVolume()),
+            trade.sequentialId()
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package com.autocoin.global.config.web;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToIntFunction;
+
+/**
+ * 외부 연동별 커넥션 풀 HTTP 클라이언트 생성
+ * - 연동(upbit, serp, flask, slack ...)마다 독립된 커넥션 풀: 한 연동이 느려져도 다른 연동 커넥션을 점유하지 않음
+ * - keep-alive 재사용 (서버 Keep-Alive 값과 설정 상한 중 작은 값), 유휴/만료 커넥션 백그라운드 정리
+ * - 연결/응답 타임아웃은 연동별, 풀 대기 타임아웃과 유휴 정리 주기는 공통 설정
+ * - 메트릭: http.client.pool.leased/pending/available/max{client=연동 이름}
+ */
+@Slf4j
+@Component
+public class PooledHttpClientFactory {
+
+    // 이 시간 이상 유휴였던 커넥션은 재사용 전 유효성 검사
+    private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(2);
+
+    private final MeterRegistry meterRegistry;
+    private final long connectionRequestTimeoutMillis;
+    private final long keepAliveSeconds;
+    private final long idleEvictSeconds;
+
+    private final List<CloseableHttpClient> clients = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param connectionRequestTimeoutMillis 풀에서 커넥션을 얻기까지 최대 대기 시간
+     * @param keepAliveSeconds 서버가 Keep-Alive를 주지 않거나 더 길게 줄 때의 재사용 상한
+     * @param idleEvictSeconds 유휴 커넥션 정리 기준
+     */
+    public PooledHttpClientFactory(MeterRegistry meterRegistry,
+                                   @Value("${app.http.client.connection-request-timeout-ms:2000}") long connectionRequestTimeoutMillis,
+                                   @Value("${app.http.client.keep-alive-seconds:30}") long keepAliveSeconds,
+                                   @Value("${app.http.client.idle-evict-seconds:30}") long idleEvictSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.connectionRequestTimeoutMillis = connectionRequestTimeoutMillis;
+        this.keepAliveSeconds = Math.max(1, keepAliveSeconds);
+        this.idleEvictSeconds = Math.max(1, idleEvictSeconds);
+    }
+
+    /**
+     * 연동 전용 요청 팩토리 생성
+     * @param name 연동 이름 (메트릭 태그)
+     * @param connectTimeoutMillis 연결 타임아웃
+     * @param readTimeoutMillis 응답 타임아웃
+     * @param maxPerRoute 호스트별 최대 커넥션
+     * @param maxTotal 전체 최대 커넥션
+     */
+    public HttpComponentsClientHttpRequestFactory create(String name, long connectTimeoutMillis, long readTimeoutMillis,
+                                                         int maxPerRoute, int maxTotal) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnPerRoute(Math.max(1, maxPerRoute))
+            .setMaxConnTotal(Math.max(maxPerRoute, maxTotal))
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                .setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY)
+                .build())
+            .build();
+
+        TimeValue keepAlive = TimeValue.ofSeconds(keepAliveSeconds);
+        CloseableHttpClient client = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                .build())
+            .setKeepAliveStrategy((response, context) -> {
+                TimeValue server = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return TimeValue.isPositive(server) && server.compareTo(keepAlive) < 0 ? server : keepAlive;
+            })
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+            .build();
+        clients.add(client);
+
+        registerPoolGauge("http.client.pool.leased", "Connections in use", name, connectionManager, PoolStats::getLeased);
+        registerPoolGauge("http.client.pool.pending", "Requests waiting for a connection", name, connectionManager, PoolStats::getPending);
+        registerPoolGauge("http.client.pool.available", "Idle keep-alive connections", name, connectionManager, PoolStats::getAvailable);
+        registerPoolGauge("http.client.pool.max", "Maximum connections", name, connectionManager, PoolStats::getMax);
+
+        log.info("HTTP client pool '{}' created - connect: {}ms, read: {}ms, per route: {}, total: {}",
+            name, connectTimeoutMillis, readTimeoutMillis, maxPerRoute, maxTotal);
+        return new HttpComponentsClientHttpRequestFactory(client);
+    }
+
+    @PreDestroy
+    public void close() {
+        clients.forEach(client -> client.close(CloseMode.GRACEFUL));
+    }
+
+    private void registerPoolGauge(String metric, String description, String name,
+                                   PoolingHttpClientConnectionManager connectionManager,
+                                   ToIntFunction<PoolStats> value) {
+        Gauge.builder(metric, connectionManager, manager -> value.applyAsInt(manager.getTotalStats()))
+            .description(description)
+            .tag("client", name)
+            .register(meterRegistry);
+    }
+}
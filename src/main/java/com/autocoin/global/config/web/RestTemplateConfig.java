@@ -1,23 +1,73 @@
 package com.autocoin.global.config.web;
 
+import com.autocoin.upbit.infrastructure.UpbitRateLimitInterceptor;
+import com.autocoin.upbit.infrastructure.UpbitRateLimiter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
+/**
+ * 외부 연동별 RestTemplate (PooledHttpClientFactory 커넥션 풀)
+ * - restTemplate: 기본 (Qualifier 없이 주입)
+ * - upbitRestTemplate, serpRestTemplate, flaskRestTemplate, slackRestTemplate: 연동별 타임아웃/풀 한도
+ * - upbitRestTemplate은 UpbitRateLimiter 요청 그룹별 토큰 버킷을 거침
+ */
 @Configuration
 public class RestTemplateConfig {
-    
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder,
+    @Primary
+    public RestTemplate restTemplate(RestTemplateBuilder builder, PooledHttpClientFactory factory,
                                    @Value("${HTTP_CLIENT_CONNECT_TIMEOUT:5000}") int connectTimeout,
-                                   @Value("${HTTP_CLIENT_READ_TIMEOUT:10000}") int readTimeout) {
+                                   @Value("${HTTP_CLIENT_READ_TIMEOUT:10000}") int readTimeout,
+                                   @Value("${app.http.client.default.max-per-route:20}") int maxPerRoute) {
+        return builder
+                .requestFactory(() -> factory.create("default", connectTimeout, readTimeout, maxPerRoute, maxPerRoute * 2))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate upbitRestTemplate(RestTemplateBuilder builder, PooledHttpClientFactory factory,
+                                          UpbitRateLimiter rateLimiter,
+                                          @Value("${app.http.client.upbit.connect-timeout-ms:3000}") int connectTimeout,
+                                          @Value("${app.http.client.upbit.read-timeout-ms:${app.upbit.api.timeout:10000}}") int readTimeout,
+                                          @Value("${app.http.client.upbit.max-per-route:50}") int maxPerRoute) {
+        return builder
+                .requestFactory(() -> factory.create("upbit", connectTimeout, readTimeout, maxPerRoute, maxPerRoute))
+                .additionalInterceptors(new UpbitRateLimitInterceptor(rateLimiter))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate serpRestTemplate(RestTemplateBuilder builder, PooledHttpClientFactory factory,
+                                         @Value("${app.http.client.serp.connect-timeout-ms:5000}") int connectTimeout,
+                                         @Value("${app.http.client.serp.read-timeout-ms:20000}") int readTimeout,
+                                         @Value("${app.http.client.serp.max-per-route:5}") int maxPerRoute) {
+        return builder
+                .requestFactory(() -> factory.create("serp", connectTimeout, readTimeout, maxPerRoute, maxPerRoute))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate flaskRestTemplate(RestTemplateBuilder builder, PooledHttpClientFactory factory,
+                                          @Value("${flask.http.client.connect-timeout:5000}") int connectTimeout,
+                                          @Value("${flask.http.client.read-timeout:30000}") int readTimeout,
+                                          @Value("${app.http.client.flask.max-per-route:20}") int maxPerRoute) {
+        return builder
+                .requestFactory(() -> factory.create("flask", connectTimeout, readTimeout, maxPerRoute, maxPerRoute))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate slackRestTemplate(RestTemplateBuilder builder, PooledHttpClientFactory factory,
+                                          @Value("${app.http.client.slack.connect-timeout-ms:3000}") int connectTimeout,
+                                          @Value("${app.http.client.slack.read-timeout-ms:5000}") int readTimeout,
+                                          @Value("${app.http.client.slack.max-per-route:5}") int maxPerRoute) {
         return builder
-                .setConnectTimeout(Duration.ofMillis(connectTimeout))
-                .setReadTimeout(Duration.ofMillis(readTimeout))
+                .requestFactory(() -> factory.create("slack", connectTimeout, readTimeout, maxPerRoute, maxPerRoute))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -45,7 +45,8 @@ public enum ErrorCode {
     UPBIT_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "UB003", "Upbit API Error"),
     UPBIT_ACCOUNT_INACTIVE(HttpStatus.BAD_REQUEST, "UB004", "Upbit Account Inactive"),
     UPBIT_SYNC_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "UB005", "Upbit Sync Failed"),
-    INVALID_UPBIT_API_KEYS(HttpStatus.BAD_REQUEST, "UB006", "Invalid Upbit API Keys");
+    INVALID_UPBIT_API_KEYS(HttpStatus.BAD_REQUEST, "UB006", "Invalid Upbit API Keys"),
+    UPBIT_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "UB007", "Upbit Rate Limit Exceeded");
 
     private final HttpStatus status;
     private final String code;
@@ -6,9 +6,17 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
 
+/**
+ * AES-GCM 문자열 암복호화
+ * - Cipher는 스레드마다 하나를 재사용 (매 호출 init으로 키/IV 재설정)
+ * - 정규화한 키(SecretKeySpec)는 스레드별로 마지막 키 문자열 기준으로 재사용
+ * - IV 생성용 SecureRandom은 인스턴스 하나를 공유 (thread-safe)
+ */
 @Component
 public class AESUtil {
     
@@ -17,41 +25,51 @@ public class AESUtil {
     private static final int IV_LENGTH = 12; // GCM 권장 IV 길이
     private static final int TAG_LENGTH = 16; // GCM 태그 길이
     
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<CipherHolder> cipherHolder = new ThreadLocal<>();
+    
     /**
      * 비밀키를 32바이트로 정규화
      */
     private SecretKeySpec getSecretKeySpec(String secretKey) {
         byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
         
-        // 키를 정확히 32바이트로 맞춤
+        // 키를 정확히 32바이트로 맞춤 (부족한 부분은 0으로 패딩)
         byte[] normalizedKey = new byte[32];
-        if (keyBytes.length >= 32) {
-            System.arraycopy(keyBytes, 0, normalizedKey, 0, 32);
-        } else {
-            System.arraycopy(keyBytes, 0, normalizedKey, 0, keyBytes.length);
-            // 부족한 부분은 0으로 패딩
-            for (int i = keyBytes.length; i < 32; i++) {
-                normalizedKey[i] = 0;
-            }
-        }
+        System.arraycopy(keyBytes, 0, normalizedKey, 0, Math.min(keyBytes.length, 32));
         
         return new SecretKeySpec(normalizedKey, ALGORITHM);
     }
     
+    /**
+     * 현재 스레드의 Cipher와 키 (키 문자열이 바뀌었을 때만 SecretKeySpec 재생성)
+     */
+    private CipherHolder holder(String secretKey) throws GeneralSecurityException {
+        CipherHolder holder = cipherHolder.get();
+        if (holder == null) {
+            holder = new CipherHolder(Cipher.getInstance(TRANSFORMATION));
+            cipherHolder.set(holder);
+        }
+        if (!secretKey.equals(holder.secretKey)) {
+            holder.keySpec = getSecretKeySpec(secretKey);
+            holder.secretKey = secretKey;
+        }
+        return holder;
+    }
+    
     /**
      * 문자열 암호화
      */
     public String encrypt(String plainText, String secretKey) throws Exception {
-        SecretKeySpec keySpec = getSecretKeySpec(secretKey);
-        
-        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        CipherHolder holder = holder(secretKey);
+        Cipher cipher = holder.cipher;
         
         // 랜덤 IV 생성
         byte[] iv = new byte[IV_LENGTH];
-        new SecureRandom().nextBytes(iv);
+        secureRandom.nextBytes(iv);
         GCMParameterSpec gcmSpec = new GCMParameterSpec(TAG_LENGTH * 8, iv);
         
-        cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmSpec);
+        cipher.init(Cipher.ENCRYPT_MODE, holder.keySpec, gcmSpec);
         
         byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
         
@@ -67,23 +85,40 @@ public class AESUtil {
      * 문자열 복호화
      */
     public String decrypt(String encryptedText, String secretKey) throws Exception {
+        byte[] decrypted = decryptToBytes(encryptedText, secretKey);
+        try {
+            return new String(decrypted, StandardCharsets.UTF_8);
+        } finally {
+            Arrays.fill(decrypted, (byte) 0);
+        }
+    }
+    
+    /**
+     * 바이트 배열로 복호화 (호출자가 사용 후 0으로 지울 수 있음)
+     */
+    public byte[] decryptToBytes(String encryptedText, String secretKey) throws Exception {
         byte[] decodedData = Base64.getDecoder().decode(encryptedText);
         
-        // IV와 암호화된 데이터 분리
-        byte[] iv = new byte[IV_LENGTH];
-        byte[] encrypted = new byte[decodedData.length - IV_LENGTH];
-        
-        System.arraycopy(decodedData, 0, iv, 0, IV_LENGTH);
-        System.arraycopy(decodedData, IV_LENGTH, encrypted, 0, encrypted.length);
-        
-        SecretKeySpec keySpec = getSecretKeySpec(secretKey);
+        // 앞 IV_LENGTH 바이트는 IV, 나머지는 암호문 (복사 없이 offset으로 사용)
+        CipherHolder holder = holder(secretKey);
+        Cipher cipher = holder.cipher;
+        GCMParameterSpec gcmSpec = new GCMParameterSpec(TAG_LENGTH * 8, decodedData, 0, IV_LENGTH);
+        cipher.init(Cipher.DECRYPT_MODE, holder.keySpec, gcmSpec);
         
-        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-        GCMParameterSpec gcmSpec = new GCMParameterSpec(TAG_LENGTH * 8, iv);
-        cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmSpec);
+        return cipher.doFinal(decodedData, IV_LENGTH, decodedData.length - IV_LENGTH);
+    }
+    
+    /**
+     * 스레드별 Cipher + 마지막으로 쓴 키
+     */
+    private static final class CipherHolder {
         
-        byte[] decrypted = cipher.doFinal(encrypted);
+        private final Cipher cipher;
+        private String secretKey;
+        private SecretKeySpec keySpec;
         
-        return new String(decrypted, StandardCharsets.UTF_8);
+        private CipherHolder(Cipher cipher) {
+            this.cipher = cipher;
+        }
     }
 }
\ No newline at end of file
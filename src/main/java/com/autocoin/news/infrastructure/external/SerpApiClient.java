@@ -4,6 +4,7 @@ import com.autocoin.news.config.NewsApiConfig;
 import com.autocoin.news.domain.enums.NewsCategory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
@@ -21,6 +22,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SerpApiClient {
     
+    @Qualifier("serpRestTemplate")
     private final RestTemplate restTemplate;
     private final NewsApiConfig newsApiConfig;
     
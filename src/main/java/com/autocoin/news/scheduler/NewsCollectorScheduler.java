@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,7 @@ import java.util.Optional;
 @Slf4j
 public class NewsCollectorScheduler {
 
+    @Qualifier("serpRestTemplate")
     private final RestTemplate restTemplate;
     private final NewsApiConfig newsApiConfig;
     private final CryptoNewsRepository cryptoNewsRepository;
@@ -1,6 +1,7 @@
 package com.autocoin.notification.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
@@ -19,13 +20,13 @@ import java.util.Map;
 @Slf4j
 public class RealSlackNotificationService implements SlackNotificationService {
 
-    private RestTemplate restTemplate;
+    private final RestTemplate restTemplate;
 
     @Value("${slack.webhook.url:}")
     private String webhookUrl;
 
-    public RealSlackNotificationService() {
-        this.restTemplate = new RestTemplate();
+    public RealSlackNotificationService(@Qualifier("slackRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
     }
 
     @Override
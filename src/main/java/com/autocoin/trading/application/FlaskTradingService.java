@@ -3,6 +3,7 @@ package com.autocoin.trading.application;
 import com.autocoin.trading.dto.TradingStartRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ public class FlaskTradingService {
     @Value("${FLASK_API_URL:http://localhost:5000}")
     private String flaskApiUrl;
     
+    @Qualifier("flaskRestTemplate")
     private final RestTemplate restTemplate;
     
     /**
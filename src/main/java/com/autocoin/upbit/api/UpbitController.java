@@ -1,12 +1,18 @@
 package com.autocoin.upbit.api;
 
+import com.autocoin.upbit.application.UpbitOrderbookService;
 import com.autocoin.upbit.application.UpbitService;
+import com.autocoin.upbit.application.UpbitTickerSnapshotService;
+import com.autocoin.upbit.dto.UpbitMarketCandleDto;
+import com.autocoin.upbit.dto.UpbitMarketDto;
 import com.autocoin.upbit.dto.UpbitTickerDto;
+import com.autocoin.upbit.dto.UpbitTradeDto;
 import com.autocoin.upbit.dto.request.UpbitConnectRequestDto;
+import com.autocoin.upbit.dto.response.OrderbookResponseDto;
 import com.autocoin.upbit.dto.response.UpbitAccountStatusResponseDto;
 import com.autocoin.upbit.dto.response.UpbitConnectResponseDto;
 import com.autocoin.upbit.dto.response.WalletResponseDto;
-import com.autocoin.upbit.infrastructure.UpbitApiClient;
+import com.autocoin.upbit.infrastructure.CoalescingUpbitApiClient;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,7 +33,9 @@ import java.util.Map;
 public class UpbitController {
     
     private final UpbitService upbitService;
-    private final UpbitApiClient upbitApiClient;
+    private final UpbitTickerSnapshotService upbitTickerSnapshotService;
+    private final UpbitOrderbookService upbitOrderbookService;
+    private final CoalescingUpbitApiClient upbitApiClient;
     
     @PostMapping("/connect")
     @Operation(summary = "업비트 계정 연결", description = "업비트 API 키를 사용하여 계정을 연결합니다.")
@@ -76,8 +84,8 @@ public class UpbitController {
     
     @GetMapping("/markets")
     @Operation(summary = "마켓 코드 조회", description = "업비트에서 거래 가능한 마켓 목록을 조회합니다.")
-    public ResponseEntity<List<Map<String, Object>>> getMarkets() {
-        List<Map<String, Object>> markets = upbitApiClient.getMarkets();
+    public ResponseEntity<List<UpbitMarketDto>> getMarkets() {
+        List<UpbitMarketDto> markets = upbitApiClient.getMarkets();
         return ResponseEntity.ok(markets);
     }
     
@@ -87,36 +95,40 @@ public class UpbitController {
             @Parameter(description = "마켓 코드 목록 (쉼표로 구분)", example = "KRW-BTC,KRW-ETH")
             @RequestParam String markets) {
         List<String> marketList = Arrays.asList(markets.split(","));
-        List<UpbitTickerDto> tickers = upbitService.getMarketTickers(marketList);
+        List<UpbitTickerDto> tickers = upbitTickerSnapshotService.getTickers(marketList);
         return ResponseEntity.ok(tickers);
     }
     
     @GetMapping("/orderbook")
     @Operation(summary = "호가 정보 조회", description = "특정 마켓들의 호가 정보를 조회합니다.")
-    public ResponseEntity<List<Map<String, Object>>> getOrderbook(
+    public ResponseEntity<List<OrderbookResponseDto>> getOrderbook(
             @Parameter(description = "마켓 코드 목록 (쉼표로 구분)", example = "KRW-BTC,KRW-ETH")
-            @RequestParam String markets) {
+            @RequestParam String markets,
+            @Parameter(description = "호가 개수")
+            @RequestParam(defaultValue = "15") int depth,
+            @Parameter(description = "호가 모아보기 배수 (1 = 원본)", example = "1")
+            @RequestParam(defaultValue = "1") int grouping) {
         List<String> marketList = Arrays.asList(markets.split(","));
-        List<Map<String, Object>> orderbook = upbitApiClient.getOrderbook(marketList);
+        List<OrderbookResponseDto> orderbook = upbitOrderbookService.getOrderbooks(marketList, depth, grouping);
         return ResponseEntity.ok(orderbook);
     }
     
     @GetMapping("/candles/days")
     @Operation(summary = "일봉 조회", description = "특정 마켓의 일봉 데이터를 조회합니다.")
-    public ResponseEntity<List<Map<String, Object>>> getDayCandles(
+    public ResponseEntity<List<UpbitMarketCandleDto>> getDayCandles(
             @Parameter(description = "마켓 코드", example = "KRW-BTC")
             @RequestParam String market,
             @Parameter(description = "마지막 캔들 시각")
             @RequestParam(required = false) String to,
             @Parameter(description = "캔들 개수")
             @RequestParam(defaultValue = "200") int count) {
-        List<Map<String, Object>> candles = upbitApiClient.getDayCandles(market, to, count);
+        List<UpbitMarketCandleDto> candles = upbitApiClient.getDayCandles(market, to, count);
         return ResponseEntity.ok(candles);
     }
     
     @GetMapping("/candles/minutes/{unit}")
     @Operation(summary = "분봉 조회", description = "특정 마켓의 분봉 데이터를 조회합니다.")
-    public ResponseEntity<List<Map<String, Object>>> getMinuteCandles(
+    public ResponseEntity<List<UpbitMarketCandleDto>> getMinuteCandles(
             @Parameter(description = "분 단위", example = "1")
             @PathVariable int unit,
             @Parameter(description = "마켓 코드", example = "KRW-BTC")
@@ -125,7 +137,7 @@ public class UpbitController {
             @RequestParam(required = false) String to,
             @Parameter(description = "캔들 개수")
             @RequestParam(defaultValue = "200") int count) {
-        List<Map<String, Object>> candles = upbitApiClient.getMinuteCandles(unit, market, to, count);
+        List<UpbitMarketCandleDto> candles = upbitApiClient.getMinuteCandles(unit, market, to, count);
         return ResponseEntity.ok(candles);
     }
     
@@ -134,7 +146,7 @@ public class UpbitController {
     public ResponseEntity<Map<String, Object>> testConnection() {
         try {
             // 공개 API로 마켓 정보 조회를 통해 연결 테스트
-            List<Map<String, Object>> markets = upbitApiClient.getMarkets();
+            List<UpbitMarketDto> markets = upbitApiClient.getMarkets();
             
             boolean isConnected = markets != null && !markets.isEmpty();
             
@@ -205,7 +217,7 @@ public class UpbitController {
     
     @GetMapping("/trades/ticks")
     @Operation(summary = "체결 내역 조회", description = "특정 마켓의 체결 내역을 조회합니다.")
-    public ResponseEntity<List<Map<String, Object>>> getTrades(
+    public ResponseEntity<List<UpbitTradeDto>> getTrades(
             @Parameter(description = "마켓 코드", example = "KRW-BTC")
             @RequestParam String market,
             @Parameter(description = "마지막 체결 시각")
@@ -214,7 +226,7 @@ public class UpbitController {
             @RequestParam(defaultValue = "200") int count,
             @Parameter(description = "페이지네이션 커서")
             @RequestParam(required = false) String cursor) {
-        List<Map<String, Object>> trades = upbitApiClient.getTrades(market, to, count, cursor);
+        List<UpbitTradeDto> trades = upbitApiClient.getTrades(market, to, count, cursor);
         return ResponseEntity.ok(trades);
     }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package com.autocoin.upbit.application;
+
+import com.autocoin.upbit.domain.entity.UpbitAccount;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복호화한 업비트 API 키 보관소 (계정 ID별)
+ * - 같은 계정의 반복 요청마다 AES-GCM 복호화를 두 번씩 하지 않도록 복호화 결과를 ttl-ms 동안 보관
+ * - secret key는 String이 아닌 byte[]로 보관하고 만료/무효화/종료 시 0으로 지움
+ * - 항목마다 JWT 서명기(UpbitRequestSigner)를 함께 만들고 항목이 폐기될 때 같이 폐기
+ * - 저장된 암호문과 다르면(다른 인스턴스에서 키 교체 등) 캐시를 버리고 다시 복호화
+ * - max-entries를 넘으면 만료 항목, 그래도 넘으면 가장 오래된 항목부터 제거
+ * - 메트릭: upbit.credential.vault{result=hit|miss}, upbit.credential.vault.size
+ */
+@Component
+public class UpbitCredentialVault {
+
+    private final UpbitCryptoService upbitCryptoService;
+    private final MeterRegistry meterRegistry;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<Long, UpbitCredentials> credentials = new ConcurrentHashMap<>();
+
+    public UpbitCredentialVault(UpbitCryptoService upbitCryptoService,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.upbit.credential-vault.ttl-ms:600000}") long ttlMillis,
+                                @Value("${app.upbit.credential-vault.max-entries:1000}") int maxEntries) {
+        this.upbitCryptoService = upbitCryptoService;
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = Math.max(1, maxEntries);
+
+        Gauge.builder("upbit.credential.vault.size", credentials, Map::size)
+            .description("Decrypted Upbit credentials held in memory")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 계정의 복호화된 API 키 (캐시에 없거나 만료/변경됐으면 복호화 후 보관)
+     */
+    public UpbitCredentials get(UpbitAccount account) {
+        return get(account, System.currentTimeMillis());
+    }
+
+    UpbitCredentials get(UpbitAccount account, long nowMillis) {
+        Long accountId = account.getId();
+        UpbitCredentials cached = accountId != null ? credentials.get(accountId) : null;
+        if (cached != null && cached.matches(account, nowMillis)) {
+            meterRegistry.counter("upbit.credential.vault", "result", "hit").increment();
+            return cached;
+        }
+
+        if (accountId == null) {
+            meterRegistry.counter("upbit.credential.vault", "result", "miss").increment();
+            return decrypt(account, nowMillis);
+        }
+
+        // 같은 계정의 동시 miss는 한 번만 복호화 (교체된 이전 키는 0으로 지움)
+        UpbitCredentials result = credentials.compute(accountId, (id, current) -> {
+            if (current != null && current.matches(account, nowMillis)) {
+                return current;
+            }
+            meterRegistry.counter("upbit.credential.vault", "result", "miss").increment();
+            if (current != null) {
+                current.destroy();
+            }
+            return decrypt(account, nowMillis);
+        });
+        if (credentials.size() > maxEntries) {
+            evict(nowMillis);
+        }
+        return result;
+    }
+
+    /**
+     * 계정 키 무효화 (연결/재연결/해제 시 호출)
+     */
+    public void invalidate(Long accountId) {
+        if (accountId == null) {
+            return;
+        }
+        UpbitCredentials removed = credentials.remove(accountId);
+        if (removed != null) {
+            removed.destroy();
+        }
+    }
+
+    /**
+     * 만료 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${app.upbit.credential-vault.sweep-interval-ms:60000}")
+    public void sweep() {
+        sweep(System.currentTimeMillis());
+    }
+
+    void sweep(long nowMillis) {
+        credentials.entrySet().removeIf(entry -> {
+            if (entry.getValue().isExpired(nowMillis)) {
+                entry.getValue().destroy();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    @PreDestroy
+    public void clear() {
+        credentials.values().forEach(UpbitCredentials::destroy);
+        credentials.clear();
+    }
+
+    private UpbitCredentials decrypt(UpbitAccount account, long nowMillis) {
+        String accessKey = upbitCryptoService.decrypt(account.getEncryptedAccessKey());
+        byte[] secretKey = upbitCryptoService.decryptToBytes(account.getEncryptedSecretKey());
+        return new UpbitCredentials(accessKey, secretKey, new UpbitRequestSigner(accessKey, secretKey),
+            account.getEncryptedAccessKey(), account.getEncryptedSecretKey(), nowMillis + ttlMillis);
+    }
+
+    private void evict(long nowMillis) {
+        sweep(nowMillis);
+        while (credentials.size() > maxEntries) {
+            credentials.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                .ifPresent(oldest -> {
+                    if (credentials.remove(oldest.getKey(), oldest.getValue())) {
+                        oldest.getValue().destroy();
+                    }
+                });
+        }
+    }
+
+    /**
+     * 복호화된 API 키 한 쌍
+     * - access key는 JWT payload에 그대로 실리는 식별자라 String으로 보관
+     * - secret key는 byte[]로 보관, destroy() 후에는 키와 서명기 모두 사용 불가
+     */
+    public static final class UpbitCredentials {
+
+        private final String accessKey;
+        private final byte[] secretKey;
+        private final UpbitRequestSigner signer;
+        private final String encryptedAccessKey;
+        private final String encryptedSecretKey;
+        private final long expiresAt;
+        private volatile boolean destroyed;
+
+        UpbitCredentials(String accessKey, byte[] secretKey, UpbitRequestSigner signer,
+                         String encryptedAccessKey, String encryptedSecretKey, long expiresAt) {
+            this.accessKey = accessKey;
+            this.secretKey = secretKey;
+            this.signer = signer;
+            this.encryptedAccessKey = encryptedAccessKey;
+            this.encryptedSecretKey = encryptedSecretKey;
+            this.expiresAt = expiresAt;
+        }
+
+        public String accessKey() {
+            return accessKey;
+        }
+
+        /**
+         * secret key 문자열 (호출마다 새로 만듦, 보관하지 말 것)
+         */
+        public synchronized String secretKey() {
+            if (destroyed) {
+                throw new IllegalStateException("업비트 API 키가 이미 폐기되었습니다.");
+            }
+            return new String(secretKey, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * 이 키 한 쌍의 JWT 서명기 (항목과 함께 폐기되므로 따로 보관하지 말 것)
+         */
+        public UpbitRequestSigner signer() {
+            return signer;
+        }
+
+        public boolean isDestroyed() {
+            return destroyed;
+        }
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAt;
+        }
+
+        boolean matches(UpbitAccount account, long nowMillis) {
+            return !destroyed && !isExpired(nowMillis)
+                && Objects.equals(encryptedAccessKey, account.getEncryptedAccessKey())
+                && Objects.equals(encryptedSecretKey, account.getEncryptedSecretKey());
+        }
+
+        synchronized void destroy() {
+            destroyed = true;
+            Arrays.fill(secretKey, (byte) 0);
+            signer.destroy();
+        }
+    }
+}
@@ -39,4 +39,16 @@ public class UpbitCryptoService {
             throw new RuntimeException("복호화 실패", e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 업비트 API 키 복호화 (바이트 배열, 사용 후 호출자가 0으로 지움)
+     */
+    public byte[] decryptToBytes(String encryptedText) {
+        try {
+            return aesUtil.decryptToBytes(encryptedText, encryptionKey);
+        } catch (Exception e) {
+            log.error("업비트 API 키 복호화 실패", e);
+            throw new RuntimeException("복호화 실패", e);
+        }
+    }
+}
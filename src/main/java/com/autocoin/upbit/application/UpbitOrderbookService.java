@@ -0,0 +1,176 @@
+package com.autocoin.upbit.application;
+
+import com.autocoin.global.exception.core.CustomException;
+import com.autocoin.global.exception.core.ErrorCode;
+import com.autocoin.upbit.domain.model.OrderBook;
+import com.autocoin.upbit.dto.response.OrderbookResponseDto;
+import com.autocoin.upbit.exception.UpbitApiException;
+import com.autocoin.upbit.infrastructure.OrderbookSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마켓별 로컬 호가 캐시
+ * - 조회 요청이 들어온 마켓만 OrderbookSource로 계속 갱신하고 idle-seconds 동안 요청이 없으면 제외
+ * - 처음 요청되거나 max-age-ms보다 오래된 마켓은 즉시 조회 후 응답 (실패 시 이전 호가가 있으면 그대로 응답)
+ * - Upbit가 돌려준 마켓만 갱신 대상에 넣음 (잘못된 마켓 코드가 일괄 조회 전체를 실패시키지 않도록)
+ * - 응답은 OrderBook에 미리 계산된 모아보기 배수 중 하나를 골라 depth개까지 잘라서 생성
+ * - 메트릭: upbit.orderbook.requests{result=memory|fetch}, upbit.orderbook.markets
+ */
+@Slf4j
+@Service
+public class UpbitOrderbookService {
+
+    private final OrderbookSource orderbookSource;
+    private final MeterRegistry meterRegistry;
+    private final long maxAgeMillis;
+    private final long idleMillis;
+
+    private final Map<String, OrderBook> books = new ConcurrentHashMap<>();
+    // 마켓별 마지막 조회 요청 시각
+    private final Map<String, Long> lastRequested = new ConcurrentHashMap<>();
+
+    public UpbitOrderbookService(OrderbookSource orderbookSource,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.upbit.orderbook.max-age-ms:2000}") long maxAgeMillis,
+                                 @Value("${app.upbit.orderbook.idle-seconds:60}") long idleSeconds) {
+        this.orderbookSource = orderbookSource;
+        this.meterRegistry = meterRegistry;
+        this.maxAgeMillis = maxAgeMillis;
+        this.idleMillis = idleSeconds * 1000;
+
+        Gauge.builder("upbit.orderbook.markets", books, Map::size)
+            .description("Markets kept in the local orderbook cache")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        orderbookSource.start(this::onOrderBook);
+    }
+
+    @PreDestroy
+    public void stop() {
+        orderbookSource.stop();
+    }
+
+    /**
+     * 호가 조회
+     * @param markets 마켓 코드 목록
+     * @param depth 호가 개수 상한
+     * @param grouping 모아보기 배수 (1 = 원본, app.upbit.orderbook.groupings 중 하나)
+     */
+    public List<OrderbookResponseDto> getOrderbooks(List<String> markets, int depth, int grouping) {
+        long now = System.currentTimeMillis();
+        List<String> normalized = markets.stream()
+            .map(market -> market.trim().toUpperCase(Locale.ROOT))
+            .filter(market -> !market.isEmpty())
+            .distinct()
+            .toList();
+
+        List<String> missing = new ArrayList<>();
+        for (String market : normalized) {
+            lastRequested.computeIfPresent(market, (key, last) -> now);
+            OrderBook book = books.get(market);
+            if (book == null || now - book.receivedAt() > maxAgeMillis) {
+                missing.add(market);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            meterRegistry.counter("upbit.orderbook.requests", "result", "memory").increment();
+        } else {
+            meterRegistry.counter("upbit.orderbook.requests", "result", "fetch").increment();
+            fetch(missing, now);
+        }
+
+        List<OrderbookResponseDto> response = new ArrayList<>(normalized.size());
+        for (String market : normalized) {
+            OrderBook book = books.get(market);
+            if (book != null) {
+                response.add(toResponse(book, depth, grouping));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * 요청이 끊긴 마켓을 갱신 대상에서 제외
+     */
+    @Scheduled(fixedDelayString = "${app.upbit.orderbook.sweep-interval-ms:10000}")
+    public void sweep() {
+        sweep(System.currentTimeMillis());
+    }
+
+    void sweep(long nowMillis) {
+        boolean removed = lastRequested.entrySet().removeIf(entry -> nowMillis - entry.getValue() > idleMillis);
+        if (removed) {
+            books.keySet().retainAll(lastRequested.keySet());
+            orderbookSource.updateMarkets(List.copyOf(lastRequested.keySet()));
+        }
+    }
+
+    void onOrderBook(OrderBook book) {
+        if (lastRequested.containsKey(book.market())) {
+            books.put(book.market(), book);
+        }
+    }
+
+    private void fetch(List<String> markets, long now) {
+        try {
+            boolean added = false;
+            for (OrderBook book : orderbookSource.fetch(markets)) {
+                books.put(book.market(), book);
+                added |= lastRequested.put(book.market(), now) == null;
+            }
+            if (added) {
+                orderbookSource.updateMarkets(List.copyOf(lastRequested.keySet()));
+            }
+        } catch (Exception e) {
+            if (markets.stream().allMatch(books::containsKey)) {
+                log.warn("Orderbook refresh failed, serving cached orderbook: {}", e.getMessage());
+                return;
+            }
+            if (e instanceof UpbitApiException upbitApiException) {
+                throw upbitApiException;
+            }
+            log.error("호가 정보 조회 실패: {}", e.getMessage());
+            throw new CustomException(ErrorCode.UPBIT_API_ERROR);
+        }
+    }
+
+    private static OrderbookResponseDto toResponse(OrderBook book, int depth, int grouping) {
+        OrderBook.Levels levels = book.levels(grouping);
+        if (levels == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 호가 모아보기 단위: " + grouping);
+        }
+
+        int rows = Math.max(0, Math.min(depth, Math.min(levels.askCount(), levels.bidCount())));
+        List<OrderbookResponseDto.Unit> units = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            units.add(new OrderbookResponseDto.Unit(levels.askPrice(i), levels.bidPrice(i),
+                levels.askSize(i), levels.bidSize(i)));
+        }
+
+        return OrderbookResponseDto.builder()
+            .market(book.market())
+            .timestamp(book.timestamp())
+            .totalAskSize(book.totalAskSize())
+            .totalBidSize(book.totalBidSize())
+            .level(levels.unit())
+            .orderbookUnits(units)
+            .build();
+    }
+}
@@ -0,0 +1,242 @@
+package com.autocoin.upbit.application;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 업비트 private API JWT 서명기 (API 키 한 쌍당 하나)
+ * - JWT 헤더와 payload 앞부분({"access_key":"...","nonce":")은 생성 시 한 번만 인코딩
+ * - 초기화된 Mac/SHA-512 MessageDigest와 payload/토큰 버퍼 묶음을 작은 풀에서 빌려 재사용 (String.format, Mac.getInstance 없음)
+ * - queryString이 있으면 query_hash(SHA-512 hex) + query_hash_alg 포함 (주문 등 파라미터 있는 요청)
+ * - 토큰 한 개당 할당은 결과 String 정도 (query_hash가 있으면 digest 배열 추가)
+ * - 수명은 UpbitCredentialVault 항목과 같음: destroy() 시 secret key를 0으로 지우고 풀의 Mac을 버림
+ */
+public final class UpbitRequestSigner {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final byte[] BEARER = "Bearer ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ENCODED_HEADER = Base64.getUrlEncoder().withoutPadding()
+        .encode("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+    private static final byte[] QUERY_HASH_PREFIX = "\",\"query_hash\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] QUERY_HASH_SUFFIX = "\",\"query_hash_alg\":\"SHA512\"}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NONCE_SUFFIX = "\"}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BASE64URL =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final int NONCE_LENGTH = 36;
+    private static final int SHA512_HEX_LENGTH = 128;
+    private static final int HMAC_SHA256_LENGTH = 32;
+    private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final String accessKey;
+    private final byte[] secretKey;
+    private final byte[] payloadPrefix;
+    private final int maxPayloadLength;
+    private final BlockingQueue<State> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+    private volatile boolean destroyed;
+
+    public UpbitRequestSigner(String accessKey, String secretKey) {
+        this(accessKey, secretKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param secretKey secret key 바이트 (복사해서 보관하므로 호출자가 원본을 지워도 됨)
+     */
+    public UpbitRequestSigner(String accessKey, byte[] secretKey) {
+        this.accessKey = accessKey;
+        this.secretKey = secretKey.clone();
+        this.payloadPrefix = ("{\"access_key\":\"" + accessKey + "\",\"nonce\":\"").getBytes(StandardCharsets.UTF_8);
+        this.maxPayloadLength = payloadPrefix.length + NONCE_LENGTH
+            + QUERY_HASH_PREFIX.length + SHA512_HEX_LENGTH + QUERY_HASH_SUFFIX.length;
+
+        // 키 형식 오류는 첫 요청이 아니라 생성 시점에 드러나도록 한 번 초기화
+        pool.offer(newState());
+    }
+
+    public String accessKey() {
+        return accessKey;
+    }
+
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
+    /**
+     * secret key를 0으로 지우고 풀의 초기화된 Mac을 버림 (이후 sign 불가)
+     */
+    public synchronized void destroy() {
+        destroyed = true;
+        pool.clear();
+        Arrays.fill(secretKey, (byte) 0);
+    }
+
+    /**
+     * Authorization 헤더 값 생성 ("Bearer " + JWT)
+     * @param queryString 요청 파라미터 (null/빈 값이면 query_hash 생략)
+     */
+    public String sign(String queryString) {
+        State current = borrow();
+        try {
+            return sign(current, queryString);
+        } finally {
+            // 폐기 후 돌아온 묶음은 버리고, 풀이 가득 차면(동시 요청 폭주) 남는 묶음도 버림
+            if (!destroyed) {
+                pool.offer(current);
+            }
+        }
+    }
+
+    private State borrow() {
+        if (destroyed) {
+            throw new IllegalStateException("업비트 API 키가 이미 폐기되었습니다.");
+        }
+        State current = pool.poll();
+        return current != null ? current : newState();
+    }
+
+    private String sign(State current, String queryString) {
+        byte[] payload = current.payload;
+
+        int length = writeBytes(payloadPrefix, payload, 0);
+        length = writeNonce(payload, length);
+        if (queryString != null && !queryString.isEmpty()) {
+            byte[] digest = current.sha512.digest(queryString.getBytes(StandardCharsets.UTF_8));
+            length = writeBytes(QUERY_HASH_PREFIX, payload, length);
+            length = writeHex(digest, payload, length);
+            length = writeBytes(QUERY_HASH_SUFFIX, payload, length);
+        } else {
+            length = writeBytes(NONCE_SUFFIX, payload, length);
+        }
+
+        // "Bearer " + header + "." + base64url(payload) 를 토큰 버퍼에 쓰고 그 구간을 서명
+        byte[] token = current.token;
+        int position = writeBytes(BEARER, token, 0);
+        int messageStart = position;
+        position = writeBytes(ENCODED_HEADER, token, position);
+        token[position++] = '.';
+        position = encode(payload, length, token, position);
+
+        Mac mac = current.mac;
+        mac.update(token, messageStart, position - messageStart);
+        byte[] signature = current.signature;
+        try {
+            mac.doFinal(signature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 실패", e);
+        }
+        token[position++] = '.';
+        position = encode(signature, signature.length, token, position);
+
+        return new String(token, 0, position, StandardCharsets.ISO_8859_1);
+    }
+
+    private synchronized State newState() {
+        if (destroyed) {
+            throw new IllegalStateException("업비트 API 키가 이미 폐기되었습니다.");
+        }
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secretKey, HMAC_ALGORITHM));
+            return new State(mac, MessageDigest.getInstance("SHA-512"), maxPayloadLength);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명기 초기화 실패", e);
+        }
+    }
+
+    /**
+     * base64url(패딩 없음) 인코딩을 dst[position]부터 기록
+     */
+    private static int encode(byte[] src, int length, byte[] dst, int position) {
+        int i = 0;
+        for (int end = length - length % 3; i < end; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[position++] = BASE64URL[bits >>> 18];
+            dst[position++] = BASE64URL[(bits >>> 12) & 0x3F];
+            dst[position++] = BASE64URL[(bits >>> 6) & 0x3F];
+            dst[position++] = BASE64URL[bits & 0x3F];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            dst[position++] = BASE64URL[bits >>> 18];
+            dst[position++] = BASE64URL[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[position++] = BASE64URL[bits >>> 18];
+            dst[position++] = BASE64URL[(bits >>> 12) & 0x3F];
+            dst[position++] = BASE64URL[(bits >>> 6) & 0x3F];
+        }
+        return position;
+    }
+
+    private static int writeBytes(byte[] src, byte[] dst, int position) {
+        System.arraycopy(src, 0, dst, position, src.length);
+        return position + src.length;
+    }
+
+    private static int writeHex(byte[] src, byte[] dst, int position) {
+        for (byte b : src) {
+            dst[position++] = HEX[(b >> 4) & 0xF];
+            dst[position++] = HEX[b & 0xF];
+        }
+        return position;
+    }
+
+    /**
+     * UUID v4 형식 nonce (중복 방지용이라 예측 불가능할 필요는 없어 공유 SecureRandom 대신 ThreadLocalRandom 사용)
+     */
+    private static int writeNonce(byte[] dst, int position) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        position = writeHexDigits(msb >>> 32, 8, dst, position);
+        dst[position++] = '-';
+        position = writeHexDigits(msb >>> 16, 4, dst, position);
+        dst[position++] = '-';
+        position = writeHexDigits(msb, 4, dst, position);
+        dst[position++] = '-';
+        position = writeHexDigits(lsb >>> 48, 4, dst, position);
+        dst[position++] = '-';
+        return writeHexDigits(lsb, 12, dst, position);
+    }
+
+    private static int writeHexDigits(long value, int digits, byte[] dst, int position) {
+        for (int i = digits - 1; i >= 0; i--) {
+            dst[position + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return position + digits;
+    }
+
+    private static int base64Length(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    /**
+     * 초기화된 Mac/MessageDigest + 재사용 버퍼 (한 번에 한 스레드만 사용)
+     */
+    private static final class State {
+
+        private final Mac mac;
+        private final MessageDigest sha512;
+        private final byte[] payload;
+        private final byte[] signature = new byte[HMAC_SHA256_LENGTH];
+        private final byte[] token;
+
+        private State(Mac mac, MessageDigest sha512, int maxPayloadLength) {
+            this.mac = mac;
+            this.sha512 = sha512;
+            this.payload = new byte[maxPayloadLength];
+            this.token = new byte[BEARER.length + ENCODED_HEADER.length + 1 + base64Length(maxPayloadLength)
+                + 1 + base64Length(HMAC_SHA256_LENGTH)];
+        }
+    }
+}
@@ -5,7 +5,6 @@ import com.autocoin.global.exception.core.ErrorCode;
 import com.autocoin.upbit.domain.UpbitAccountRepository;
 import com.autocoin.upbit.domain.entity.UpbitAccount;
 import com.autocoin.upbit.dto.UpbitAccountInfoDto;
-import com.autocoin.upbit.dto.UpbitTickerDto;
 import com.autocoin.upbit.dto.request.UpbitConnectRequestDto;
 import com.autocoin.upbit.dto.response.UpbitAccountStatusResponseDto;
 import com.autocoin.upbit.dto.response.UpbitConnectResponseDto;
@@ -34,6 +33,7 @@ public class UpbitService {
     private final UpbitApiClient upbitApiClient;
     private final UpbitCryptoService upbitCryptoService;
     private final UpbitAuthService upbitAuthService;
+    private final UpbitCredentialVault upbitCredentialVault;
     
     /**
      * API 키 유효성 검증 (공개 메서드)
@@ -149,6 +149,7 @@ public class UpbitService {
             }
             
             upbitAccountRepository.save(upbitAccount);
+            upbitCredentialVault.invalidate(upbitAccount.getId());
             
             return UpbitConnectResponseDto.builder()
                     .success(true)
@@ -209,12 +210,11 @@ public class UpbitService {
         }
         
         try {
-            // API 키 복호화
-            String accessKey = upbitCryptoService.decrypt(upbitAccount.getEncryptedAccessKey());
-            String secretKey = upbitCryptoService.decrypt(upbitAccount.getEncryptedSecretKey());
+            // API 키 복호화 (보관소에 있으면 재사용, 서명기도 항목과 함께 재사용)
+            UpbitCredentialVault.UpbitCredentials credentials = upbitCredentialVault.get(upbitAccount);
             
             // 업비트 API 호출
-            List<UpbitAccountInfoDto> accounts = upbitApiClient.getAccounts(accessKey, secretKey);
+            List<UpbitAccountInfoDto> accounts = upbitApiClient.getAccounts(credentials.signer());
             
             // 응답 DTO 변환
             return accounts.stream()
@@ -234,19 +234,6 @@ public class UpbitService {
         }
     }
     
-    /**
-     * 암호화폐 시세 조회
-     */
-    @Transactional(readOnly = true)
-    public List<UpbitTickerDto> getMarketTickers(List<String> markets) {
-        try {
-            return upbitApiClient.getTickers(markets);
-        } catch (Exception e) {
-            log.error("시세 정보 조회 실패: {}", e.getMessage());
-            throw new CustomException(ErrorCode.UPBIT_API_ERROR);
-        }
-    }
-    
     /**
      * 업비트 계정 연결 해제
      */
@@ -260,6 +247,7 @@ public class UpbitService {
         
         upbitAccount.deactivate();
         upbitAccountRepository.save(upbitAccount);
+        upbitCredentialVault.invalidate(upbitAccount.getId());
         
         log.info("사용자 {}의 업비트 계정 연결이 해제되었습니다.", userEmail);
     }
@@ -303,12 +291,11 @@ public class UpbitService {
                 upbitAccount.getAccountState(), upbitAccount.getLastSyncAt());
         
         try {
-            // API 키 복호화
-            String accessKey = upbitCryptoService.decrypt(upbitAccount.getEncryptedAccessKey());
-            String secretKey = upbitCryptoService.decrypt(upbitAccount.getEncryptedSecretKey());
+            // API 키 복호화 (보관소에 있으면 재사용)
+            UpbitCredentialVault.UpbitCredentials credentials = upbitCredentialVault.get(upbitAccount);
             
-            // API 키 유효성 재검증
-            boolean isValid = upbitAuthService.validateApiKeys(accessKey, secretKey);
+            // API 키 유효성 재검증 (보관소 서명기 사용, 비밀키 문자열을 만들지 않음)
+            boolean isValid = upbitAuthService.validateApiKeys(credentials.signer());
             
             if (isValid) {
                 upbitAccount.updateAccountState(UpbitAccount.AccountState.ACTIVE);
@@ -0,0 +1,194 @@
+package com.autocoin.upbit.application;
+
+import com.autocoin.global.exception.core.CustomException;
+import com.autocoin.global.exception.core.ErrorCode;
+import com.autocoin.upbit.dto.UpbitMarketDto;
+import com.autocoin.upbit.dto.UpbitTickerDto;
+import com.autocoin.upbit.exception.UpbitApiException;
+import com.autocoin.upbit.infrastructure.CoalescingUpbitApiClient;
+import com.autocoin.upbit.infrastructure.UpbitApiClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * KRW 마켓 전체 시세 스냅샷
+ * - 전용 스레드가 refresh-interval-ms마다 KRW 마켓 전체를 한 번의 /v1/ticker 호출로 갱신
+ * - 갱신 결과는 불변 Snapshot으로 만들어 AtomicReference로 교체 (조회 쪽은 잠금 없이 읽음)
+ * - 요청한 마켓이 모두 스냅샷에 있고 max-age-ms 이내면 메모리에서 응답, 아니면 Upbit 조회로 대체
+ * - 메트릭: upbit.ticker.snapshot.age, upbit.ticker.snapshot.markets, upbit.ticker.snapshot.refresh,
+ *   upbit.ticker.snapshot.requests{result=memory|fallback}
+ */
+@Slf4j
+@Service
+public class UpbitTickerSnapshotService {
+
+    private static final String KRW_PREFIX = "KRW-";
+
+    private final UpbitApiClient upbitApiClient;
+    private final CoalescingUpbitApiClient coalescingUpbitApiClient;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long refreshIntervalMillis;
+    private final long maxAgeMillis;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private final Timer refreshTimer;
+
+    private ScheduledExecutorService executor;
+
+    public UpbitTickerSnapshotService(UpbitApiClient upbitApiClient,
+                                      CoalescingUpbitApiClient coalescingUpbitApiClient,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.upbit.ticker-snapshot.enabled:true}") boolean enabled,
+                                      @Value("${app.upbit.ticker-snapshot.refresh-interval-ms:1000}") long refreshIntervalMillis,
+                                      @Value("${app.upbit.ticker-snapshot.max-age-ms:5000}") long maxAgeMillis) {
+        this.upbitApiClient = upbitApiClient;
+        this.coalescingUpbitApiClient = coalescingUpbitApiClient;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.refreshIntervalMillis = Math.max(100, refreshIntervalMillis);
+        this.maxAgeMillis = maxAgeMillis;
+
+        this.refreshTimer = Timer.builder("upbit.ticker.snapshot.refresh")
+            .description("KRW ticker snapshot refresh duration")
+            .register(meterRegistry);
+        TimeGauge.builder("upbit.ticker.snapshot.age", snapshot, TimeUnit.MILLISECONDS,
+                ref -> ref.get().refreshedAt() > 0 ? System.currentTimeMillis() - ref.get().refreshedAt() : Double.NaN)
+            .description("Age of the in-memory ticker snapshot")
+            .register(meterRegistry);
+        Gauge.builder("upbit.ticker.snapshot.markets", snapshot, ref -> ref.get().tickers().size())
+            .description("Markets in the in-memory ticker snapshot")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Ticker snapshot refresh disabled");
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ticker-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Ticker snapshot refresh started every {}ms", refreshIntervalMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 현재 스냅샷
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * 마켓별 시세 조회 (요청 순서 유지)
+     */
+    public List<UpbitTickerDto> getTickers(List<String> markets) {
+        List<String> normalized = markets.stream()
+            .map(market -> market.trim().toUpperCase(Locale.ROOT))
+            .filter(market -> !market.isEmpty())
+            .toList();
+
+        Snapshot current = snapshot.get();
+        if (current.ageMillis(System.currentTimeMillis()) <= maxAgeMillis && current.containsAll(normalized)) {
+            meterRegistry.counter("upbit.ticker.snapshot.requests", "result", "memory").increment();
+            List<UpbitTickerDto> tickers = new ArrayList<>(normalized.size());
+            for (String market : normalized) {
+                tickers.add(current.tickers().get(market));
+            }
+            return tickers;
+        }
+
+        meterRegistry.counter("upbit.ticker.snapshot.requests", "result", "fallback").increment();
+        try {
+            return coalescingUpbitApiClient.getTickers(normalized);
+        } catch (UpbitApiException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("시세 정보 조회 실패: {}", e.getMessage());
+            throw new CustomException(ErrorCode.UPBIT_API_ERROR);
+        }
+    }
+
+    /**
+     * KRW 마켓 전체 시세 갱신 (실패 시 이전 스냅샷 유지)
+     */
+    void refresh() {
+        try {
+            List<String> markets = coalescingUpbitApiClient.getMarkets().stream()
+                .map(UpbitMarketDto::market)
+                .filter(market -> market != null && market.startsWith(KRW_PREFIX))
+                .toList();
+            if (markets.isEmpty()) {
+                return;
+            }
+
+            long started = System.nanoTime();
+            List<UpbitTickerDto> tickers = upbitApiClient.getTickers(markets);
+            long refreshedAt = System.currentTimeMillis();
+            refreshTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+            Map<String, UpbitTickerDto> byMarket = new LinkedHashMap<>(tickers.size() * 2);
+            for (UpbitTickerDto ticker : tickers) {
+                if (ticker != null && ticker.getMarket() != null) {
+                    byMarket.put(ticker.getMarket(), ticker);
+                }
+            }
+            snapshot.set(new Snapshot(Map.copyOf(byMarket), refreshedAt));
+
+        } catch (Exception e) {
+            meterRegistry.counter("upbit.ticker.snapshot.refresh.errors").increment();
+            log.warn("Ticker snapshot refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 불변 시세 스냅샷
+     * @param tickers 마켓 코드별 시세
+     * @param refreshedAt 갱신 시각 (epoch millis, 0이면 아직 없음)
+     */
+    public record Snapshot(Map<String, UpbitTickerDto> tickers, long refreshedAt) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), 0);
+
+        public long ageMillis(long nowMillis) {
+            return refreshedAt > 0 ? nowMillis - refreshedAt : Long.MAX_VALUE;
+        }
+
+        boolean containsAll(List<String> markets) {
+            for (String market : markets) {
+                if (!tickers.containsKey(market)) {
+                    return false;
+                }
+            }
+            return !markets.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.autocoin.upbit.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * 마켓 호가 (불변, primitive 배열)
+ * - 매도 호가는 가격 오름차순, 매수 호가는 가격 내림차순 (둘 다 최우선 호가가 0번)
+ * - 생성 시 호가 모아보기 단위(기본 호가 단위의 배수)별 집계를 미리 계산해 조회 시 추가 연산/할당 없음
+ * - 기본 호가 단위는 인접 호가 가격 차이의 최솟값으로 추정
+ */
+public final class OrderBook {
+
+    // 부동소수점 나눗셈 오차 보정 (예: 1.23 / 0.01 = 122.99999...)
+    private static final double EPSILON = 1e-9;
+    private static final double PRICE_ROUNDING = 1e8;
+
+    private final String market;
+    private final long timestamp;
+    private final long receivedAt;
+    private final double totalAskSize;
+    private final double totalBidSize;
+    private final double tickSize;
+    private final int[] groupings;
+    private final Levels[] levels;
+
+    private OrderBook(String market, long timestamp, long receivedAt, double totalAskSize, double totalBidSize,
+                      double tickSize, int[] groupings, Levels[] levels) {
+        this.market = market;
+        this.timestamp = timestamp;
+        this.receivedAt = receivedAt;
+        this.totalAskSize = totalAskSize;
+        this.totalBidSize = totalBidSize;
+        this.tickSize = tickSize;
+        this.groupings = groupings;
+        this.levels = levels;
+    }
+
+    /**
+     * 호가 생성 + 모아보기 집계
+     * @param timestamp 호가 시각 (epoch millis, Upbit 기준)
+     * @param askPrices 매도 호가 (오름차순, 배열은 그대로 보관하므로 이후 수정 금지)
+     * @param groupings 미리 계산할 모아보기 배수 (1 = 원본)
+     */
+    public static OrderBook of(String market, long timestamp, double totalAskSize, double totalBidSize,
+                               double[] askPrices, double[] askSizes, double[] bidPrices, double[] bidSizes,
+                               int[] groupings) {
+        double tickSize = inferTickSize(askPrices, bidPrices);
+        Levels raw = new Levels(tickSize, askPrices, askSizes, bidPrices, bidSizes);
+
+        int[] sorted = Arrays.stream(groupings).filter(g -> g > 0).distinct().sorted().toArray();
+        Levels[] levels = new Levels[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            levels[i] = sorted[i] == 1 || tickSize <= 0 ? raw : raw.aggregate(tickSize * sorted[i]);
+        }
+        return new OrderBook(market, timestamp, System.currentTimeMillis(), totalAskSize, totalBidSize,
+            tickSize, sorted, levels);
+    }
+
+    public String market() {
+        return market;
+    }
+
+    public long timestamp() {
+        return timestamp;
+    }
+
+    /**
+     * 이 노드가 호가를 받은 시각 (epoch millis)
+     */
+    public long receivedAt() {
+        return receivedAt;
+    }
+
+    public double totalAskSize() {
+        return totalAskSize;
+    }
+
+    public double totalBidSize() {
+        return totalBidSize;
+    }
+
+    public double tickSize() {
+        return tickSize;
+    }
+
+    /**
+     * 미리 계산된 모아보기 배수 (오름차순)
+     */
+    public int[] groupings() {
+        return groupings.clone();
+    }
+
+    /**
+     * 모아보기 배수별 호가
+     * @return 미리 계산하지 않은 배수면 null
+     */
+    public Levels levels(int grouping) {
+        int index = Arrays.binarySearch(groupings, grouping);
+        return index >= 0 ? levels[index] : null;
+    }
+
+    private static double inferTickSize(double[] askPrices, double[] bidPrices) {
+        double tick = Double.MAX_VALUE;
+        for (int i = 1; i < askPrices.length; i++) {
+            tick = positiveMin(tick, askPrices[i] - askPrices[i - 1]);
+        }
+        for (int i = 1; i < bidPrices.length; i++) {
+            tick = positiveMin(tick, bidPrices[i - 1] - bidPrices[i]);
+        }
+        if (askPrices.length > 0 && bidPrices.length > 0) {
+            tick = positiveMin(tick, askPrices[0] - bidPrices[0]);
+        }
+        return tick == Double.MAX_VALUE ? 0 : round(tick);
+    }
+
+    private static double positiveMin(double current, double diff) {
+        return diff > EPSILON ? Math.min(current, diff) : current;
+    }
+
+    private static double round(double price) {
+        return Math.round(price * PRICE_ROUNDING) / PRICE_ROUNDING;
+    }
+
+    /**
+     * 한 모아보기 단위의 매도/매수 호가
+     */
+    public static final class Levels {
+
+        private final double unit;
+        private final double[] askPrices;
+        private final double[] askSizes;
+        private final double[] bidPrices;
+        private final double[] bidSizes;
+
+        private Levels(double unit, double[] askPrices, double[] askSizes, double[] bidPrices, double[] bidSizes) {
+            this.unit = unit;
+            this.askPrices = askPrices;
+            this.askSizes = askSizes;
+            this.bidPrices = bidPrices;
+            this.bidSizes = bidSizes;
+        }
+
+        /**
+         * 모아보기 가격 단위 (원본이면 기본 호가 단위)
+         */
+        public double unit() {
+            return unit;
+        }
+
+        public int askCount() {
+            return askPrices.length;
+        }
+
+        public int bidCount() {
+            return bidPrices.length;
+        }
+
+        public double askPrice(int index) {
+            return askPrices[index];
+        }
+
+        public double askSize(int index) {
+            return askSizes[index];
+        }
+
+        public double bidPrice(int index) {
+            return bidPrices[index];
+        }
+
+        public double bidSize(int index) {
+            return bidSizes[index];
+        }
+
+        /**
+         * 가격 단위로 모아보기 (매도는 올림, 매수는 내림 구간으로 합산)
+         */
+        private Levels aggregate(double bucket) {
+            double[] aggregatedAskPrices = new double[askPrices.length];
+            double[] aggregatedAskSizes = new double[askPrices.length];
+            int asks = merge(askPrices, askSizes, bucket, true, aggregatedAskPrices, aggregatedAskSizes);
+
+            double[] aggregatedBidPrices = new double[bidPrices.length];
+            double[] aggregatedBidSizes = new double[bidPrices.length];
+            int bids = merge(bidPrices, bidSizes, bucket, false, aggregatedBidPrices, aggregatedBidSizes);
+
+            return new Levels(round(bucket),
+                Arrays.copyOf(aggregatedAskPrices, asks), Arrays.copyOf(aggregatedAskSizes, asks),
+                Arrays.copyOf(aggregatedBidPrices, bids), Arrays.copyOf(aggregatedBidSizes, bids));
+        }
+
+        private static int merge(double[] prices, double[] sizes, double bucket, boolean ceil,
+                                 double[] outPrices, double[] outSizes) {
+            int count = 0;
+            for (int i = 0; i < prices.length; i++) {
+                double steps = prices[i] / bucket;
+                double grouped = round((ceil ? Math.ceil(steps - EPSILON) : Math.floor(steps + EPSILON)) * bucket);
+                if (count > 0 && outPrices[count - 1] == grouped) {
+                    outSizes[count - 1] += sizes[i];
+                } else {
+                    outPrices[count] = grouped;
+                    outSizes[count] = sizes[i];
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.autocoin.upbit.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 업비트 일봉/분봉 캔들 (/v1/candles/days, /v1/candles/minutes/{unit}, snake_case 필드명 유지)
+ * - unit은 분봉, prevClosingPrice/changePrice/changeRate/convertedTradePrice는 일봉에만 있음 (없으면 생략)
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "업비트 캔들")
+public record UpbitMarketCandleDto(
+        String market,
+        String candleDateTimeUtc,
+        String candleDateTimeKst,
+        double openingPrice,
+        double highPrice,
+        double lowPrice,
+        double tradePrice,
+        long timestamp, // 마지막 틱 저장 시각 (epoch millis)
+        double candleAccTradePrice,
+        double candleAccTradeVolume,
+        Integer unit,
+        Double prevClosingPrice,
+        Double changePrice,
+        Double changeRate,
+        Double convertedTradePrice
+) {
+}
@@ -0,0 +1,20 @@
+package com.autocoin.upbit.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 업비트 마켓 코드 (/v1/market/all, snake_case 필드명 유지)
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "업비트 마켓 코드")
+public record UpbitMarketDto(
+        String market,
+        String koreanName,
+        String englishName,
+        String marketWarning // 유의 종목 여부 (응답에 있을 때만)
+) {
+}
@@ -0,0 +1,18 @@
+package com.autocoin.upbit.dto;
+
+/**
+ * 업비트 호가 (/v1/orderbook 파싱 결과)
+ * - 호가 단위는 primitive 배열로 보관 (0번이 최우선 호가), 배열은 읽기 전용으로 다룸
+ * - API 응답에는 OrderbookResponseDto 사용
+ */
+public record UpbitOrderbookDto(
+        String market,
+        long timestamp,
+        double totalAskSize,
+        double totalBidSize,
+        double[] askPrices,
+        double[] askSizes,
+        double[] bidPrices,
+        double[] bidSizes
+) {
+}
@@ -1,5 +1,6 @@
 package com.autocoin.upbit.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -64,20 +65,26 @@ public class UpbitTickerDto {
     private BigDecimal accTradeVolume;
     
     @Schema(description = "체결 누적 거래대금(24시간)")
+    @JsonAlias("acc_trade_price_24h")
     private BigDecimal accTradePrice24h;
     
     @Schema(description = "체결 누적 거래량(24시간)")
+    @JsonAlias("acc_trade_volume_24h")
     private BigDecimal accTradeVolume24h;
     
     @Schema(description = "52주 신고가")
+    @JsonAlias("highest_52_week_price")
     private BigDecimal highest52WeekPrice;
     
     @Schema(description = "52주 신고가 달성일")
+    @JsonAlias("highest_52_week_date")
     private String highest52WeekDate;
     
     @Schema(description = "52주 신저가")
+    @JsonAlias("lowest_52_week_price")
     private BigDecimal lowest52WeekPrice;
     
     @Schema(description = "52주 신저가 달성일")
+    @JsonAlias("lowest_52_week_date")
     private String lowest52WeekDate;
 }
\ No newline at end of file
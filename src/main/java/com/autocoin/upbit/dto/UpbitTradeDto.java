@@ -0,0 +1,24 @@
+package com.autocoin.upbit.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 업비트 체결 내역 (/v1/trades/ticks, snake_case 필드명 유지)
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "업비트 체결 내역")
+public record UpbitTradeDto(
+        String market,
+        String tradeDateUtc,
+        String tradeTimeUtc,
+        long timestamp, // 체결 시각 (epoch millis)
+        double tradePrice,
+        double tradeVolume,
+        double prevClosingPrice,
+        double changePrice,
+        String askBid, // ASK 매도, BID 매수
+        long sequentialId // 체결 번호 (유일하지만 순서 보장은 안 됨)
+) {
+}
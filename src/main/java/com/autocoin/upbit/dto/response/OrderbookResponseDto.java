@@ -0,0 +1,60 @@
+package com.autocoin.upbit.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 호가 응답 (Upbit /v1/orderbook 응답과 같은 snake_case 필드명 유지)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "호가 정보 응답")
+public class OrderbookResponseDto {
+
+    @Schema(description = "마켓 코드")
+    private String market;
+
+    @Schema(description = "호가 생성 시각 (epoch millis)")
+    private long timestamp;
+
+    @Schema(description = "호가 매도 총 잔량")
+    private double totalAskSize;
+
+    @Schema(description = "호가 매수 총 잔량")
+    private double totalBidSize;
+
+    @Schema(description = "호가 모아보기 가격 단위")
+    private double level;
+
+    @Schema(description = "호가 목록 (최우선 호가부터)")
+    private List<Unit> orderbookUnits;
+
+    @Getter
+    @AllArgsConstructor
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    @Schema(description = "호가 단위")
+    public static class Unit {
+
+        @Schema(description = "매도 호가")
+        private final double askPrice;
+
+        @Schema(description = "매수 호가")
+        private final double bidPrice;
+
+        @Schema(description = "매도 잔량")
+        private final double askSize;
+
+        @Schema(description = "매수 잔량")
+        private final double bidSize;
+    }
+}
@@ -0,0 +1,178 @@
+package com.autocoin.upbit.infrastructure;
+
+import com.autocoin.upbit.dto.UpbitMarketCandleDto;
+import com.autocoin.upbit.dto.UpbitMarketDto;
+import com.autocoin.upbit.dto.UpbitOrderbookDto;
+import com.autocoin.upbit.dto.UpbitTickerDto;
+import com.autocoin.upbit.dto.UpbitTradeDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Upbit 공개 시세 API 요청 병합 + 단기 캐시 (UpbitApiClient 앞단)
+ * - 같은 요청이 동시에 들어오면 첫 요청만 Upbit을 호출하고 나머지는 같은 in-flight future 결과를 공유 (single-flight)
+ * - 성공 응답은 엔드포인트별 짧은 TTL 동안 재사용, 실패는 캐시하지 않음 (대기 중이던 요청은 같은 예외를 받음)
+ * - 결과 리스트는 요청 간 공유되므로 읽기 전용
+ * - 캐시 키는 요청 파라미터 그대로라 max-entries를 넘으면 만료 항목부터 정리
+ * - 메트릭: upbit.api.cache{endpoint, result=hit|coalesced|miss}, upbit.api.cache.size
+ */
+@Slf4j
+@Component
+public class CoalescingUpbitApiClient {
+
+    private final UpbitApiClient upbitApiClient;
+    private final MeterRegistry meterRegistry;
+    private final long marketsTtlNanos;
+    private final long tickerTtlNanos;
+    private final long orderbookTtlNanos;
+    private final long candlesTtlNanos;
+    private final long tradesTtlNanos;
+    private final int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public CoalescingUpbitApiClient(UpbitApiClient upbitApiClient,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.upbit.api.cache.markets-ttl-ms:60000}") long marketsTtlMillis,
+                                    @Value("${app.upbit.api.cache.ticker-ttl-ms:1000}") long tickerTtlMillis,
+                                    @Value("${app.upbit.api.cache.orderbook-ttl-ms:300}") long orderbookTtlMillis,
+                                    @Value("${app.upbit.api.cache.candles-ttl-ms:1000}") long candlesTtlMillis,
+                                    @Value("${app.upbit.api.cache.trades-ttl-ms:500}") long tradesTtlMillis,
+                                    @Value("${app.upbit.api.cache.max-entries:10000}") int maxEntries) {
+        this.upbitApiClient = upbitApiClient;
+        this.meterRegistry = meterRegistry;
+        this.marketsTtlNanos = TimeUnit.MILLISECONDS.toNanos(marketsTtlMillis);
+        this.tickerTtlNanos = TimeUnit.MILLISECONDS.toNanos(tickerTtlMillis);
+        this.orderbookTtlNanos = TimeUnit.MILLISECONDS.toNanos(orderbookTtlMillis);
+        this.candlesTtlNanos = TimeUnit.MILLISECONDS.toNanos(candlesTtlMillis);
+        this.tradesTtlNanos = TimeUnit.MILLISECONDS.toNanos(tradesTtlMillis);
+        this.maxEntries = Math.max(1, maxEntries);
+
+        Gauge.builder("upbit.api.cache.size", entries, Map::size)
+            .description("Cached or in-flight Upbit public API responses")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 마켓 코드 조회
+     */
+    public List<UpbitMarketDto> getMarkets() {
+        return load("markets", "markets", marketsTtlNanos, upbitApiClient::getMarkets);
+    }
+
+    /**
+     * 시세 정보 조회
+     */
+    public List<UpbitTickerDto> getTickers(List<String> markets) {
+        return load("ticker", "ticker:" + String.join(",", markets), tickerTtlNanos,
+            () -> upbitApiClient.getTickers(markets));
+    }
+
+    /**
+     * 호가 정보 조회
+     */
+    public List<UpbitOrderbookDto> getOrderbook(List<String> markets) {
+        return load("orderbook", "orderbook:" + String.join(",", markets), orderbookTtlNanos,
+            () -> upbitApiClient.getOrderbook(markets));
+    }
+
+    /**
+     * 캔들 조회 (일봉)
+     */
+    public List<UpbitMarketCandleDto> getDayCandles(String market, String to, int count) {
+        return load("candles", "days:" + market + ":" + to + ":" + count, candlesTtlNanos,
+            () -> upbitApiClient.getDayCandles(market, to, count));
+    }
+
+    /**
+     * 분봉 조회
+     */
+    public List<UpbitMarketCandleDto> getMinuteCandles(int unit, String market, String to, int count) {
+        return load("candles", "minutes/" + unit + ":" + market + ":" + to + ":" + count, candlesTtlNanos,
+            () -> upbitApiClient.getMinuteCandles(unit, market, to, count));
+    }
+
+    /**
+     * 체결 내역 조회
+     */
+    public List<UpbitTradeDto> getTrades(String market, String to, int count, String cursor) {
+        return load("trades", "trades:" + market + ":" + to + ":" + count + ":" + cursor, tradesTtlNanos,
+            () -> upbitApiClient.getTrades(market, to, count, cursor));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> load(String endpoint, String key, long ttlNanos, Supplier<List<T>> loader) {
+        long now = System.nanoTime();
+        Entry created = new Entry();
+        Entry entry = entries.compute(key, (k, current) ->
+            current != null && (!current.future.isDone() || current.isFresh(now)) ? current : created);
+
+        if (entry != created) {
+            boolean inFlight = !entry.future.isDone();
+            meterRegistry.counter("upbit.api.cache", "endpoint", endpoint, "result", inFlight ? "coalesced" : "hit").increment();
+            try {
+                return (List<T>) entry.future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        meterRegistry.counter("upbit.api.cache", "endpoint", endpoint, "result", "miss").increment();
+        if (entries.size() > maxEntries) {
+            evictExpired(now);
+        }
+
+        try {
+            List<T> result = loader.get();
+            List<T> shared = result != null ? Collections.unmodifiableList(result) : null;
+            created.expiresAt = System.nanoTime() + ttlNanos;
+            created.future.complete(shared);
+            return shared;
+        } catch (Throwable e) {
+            // Error(OOM 등)도 in-flight future를 완료시켜야 대기 중인 요청이 영원히 막히지 않음
+            entries.remove(key, created);
+            created.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void evictExpired(long now) {
+        entries.entrySet().removeIf(e -> e.getValue().future.isDone() && !e.getValue().isFresh(now));
+        if (entries.size() > maxEntries) {
+            log.warn("Upbit API cache exceeded {} entries after eviction, clearing completed entries", maxEntries);
+            entries.entrySet().removeIf(e -> e.getValue().future.isDone());
+        }
+    }
+
+    /**
+     * 요청 키별 in-flight future + 만료 시각 (완료 후 설정)
+     */
+    private static final class Entry {
+
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long expiresAt;
+
+        boolean isFresh(long now) {
+            return future.isDone() && !future.isCompletedExceptionally() && expiresAt - now > 0;
+        }
+    }
+}
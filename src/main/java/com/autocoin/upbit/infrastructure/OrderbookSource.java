@@ -0,0 +1,40 @@
+package com.autocoin.upbit.infrastructure;
+
+import com.autocoin.upbit.domain.model.OrderBook;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 호가 공급원 (app.upbit.orderbook.source로 선택)
+ * - polling: Upbit 호가 API 일괄 주기 조회 (UpbitOrderbookPollingSource)
+ * - 웹소켓 등 스트림 공급원은 같은 인터페이스로 추가
+ */
+public interface OrderbookSource {
+
+    /**
+     * 호가 공급 시작
+     * @param sink 호가 수신 처리기 (마켓별 최신 호가)
+     */
+    void start(Consumer<OrderBook> sink);
+
+    /**
+     * 공급 중인 대상 마켓 교체 (조회 요청이 있는 마켓)
+     * @param markets 새 대상 마켓
+     */
+    void updateMarkets(List<String> markets);
+
+    /**
+     * 즉시 1회 조회 (아직 공급되지 않은 마켓의 첫 요청)
+     * - 기본 구현은 빈 결과 (스트림 공급원은 다음 수신을 기다림)
+     * @param markets 대상 마켓
+     */
+    default List<OrderBook> fetch(List<String> markets) {
+        return List.of();
+    }
+
+    /**
+     * 호가 공급 중지
+     */
+    void stop();
+}
@@ -1,12 +1,23 @@
 package com.autocoin.upbit.infrastructure;
 
-import com.autocoin.upbit.application.UpbitAuthService;
+import com.autocoin.upbit.application.UpbitRequestSigner;
 import com.autocoin.upbit.dto.UpbitAccountInfoDto;
+import com.autocoin.upbit.dto.UpbitMarketCandleDto;
+import com.autocoin.upbit.dto.UpbitMarketDto;
+import com.autocoin.upbit.dto.UpbitOrderbookDto;
 import com.autocoin.upbit.dto.UpbitTickerDto;
+import com.autocoin.upbit.dto.UpbitTradeDto;
+import com.autocoin.upbit.exception.UpbitApiException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -16,10 +27,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -27,20 +38,31 @@ import java.util.stream.Collectors;
 @Slf4j
 public class UpbitApiClient {
     
+    @Qualifier("upbitRestTemplate")
     private final RestTemplate restTemplate;
-    private final UpbitAuthService upbitAuthService;
     private final ObjectMapper objectMapper;
     
     @Value("${app.upbit.api.url}")
     private String upbitApiUrl;
     
+    // Upbit 시세 응답(snake_case) → UpbitTickerDto(camelCase), 새로 추가되는 필드는 무시
+    private ObjectReader tickerReader;
+    
+    @PostConstruct
+    void initReaders() {
+        tickerReader = objectMapper.copy()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readerFor(new TypeReference<List<UpbitTickerDto>>() {});
+    }
+    
     /**
-     * 계정 정보 조회
+     * 계정 정보 조회 (보관소 항목의 서명기 재사용)
      */
-    public List<UpbitAccountInfoDto> getAccounts(String accessKey, String secretKey) {
+    public List<UpbitAccountInfoDto> getAccounts(UpbitRequestSigner signer) {
         try {
             String url = upbitApiUrl + "/v1/accounts";
-            String authToken = upbitAuthService.generateAuthorizationToken(accessKey, secretKey, null);
+            String authToken = signer.sign(null);
             
             HttpHeaders headers = new HttpHeaders();
             headers.set("Authorization", authToken);
@@ -51,6 +73,8 @@ public class UpbitApiClient {
             
             return objectMapper.readValue(response.getBody(), new TypeReference<List<UpbitAccountInfoDto>>() {});
             
+        } catch (UpbitApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("계정 정보 조회 API 호출 실패", e);
             throw new RuntimeException("계정 정보 조회 실패", e);
@@ -60,13 +84,14 @@ public class UpbitApiClient {
     /**
      * 마켓 코드 조회
      */
-    public List<Map<String, Object>> getMarkets() {
+    public List<UpbitMarketDto> getMarkets() {
         try {
             String url = upbitApiUrl + "/v1/market/all";
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            return objectMapper.readValue(response.getBody(), new TypeReference<List<Map<String, Object>>>() {});
+            return stream(url, UpbitResponseParser::markets);
             
+        } catch (UpbitApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("마켓 코드 조회 API 호출 실패", e);
             throw new RuntimeException("마켓 코드 조회 실패", e);
@@ -87,8 +112,10 @@ public class UpbitApiClient {
                     .toUriString();
             
             ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            return objectMapper.readValue(response.getBody(), new TypeReference<List<UpbitTickerDto>>() {});
+            return tickerReader.readValue(response.getBody());
             
+        } catch (UpbitApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("시세 정보 조회 API 호출 실패", e);
             throw new RuntimeException("시세 정보 조회 실패", e);
@@ -98,7 +125,7 @@ public class UpbitApiClient {
     /**
      * 호가 정보 조회
      */
-    public List<Map<String, Object>> getOrderbook(List<String> markets) {
+    public List<UpbitOrderbookDto> getOrderbook(List<String> markets) {
         try {
             String marketsParam = markets.stream()
                     .map(market -> URLEncoder.encode(market, StandardCharsets.UTF_8))
@@ -108,9 +135,10 @@ public class UpbitApiClient {
                     .queryParam("markets", marketsParam)
                     .toUriString();
             
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            return objectMapper.readValue(response.getBody(), new TypeReference<List<Map<String, Object>>>() {});
+            return stream(url, UpbitResponseParser::orderbooks);
             
+        } catch (UpbitApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("호가 정보 조회 API 호출 실패", e);
             throw new RuntimeException("호가 정보 조회 실패", e);
@@ -120,7 +148,7 @@ public class UpbitApiClient {
     /**
      * 캔들 조회 (일봉)
      */
-    public List<Map<String, Object>> getDayCandles(String market, String to, int count) {
+    public List<UpbitMarketCandleDto> getDayCandles(String market, String to, int count) {
         try {
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(upbitApiUrl + "/v1/candles/days")
                     .queryParam("market", market)
@@ -131,9 +159,10 @@ public class UpbitApiClient {
             }
             
             String url = builder.toUriString();
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            return objectMapper.readValue(response.getBody(), new TypeReference<List<Map<String, Object>>>() {});
+            return stream(url, UpbitResponseParser::candles);
             
+        } catch (UpbitApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("일봉 조회 API 호출 실패", e);
             throw new RuntimeException("일봉 조회 실패", e);
@@ -143,7 +172,7 @@ public class UpbitApiClient {
     /**
      * 분봉 조회
      */
-    public List<Map<String, Object>> getMinuteCandles(int unit, String market, String to, int count) {
+    public List<UpbitMarketCandleDto> getMinuteCandles(int unit, String market, String to, int count) {
         try {
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(upbitApiUrl + "/v1/candles/minutes/" + unit)
                     .queryParam("market", market)
@@ -154,9 +183,10 @@ public class UpbitApiClient {
             }
             
             String url = builder.toUriString();
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            return objectMapper.readValue(response.getBody(), new TypeReference<List<Map<String, Object>>>() {});
+            return stream(url, UpbitResponseParser::candles);
             
+        } catch (UpbitApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("분봉 조회 API 호출 실패", e);
             throw new RuntimeException("분봉 조회 실패", e);
@@ -166,7 +196,7 @@ public class UpbitApiClient {
     /**
      * 체결 내역 조회
      */
-    public List<Map<String, Object>> getTrades(String market, String to, int count, String cursor) {
+    public List<UpbitTradeDto> getTrades(String market, String to, int count, String cursor) {
         try {
             UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(upbitApiUrl + "/v1/trades/ticks")
                     .queryParam("market", market)
@@ -180,12 +210,29 @@ public class UpbitApiClient {
             }
             
             String url = builder.toUriString();
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            return objectMapper.readValue(response.getBody(), new TypeReference<List<Map<String, Object>>>() {});
+            return stream(url, UpbitResponseParser::trades);
             
+        } catch (UpbitApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("체결 내역 조회 API 호출 실패", e);
             throw new RuntimeException("체결 내역 조회 실패", e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * GET 응답 본문을 버퍼링하지 않고 JsonParser로 바로 파싱
+     */
+    private <T> List<T> stream(String url, ResponseParser<T> parser) {
+        return restTemplate.execute(url, HttpMethod.GET, null, response -> {
+            try (JsonParser jsonParser = objectMapper.getFactory().createParser(response.getBody())) {
+                return parser.parse(jsonParser);
+            }
+        });
+    }
+    
+    @FunctionalInterface
+    private interface ResponseParser<T> {
+        List<T> parse(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,103 @@
+package com.autocoin.upbit.infrastructure;
+
+import com.autocoin.upbit.domain.model.OrderBook;
+import com.autocoin.upbit.dto.UpbitOrderbookDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Upbit 호가(/v1/orderbook) 폴링 공급원
+ * - 대상 마켓 전체를 주기마다 한 번의 요청으로 조회 (markets 파라미터 일괄)
+ * - 첫 요청용 즉시 조회는 CoalescingUpbitApiClient를 거쳐 동시 요청을 합침
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.upbit.orderbook.source", havingValue = "polling", matchIfMissing = true)
+public class UpbitOrderbookPollingSource implements OrderbookSource {
+
+    private final UpbitApiClient upbitApiClient;
+    private final CoalescingUpbitApiClient coalescingUpbitApiClient;
+    private final long pollIntervalMillis;
+    private final int[] groupings;
+
+    private volatile List<String> markets = List.of();
+    private ScheduledExecutorService executor;
+
+    /**
+     * @param pollIntervalMillis 일괄 조회 주기
+     * @param groupings 미리 계산할 호가 모아보기 배수
+     */
+    public UpbitOrderbookPollingSource(UpbitApiClient upbitApiClient,
+                                       CoalescingUpbitApiClient coalescingUpbitApiClient,
+                                       @Value("${app.upbit.orderbook.poll-interval-ms:500}") long pollIntervalMillis,
+                                       @Value("${app.upbit.orderbook.groupings:1,10,100}") int[] groupings) {
+        this.upbitApiClient = upbitApiClient;
+        this.coalescingUpbitApiClient = coalescingUpbitApiClient;
+        this.pollIntervalMillis = Math.max(100, pollIntervalMillis);
+        this.groupings = groupings;
+    }
+
+    @Override
+    public synchronized void start(Consumer<OrderBook> sink) {
+        stop();
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "orderbook-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> poll(sink), pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Orderbook polling started every {}ms", pollIntervalMillis);
+    }
+
+    @Override
+    public void updateMarkets(List<String> markets) {
+        this.markets = List.copyOf(markets);
+    }
+
+    @Override
+    public List<OrderBook> fetch(List<String> markets) {
+        return toOrderBooks(coalescingUpbitApiClient.getOrderbook(markets));
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void poll(Consumer<OrderBook> sink) {
+        List<String> targets = markets;
+        if (targets.isEmpty()) {
+            return;
+        }
+        try {
+            toOrderBooks(upbitApiClient.getOrderbook(targets)).forEach(sink);
+        } catch (Exception e) {
+            log.warn("Failed to poll orderbook for {} markets, error: {}", targets.size(), e.getMessage());
+        }
+    }
+
+    private List<OrderBook> toOrderBooks(List<UpbitOrderbookDto> orderbooks) {
+        List<OrderBook> result = new ArrayList<>(orderbooks.size());
+        for (UpbitOrderbookDto orderbook : orderbooks) {
+            if (orderbook.market() != null) {
+                result.add(OrderBook.of(orderbook.market(), orderbook.timestamp(),
+                    orderbook.totalAskSize(), orderbook.totalBidSize(),
+                    orderbook.askPrices(), orderbook.askSizes(), orderbook.bidPrices(), orderbook.bidSizes(),
+                    groupings));
+            }
+        }
+        return result;
+    }
+}
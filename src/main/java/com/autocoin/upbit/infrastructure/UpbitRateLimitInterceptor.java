@@ -0,0 +1,72 @@
+package com.autocoin.upbit.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * upbitRestTemplate 요청을 UpbitRateLimiter로 통과시키는 인터셉터
+ * - 요청 경로로 그룹을 정하고, Exchange API는 JWT의 access_key 해시로 계정 버킷을 구분
+ *   (원문 access key는 Redis 키/로그에 남기지 않음)
+ * - 응답 Remaining-Req 헤더와 상태 코드를 UpbitRateLimiter에 전달
+ */
+@RequiredArgsConstructor
+public class UpbitRateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Pattern ACCESS_KEY = Pattern.compile("\"access_key\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final UpbitRateLimiter rateLimiter;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String group = UpbitRateLimiter.resolveGroup(request.getMethod(), request.getURI().getPath());
+        String account = UpbitRateLimiter.isExchangeGroup(group)
+            ? accountOf(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+            : null;
+
+        rateLimiter.acquire(group, account);
+        ClientHttpResponse response = execution.execute(request, body);
+        rateLimiter.onResponse(group, account, response.getStatusCode().value(),
+            response.getHeaders().getFirst(UpbitRateLimiter.REMAINING_REQ_HEADER));
+        return response;
+    }
+
+    /**
+     * Authorization(Bearer JWT) payload의 access_key → SHA-256 앞 16자리
+     */
+    static String accountOf(String authorization) {
+        if (authorization == null) {
+            return null;
+        }
+        String[] parts = authorization.replaceFirst("^Bearer\\s+", "").split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            Matcher matcher = ACCESS_KEY.matcher(payload);
+            if (!matcher.find()) {
+                return null;
+            }
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(matcher.group(1).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (IllegalArgumentException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+}
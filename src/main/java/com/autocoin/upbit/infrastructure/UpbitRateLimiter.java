@@ -0,0 +1,335 @@
+package com.autocoin.upbit.infrastructure;
+
+import com.autocoin.global.exception.core.ErrorCode;
+import com.autocoin.upbit.exception.UpbitApiException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Upbit 요청 그룹별 토큰 버킷
+ * - 그룹: market, candles, ticker, orderbook, trades (IP 단위) / default, order (Exchange API, access key 단위)
+ * - 요청 전 acquire: 토큰이 없으면 최대 대기 시간까지 순서대로 기다리고, 그보다 오래 걸리면 바로 거절해 429를 미리 막음
+ * - 응답의 Remaining-Req(group, min, sec) sec 값으로 버킷 잔여량을 보정하고 429 응답이면 해당 버킷을 잠시 멈춤
+ *   (min은 Upbit에서 고정값으로 내려와 사용하지 않음)
+ * - backend=redis이면 버킷 상태를 Redis Lua 스크립트로 노드 간 공유, Redis 오류 시 로컬 버킷으로 대체
+ * - 메트릭: upbit.ratelimit.remaining{group} (마지막 Remaining-Req sec), upbit.ratelimit.wait{group},
+ *   upbit.ratelimit.rejected{group}, upbit.ratelimit.throttled{group} (429 응답)
+ */
+@Slf4j
+@Component
+public class UpbitRateLimiter {
+
+    public static final String REMAINING_REQ_HEADER = "Remaining-Req";
+
+    private static final String KEY_PREFIX = "upbit:ratelimit:";
+    private static final Pattern GROUP = Pattern.compile("group=([A-Za-z0-9_-]+)");
+    private static final Pattern SEC = Pattern.compile("sec=(\\d+)");
+
+    // KEYS[1]=버킷, ARGV: 초당 허용량, 최대 대기(ms) → 대기(ms) 또는 -1(거절)
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+        local t = redis.call('TIME')
+        local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+        local rate = tonumber(ARGV[1])
+        local s = redis.call('HMGET', KEYS[1], 'tokens', 'ts', 'blocked')
+        local tokens = tonumber(s[1]) or rate
+        local ts = tonumber(s[2]) or now
+        local blocked = tonumber(s[3]) or 0
+        tokens = math.min(rate, tokens + math.max(0, now - ts) * rate / 1000)
+        local wait = math.max(0, blocked - now, (1 - tokens) * 1000 / rate)
+        if wait > tonumber(ARGV[2]) then return -1 end
+        redis.call('HSET', KEYS[1], 'tokens', tostring(tokens - 1), 'ts', now, 'blocked', blocked)
+        redis.call('PEXPIRE', KEYS[1], 60000)
+        return math.ceil(wait)
+        """, Long.class);
+
+    // KEYS[1]=버킷, ARGV: 초당 허용량, 잔여 요청 수(-1이면 보정 안 함), 정지 시간(ms)
+    private static final RedisScript<Long> SYNC_SCRIPT = new DefaultRedisScript<>("""
+        local t = redis.call('TIME')
+        local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+        local rate = tonumber(ARGV[1])
+        local s = redis.call('HMGET', KEYS[1], 'tokens', 'ts', 'blocked')
+        local tokens = tonumber(s[1]) or rate
+        local ts = tonumber(s[2]) or now
+        local blocked = tonumber(s[3]) or 0
+        tokens = math.min(rate, tokens + math.max(0, now - ts) * rate / 1000)
+        local remaining = tonumber(ARGV[2])
+        if remaining >= 0 then tokens = math.min(tokens, remaining) end
+        local cooldown = tonumber(ARGV[3])
+        if cooldown > 0 then blocked = math.max(blocked, now + cooldown) end
+        redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now, 'blocked', blocked)
+        redis.call('PEXPIRE', KEYS[1], 60000)
+        return 0
+        """, Long.class);
+
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final int quotationPerSecond;
+    private final int exchangePerSecond;
+    private final int orderPerSecond;
+    private final long maxWaitMillis;
+    private final long cooldownMillis;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> remaining = new ConcurrentHashMap<>();
+
+    /**
+     * @param backend local | redis
+     * @param maxWaitMillis 토큰을 기다리는 최대 시간 (초과 예상 시 바로 거절)
+     * @param cooldownMillis 429 응답 후 해당 버킷을 멈추는 시간
+     */
+    public UpbitRateLimiter(MeterRegistry meterRegistry,
+                            ObjectProvider<StringRedisTemplate> redisTemplate,
+                            @Value("${app.upbit.api.rate-limit-enabled:true}") boolean enabled,
+                            @Value("${app.upbit.api.rate-limit.backend:local}") String backend,
+                            @Value("${app.upbit.api.rate-limit.quotation-per-second:10}") int quotationPerSecond,
+                            @Value("${app.upbit.api.rate-limit.exchange-per-second:30}") int exchangePerSecond,
+                            @Value("${app.upbit.api.rate-limit.order-per-second:8}") int orderPerSecond,
+                            @Value("${app.upbit.api.rate-limit.max-wait-ms:1000}") long maxWaitMillis,
+                            @Value("${app.upbit.api.rate-limit.cooldown-ms:1000}") long cooldownMillis) {
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = "redis".equalsIgnoreCase(backend) ? redisTemplate.getIfAvailable() : null;
+        this.enabled = enabled;
+        this.quotationPerSecond = Math.max(1, quotationPerSecond);
+        this.exchangePerSecond = Math.max(1, exchangePerSecond);
+        this.orderPerSecond = Math.max(1, orderPerSecond);
+        this.maxWaitMillis = Math.max(0, maxWaitMillis);
+        this.cooldownMillis = Math.max(0, cooldownMillis);
+
+        log.info("Upbit rate limiter - enabled: {}, backend: {}, quotation: {}/s, exchange: {}/s, order: {}/s, max wait: {}ms",
+            enabled, this.redisTemplate != null ? "redis" : "local",
+            this.quotationPerSecond, this.exchangePerSecond, this.orderPerSecond, this.maxWaitMillis);
+    }
+
+    /**
+     * 요청 경로의 Upbit 요청 그룹
+     */
+    public static String resolveGroup(HttpMethod method, String path) {
+        int index = path != null ? path.indexOf("/v1/") : -1;
+        String apiPath = index >= 0 ? path.substring(index) : "";
+
+        if (apiPath.startsWith("/v1/market/")) {
+            return "market";
+        }
+        if (apiPath.startsWith("/v1/candles/")) {
+            return "candles";
+        }
+        if (apiPath.startsWith("/v1/ticker")) {
+            return "ticker";
+        }
+        if (apiPath.startsWith("/v1/orderbook")) {
+            return "orderbook";
+        }
+        if (apiPath.startsWith("/v1/trades/")) {
+            return "trades";
+        }
+        if (HttpMethod.POST.equals(method) && apiPath.startsWith("/v1/orders")) {
+            return "order";
+        }
+        return "default";
+    }
+
+    /**
+     * Exchange API 그룹 여부 (access key 단위 제한)
+     */
+    public static boolean isExchangeGroup(String group) {
+        return "default".equals(group) || "order".equals(group);
+    }
+
+    /**
+     * 요청 토큰 획득 (필요하면 대기)
+     * @param group Upbit 요청 그룹
+     * @param account Exchange API 계정 식별자 (Quotation API는 null)
+     * @return 대기한 시간(ms)
+     * @throws UpbitApiException 최대 대기 시간 안에 토큰을 얻을 수 없을 때 (UPBIT_RATE_LIMITED)
+     */
+    public long acquire(String group, String account) {
+        if (!enabled) {
+            return 0;
+        }
+
+        long waitMillis = reserve(bucketKey(group, account), perSecond(group));
+        if (waitMillis < 0) {
+            meterRegistry.counter("upbit.ratelimit.rejected", "group", group).increment();
+            throw new UpbitApiException(ErrorCode.UPBIT_RATE_LIMITED,
+                "Upbit 요청 한도 초과로 요청을 보내지 않았습니다: " + group);
+        }
+
+        Timer.builder("upbit.ratelimit.wait")
+            .description("Time spent waiting for an Upbit request token")
+            .tag("group", group)
+            .register(meterRegistry)
+            .record(waitMillis, TimeUnit.MILLISECONDS);
+
+        if (waitMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UpbitApiException(ErrorCode.UPBIT_RATE_LIMITED, "Upbit 요청 대기 중 인터럽트", e);
+            }
+        }
+        return waitMillis;
+    }
+
+    /**
+     * 응답 반영: Remaining-Req로 잔여량 보정, 429이면 버킷 정지
+     * @param group 요청 시 사용한 그룹 (헤더에 그룹이 있으면 헤더 값 우선)
+     * @param account Exchange API 계정 식별자
+     * @param status 응답 상태 코드
+     * @param remainingReq Remaining-Req 헤더 값 (없으면 null)
+     */
+    public void onResponse(String group, String account, int status, String remainingReq) {
+        String headerGroup = find(GROUP, remainingReq);
+        String resolved = headerGroup != null ? headerGroup : group;
+        String sec = find(SEC, remainingReq);
+        int left = sec != null ? Integer.parseInt(sec) : -1;
+        boolean throttled = status == 429;
+
+        if (left >= 0) {
+            remaining.computeIfAbsent(resolved, this::registerRemainingGauge).set(left);
+        }
+        if (throttled) {
+            meterRegistry.counter("upbit.ratelimit.throttled", "group", resolved).increment();
+            log.warn("Upbit responded 429 for group: {} (Remaining-Req: {})", resolved, remainingReq);
+        }
+        if (!enabled || (left < 0 && !throttled)) {
+            return;
+        }
+
+        sync(bucketKey(resolved, account), perSecond(resolved), throttled ? 0 : left, throttled ? cooldownMillis : 0);
+    }
+
+    private long reserve(String key, int perSecond) {
+        if (redisTemplate != null) {
+            try {
+                Long wait = redisTemplate.execute(RESERVE_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(perSecond), String.valueOf(maxWaitMillis));
+                if (wait != null) {
+                    return wait;
+                }
+            } catch (Exception e) {
+                meterRegistry.counter("upbit.ratelimit.backend.errors").increment();
+                log.warn("Failed to reserve Upbit rate limit token via Redis, using local bucket: {}", e.getMessage());
+            }
+        }
+
+        long waitNanos = bucket(key, perSecond).reserve(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(maxWaitMillis));
+        return waitNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999);
+    }
+
+    private void sync(String key, int perSecond, int left, long cooldown) {
+        bucket(key, perSecond).sync(System.nanoTime(), left, TimeUnit.MILLISECONDS.toNanos(cooldown));
+
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.execute(SYNC_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(perSecond), String.valueOf(left), String.valueOf(cooldown));
+            } catch (Exception e) {
+                meterRegistry.counter("upbit.ratelimit.backend.errors").increment();
+                log.warn("Failed to sync Upbit rate limit via Redis: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Bucket bucket(String key, int perSecond) {
+        return buckets.computeIfAbsent(key, k -> new Bucket(perSecond, System.nanoTime()));
+    }
+
+    private AtomicInteger registerRemainingGauge(String group) {
+        AtomicInteger value = new AtomicInteger();
+        Gauge.builder("upbit.ratelimit.remaining", value, AtomicInteger::get)
+            .description("Remaining Upbit requests in the current second (Remaining-Req sec)")
+            .tag("group", group)
+            .register(meterRegistry);
+        return value;
+    }
+
+    private int perSecond(String group) {
+        return switch (group) {
+            case "default" -> exchangePerSecond;
+            case "order" -> orderPerSecond;
+            default -> quotationPerSecond;
+        };
+    }
+
+    private static String bucketKey(String group, String account) {
+        return isExchangeGroup(group) ? group + ":" + (account != null ? account : "anonymous") : group;
+    }
+
+    private static String find(Pattern pattern, String value) {
+        if (value == null) {
+            return null;
+        }
+        Matcher matcher = pattern.matcher(value);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * 로컬 토큰 버킷 (용량 = 초당 허용량)
+     * - 토큰이 모자라면 음수로 예약해 뒤 요청일수록 오래 기다리게 함
+     */
+    static final class Bucket {
+
+        private final double perSecond;
+        private double tokens;
+        private long refilledAt;
+        private long blockedUntil;
+
+        Bucket(double perSecond, long now) {
+            this.perSecond = perSecond;
+            this.tokens = perSecond;
+            this.refilledAt = now;
+            this.blockedUntil = now;
+        }
+
+        /**
+         * @return 대기 시간(ns), 최대 대기 초과면 -1 (예약하지 않음)
+         */
+        synchronized long reserve(long now, long maxWaitNanos) {
+            refill(now);
+            long tokenWait = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / perSecond * 1_000_000_000L);
+            long wait = Math.max(0, Math.max(blockedUntil - now, tokenWait));
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            tokens -= 1;
+            return wait;
+        }
+
+        synchronized void sync(long now, int left, long cooldownNanos) {
+            refill(now);
+            if (left >= 0) {
+                tokens = Math.min(tokens, left);
+            }
+            if (cooldownNanos > 0 && now + cooldownNanos - blockedUntil > 0) {
+                blockedUntil = now + cooldownNanos;
+            }
+        }
+
+        private void refill(long now) {
+            long elapsed = now - refilledAt;
+            if (elapsed > 0) {
+                tokens = Math.min(perSecond, tokens + elapsed * perSecond / 1_000_000_000L);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.autocoin.upbit.infrastructure;
+
+import com.autocoin.upbit.dto.UpbitMarketCandleDto;
+import com.autocoin.upbit.dto.UpbitMarketDto;
+import com.autocoin.upbit.dto.UpbitOrderbookDto;
+import com.autocoin.upbit.dto.UpbitTradeDto;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Upbit 시세 응답 스트리밍 파서
+ * - 응답 InputStream을 JsonParser 토큰 단위로 읽어 바로 타입 객체 생성 (String 본문/Map 중간 단계 없음)
+ * - 모르는 필드는 건너뜀 (Upbit 필드 추가에 영향 없음)
+ */
+final class UpbitResponseParser {
+
+    // 호가 단위 배열 초기 크기 (Upbit 기본 15단, 최대 30단)
+    private static final int ORDERBOOK_UNITS = 30;
+
+    private UpbitResponseParser() {
+    }
+
+    static List<UpbitMarketDto> markets(JsonParser parser) throws IOException {
+        List<UpbitMarketDto> markets = new ArrayList<>(256);
+        startArray(parser);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String market = null;
+            String koreanName = null;
+            String englishName = null;
+            String marketWarning = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "market" -> market = parser.getValueAsString();
+                    case "korean_name" -> koreanName = parser.getValueAsString();
+                    case "english_name" -> englishName = parser.getValueAsString();
+                    case "market_warning" -> marketWarning = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            markets.add(new UpbitMarketDto(market, koreanName, englishName, marketWarning));
+        }
+        return markets;
+    }
+
+    static List<UpbitMarketCandleDto> candles(JsonParser parser) throws IOException {
+        List<UpbitMarketCandleDto> candles = new ArrayList<>(200);
+        startArray(parser);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String market = null;
+            String candleDateTimeUtc = null;
+            String candleDateTimeKst = null;
+            double openingPrice = 0;
+            double highPrice = 0;
+            double lowPrice = 0;
+            double tradePrice = 0;
+            long timestamp = 0;
+            double candleAccTradePrice = 0;
+            double candleAccTradeVolume = 0;
+            Integer unit = null;
+            Double prevClosingPrice = null;
+            Double changePrice = null;
+            Double changeRate = null;
+            Double convertedTradePrice = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "market" -> market = parser.getValueAsString();
+                    case "candle_date_time_utc" -> candleDateTimeUtc = parser.getValueAsString();
+                    case "candle_date_time_kst" -> candleDateTimeKst = parser.getValueAsString();
+                    case "opening_price" -> openingPrice = parser.getValueAsDouble();
+                    case "high_price" -> highPrice = parser.getValueAsDouble();
+                    case "low_price" -> lowPrice = parser.getValueAsDouble();
+                    case "trade_price" -> tradePrice = parser.getValueAsDouble();
+                    case "timestamp" -> timestamp = parser.getValueAsLong();
+                    case "candle_acc_trade_price" -> candleAccTradePrice = parser.getValueAsDouble();
+                    case "candle_acc_trade_volume" -> candleAccTradeVolume = parser.getValueAsDouble();
+                    case "unit" -> unit = nullableInt(parser);
+                    case "prev_closing_price" -> prevClosingPrice = nullableDouble(parser);
+                    case "change_price" -> changePrice = nullableDouble(parser);
+                    case "change_rate" -> changeRate = nullableDouble(parser);
+                    case "converted_trade_price" -> convertedTradePrice = nullableDouble(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            candles.add(new UpbitMarketCandleDto(market, candleDateTimeUtc, candleDateTimeKst,
+                openingPrice, highPrice, lowPrice, tradePrice, timestamp, candleAccTradePrice, candleAccTradeVolume,
+                unit, prevClosingPrice, changePrice, changeRate, convertedTradePrice));
+        }
+        return candles;
+    }
+
+    static List<UpbitTradeDto> trades(JsonParser parser) throws IOException {
+        List<UpbitTradeDto> trades = new ArrayList<>(200);
+        startArray(parser);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String market = null;
+            String tradeDateUtc = null;
+            String tradeTimeUtc = null;
+            long timestamp = 0;
+            double tradePrice = 0;
+            double tradeVolume = 0;
+            double prevClosingPrice = 0;
+            double changePrice = 0;
+            String askBid = null;
+            long sequentialId = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "market" -> market = parser.getValueAsString();
+                    case "trade_date_utc" -> tradeDateUtc = parser.getValueAsString();
+                    case "trade_time_utc" -> tradeTimeUtc = parser.getValueAsString();
+                    case "timestamp" -> timestamp = parser.getValueAsLong();
+                    case "trade_price" -> tradePrice = parser.getValueAsDouble();
+                    case "trade_volume" -> tradeVolume = parser.getValueAsDouble();
+                    case "prev_closing_price" -> prevClosingPrice = parser.getValueAsDouble();
+                    case "change_price" -> changePrice = parser.getValueAsDouble();
+                    case "ask_bid" -> askBid = parser.getValueAsString();
+                    case "sequential_id" -> sequentialId = parser.getValueAsLong();
+                    default -> parser.skipChildren();
+                }
+            }
+            trades.add(new UpbitTradeDto(market, tradeDateUtc, tradeTimeUtc, timestamp,
+                tradePrice, tradeVolume, prevClosingPrice, changePrice, askBid, sequentialId));
+        }
+        return trades;
+    }
+
+    static List<UpbitOrderbookDto> orderbooks(JsonParser parser) throws IOException {
+        List<UpbitOrderbookDto> orderbooks = new ArrayList<>();
+        startArray(parser);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String market = null;
+            long timestamp = 0;
+            double totalAskSize = 0;
+            double totalBidSize = 0;
+            double[] askPrices = new double[0];
+            double[] askSizes = askPrices;
+            double[] bidPrices = askPrices;
+            double[] bidSizes = askPrices;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "market" -> market = parser.getValueAsString();
+                    case "timestamp" -> timestamp = parser.getValueAsLong();
+                    case "total_ask_size" -> totalAskSize = parser.getValueAsDouble();
+                    case "total_bid_size" -> totalBidSize = parser.getValueAsDouble();
+                    case "orderbook_units" -> {
+                        if (value != JsonToken.START_ARRAY) {
+                            parser.skipChildren();
+                            break;
+                        }
+                        askPrices = new double[ORDERBOOK_UNITS];
+                        askSizes = new double[ORDERBOOK_UNITS];
+                        bidPrices = new double[ORDERBOOK_UNITS];
+                        bidSizes = new double[ORDERBOOK_UNITS];
+                        int count = 0;
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            if (count == askPrices.length) {
+                                askPrices = Arrays.copyOf(askPrices, count * 2);
+                                askSizes = Arrays.copyOf(askSizes, count * 2);
+                                bidPrices = Arrays.copyOf(bidPrices, count * 2);
+                                bidSizes = Arrays.copyOf(bidSizes, count * 2);
+                            }
+                            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                String unitField = parser.currentName();
+                                parser.nextToken();
+                                switch (unitField) {
+                                    case "ask_price" -> askPrices[count] = parser.getValueAsDouble();
+                                    case "ask_size" -> askSizes[count] = parser.getValueAsDouble();
+                                    case "bid_price" -> bidPrices[count] = parser.getValueAsDouble();
+                                    case "bid_size" -> bidSizes[count] = parser.getValueAsDouble();
+                                    default -> parser.skipChildren();
+                                }
+                            }
+                            count++;
+                        }
+                        if (count != askPrices.length) {
+                            askPrices = Arrays.copyOf(askPrices, count);
+                            askSizes = Arrays.copyOf(askSizes, count);
+                            bidPrices = Arrays.copyOf(bidPrices, count);
+                            bidSizes = Arrays.copyOf(bidSizes, count);
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            orderbooks.add(new UpbitOrderbookDto(market, timestamp, totalAskSize, totalBidSize,
+                askPrices, askSizes, bidPrices, bidSizes));
+        }
+        return orderbooks;
+    }
+
+    private static void startArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Upbit 응답이 배열이 아닙니다: " + token);
+        }
+    }
+
+    private static Integer nullableInt(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+    }
+
+    private static Double nullableDouble(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsDouble();
+    }
+}
@@ -0,0 +1,50 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.application.CandleBackfillService.Page;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CandleBackfillService 누락 구간 → 페이지 분할 테스트
+ */
+class CandleBackfillServiceTest {
+
+    @Test
+    @DisplayName("저장된 캔들 사이의 빈 구간만 최신순 페이지로 변환")
+    void plansPagesForGaps() {
+        // given: 0~600초 중 120, 180, 420초 캔들만 저장됨
+        List<Long> stored = List.of(120L, 180L, 420L);
+
+        // when
+        List<Page> pages = CandleBackfillService.planPages(stored, 0, 600);
+
+        // then
+        assertThat(pages).containsExactly(
+                new Page(480, 600, 2),
+                new Page(240, 420, 3),
+                new Page(0, 120, 2));
+    }
+
+    @Test
+    @DisplayName("200분을 넘는 구간은 to 커서를 과거로 옮기며 200개 단위로 분할")
+    void splitsLargeGapByUpbitLimit() {
+        // when
+        List<Page> pages = CandleBackfillService.planPages(List.of(), 0, 450 * 60);
+
+        // then
+        assertThat(pages).containsExactly(
+                new Page(250 * 60, 450 * 60, 200),
+                new Page(50 * 60, 250 * 60, 200),
+                new Page(0, 50 * 60, 50));
+    }
+
+    @Test
+    @DisplayName("누락이 없으면 빈 리스트")
+    void noGaps() {
+        assertThat(CandleBackfillService.planPages(List.of(0L, 60L, 120L), 0, 180)).isEmpty();
+    }
+}
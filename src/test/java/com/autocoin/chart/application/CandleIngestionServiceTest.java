@@ -0,0 +1,153 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.dto.UpbitCandleDto;
+import com.autocoin.chart.infrastructure.CandleDataRepository;
+import com.autocoin.chart.infrastructure.CandleMemoryCache;
+import com.autocoin.chart.infrastructure.ChartUpbitApiClient;
+import com.autocoin.upbit.infrastructure.UpbitApiClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CandleIngestionService 테스트 (배치 저장, 구독 마켓 실시간 전송, 마감 캔들 롤업 전달, 비동기 주기 마감)
+ */
+class CandleIngestionServiceTest {
+
+    private final ChartUpbitApiClient chartUpbitApiClient = mock(ChartUpbitApiClient.class);
+    private final CandleMemoryCache memoryCache = new CandleMemoryCache(10);
+    private final ChartDatabaseService chartDatabaseService = mock(ChartDatabaseService.class);
+    private final ChartService chartService = mock(ChartService.class);
+    private final CandleRollupService candleRollupService = mock(CandleRollupService.class);
+    private final CandleStreamService candleStreamService = mock(CandleStreamService.class);
+    private final MarketSubscriptionRegistry marketSubscriptionRegistry = mock(MarketSubscriptionRegistry.class);
+    private final CandleIngestionService service = new CandleIngestionService(chartUpbitApiClient,
+            mock(UpbitApiClient.class), mock(CandleDataRepository.class), memoryCache, chartDatabaseService,
+            chartService, candleRollupService, candleStreamService, marketSubscriptionRegistry,
+            new SimpleMeterRegistry());
+
+    // 직전(마감) 분과 현재(진행 중) 분
+    private final LocalDateTime current = LocalDateTime.ofInstant(
+            Instant.now().truncatedTo(ChronoUnit.MINUTES), ZoneOffset.UTC);
+    private final LocalDateTime previous = current.minusMinutes(1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "initEnabled", true);
+        ReflectionTestUtils.setField(service, "configuredMarkets", "KRW-BTC,KRW-ETH");
+        ReflectionTestUtils.setField(service, "requestsPerSecond", 1000);
+        ReflectionTestUtils.setField(service, "threads", 2);
+        ReflectionTestUtils.setField(service, "candlesPerFetch", 2);
+        ReflectionTestUtils.setField(service, "cycleTimeoutSeconds", 1L);
+        service.startExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stopExecutor();
+    }
+
+    @Test
+    @DisplayName("모든 마켓 캔들을 한 번에 DB 저장, 구독 마켓만 실시간 전송, 롤업에는 마감 캔들만 전달")
+    @SuppressWarnings("unchecked")
+    void handsOffBatchRealtimeAndRollup() throws Exception {
+        // given
+        when(chartUpbitApiClient.getCandles(eq("KRW-BTC"), anyInt()))
+                .thenReturn(List.of(candle("KRW-BTC", current), candle("KRW-BTC", previous)));
+        when(chartUpbitApiClient.getCandles(eq("KRW-ETH"), anyInt()))
+                .thenReturn(List.of(candle("KRW-ETH", current), candle("KRW-ETH", previous)));
+        when(marketSubscriptionRegistry.isActive("KRW-BTC")).thenReturn(true);
+
+        // when
+        service.runCycle().get(5, TimeUnit.SECONDS);
+
+        // then
+        ArgumentCaptor<List<UpbitCandleDto>> batch = ArgumentCaptor.forClass(List.class);
+        verify(chartDatabaseService, times(1)).saveUpbitCandles(batch.capture());
+        assertThat(batch.getValue()).hasSize(4);
+
+        long currentTime = current.toEpochSecond(ZoneOffset.UTC);
+        long previousTime = previous.toEpochSecond(ZoneOffset.UTC);
+        verify(chartService).sendRealtimeUpdate(eq("KRW-BTC"), any(Candle.class));
+        verify(chartService, never()).sendRealtimeUpdate(eq("KRW-ETH"), any(Candle.class));
+        ArgumentCaptor<List<Candle>> streamed = ArgumentCaptor.forClass(List.class);
+        verify(candleStreamService).onCandles(eq("KRW-BTC"), streamed.capture());
+        assertThat(streamed.getValue()).extracting(Candle::time).containsExactly(previousTime, currentTime);
+        verify(candleStreamService, never()).onCandles(eq("KRW-ETH"), any());
+
+        ArgumentCaptor<List<Candle>> closed = ArgumentCaptor.forClass(List.class);
+        verify(candleRollupService).onClosedCandles(eq("KRW-ETH"), closed.capture());
+        assertThat(closed.getValue()).extracting(Candle::time).containsExactly(previousTime);
+
+        assertThat(memoryCache.latestCandle("KRW-ETH", Timeframe.ONE_MINUTE).time()).isEqualTo(currentTime);
+    }
+
+    @Test
+    @DisplayName("수집 주기는 호출 스레드를 붙잡지 않고, 시간 안에 끝나지 않은 마켓은 빼고 저장")
+    @SuppressWarnings("unchecked")
+    void finishesCycleAsynchronouslyOnTimeout() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(chartUpbitApiClient.getCandles(eq("KRW-BTC"), anyInt())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(candle("KRW-BTC", previous));
+        });
+        when(chartUpbitApiClient.getCandles(eq("KRW-ETH"), anyInt()))
+                .thenReturn(List.of(candle("KRW-ETH", previous)));
+
+        try {
+            // when
+            CompletableFuture<Void> cycle = service.runCycle();
+
+            // then
+            assertThat(cycle).isNotDone();
+            // 이전 주기가 끝나기 전의 다음 주기는 건너뜀
+            assertThat(service.runCycle()).isDone();
+
+            cycle.get(5, TimeUnit.SECONDS);
+            ArgumentCaptor<List<UpbitCandleDto>> batch = ArgumentCaptor.forClass(List.class);
+            verify(chartDatabaseService, times(1)).saveUpbitCandles(batch.capture());
+            assertThat(batch.getValue()).extracting(UpbitCandleDto::getMarket).containsExactly("KRW-ETH");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static UpbitCandleDto candle(String market, LocalDateTime time) {
+        UpbitCandleDto dto = new UpbitCandleDto();
+        dto.setMarket(market);
+        dto.setCandleDateTimeUtc(time.toString());
+        dto.setOpeningPrice(new BigDecimal("100"));
+        dto.setHighPrice(new BigDecimal("110"));
+        dto.setLowPrice(new BigDecimal("90"));
+        dto.setTradePrice(new BigDecimal("105"));
+        dto.setCandleAccTradeVolume(new BigDecimal("1.5"));
+        return dto;
+    }
+}
@@ -0,0 +1,167 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.TickScale;
+import com.autocoin.chart.dto.UpbitCandleDto;
+import com.autocoin.chart.infrastructure.CandleDataRepository;
+import com.autocoin.chart.infrastructure.CandleMemoryCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CandleRollupService 테스트 (구간 경계, DB 1분봉 시드, 거래량 포화, 마감 구간만 DB 저장, 늦게 들어온 1분봉 재집계)
+ */
+class CandleRollupServiceTest {
+
+    private static final String MARKET = "KRW-BTC";
+    private static final TickScale SCALE = new TickScale(0, 0);
+    // 일봉 구간 시작 시각 (모든 타임프레임의 구간 시작과 맞음)
+    private static final long DAY = 19_676L * 86_400;
+
+    private final CandleMemoryCache memoryCache = new CandleMemoryCache(10);
+    private final CandleDataRepository candleDataRepository = mock(CandleDataRepository.class);
+    private final ChartDatabaseService chartDatabaseService = mock(ChartDatabaseService.class);
+    private final CandleRollupService service =
+            new CandleRollupService(memoryCache, candleDataRepository, chartDatabaseService);
+
+    @Test
+    @DisplayName("구간이 넘어가면 직전 3분봉을 마감해 DB에 저장하고, 진행 중 캔들은 메모리/Redis에만 반영")
+    @SuppressWarnings("unchecked")
+    void sealsBucketOnBoundary() {
+        // given
+        List<Candle> minutes = List.of(
+                candle(DAY + 120, 102, 108, 101, 107, 3),
+                candle(DAY, 100, 105, 99, 104, 1),
+                candle(DAY + 60, 104, 110, 95, 102, 2),
+                candle(DAY + 180, 107, 109, 106, 108, 4));
+
+        // when
+        service.onClosedCandles(MARKET, minutes);
+
+        // then
+        ArgumentCaptor<List<Candle>> sealed = ArgumentCaptor.forClass(List.class);
+        verify(chartDatabaseService, times(1)).saveCandles(sealed.capture(), eq(Timeframe.THREE_MINUTES));
+        assertThat(sealed.getValue()).containsExactly(new Candle(MARKET, DAY, 100, 110, 95, 107, 6, SCALE));
+
+        // 아직 닫히지 않은 구간은 DB에 저장하지 않음
+        verify(chartDatabaseService, never()).saveCandles(any(), eq(Timeframe.FIVE_MINUTES));
+        verify(chartDatabaseService, never()).saveCandles(any(), eq(Timeframe.ONE_HOUR));
+        verify(chartDatabaseService, never()).saveCandles(any(), eq(Timeframe.ONE_DAY));
+
+        ArgumentCaptor<List<UpbitCandleDto>> cached = ArgumentCaptor.forClass(List.class);
+        verify(candleDataRepository).saveCandles(eq(MARKET), eq("3m"), cached.capture());
+        assertThat(cached.getValue()).hasSize(2);
+
+        assertThat(memoryCache.latestCandle(MARKET, Timeframe.THREE_MINUTES))
+                .isEqualTo(new Candle(MARKET, DAY + 180, 107, 109, 106, 108, 4, SCALE));
+        assertThat(memoryCache.latestCandle(MARKET, Timeframe.FIVE_MINUTES))
+                .isEqualTo(new Candle(MARKET, DAY, 100, 110, 95, 108, 10, SCALE));
+    }
+
+    @Test
+    @DisplayName("마켓 최초 집계 시 DB 1분봉으로 진행 중 구간을 채우고, 이미 반영한 캔들은 무시")
+    void seedsFormingBucketFromDatabase() {
+        // given
+        when(chartDatabaseService.findCandles(MARKET, Timeframe.ONE_MINUTE, DAY, DAY + 239)).thenReturn(List.of(
+                candle(DAY + 60, 50, 200, 40, 60, 5),
+                candle(DAY + 180, 60, 70, 55, 65, 7)));
+
+        // when
+        service.onClosedCandles(MARKET, List.of(candle(DAY + 240, 65, 80, 64, 75, 1)));
+        service.onClosedCandles(MARKET, List.of(candle(DAY + 240, 65, 80, 64, 75, 1)));
+
+        // then
+        verify(chartDatabaseService, times(1)).findCandles(anyString(), any(), anyLong(), anyLong());
+        // 5분봉 구간(DAY ~ DAY+299)은 시드 두 개 모두 포함
+        assertThat(memoryCache.latestCandle(MARKET, Timeframe.FIVE_MINUTES))
+                .isEqualTo(new Candle(MARKET, DAY, 50, 200, 40, 75, 13, SCALE));
+        // 3분봉 구간(DAY+180 ~)은 구간 안의 시드만 포함
+        assertThat(memoryCache.latestCandle(MARKET, Timeframe.THREE_MINUTES))
+                .isEqualTo(new Candle(MARKET, DAY + 180, 60, 80, 55, 75, 8, SCALE));
+        verify(chartDatabaseService, never()).saveCandles(any(), any());
+    }
+
+    @Test
+    @DisplayName("거래량 합계가 long 범위를 넘으면 최대값으로 고정")
+    void saturatesVolume() {
+        // given
+        List<Candle> minutes = List.of(
+                candle(DAY, 100, 100, 100, 100, Long.MAX_VALUE - 1),
+                candle(DAY + 60, 100, 100, 100, 100, 10));
+
+        // when
+        service.onClosedCandles(MARKET, minutes);
+
+        // then
+        assertThat(memoryCache.latestCandle(MARKET, Timeframe.THREE_MINUTES).volume()).isEqualTo(Long.MAX_VALUE);
+        assertThat(memoryCache.latestCandle(MARKET, Timeframe.ONE_DAY).volume()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("반영한 적 없는 과거 1분봉이 들어오면 해당 구간을 DB 1분봉으로 다시 집계")
+    @SuppressWarnings("unchecked")
+    void refoldsBucketsForLateMinute() {
+        // given: DAY+60 분이 빠진 채로 3분봉 DAY 구간이 마감됨
+        Candle first = candle(DAY, 100, 105, 99, 104, 1);
+        Candle third = candle(DAY + 120, 102, 108, 101, 107, 3);
+        Candle fourth = candle(DAY + 180, 107, 109, 106, 108, 4);
+        service.onClosedCandles(MARKET, List.of(first, third, fourth));
+
+        Candle missing = candle(DAY + 60, 104, 120, 95, 102, 2);
+        when(chartDatabaseService.findCandles(MARKET, Timeframe.ONE_MINUTE, DAY, DAY + 86_399))
+                .thenReturn(List.of(first, third, fourth));
+
+        // when
+        service.onClosedCandles(MARKET, List.of(missing));
+        service.onClosedCandles(MARKET, List.of(missing));
+
+        // then
+        ArgumentCaptor<List<Candle>> sealed = ArgumentCaptor.forClass(List.class);
+        verify(chartDatabaseService, times(2)).saveCandles(sealed.capture(), eq(Timeframe.THREE_MINUTES));
+        assertThat(sealed.getAllValues().get(1)).containsExactly(new Candle(MARKET, DAY, 100, 120, 95, 107, 6, SCALE));
+        // 진행 중 구간은 재집계 결과로 교체
+        assertThat(memoryCache.latestCandle(MARKET, Timeframe.FIVE_MINUTES))
+                .isEqualTo(new Candle(MARKET, DAY, 100, 120, 95, 108, 10, SCALE));
+        // 이미 반영한 시각은 다시 집계하지 않음
+        verify(chartDatabaseService, times(1)).findCandles(MARKET, Timeframe.ONE_MINUTE, DAY, DAY + 86_399);
+    }
+
+    @Test
+    @DisplayName("집계 상태가 없는 마켓의 백필 캔들은 닫힌 구간만 DB 1분봉으로 집계해 저장")
+    @SuppressWarnings("unchecked")
+    void rebuildsClosedBucketsAfterBackfill() {
+        // given
+        Candle stored = candle(DAY, 100, 105, 99, 104, 1);
+        Candle backfilled = candle(DAY + 60, 104, 110, 95, 102, 2);
+        when(chartDatabaseService.findCandles(MARKET, Timeframe.ONE_MINUTE, DAY, DAY + 86_399))
+                .thenReturn(List.of(stored, backfilled));
+
+        // when
+        service.onBackfilledCandles(MARKET, List.of(backfilled));
+
+        // then
+        ArgumentCaptor<List<Candle>> daily = ArgumentCaptor.forClass(List.class);
+        verify(chartDatabaseService).saveCandles(daily.capture(), eq(Timeframe.ONE_DAY));
+        assertThat(daily.getValue()).containsExactly(new Candle(MARKET, DAY, 100, 110, 95, 102, 3, SCALE));
+        verify(chartDatabaseService).saveCandles(any(), eq(Timeframe.THREE_MINUTES));
+    }
+
+    private static Candle candle(long time, long open, long high, long low, long close, long volume) {
+        return new Candle(MARKET, time, open, high, low, close, volume, SCALE);
+    }
+}
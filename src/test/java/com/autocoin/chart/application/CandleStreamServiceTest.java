@@ -0,0 +1,182 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.TickScale;
+import com.autocoin.chart.dto.CandleStreamMessage;
+import com.autocoin.chart.infrastructure.CandleMemoryCache;
+import com.autocoin.chart.infrastructure.ChartBroadcaster;
+import com.autocoin.chart.infrastructure.ChartPublisherLease;
+import com.autocoin.chart.infrastructure.ChartStreamSequence;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CandleStreamService snapshot/diff 프로토콜 테스트
+ */
+class CandleStreamServiceTest {
+
+    private static final TickScale SCALE = new TickScale(0, 0);
+
+    private final ChartBroadcaster broadcaster = mock(ChartBroadcaster.class);
+    private final ChartPublisherLease publisherLease = mock(ChartPublisherLease.class);
+    private final ChartStreamSequence streamSequence = mock(ChartStreamSequence.class);
+    private final CandleStreamService service =
+            new CandleStreamService(broadcaster, new CandleMemoryCache(10), publisherLease, streamSequence);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        when(publisherLease.isPublisher("KRW-BTC")).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("진행 중 캔들은 바뀐 필드만, 새 캔들은 close 표시 후 전체 필드 전송")
+    void diffAndClose() throws Exception {
+        // when
+        service.onCandle(candle(60, 100, 110, 90, 105, 1));
+        service.onCandle(candle(60, 100, 110, 90, 107, 2));
+        service.onCandle(candle(60, 100, 110, 90, 107, 2));
+        service.onCandle(candle(120, 107, 108, 106, 108, 1));
+
+        // then
+        List<String> json = sent(4);
+        assertThat(json.get(0)).isEqualTo("{\"v\":2,\"t\":\"d\",\"q\":1,\"time\":60,\"o\":100,\"h\":110,\"l\":90,\"c\":105,\"vol\":1}");
+        assertThat(json.get(1)).isEqualTo("{\"v\":2,\"t\":\"d\",\"q\":2,\"time\":60,\"c\":107,\"vol\":2}");
+        assertThat(json.get(2)).isEqualTo("{\"v\":2,\"t\":\"x\",\"q\":3,\"time\":60,\"o\":100,\"h\":110,\"l\":90,\"c\":107,\"vol\":2}");
+        assertThat(json.get(3)).isEqualTo("{\"v\":2,\"t\":\"d\",\"q\":4,\"time\":120,\"o\":107,\"h\":108,\"l\":106,\"c\":108,\"vol\":1}");
+    }
+
+    @Test
+    @DisplayName("snapshot은 마지막 전송 캔들과 번호를 포함")
+    void snapshot() throws Exception {
+        // given
+        service.onCandle(candle(60, 100, 110, 90, 105, 1));
+
+        // when
+        CandleStreamMessage snapshot = service.snapshot("KRW-BTC");
+
+        // then
+        assertThat(objectMapper.writeValueAsString(snapshot))
+                .isEqualTo("{\"v\":2,\"t\":\"s\",\"m\":\"KRW-BTC\",\"q\":1,\"time\":60,\"o\":100,\"h\":110,\"l\":90,\"c\":105,\"vol\":1}");
+        assertThat(service.snapshot("KRW-ETH")).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 마켓을 동시에 갱신해도 메시지는 번호 순서대로 전송")
+    void broadcastsInSeqOrderUnderConcurrency() throws Exception {
+        // given
+        List<Long> broadcastSeqs = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            long seq = ((CandleStreamMessage) invocation.getArgument(1)).seq();
+            Thread.yield();
+            broadcastSeqs.add(seq);
+            return null;
+        }).when(broadcaster).broadcast(eq("/topic/chart/v2/KRW-BTC"), any());
+        int threads = 4;
+        int updatesPerThread = 500;
+        AtomicLong volume = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // when
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < updatesPerThread; j++) {
+                        // 거래량이 매번 달라 호출마다 diff 한 건
+                        service.onCandle(candle(60, 100, 110, 90, 105, volume.incrementAndGet()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(broadcastSeqs).containsExactlyElementsOf(
+                LongStream.rangeClosed(1, (long) threads * updatesPerThread).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("발행 임대가 없는 노드는 전송하지 않고 스트림 상태를 비움")
+    void skipsWithoutPublisherLease() throws Exception {
+        // given
+        service.onCandle(candle(60, 100, 110, 90, 105, 1));
+        when(publisherLease.isPublisher("KRW-BTC")).thenReturn(false);
+
+        // when
+        service.onCandle(candle(60, 100, 110, 90, 107, 2));
+
+        // then
+        sent(1);
+        assertThat(service.snapshot("KRW-BTC")).isNull();
+    }
+
+    @Test
+    @DisplayName("redis 모드에서는 공유 카운터로 번호를 다시 매기고 snapshot은 공유 상태로 응답")
+    void renumbersFromSharedSequence() throws Exception {
+        // given: 다른 노드가 40번까지 발행한 뒤 임대를 넘겨받음
+        Candle forming = candle(60, 100, 110, 90, 105, 1);
+        when(streamSequence.isClustered()).thenReturn(true);
+        when(streamSequence.reserve(any(Candle.class), eq(1))).thenReturn(41L);
+        when(streamSequence.reserve(any(Candle.class), eq(2))).thenReturn(43L);
+        when(streamSequence.snapshot("KRW-BTC")).thenReturn(CandleStreamMessage.snapshot("KRW-BTC", 43, forming));
+
+        // when
+        service.onCandle(forming);
+        service.onCandle(candle(120, 105, 106, 104, 106, 1));
+        CandleStreamMessage snapshot = service.snapshot("KRW-BTC");
+
+        // then
+        List<String> json = sent(3);
+        assertThat(json.get(0)).startsWith("{\"v\":2,\"t\":\"d\",\"q\":41,\"time\":60,");
+        assertThat(json.get(1)).startsWith("{\"v\":2,\"t\":\"x\",\"q\":42,\"time\":60,");
+        assertThat(json.get(2)).startsWith("{\"v\":2,\"t\":\"d\",\"q\":43,\"time\":120,");
+        verify(streamSequence).reserve(candle(120, 105, 106, 104, 106, 1), 2);
+        assertThat(snapshot.seq()).isEqualTo(43);
+    }
+
+    private List<String> sent(int count) throws Exception {
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(broadcaster, times(count)).broadcast(eq("/topic/chart/v2/KRW-BTC"), payloads.capture());
+        List<String> json = new ArrayList<>();
+        for (Object payload : payloads.getAllValues()) {
+            json.add(objectMapper.writeValueAsString(payload));
+        }
+        return json;
+    }
+
+    private static Candle candle(long time, long open, long high, long low, long close, long volume) {
+        return new Candle("KRW-BTC", time, open, high, low, close, volume, SCALE);
+    }
+}
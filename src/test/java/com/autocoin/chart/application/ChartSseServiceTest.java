@@ -0,0 +1,249 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.dto.CandleStreamMessage;
+import com.autocoin.chart.infrastructure.ChartBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChartSseService 재개 버퍼/이벤트 분류/연결별 전송 큐 테스트
+ */
+class ChartSseServiceTest {
+
+    private static final String MARKET = "KRW-BTC";
+
+    private final ChartBroadcaster chartBroadcaster = mock(ChartBroadcaster.class);
+    private final CandleStreamService candleStreamService = mock(CandleStreamService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChartSseService service = new ChartSseService(chartBroadcaster, candleStreamService,
+            mock(MarketSubscriptionRegistry.class), new ObjectMapper(), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    @DisplayName("재개 ID 이후 이벤트만 순서대로 반환")
+    void replaySince() {
+        // given
+        ChartSseService.ReplayBuffer buffer = new ChartSseService.ReplayBuffer(3);
+        for (long id = 1; id <= 3; id++) {
+            buffer.add(event(id));
+        }
+
+        // when
+        List<ChartSseService.Event> missed = new ArrayList<>();
+        boolean complete = buffer.since(1, missed);
+
+        // then
+        assertThat(complete).isTrue();
+        assertThat(missed).extracting(ChartSseService.Event::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("재개 ID 이후 이벤트가 버퍼에서 밀려났으면 재개 불가")
+    void replayGap() {
+        // given
+        ChartSseService.ReplayBuffer buffer = new ChartSseService.ReplayBuffer(2);
+        for (long id = 1; id <= 4; id++) {
+            buffer.add(event(id));
+        }
+
+        // when
+        List<ChartSseService.Event> fromOne = new ArrayList<>();
+        List<ChartSseService.Event> fromTwo = new ArrayList<>();
+
+        // then
+        assertThat(buffer.since(1, fromOne)).isFalse();
+        assertThat(buffer.since(2, fromTwo)).isTrue();
+        assertThat(fromTwo).extracting(ChartSseService.Event::id).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("차트 마켓 토픽별 이벤트 이름")
+    void eventName() {
+        assertThat(ChartSseService.eventName("/topic/chart/KRW-BTC")).isEqualTo(ChartSseService.EVENT_CANDLE);
+        assertThat(ChartSseService.eventName("/topic/chart/v2/KRW-BTC")).isEqualTo(ChartSseService.EVENT_STREAM);
+        assertThat(ChartSseService.eventName("/topic/news")).isNull();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID는 같은 bootId일 때만 번호로 해석, 다른 노드/재시작 전/형식 오류는 재개 불가")
+    void parseEventId() {
+        assertThat(ChartSseService.parseEventId("a1b2c3d4-42", "a1b2c3d4")).isEqualTo(42);
+        assertThat(ChartSseService.parseEventId(null, "a1b2c3d4")).isEqualTo(-1);
+        assertThat(ChartSseService.parseEventId(" ", "a1b2c3d4")).isEqualTo(-1);
+        assertThat(ChartSseService.parseEventId("ffff0000-42", "a1b2c3d4")).isEqualTo(-2);
+        assertThat(ChartSseService.parseEventId("42", "a1b2c3d4")).isEqualTo(-2);
+        assertThat(ChartSseService.parseEventId("a1b2c3d4-x", "a1b2c3d4")).isEqualTo(-2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 이벤트 ID로 재개하면 번호가 작아도 reset 후 snapshot")
+    void resetsOnForeignEventId() throws Exception {
+        // given
+        start(60_000);
+        when(candleStreamService.snapshot(MARKET)).thenReturn(CandleStreamMessage.snapshot(MARKET, 7,
+                Candle.of(MARKET, 1700000040L, BigDecimal.TEN, BigDecimal.TEN, BigDecimal.TEN, BigDecimal.TEN,
+                        BigDecimal.ONE)));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // when
+        service.open(List.of(MARKET), "ffff0000-0", emitter);
+
+        // then
+        waitUntil(() -> emitter.events.size() == 2);
+        assertThat(emitter.events.get(0)).contains("event:" + ChartSseService.EVENT_RESET);
+        assertThat(emitter.events.get(1)).contains("event:" + ChartSseService.EVENT_SNAPSHOT)
+                .containsPattern("id:[0-9a-f]{8}-0");
+        assertThat(meterRegistry.counter("chart.sse.resume", "result", "reset").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 연결은 다른 연결의 전송을 막지 않고, 넘친 이벤트 대신 reset + snapshot을 받음")
+    void slowConnectionGetsResetWithoutBlockingOthers() throws Exception {
+        // given
+        BiConsumer<String, byte[]> broadcast = start(60_000);
+        when(candleStreamService.snapshot(MARKET)).thenReturn(CandleStreamMessage.snapshot(MARKET, 7,
+                Candle.of(MARKET, 1700000040L, BigDecimal.TEN, BigDecimal.TEN, BigDecimal.TEN, BigDecimal.TEN,
+                        BigDecimal.ONE)));
+        RecordingEmitter slow = new RecordingEmitter();
+        RecordingEmitter fast = new RecordingEmitter();
+        service.open(List.of(MARKET), null, slow);
+        service.open(List.of(MARKET), null, fast);
+        waitUntil(() -> fast.events.size() == 1 && slow.events.size() == 1);
+        slow.blockNext();
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            broadcast.accept("/topic/chart/v2/" + MARKET, "{}".getBytes(StandardCharsets.UTF_8));
+            int expected = i + 1;
+            waitUntil(() -> fast.events.size() == expected);
+        }
+
+        // then
+        assertThat(fast.events).filteredOn(event -> event.contains("event:" + ChartSseService.EVENT_STREAM))
+                .hasSize(5);
+
+        slow.release.countDown();
+        waitUntil(() -> slow.events.stream()
+                .anyMatch(event -> event.contains("event:" + ChartSseService.EVENT_RESET)));
+        waitUntil(() -> slow.events.get(slow.events.size() - 1)
+                .contains("event:" + ChartSseService.EVENT_SNAPSHOT));
+        assertThat(meterRegistry.counter("chart.sse.dropped").count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("전송이 send-timeout-ms 넘게 막힌 연결만 종료")
+    void evictsStalledConnection() throws Exception {
+        // given
+        BiConsumer<String, byte[]> broadcast = start(1);
+        RecordingEmitter slow = new RecordingEmitter();
+        service.open(List.of(MARKET), null, slow);
+        slow.blockNext();
+        broadcast.accept("/topic/chart/" + MARKET, "{}".getBytes(StandardCharsets.UTF_8));
+        assertThat(slow.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(10);
+
+        // when
+        service.evictStalled();
+        slow.release.countDown();
+
+        // then
+        assertThat(meterRegistry.counter("chart.sse.evicted", "reason", "send-timeout").count()).isEqualTo(1);
+        waitUntil(() -> slow.completed);
+        assertThat(meterRegistry.get("chart.sse.connections").gauge().value()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private BiConsumer<String, byte[]> start(long sendTimeoutMillis) {
+        ReflectionTestUtils.setField(service, "replaySize", 16);
+        ReflectionTestUtils.setField(service, "timeoutMillis", 60_000L);
+        ReflectionTestUtils.setField(service, "heartbeatSeconds", 3_600L);
+        ReflectionTestUtils.setField(service, "maxConnections", 10);
+        ReflectionTestUtils.setField(service, "maxMarkets", 5);
+        ReflectionTestUtils.setField(service, "senderThreads", 2);
+        ReflectionTestUtils.setField(service, "connectionQueueLimit", 2);
+        ReflectionTestUtils.setField(service, "sendTimeoutMillis", sendTimeoutMillis);
+        service.start();
+
+        ArgumentCaptor<BiConsumer<String, byte[]>> listener = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(chartBroadcaster).addLocalListener(listener.capture());
+        return listener.getValue();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 보낸 이벤트를 문자열로 기록, blockNext() 후 다음 전송은 release까지 대기
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch blocked = new CountDownLatch(0);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean block;
+        private volatile boolean completed;
+
+        void blockNext() {
+            blocked = new CountDownLatch(1);
+            block = true;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (block) {
+                block = false;
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(builder.build().stream()
+                    .map(data -> data.getData() instanceof String text ? text : "<data>")
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    private static ChartSseService.Event event(long id) {
+        return new ChartSseService.Event(id, "boot-" + id, ChartSseService.EVENT_CANDLE, new byte[]{'{', '}'});
+    }
+}
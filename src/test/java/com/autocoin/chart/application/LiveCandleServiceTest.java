@@ -0,0 +1,88 @@
+package com.autocoin.chart.application;
+
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.TradeTick;
+import com.autocoin.chart.dto.UpbitCandleDto;
+import com.autocoin.chart.infrastructure.CandleDataRepository;
+import com.autocoin.chart.infrastructure.CandleMemoryCache;
+import com.autocoin.chart.infrastructure.ReplayTradeTickSource;
+import com.autocoin.chart.infrastructure.TradeTickSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * LiveCandleService 테스트 (리플레이 파일 틱)
+ */
+class LiveCandleServiceTest {
+
+    private final CandleMemoryCache memoryCache = new CandleMemoryCache(10);
+    private final CandleDataRepository candleDataRepository = mock(CandleDataRepository.class);
+    private final CandleStreamService candleStreamService = mock(CandleStreamService.class);
+    private final LiveCandleService service = new LiveCandleService(mock(TradeTickSource.class), memoryCache,
+            candleDataRepository, candleStreamService, mock(MarketSubscriptionRegistry.class), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("체결로 진행 중 캔들을 만들고 다음 분 체결이 오면 마감 저장")
+    @SuppressWarnings("unchecked")
+    void buildsAndSeals() throws Exception {
+        // when
+        replay().forEach(service::onTick);
+
+        // then
+        ArgumentCaptor<List<UpbitCandleDto>> saved = ArgumentCaptor.forClass(List.class);
+        verify(candleDataRepository, times(1)).saveCandles(eq("KRW-BTC"), saved.capture());
+        UpbitCandleDto sealed = saved.getValue().get(0);
+        assertThat(sealed.getUnixTimestamp()).isEqualTo(1700000040L);
+        assertThat(sealed.getOpeningPrice()).isEqualByComparingTo("95000000");
+        assertThat(sealed.getHighPrice()).isEqualByComparingTo("95010000");
+        assertThat(sealed.getLowPrice()).isEqualByComparingTo("94990000");
+        assertThat(sealed.getTradePrice()).isEqualByComparingTo("95005000");
+        assertThat(sealed.getCandleAccTradeVolume()).isEqualByComparingTo("0.45");
+
+        Candle live = service.getLiveCandle("KRW-BTC");
+        assertThat(live.time()).isEqualTo(1700000100L);
+        assertThat(live.closePrice()).isEqualByComparingTo("95020000");
+    }
+
+    @Test
+    @DisplayName("push 주기마다 변경된 캔들만 한 번 전송하고 분 경계가 지나면 마감")
+    void throttlesAndSealsOnBoundary() throws Exception {
+        // given
+        replay().stream().filter(tick -> tick.market().equals("KRW-ETH")).forEach(service::onTick);
+
+        // when
+        service.flush(1700000052000L);
+        service.flush(1700000053000L);
+
+        // then
+        verify(candleStreamService, times(1)).onCandle(any(Candle.class));
+        assertThat(memoryCache.latestCandle("KRW-ETH", Timeframe.ONE_MINUTE).closePrice())
+                .isEqualByComparingTo("3000000");
+        verify(candleDataRepository, never()).saveCandles(eq("KRW-ETH"), any());
+
+        // when
+        service.flush(1700000100000L);
+
+        // then
+        verify(candleDataRepository, times(1)).saveCandles(eq("KRW-ETH"), any());
+        assertThat(service.getLiveCandle("KRW-ETH")).isNull();
+    }
+
+    private static List<TradeTick> replay() throws Exception {
+        return ReplayTradeTickSource.read(new ClassPathResource("chart/trades-replay.csv").getFile().toPath());
+    }
+}
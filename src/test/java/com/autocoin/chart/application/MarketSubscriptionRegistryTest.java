@@ -0,0 +1,80 @@
+package com.autocoin.chart.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * MarketSubscriptionRegistry 단위 테스트
+ */
+class MarketSubscriptionRegistryTest {
+
+    private static final long LINGER_SECONDS = 60;
+
+    @SuppressWarnings("unchecked")
+    private final MarketSubscriptionRegistry registry = new MarketSubscriptionRegistry(new SimpleMeterRegistry(),
+            mock(ObjectProvider.class), "local", LINGER_SECONDS);
+
+    private final List<Set<String>> notifications = new ArrayList<>();
+
+    MarketSubscriptionRegistryTest() {
+        registry.addListener(notifications::add);
+    }
+
+    @Test
+    @DisplayName("마지막 구독이 해제돼도 linger 동안 활성 유지 후 비활성화")
+    void referenceCountWithLinger() {
+        // given
+        registry.subscribe("s1", "sub-0", "/topic/chart/KRW-BTC");
+        registry.subscribe("s2", "sub-0", "/topic/chart/v2/krw-btc");
+
+        // when
+        registry.unsubscribe("s1", "sub-0");
+        registry.disconnect("s2");
+        long releasedAt = System.currentTimeMillis();
+
+        // then
+        assertThat(registry.isActive("KRW-BTC")).isTrue();
+
+        registry.sweep(releasedAt + (LINGER_SECONDS - 1) * 1000);
+        assertThat(registry.isActive("KRW-BTC")).isTrue();
+
+        registry.sweep(releasedAt + (LINGER_SECONDS + 1) * 1000);
+        assertThat(registry.isActive("KRW-BTC")).isFalse();
+        assertThat(notifications).containsExactly(Set.of("KRW-BTC"), Set.of());
+    }
+
+    @Test
+    @DisplayName("linger 중 다시 구독하면 비활성화되지 않음")
+    void resubscribeDuringLinger() {
+        // given
+        registry.subscribe("s1", "sub-0", "/topic/chart/KRW-ETH");
+        registry.unsubscribe("s1", "sub-0");
+
+        // when
+        registry.subscribe("s1", "sub-1", "/topic/chart/KRW-ETH");
+        registry.sweep(System.currentTimeMillis() + (LINGER_SECONDS + 1) * 1000);
+
+        // then
+        assertThat(registry.getActiveMarkets()).containsExactly("KRW-ETH");
+        assertThat(notifications).containsExactly(Set.of("KRW-ETH"));
+    }
+
+    @Test
+    @DisplayName("차트 마켓 토픽만 추적")
+    void marketOf() {
+        assertThat(MarketSubscriptionRegistry.marketOf("/topic/chart/KRW-BTC")).isEqualTo("KRW-BTC");
+        assertThat(MarketSubscriptionRegistry.marketOf("/topic/chart/v2/btc-eth")).isEqualTo("BTC-ETH");
+        assertThat(MarketSubscriptionRegistry.marketOf("/topic/news")).isNull();
+        assertThat(MarketSubscriptionRegistry.marketOf("/topic/chart/KRW-BTC/extra")).isNull();
+        assertThat(MarketSubscriptionRegistry.marketOf(null)).isNull();
+    }
+}
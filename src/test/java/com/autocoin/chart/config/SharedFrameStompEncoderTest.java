@@ -0,0 +1,124 @@
+package com.autocoin.chart.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SharedFrameStompEncoder 테스트 (기본 인코더와 프레임 동등성, 꼬리 공유)
+ */
+class SharedFrameStompEncoderTest {
+
+    private static final byte[] PAYLOAD = "{\"market\":\"KRW-BTC\",\"close\":95000000}".getBytes(StandardCharsets.UTF_8);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SharedFrameStompEncoder encoder = new SharedFrameStompEncoder(meterRegistry);
+
+    @Test
+    @DisplayName("기본 StompEncoder와 같은 헤더/본문으로 디코딩")
+    void equivalentToDefaultEncoder() {
+        // given
+        Map<String, Object> headers = messageHeaders("/topic/chart/KRW-BTC", "sub-0", "m:1");
+
+        // when
+        Message<byte[]> shared = decode(encoder.encode(headers, PAYLOAD));
+        Message<byte[]> standard = decode(new StompEncoder().encode(headers, PAYLOAD));
+
+        // then
+        StompHeaderAccessor sharedHeaders = StompHeaderAccessor.wrap(shared);
+        StompHeaderAccessor standardHeaders = StompHeaderAccessor.wrap(standard);
+        assertThat(sharedHeaders.getCommand()).isEqualTo(StompCommand.MESSAGE);
+        assertThat(sharedHeaders.toNativeHeaderMap()).isEqualTo(standardHeaders.toNativeHeaderMap());
+        assertThat(shared.getPayload()).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    @DisplayName("같은 payload는 구독 세션이 달라도 꼬리를 한 번만 생성")
+    void sharesTailAcrossSessions() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            Message<byte[]> message = decode(encoder.encode(messageHeaders("/topic/chart/KRW-BTC", "sub-" + i, "m-" + i), PAYLOAD));
+            assertThat(StompHeaderAccessor.wrap(message).getSubscriptionId()).isEqualTo("sub-" + i);
+        }
+        encoder.encode(messageHeaders("/topic/chart/KRW-ETH", "sub-0", "m-9"), PAYLOAD);
+
+        // then
+        assertThat(meterRegistry.counter("websocket.outbound.frame.cache", "result", "miss").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("websocket.outbound.frame.cache", "result", "hit").count()).isEqualTo(4);
+    }
+
+    /**
+     * 구독자 수별 브로드캐스트 1회 인코딩 CPU 시간 비교 (-Dbenchmark=true 일 때만 실행)
+     */
+    @Test
+    @DisplayName("구독자 수별 브로드캐스트당 인코딩 CPU 시간")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkFanOut() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        byte[] payload = new byte[180];
+        System.arraycopy(PAYLOAD, 0, payload, 0, PAYLOAD.length);
+
+        for (int subscribers : new int[]{10, 100, 1_000, 10_000}) {
+            List<Map<String, Object>> sessions = IntStream.range(0, subscribers)
+                    .mapToObj(i -> messageHeaders("/topic/chart/KRW-BTC", "sub-" + i, "m-" + i))
+                    .toList();
+            StompEncoder standard = new StompEncoder();
+
+            long standardNanos = cpuPerBroadcast(threads, () -> {
+                byte[] broadcast = payload.clone();
+                sessions.forEach(headers -> standard.encode(headers, broadcast));
+            });
+            long sharedNanos = cpuPerBroadcast(threads, () -> {
+                byte[] broadcast = payload.clone();
+                sessions.forEach(headers -> encoder.encode(headers, broadcast));
+            });
+
+            System.out.printf("subscribers=%d default=%dus shared=%dus%n",
+                    subscribers, standardNanos / 1_000, sharedNanos / 1_000);
+        }
+    }
+
+    private static long cpuPerBroadcast(ThreadMXBean threads, Runnable broadcast) {
+        int rounds = 50;
+        for (int i = 0; i < rounds; i++) {
+            broadcast.run();
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < rounds; i++) {
+            broadcast.run();
+        }
+        return (threads.getCurrentThreadCpuTime() - start) / rounds;
+    }
+
+    private static Map<String, Object> messageHeaders(String destination, String subscriptionId, String messageId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setMessageId(messageId);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return accessor.getMessageHeaders();
+    }
+
+    private static Message<byte[]> decode(byte[] frame) {
+        List<Message<byte[]>> messages = new StompDecoder().decode(ByteBuffer.wrap(frame));
+        assertThat(messages).hasSize(1);
+        return messages.get(0);
+    }
+}
@@ -0,0 +1,148 @@
+package com.autocoin.chart.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SlowConsumerWebSocketHandler 백프레셔 테스트 (브로커 → SubProtocolWebSocketHandler → 송신이 막힌 세션)
+ */
+class SlowConsumerWebSocketHandlerTest {
+
+    private static final String SESSION_ID = "session-1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = blockedSession();
+    }
+
+    @Test
+    @DisplayName("송신이 밀리면 같은 마켓 토픽은 최신 메시지만 전송하고 diff 토픽은 모두 전송")
+    void conflatesWhileSlow() throws Exception {
+        // given
+        SlowConsumerWebSocketHandler handler = handler(10);
+        handler.afterConnectionEstablished(session);
+
+        Thread first = new Thread(() -> handler.handleMessage(message("/topic/chart/KRW-BTC", "1")));
+        first.start();
+        assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        handler.handleMessage(message("/topic/chart/KRW-BTC", "2"));
+        handler.handleMessage(message("/topic/chart/KRW-BTC", "3"));
+        handler.handleMessage(message("/topic/chart/v2/KRW-BTC", "d1"));
+        assertThat(meterRegistry.get("websocket.outbound.queue.depth").gauge().value()).isEqualTo(2);
+        release.countDown();
+        first.join(1000);
+
+        // then
+        assertThat(delivered).containsExactly("1", "3", "d1");
+        assertThat(meterRegistry.get("websocket.outbound.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.counter("websocket.outbound.conflated", "topic", "/topic/chart/KRW-BTC").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 메시지가 한도를 넘으면 남은 메시지를 버리고 세션을 SESSION_NOT_RELIABLE로 종료")
+    void evictsOverLimit() throws Exception {
+        // given
+        SlowConsumerWebSocketHandler handler = handler(2);
+        handler.afterConnectionEstablished(session);
+
+        Thread first = new Thread(() -> handler.handleMessage(message("/topic/chart/v2/KRW-BTC", "0")));
+        first.start();
+        assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        for (int i = 1; i <= 3; i++) {
+            handler.handleMessage(message("/topic/chart/v2/KRW-BTC", String.valueOf(i)));
+        }
+        release.countDown();
+        first.join(1000);
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+
+        // then
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(delivered).containsExactly("0");
+        assertThat(meterRegistry.counter("websocket.sessions.evicted", "reason", "queue-limit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("websocket.outbound.dropped", "topic", "/topic/chart/v2/KRW-BTC").count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("websocket.outbound.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("websocket.outbound.sessions").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("STOMP MESSAGE 프레임에서만 destination 추출")
+    void destinationOf() {
+        assertThat(ConflatingSessionDecorator.destinationOf(new TextMessage(
+                "MESSAGE\ndestination:/topic/chart/KRW-BTC\ncontent-type:application/json\n\n{}\0")))
+                .isEqualTo("/topic/chart/KRW-BTC");
+        assertThat(ConflatingSessionDecorator.destinationOf(new TextMessage("\n"))).isNull();
+        assertThat(ConflatingSessionDecorator.destinationOf(new TextMessage("CONNECTED\nversion:1.2\n\n\0"))).isNull();
+    }
+
+    private SlowConsumerWebSocketHandler handler(int queueLimit) {
+        SlowConsumerWebSocketHandler handler = new SlowConsumerWebSocketHandler(new ExecutorSubscribableChannel(),
+                new ExecutorSubscribableChannel(), queueLimit, List.of("/topic/chart/*"), meterRegistry);
+        handler.addProtocolHandler(new StompSubProtocolHandler());
+        handler.setSendTimeLimit(10_000);
+        handler.setSendBufferSizeLimit(512 * 1024);
+        return handler;
+    }
+
+    private WebSocketSession blockedSession() throws Exception {
+        WebSocketSession delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn(SESSION_ID);
+        when(delegate.isOpen()).thenReturn(true);
+        when(delegate.getAttributes()).thenReturn(new HashMap<>());
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            String payload = (String) message.getPayload();
+            sending.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            delivered.add(payload.substring(payload.indexOf("\n\n") + 2, payload.length() - 1));
+            return null;
+        }).when(delegate).sendMessage(any());
+        return delegate;
+    }
+
+    private static Message<byte[]> message(String destination, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,78 @@
+package com.autocoin.chart.domain.model;
+
+import com.autocoin.chart.dto.RealtimeChartDto;
+import com.autocoin.chart.dto.UpbitCandleDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Candle 고정소수점 변환/직렬화 테스트
+ */
+class CandleTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Upbit DTO를 마켓 자릿수의 고정소수점 값으로 변환")
+    void fromUpbitCandle() {
+        // when
+        Candle candle = Candle.from(dto("KRW-BTC", "95000000.0", "0.12345678"));
+
+        // then
+        assertThat(candle.scale()).isEqualTo(new TickScale(6, 8));
+        assertThat(candle.close()).isEqualTo(95_000_000_000_000L);
+        assertThat(candle.volume()).isEqualTo(12_345_678L);
+        assertThat(candle.closePrice()).isEqualByComparingTo("95000000");
+    }
+
+    @Test
+    @DisplayName("가격이 0 이하면 null")
+    void rejectsNonPositivePrice() {
+        assertThat(Candle.from(dto("KRW-ETH", "0", "1"))).isNull();
+    }
+
+    @Test
+    @DisplayName("lightweight-charts 형태 JSON으로 직렬화")
+    void serializesAsLightweightChart() throws Exception {
+        // given
+        Candle candle = Candle.from(dto("BTC-XRP", "0.00000812", "100"));
+
+        // when
+        String json = objectMapper.writeValueAsString(candle);
+
+        // then
+        assertThat(json).isEqualTo(
+                "{\"time\":60,\"open\":0.00000812,\"high\":0.00000812,\"low\":0.00000812,\"close\":0.00000812}");
+    }
+
+    @Test
+    @DisplayName("실시간 캔들 메시지의 가격을 소수로 기록")
+    void serializesRealtimeUpdate() throws Exception {
+        // given
+        Candle candle = Candle.from(dto("KRW-DOGE", "215.5", "1000"));
+
+        // when
+        String json = objectMapper.writeValueAsString(RealtimeChartDto.createCandleUpdate("KRW-DOGE", candle));
+
+        // then
+        assertThat(json).isEqualTo("{\"market\":\"KRW-DOGE\",\"timestamp\":60,\"price\":215.5,\"type\":\"candle\","
+                + "\"candleData\":{\"time\":60,\"open\":215.5,\"high\":215.5,\"low\":215.5,\"close\":215.5}}");
+    }
+
+    private UpbitCandleDto dto(String market, String price, String volume) {
+        UpbitCandleDto dto = new UpbitCandleDto();
+        dto.setMarket(market);
+        dto.setCandleDateTimeUtc("1970-01-01T00:01:00");
+        dto.setOpeningPrice(new BigDecimal(price));
+        dto.setHighPrice(new BigDecimal(price));
+        dto.setLowPrice(new BigDecimal(price));
+        dto.setTradePrice(new BigDecimal(price));
+        dto.setCandleAccTradeVolume(new BigDecimal(volume));
+        return dto;
+    }
+}
@@ -0,0 +1,105 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.FixedPoint;
+import com.autocoin.chart.domain.model.TickScale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CandleBinaryCodec 단위 테스트
+ */
+class CandleBinaryCodecTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 시간 오름차순으로 같은 가격 복원")
+    void roundTrip() {
+        // given
+        List<Candle> candles = List.of(
+                candle("KRW-BTC", 120, "95001000", "95005000", "94990000", "95002000"),
+                candle("KRW-BTC", 60, "95000000", "95003000", "94999000", "95001000")
+        );
+
+        // when
+        List<Candle> decoded = CandleBinaryCodec.decode(CandleBinaryCodec.encode(candles), "KRW-BTC");
+
+        // then
+        assertThat(decoded).extracting(Candle::time).containsExactly(60L, 120L);
+        assertThat(decoded.get(0).openPrice()).isEqualByComparingTo("95000000");
+        assertThat(decoded.get(0).lowPrice()).isEqualByComparingTo("94999000");
+        assertThat(decoded.get(1).highPrice()).isEqualByComparingTo("95005000");
+        assertThat(decoded.get(1).closePrice()).isEqualByComparingTo("95002000");
+    }
+
+    @Test
+    @DisplayName("소수점 가격은 마켓 자릿수 그대로 복원")
+    void roundTripFractional() {
+        // given
+        List<Candle> candles = List.of(candle("BTC-ETH", 60, "0.0525", "0.05301", "0.052", "0.00000001"));
+
+        // when
+        Candle decoded = CandleBinaryCodec.decode(CandleBinaryCodec.encode(candles), "BTC-ETH").get(0);
+
+        // then
+        assertThat(decoded.openPrice()).isEqualByComparingTo("0.0525");
+        assertThat(decoded.highPrice()).isEqualByComparingTo("0.05301");
+        assertThat(decoded.lowPrice()).isEqualByComparingTo("0.052");
+        assertThat(decoded.closePrice()).isEqualByComparingTo("0.00000001");
+    }
+
+    @Test
+    @DisplayName("메모리 캐시 바이너리는 JSON보다 작고 레코드 인코딩과 동일")
+    void memoryCacheBinary() {
+        // given
+        CandleMemoryCache cache = new CandleMemoryCache(1000);
+        List<Candle> candles = new ArrayList<>();
+        long price = 95_000_000;
+        for (int i = 0; i < 1000; i++) {
+            long next = price + (i % 7 - 3) * 1000L;
+            candles.add(candle("KRW-BTC", 60L * (i + 1), String.valueOf(price), String.valueOf(Math.max(price, next) + 2000),
+                    String.valueOf(Math.min(price, next) - 1000), String.valueOf(next)));
+            price = next;
+        }
+        cache.putCandles("KRW-BTC", Timeframe.ONE_MINUTE, candles);
+
+        // when
+        byte[] binary = cache.toBinary("KRW-BTC", Timeframe.ONE_MINUTE);
+        byte[] json = cache.toLightweightChartJson("KRW-BTC");
+
+        // then
+        assertThat(binary).isEqualTo(CandleBinaryCodec.encode(candles));
+        assertThat(binary.length * 10).isLessThan(json.length);
+        assertThat(CandleBinaryCodec.decode(binary, "KRW-BTC"))
+                .extracting(Candle::closePrice)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyElementsOf(candles.stream().map(Candle::closePrice).toList());
+    }
+
+    @Test
+    @DisplayName("Accept 헤더에 바이너리 타입이 명시된 경우만 바이너리 응답")
+    void isRequested() {
+        assertThat(CandleBinaryCodec.isRequested("application/x-autocoin-candles")).isTrue();
+        assertThat(CandleBinaryCodec.isRequested("application/json, application/x-autocoin-candles;q=0.9")).isTrue();
+        assertThat(CandleBinaryCodec.isRequested("*/*")).isFalse();
+        assertThat(CandleBinaryCodec.isRequested("application/json")).isFalse();
+        assertThat(CandleBinaryCodec.isRequested(null)).isFalse();
+    }
+
+    private static Candle candle(String market, long time, String open, String high, String low, String close) {
+        TickScale scale = TickScale.of(market);
+        int priceScale = scale.priceScale();
+        return new Candle(market, time,
+                FixedPoint.toScaled(new BigDecimal(open), priceScale),
+                FixedPoint.toScaled(new BigDecimal(high), priceScale),
+                FixedPoint.toScaled(new BigDecimal(low), priceScale),
+                FixedPoint.toScaled(new BigDecimal(close), priceScale),
+                0, scale);
+    }
+}
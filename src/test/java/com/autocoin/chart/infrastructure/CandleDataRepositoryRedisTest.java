@@ -0,0 +1,115 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.config.RedisConfig;
+import com.autocoin.chart.dto.UpbitCandleDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CandleDataRepository 정렬 집합 upsert/trim 스크립트와 기존 키 이전 테스트 (실제 Redis, Docker 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CandleDataRepositoryRedisTest {
+
+    private static final String MARKET = "KRW-BTC";
+    private static final String SORTED_SET_KEY = "candles:KRW-BTC:1m";
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private CandleDataRepository repository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+        repository = new CandleDataRepository(redisTemplate, stringRedisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(repository, "storageModeValue", "zset");
+    }
+
+    @Test
+    @DisplayName("같은 시각 캔들은 덮어쓰고 최신 100개만 남기며 TTL 설정")
+    void upsertsAndTrims() {
+        // given
+        List<UpbitCandleDto> candles = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            candles.add(candle(BASE.plusMinutes(i), "100"));
+        }
+
+        // when
+        repository.saveCandles(MARKET, CandleDataRepository.DEFAULT_TIMEFRAME, candles);
+        repository.saveCandles(MARKET, CandleDataRepository.DEFAULT_TIMEFRAME,
+                List.of(candle(BASE.plusMinutes(119), "200")));
+
+        // then
+        List<UpbitCandleDto> stored = repository.getCandles(MARKET, CandleDataRepository.DEFAULT_TIMEFRAME);
+        assertThat(stored).hasSize(100);
+        assertThat(stored.get(0).getCandleDateTimeUtc()).isEqualTo(BASE.plusMinutes(119).toString());
+        assertThat(stored.get(0).getTradePrice()).isEqualByComparingTo("200");
+        assertThat(stored.get(99).getCandleDateTimeUtc()).isEqualTo(BASE.plusMinutes(20).toString());
+        assertThat(stringRedisTemplate.getExpire(SORTED_SET_KEY)).isPositive();
+    }
+
+    @Test
+    @DisplayName("기존 blob 키를 정렬 집합으로 옮긴 뒤 기존 키 삭제")
+    void migratesLegacyBlob() {
+        // given
+        redisTemplate.opsForValue().set("candles:" + MARKET,
+                new ArrayList<>(List.of(candle(BASE.plusMinutes(1), "101"), candle(BASE, "100"))));
+
+        // when
+        int migrated = repository.migrateLegacyCandles(MARKET);
+
+        // then
+        assertThat(migrated).isEqualTo(2);
+        assertThat(redisTemplate.hasKey("candles:" + MARKET)).isFalse();
+        assertThat(stringRedisTemplate.opsForZSet().zCard(SORTED_SET_KEY)).isEqualTo(2);
+    }
+
+    private static UpbitCandleDto candle(LocalDateTime time, String close) {
+        UpbitCandleDto candle = new UpbitCandleDto();
+        candle.setMarket(MARKET);
+        candle.setCandleDateTimeUtc(time.toString());
+        candle.setOpeningPrice(new BigDecimal("100"));
+        candle.setHighPrice(new BigDecimal("110"));
+        candle.setLowPrice(new BigDecimal("90"));
+        candle.setTradePrice(new BigDecimal(close));
+        candle.setCandleAccTradeVolume(new BigDecimal("1.5"));
+        return candle;
+    }
+}
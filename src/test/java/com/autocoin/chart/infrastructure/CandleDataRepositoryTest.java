@@ -0,0 +1,157 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.dto.UpbitCandleDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CandleDataRepository 기존 blob 키 이전 테스트 (정렬 집합 저장이 확인된 뒤에만 기존 키 삭제)
+ */
+class CandleDataRepositoryTest {
+
+    private static final String MARKET = "KRW-BTC";
+    private static final String LEGACY_KEY = "candles:KRW-BTC";
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+    private final CandleDataRepository repository =
+            new CandleDataRepository(redisTemplate, stringRedisTemplate, new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(repository, "storageModeValue", "zset");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("정렬 집합 저장이 확인되면 기존 키를 지우고 이후에는 다시 이전하지 않음")
+    @SuppressWarnings("unchecked")
+    void deletesLegacyKeyAfterConfirmedUpsert() {
+        // given
+        when(valueOperations.get(LEGACY_KEY)).thenReturn(List.of(candle("2024-01-01T00:00:00"), candle("2024-01-01T00:01:00")));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(2L);
+
+        // when
+        int migrated = repository.migrateLegacyCandles(MARKET);
+        repository.getCandles(MARKET, CandleDataRepository.DEFAULT_TIMEFRAME);
+
+        // then
+        assertThat(migrated).isEqualTo(2);
+        verify(redisTemplate).delete(LEGACY_KEY);
+        verify(valueOperations, times(1)).get(LEGACY_KEY);
+    }
+
+    @Test
+    @DisplayName("정렬 집합 저장이 실패하면 기존 키를 남기고 다음 접근 시 다시 이전")
+    @SuppressWarnings("unchecked")
+    void keepsLegacyKeyWhenUpsertFails() {
+        // given
+        when(valueOperations.get(LEGACY_KEY)).thenReturn(List.of(candle("2024-01-01T00:00:00")));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        int migrated = repository.migrateLegacyCandles(MARKET);
+        repository.getCandles(MARKET, CandleDataRepository.DEFAULT_TIMEFRAME);
+
+        // then
+        assertThat(migrated).isZero();
+        verify(redisTemplate, never()).delete(anyString());
+        verify(valueOperations, times(2)).get(LEGACY_KEY);
+    }
+
+    @Test
+    @DisplayName("기존 키 조회가 실패하면 이전 완료로 표시하지 않음")
+    void retriesWhenLegacyReadFails() {
+        // given
+        when(valueOperations.get(LEGACY_KEY)).thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong())).thenReturn(null);
+
+        // when
+        repository.migrateLegacyCandles(MARKET);
+        repository.getCandles(MARKET, CandleDataRepository.DEFAULT_TIMEFRAME);
+
+        // then
+        verify(redisTemplate, never()).delete(anyString());
+        verify(valueOperations, times(2)).get(LEGACY_KEY);
+    }
+
+    @Test
+    @DisplayName("기존 값을 읽을 수 없으면 이전 완료로 표시하지 않고 기존 키를 남김")
+    void retriesWhenLegacyValueUnreadable() {
+        // given
+        when(valueOperations.get(LEGACY_KEY)).thenReturn("not-a-candle-list");
+        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong())).thenReturn(null);
+
+        // when
+        int migrated = repository.migrateLegacyCandles(MARKET);
+        repository.getCandles(MARKET, CandleDataRepository.DEFAULT_TIMEFRAME);
+
+        // then
+        assertThat(migrated).isZero();
+        verify(redisTemplate, never()).delete(anyString());
+        verify(valueOperations, times(2)).get(LEGACY_KEY);
+    }
+
+    @Test
+    @DisplayName("정렬 집합 저장 실패 시 in-memory fallback은 타임프레임별로 분리")
+    @SuppressWarnings("unchecked")
+    void keepsInMemoryFallbackPerTimeframe() {
+        // given
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        repository.saveCandles(MARKET, "1m", List.of(candle("2024-01-01T00:01:00")));
+        repository.saveCandles(MARKET, "5m", List.of(candle("2024-01-01T00:00:00")));
+
+        // then
+        assertThat(repository.getCandles(MARKET, "1m"))
+                .extracting(UpbitCandleDto::getCandleDateTimeUtc).containsExactly("2024-01-01T00:01:00");
+        assertThat(repository.getCandles(MARKET, "5m"))
+                .extracting(UpbitCandleDto::getCandleDateTimeUtc).containsExactly("2024-01-01T00:00:00");
+    }
+
+    private static UpbitCandleDto candle(String time) {
+        UpbitCandleDto candle = new UpbitCandleDto();
+        candle.setMarket(MARKET);
+        candle.setCandleDateTimeUtc(time);
+        candle.setOpeningPrice(new BigDecimal("100"));
+        candle.setHighPrice(new BigDecimal("110"));
+        candle.setLowPrice(new BigDecimal("90"));
+        candle.setTradePrice(new BigDecimal("105"));
+        candle.setCandleAccTradeVolume(new BigDecimal("1.5"));
+        return candle;
+    }
+}
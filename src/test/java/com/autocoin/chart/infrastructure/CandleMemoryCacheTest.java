@@ -0,0 +1,129 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.enums.Timeframe;
+import com.autocoin.chart.dto.UpbitCandleDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CandleMemoryCache / CandleRingBuffer 단위 테스트
+ */
+class CandleMemoryCacheTest {
+
+    @Test
+    @DisplayName("캔들을 시간 오름차순 JSON으로 변환")
+    void toLightweightChartJson() {
+        // given
+        CandleMemoryCache cache = new CandleMemoryCache(10);
+        cache.putAll("KRW-BTC", List.of(
+                candle(120, "95000100", "95000500", "94999000", "95000200"),
+                candle(60, "95000000", "95000300", "94999900", "95000100")
+        ));
+
+        // when
+        String json = new String(cache.toLightweightChartJson("KRW-BTC"), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(json).isEqualTo(
+                "[{\"time\":60,\"open\":95000000,\"high\":95000300,\"low\":94999900,\"close\":95000100},"
+                + "{\"time\":120,\"open\":95000100,\"high\":95000500,\"low\":94999000,\"close\":95000200}]");
+    }
+
+    @Test
+    @DisplayName("소수점 가격은 뒤쪽 0 없이 기록")
+    void writesFractionalPrices() {
+        // given
+        CandleMemoryCache cache = new CandleMemoryCache(10);
+        cache.put("BTC-ETH", candle("BTC-ETH", 60, "0.0525", "0.05301", "0.052", "0.00000001"));
+
+        // when
+        String json = new String(cache.toLightweightChartJson("BTC-ETH"), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(json).isEqualTo(
+                "[{\"time\":60,\"open\":0.0525,\"high\":0.05301,\"low\":0.052,\"close\":0.00000001}]");
+    }
+
+    @Test
+    @DisplayName("콘텐츠 태그는 최신 캔들 내용이 바뀔 때만 바뀌고 같은 데이터를 가진 캐시끼리 같음")
+    void contentTag() {
+        // given
+        CandleMemoryCache cache = new CandleMemoryCache(10);
+        CandleMemoryCache replica = new CandleMemoryCache(10);
+        cache.put("KRW-BTC", candle(60, "95000000", "95000300", "94999900", "95000100"));
+        String before = cache.contentTag("KRW-BTC", Timeframe.ONE_MINUTE);
+
+        // when
+        cache.put("KRW-BTC", candle(60, "95000000", "95000500", "94999900", "95000400"));
+        replica.put("KRW-BTC", candle(60, "95000000", "95000300", "94999900", "95000100"));
+        replica.put("KRW-BTC", candle(60, "95000000", "95000500", "94999900", "95000400"));
+        replica.put("KRW-BTC", candle(60, "95000000", "95000500", "94999900", "95000400"));
+
+        // then
+        assertThat(before).startsWith("60-");
+        assertThat(cache.contentTag("KRW-BTC", Timeframe.ONE_MINUTE))
+                .isNotEqualTo(before)
+                .isEqualTo(replica.contentTag("KRW-BTC", Timeframe.ONE_MINUTE));
+        assertThat(cache.contentTag("KRW-ETH", Timeframe.ONE_MINUTE)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 시각 캔들은 덮어쓰고 용량을 넘으면 오래된 캔들부터 제거")
+    void overwritesAndEvicts() {
+        // given
+        CandleRingBuffer buffer = new CandleRingBuffer(3);
+        for (long time = 1; time <= 5; time++) {
+            buffer.append(time, time, time, time, time, time);
+        }
+        buffer.append(5, 5, 9, 5, 7, 5);
+
+        // when
+        CandleRingBuffer.Snapshot snapshot = new CandleRingBuffer.Snapshot(3);
+        int size = buffer.readInto(snapshot);
+
+        // then
+        assertThat(size).isEqualTo(3);
+        assertThat(snapshot.times).containsExactly(3, 4, 5);
+        assertThat(snapshot.highs[2]).isEqualTo(9);
+        assertThat(snapshot.closes[2]).isEqualTo(7);
+        assertThat(buffer.append(2, 1, 1, 1, 1, 1)).isFalse();
+
+        // 보관 중인 과거 시각은 그 자리에 덮어씀 (롤업 재집계)
+        assertThat(buffer.append(4, 4, 8, 4, 6, 4)).isTrue();
+        buffer.readInto(snapshot);
+        assertThat(snapshot.times).containsExactly(3, 4, 5);
+        assertThat(snapshot.highs[1]).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("데이터가 없는 마켓은 null 반환")
+    void returnsNullForUnknownMarket() {
+        CandleMemoryCache cache = new CandleMemoryCache(10);
+
+        assertThat(cache.toLightweightChartJson("KRW-XRP")).isNull();
+    }
+
+    private UpbitCandleDto candle(long time, String open, String high, String low, String close) {
+        return candle("KRW-BTC", time, open, high, low, close);
+    }
+
+    private UpbitCandleDto candle(String market, long time, String open, String high, String low, String close) {
+        UpbitCandleDto candle = new UpbitCandleDto();
+        candle.setMarket(market);
+        candle.setCandleDateTimeUtc(LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC).toString());
+        candle.setTimestamp(time * 1000);
+        candle.setOpeningPrice(new BigDecimal(open));
+        candle.setHighPrice(new BigDecimal(high));
+        candle.setLowPrice(new BigDecimal(low));
+        candle.setTradePrice(new BigDecimal(close));
+        return candle;
+    }
+}
@@ -0,0 +1,129 @@
+package com.autocoin.chart.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChartBroadcaster 단위 테스트 (로컬 / 중계 모드)
+ */
+class ChartBroadcasterTest {
+
+    @Test
+    @DisplayName("중계가 없으면 한 번 직렬화한 바이트를 로컬 브로커로 바로 전송")
+    @SuppressWarnings("unchecked")
+    void localMode() {
+        // given
+        SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+        ChartBroadcaster broadcaster = broadcaster(template, null);
+
+        // when
+        broadcaster.broadcast("/topic/chart/KRW-BTC", Map.of("price", 1));
+
+        // then
+        ArgumentCaptor<Message<?>> message = ArgumentCaptor.forClass(Message.class);
+        verify(template, times(1)).send(eq("/topic/chart/KRW-BTC"), message.capture());
+        verify(template, never()).convertAndSend(anyString(), any(Object.class));
+        assertThat(new String((byte[]) message.getValue().getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"price\":1}");
+    }
+
+    @Test
+    @DisplayName("로컬 리스너가 있으면 한 번 직렬화해 STOMP와 리스너에 같은 바이트 전달")
+    void localListener() {
+        // given
+        SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+        ChartBroadcaster broadcaster = broadcaster(template, null);
+        List<byte[]> received = new ArrayList<>();
+        broadcaster.addLocalListener((destination, json) -> received.add(json));
+
+        // when
+        broadcaster.broadcast("/topic/chart/KRW-BTC", Map.of("price", 1));
+
+        // then
+        ArgumentCaptor<Message<?>> message = ArgumentCaptor.forClass(Message.class);
+        verify(template, times(1)).send(eq("/topic/chart/KRW-BTC"), message.capture());
+        verify(template, never()).convertAndSend(anyString(), any(Object.class));
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0)).isSameAs(message.getValue().getPayload());
+    }
+
+    @Test
+    @DisplayName("중계 모드에서는 한 번 발행하고 모든 노드가 로컬 구독자에게 전송")
+    @SuppressWarnings("unchecked")
+    void relayMode() {
+        // given
+        InMemoryChartBroadcastRelay relay = new InMemoryChartBroadcastRelay();
+        SimpMessagingTemplate nodeA = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate nodeB = mock(SimpMessagingTemplate.class);
+        ChartBroadcaster publisher = broadcaster(nodeA, relay);
+        broadcaster(nodeB, relay);
+
+        // when
+        publisher.broadcast("/topic/chart/KRW-BTC", Map.of("price", 1));
+
+        // then
+        for (SimpMessagingTemplate node : new SimpMessagingTemplate[]{nodeA, nodeB}) {
+            ArgumentCaptor<Message<?>> message = ArgumentCaptor.forClass(Message.class);
+            verify(node, times(1)).send(eq("/topic/chart/KRW-BTC"), message.capture());
+            verify(node, never()).convertAndSend(anyString(), any(Object.class));
+            assertThat(new String((byte[]) message.getValue().getPayload(), StandardCharsets.UTF_8))
+                    .isEqualTo("{\"price\":1}");
+        }
+    }
+
+    @Test
+    @DisplayName("임대가 넘어가는 동안 두 노드가 같은 토픽을 발행하면 현재 발행자 프레임만 전달")
+    void dropsDuplicatePublisher() {
+        // given
+        SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+        ChartBroadcaster broadcaster = broadcaster(template, null);
+        byte[] json = "{\"price\":1}".getBytes(StandardCharsets.UTF_8);
+        byte[] nodeA = ChartBroadcaster.encode("node-a".getBytes(StandardCharsets.UTF_8), "/topic/chart/KRW-BTC", json);
+        byte[] nodeB = ChartBroadcaster.encode("node-b".getBytes(StandardCharsets.UTF_8), "/topic/chart/KRW-BTC", json);
+        byte[] otherTopic = ChartBroadcaster.encode("node-b".getBytes(StandardCharsets.UTF_8), "/topic/chart/KRW-ETH", json);
+
+        // when
+        broadcaster.deliver(nodeA, 1_000);
+        broadcaster.deliver(nodeB, 1_500);
+        broadcaster.deliver(otherTopic, 1_500);
+        broadcaster.deliver(nodeA, 2_000);
+        // node-a가 임대 시간(3초) 넘게 조용하면 node-b로 교체
+        broadcaster.deliver(nodeB, 5_500);
+        broadcaster.deliver(nodeA, 5_600);
+
+        // then
+        verify(template, times(3)).send(eq("/topic/chart/KRW-BTC"), any(Message.class));
+        verify(template, times(1)).send(eq("/topic/chart/KRW-ETH"), any(Message.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChartBroadcaster broadcaster(SimpMessagingTemplate template, ChartBroadcastRelay relay) {
+        ObjectProvider<ChartBroadcastRelay> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(relay);
+        ChartPublisherLease lease = new ChartPublisherLease(new SimpleMeterRegistry(), mock(ObjectProvider.class), "local", 3_000);
+        ChartBroadcaster broadcaster = new ChartBroadcaster(template, new ObjectMapper(), provider, new SimpleMeterRegistry(), lease);
+        broadcaster.subscribeRelay();
+        return broadcaster;
+    }
+}
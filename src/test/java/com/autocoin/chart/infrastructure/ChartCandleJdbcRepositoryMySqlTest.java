@@ -0,0 +1,143 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.entity.ChartCandle;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.repository.ChartCandleJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChartCandleJdbcRepository MySQL 경로 테스트 (ON DUPLICATE KEY UPDATE, 실제 MySQL, Docker 없으면 건너뜀)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ChartCandleJdbcRepository.class)
+@Testcontainers(disabledWithoutDocker = true)
+class ChartCandleJdbcRepositoryMySqlTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+    }
+
+    @Autowired
+    private ChartCandleJdbcRepository chartCandleJdbcRepository;
+
+    @Autowired
+    private ChartCandleJpaRepository chartCandleJpaRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    @DisplayName("새 캔들은 삽입하고 같은 키의 캔들은 갱신 (ON DUPLICATE KEY UPDATE)")
+    void upsertAll() {
+        // given
+        chartCandleJdbcRepository.upsertAll(List.of(candle("KRW-BTC", 60, "100"), candle("KRW-BTC", 120, "200")));
+
+        // when
+        int saved = chartCandleJdbcRepository.upsertAll(
+                List.of(candle("KRW-BTC", 120, "250"), candle("KRW-BTC", 180, "300")));
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        assertThat(chartCandleJpaRepository.countByMarketAndTimeframe("KRW-BTC", "1m")).isEqualTo(3);
+        List<Candle> streamed = new ArrayList<>();
+        chartCandleJdbcRepository.streamLatest("KRW-BTC", "1m", 2, streamed::add);
+        assertThat(streamed).extracting(Candle::time).containsExactly(180L, 120L);
+        assertThat(streamed.get(1).closePrice()).isEqualByComparingTo("250");
+    }
+
+    /**
+     * 캔들 10만 개 저장 시 JPA saveAll(행마다 IDENTITY INSERT)과 다중 행 upsert의 초당 저장 행 수 비교 (MySQL)
+     * (-Dbenchmark=true 이고 Docker가 있을 때만 실행)
+     */
+    @Test
+    @DisplayName("MySQL에서 saveAll 대비 다중 행 upsert 초당 저장 행 수 (10만 건)")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkUpsertAll() {
+        int rows = 100_000;
+
+        // 워밍업 (커넥션/statement 캐시, JIT)
+        measureSaveAll("KRW-XRP", 0, 5_000);
+        measureUpsertAll("KRW-XRP", 5_000, 5_000);
+
+        long saveAll = measureSaveAll("KRW-BTC", 0, rows);
+        long upsertInsert = measureUpsertAll("KRW-ETH", 0, rows);
+        long upsertUpdate = measureUpsertAll("KRW-ETH", 0, rows);
+
+        System.out.printf("mysql rows=%d saveAll=%d rows/s upsertAll(insert)=%d rows/s upsertAll(update)=%d rows/s%n",
+                rows, rowsPerSecond(rows, saveAll), rowsPerSecond(rows, upsertInsert), rowsPerSecond(rows, upsertUpdate));
+        assertThat(chartCandleJpaRepository.countByMarketAndTimeframe("KRW-ETH", "1m")).isEqualTo(rows);
+    }
+
+    private long measureSaveAll(String market, long offset, int rows) {
+        List<ChartCandle> candles = candles(market, offset, rows);
+        long start = System.nanoTime();
+        chartCandleJpaRepository.saveAll(candles);
+        testEntityManager.flush();
+        long elapsed = System.nanoTime() - start;
+        testEntityManager.clear();
+        return elapsed;
+    }
+
+    private long measureUpsertAll(String market, long offset, int rows) {
+        List<ChartCandle> candles = candles(market, offset, rows);
+        long start = System.nanoTime();
+        chartCandleJdbcRepository.upsertAll(candles);
+        return System.nanoTime() - start;
+    }
+
+    private static List<ChartCandle> candles(String market, long offset, int rows) {
+        List<ChartCandle> candles = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            candles.add(candle(market, (offset + i) * 60, "95000000"));
+        }
+        return candles;
+    }
+
+    private static long rowsPerSecond(int rows, long nanos) {
+        return rows * 1_000_000_000L / Math.max(1, nanos);
+    }
+
+    private static ChartCandle candle(String market, long time, String close) {
+        BigDecimal price = new BigDecimal(close);
+        return ChartCandle.builder()
+                .market(market)
+                .timeframe("1m")
+                .candleTime(time)
+                .openPrice(price)
+                .highPrice(price)
+                .lowPrice(price)
+                .closePrice(price)
+                .volume(BigDecimal.ONE)
+                .timestamp(time * 1000)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.entity.ChartCandle;
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.repository.ChartCandleJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChartCandleJdbcRepository 다중 행 upsert / 스트리밍 조회 테스트 (H2)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ChartCandleJdbcRepository.class)
+class ChartCandleJdbcRepositoryTest {
+
+    @Autowired
+    private ChartCandleJdbcRepository chartCandleJdbcRepository;
+
+    @Autowired
+    private ChartCandleJpaRepository chartCandleJpaRepository;
+
+    @Test
+    @DisplayName("새 캔들은 삽입하고 같은 키의 캔들은 갱신")
+    void upsertAll() {
+        // given
+        chartCandleJdbcRepository.upsertAll(List.of(candle(60, "100"), candle(120, "200")));
+
+        // when
+        int saved = chartCandleJdbcRepository.upsertAll(List.of(candle(120, "250"), candle(180, "300")));
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        assertThat(chartCandleJpaRepository.countByMarketAndTimeframe("KRW-BTC", "1m")).isEqualTo(3);
+        assertThat(chartCandleJpaRepository.findByMarketAndTimeframeAndCandleTime("KRW-BTC", "1m", 120L))
+                .get()
+                .extracting(ChartCandle::getClosePrice)
+                .satisfies(close -> assertThat(close).isEqualByComparingTo("250"));
+    }
+
+    @Test
+    @DisplayName("최신 캔들부터 limit 개수만 행 단위로 전달")
+    void streamLatest() {
+        // given
+        chartCandleJdbcRepository.upsertAll(List.of(candle(60, "100"), candle(120, "200"), candle(180, "300")));
+        List<Candle> streamed = new ArrayList<>();
+
+        // when
+        int rows = chartCandleJdbcRepository.streamLatest("KRW-BTC", "1m", 2, streamed::add);
+
+        // then
+        assertThat(rows).isEqualTo(2);
+        assertThat(streamed).extracting(Candle::time).containsExactly(180L, 120L);
+        assertThat(streamed.get(0).closePrice()).isEqualByComparingTo("300");
+    }
+
+    private ChartCandle candle(long time, String close) {
+        BigDecimal price = new BigDecimal(close);
+        return ChartCandle.builder()
+                .market("KRW-BTC")
+                .timeframe("1m")
+                .candleTime(time)
+                .openPrice(price)
+                .highPrice(price)
+                .lowPrice(price)
+                .closePrice(price)
+                .volume(BigDecimal.ONE)
+                .timestamp(time * 1000)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.autocoin.chart.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChartPublisherLease 테스트 (local 모드, Redis 임대 획득/캐시/오류)
+ */
+class ChartPublisherLeaseTest {
+
+    @Test
+    @DisplayName("local 모드에서는 Redis 없이 항상 발행")
+    @SuppressWarnings("unchecked")
+    void localModeAlwaysPublishes() {
+        // given
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(mock(StringRedisTemplate.class));
+
+        // when
+        ChartPublisherLease lease = new ChartPublisherLease(new SimpleMeterRegistry(), provider, "local", 3_000);
+
+        // then
+        assertThat(lease.isClustered()).isFalse();
+        assertThat(lease.isPublisher("KRW-BTC")).isTrue();
+    }
+
+    @Test
+    @DisplayName("redis 모드에서는 임대 결과를 lease-ms/3 동안 재사용하고 다른 노드가 보유하면 발행하지 않음")
+    @SuppressWarnings("unchecked")
+    void cachesLeaseResult() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redisTemplate);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("chart:publisher:KRW-BTC")), anyString(), anyString()))
+                .thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("chart:publisher:KRW-ETH")), anyString(), anyString()))
+                .thenReturn(0L);
+        ChartPublisherLease lease = new ChartPublisherLease(new SimpleMeterRegistry(), provider, "redis", 3_000);
+
+        // when
+        boolean first = lease.isPublisher("KRW-BTC", 0);
+        boolean cached = lease.isPublisher("KRW-BTC", 999);
+        boolean renewed = lease.isPublisher("KRW-BTC", 1_000);
+        boolean other = lease.isPublisher("KRW-ETH", 0);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(cached).isTrue();
+        assertThat(renewed).isTrue();
+        assertThat(other).isFalse();
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of("chart:publisher:KRW-BTC")),
+                eq(lease.nodeId()), eq("3000"));
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시에는 이 노드가 발행 (구독자 누락 방지)")
+    @SuppressWarnings("unchecked")
+    void publishesOnRedisError() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redisTemplate);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .thenThrow(new IllegalStateException("connection refused"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ChartPublisherLease lease = new ChartPublisherLease(meterRegistry, provider, "redis", 3_000);
+
+        // when
+        boolean publisher = lease.isPublisher("KRW-BTC", 0);
+
+        // then
+        assertThat(publisher).isTrue();
+        assertThat(meterRegistry.counter("chart.broadcast.lease.errors").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,85 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.chart.domain.model.Candle;
+import com.autocoin.chart.domain.model.TickScale;
+import com.autocoin.chart.dto.CandleStreamMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChartStreamSequence 테스트 (공유 번호 예약, snapshot 기록/조회)
+ */
+class ChartStreamSequenceTest {
+
+    private static final Candle CANDLE = new Candle("KRW-BTC", 60, 9_500_000, 9_600_000, 9_400_000, 9_550_000,
+            123_456_789L, new TickScale(0, 8));
+
+    @Test
+    @DisplayName("번호 예약 시 같은 스크립트로 마지막 캔들을 기록하고, snapshot은 번호와 캔들을 함께 읽음")
+    @SuppressWarnings("unchecked")
+    void reserveAndSnapshot() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .thenReturn(42L);
+        when(values.multiGet(List.of("chart:stream:seq:KRW-BTC", "chart:stream:snapshot:KRW-BTC")))
+                .thenReturn(List.of("42", ChartStreamSequence.encode(CANDLE)));
+        ChartStreamSequence sequence = sequence(redisTemplate, "redis");
+
+        // when
+        long last = sequence.reserve(CANDLE, 3);
+        CandleStreamMessage snapshot = sequence.snapshot("KRW-BTC");
+
+        // then
+        assertThat(last).isEqualTo(42);
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("chart:stream:seq:KRW-BTC", "chart:stream:snapshot:KRW-BTC")),
+                eq("3"), eq(ChartStreamSequence.encode(CANDLE)), eq("86400000"));
+        assertThat(snapshot).isEqualTo(CandleStreamMessage.snapshot("KRW-BTC", 42, CANDLE));
+    }
+
+    @Test
+    @DisplayName("기록이 없거나 Redis 오류면 snapshot null, 예약 -1")
+    @SuppressWarnings("unchecked")
+    void missingOrFailing() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .thenThrow(new IllegalStateException("connection refused"));
+        ChartStreamSequence sequence = sequence(redisTemplate, "redis");
+
+        // when & then
+        assertThat(sequence.snapshot("KRW-BTC")).isNull();
+        assertThat(sequence.reserve(CANDLE, 1)).isEqualTo(-1);
+        assertThat(sequence(redisTemplate, "local").isClustered()).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChartStreamSequence sequence(StringRedisTemplate redisTemplate, String mode) {
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(redisTemplate);
+        return new ChartStreamSequence(new SimpleMeterRegistry(), provider, mode, 86_400_000);
+    }
+}
@@ -0,0 +1,83 @@
+package com.autocoin.chart.infrastructure;
+
+import com.autocoin.global.exception.core.ErrorCode;
+import com.autocoin.upbit.exception.UpbitApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ChartUpbitApiClient 재시도 정책 테스트 (레이트 리밋 초과는 재시도 제외)
+ */
+@SpringJUnitConfig(ChartUpbitApiClientTest.RetryConfig.class)
+class ChartUpbitApiClientTest {
+
+    @Autowired
+    private ChartUpbitApiClient client;
+
+    @Autowired
+    private RestTemplate upbitRestTemplate;
+
+    @BeforeEach
+    void setUp() {
+        reset(upbitRestTemplate);
+    }
+
+    @Test
+    @DisplayName("레이트 리밋 초과(UPBIT_RATE_LIMITED)는 재시도 없이 그대로 전달")
+    void doesNotRetryRateLimited() {
+        // given
+        when(upbitRestTemplate.getForObject(any(URI.class), eq(String.class)))
+            .thenThrow(new UpbitApiException(ErrorCode.UPBIT_RATE_LIMITED, "quotation 그룹 대기 초과"));
+
+        // when & then
+        assertThatThrownBy(() -> client.getCandles("KRW-BTC", 200)).isInstanceOf(UpbitApiException.class);
+        verify(upbitRestTemplate, times(1)).getForObject(any(URI.class), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("그 외 호출 실패는 최대 3회까지 재시도")
+    void retriesOtherFailures() {
+        // given
+        when(upbitRestTemplate.getForObject(any(URI.class), eq(String.class)))
+            .thenThrow(new ResourceAccessException("connection reset"));
+
+        // when & then
+        assertThatThrownBy(() -> client.getCandles("KRW-BTC", 200)).isInstanceOf(RuntimeException.class);
+        verify(upbitRestTemplate, times(3)).getForObject(any(URI.class), eq(String.class));
+    }
+
+    @Configuration
+    @EnableRetry
+    static class RetryConfig {
+
+        @Bean
+        RestTemplate upbitRestTemplate() {
+            return mock(RestTemplate.class);
+        }
+
+        @Bean
+        ChartUpbitApiClient chartUpbitApiClient(RestTemplate upbitRestTemplate) {
+            return new ChartUpbitApiClient(upbitRestTemplate, new ObjectMapper());
+        }
+    }
+}
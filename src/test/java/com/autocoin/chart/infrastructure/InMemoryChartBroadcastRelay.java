@@ -0,0 +1,23 @@
+package com.autocoin.chart.infrastructure;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 대체 테스트용 중계 (같은 인스턴스를 공유한 노드끼리 동기 전달)
+ */
+class InMemoryChartBroadcastRelay implements ChartBroadcastRelay {
+
+    private final List<Consumer<byte[]>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(byte[] frame) {
+        listeners.forEach(listener -> listener.accept(frame));
+    }
+
+    @Override
+    public void subscribe(Consumer<byte[]> listener) {
+        listeners.add(listener);
+    }
+}
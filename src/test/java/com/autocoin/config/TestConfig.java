@@ -3,6 +3,7 @@ package com.autocoin.config;
 import com.amazonaws.services.s3.AmazonS3;
 import com.autocoin.file.application.service.S3UploaderInterface;
 import com.autocoin.notification.service.SlackNotificationService;
+import com.autocoin.upbit.application.UpbitRequestSigner;
 import com.autocoin.upbit.infrastructure.UpbitApiClient;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -13,9 +14,6 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 /**
  * 테스트를 위한 포괄적인 Bean 설정
@@ -96,17 +94,14 @@ public class TestConfig {
         
         // Mock 동작 설정 - 실제 메서드 시그니처에 맞춤
         try {
-            // 빈 리스트나 맵 반환
-            List<Map<String, Object>> emptyList = new ArrayList<>();
-            Map<String, Object> emptyMap = new HashMap<>();
-            
-            Mockito.when(mock.getMarkets()).thenReturn(emptyList);
-            Mockito.when(mock.getAccounts(Mockito.anyString(), Mockito.anyString())).thenReturn(new ArrayList<>());
+            // 빈 리스트 반환
+            Mockito.when(mock.getMarkets()).thenReturn(new ArrayList<>());
+            Mockito.when(mock.getAccounts(Mockito.any(UpbitRequestSigner.class))).thenReturn(new ArrayList<>());
             Mockito.when(mock.getTickers(Mockito.anyList())).thenReturn(new ArrayList<>());
-            Mockito.when(mock.getOrderbook(Mockito.anyList())).thenReturn(emptyList);
-            Mockito.when(mock.getDayCandles(Mockito.anyString(), Mockito.anyString(), Mockito.anyInt())).thenReturn(emptyList);
-            Mockito.when(mock.getMinuteCandles(Mockito.anyInt(), Mockito.anyString(), Mockito.anyString(), Mockito.anyInt())).thenReturn(emptyList);
-            Mockito.when(mock.getTrades(Mockito.anyString(), Mockito.anyString(), Mockito.anyInt(), Mockito.anyString())).thenReturn(emptyList);
+            Mockito.when(mock.getOrderbook(Mockito.anyList())).thenReturn(new ArrayList<>());
+            Mockito.when(mock.getDayCandles(Mockito.anyString(), Mockito.anyString(), Mockito.anyInt())).thenReturn(new ArrayList<>());
+            Mockito.when(mock.getMinuteCandles(Mockito.anyInt(), Mockito.anyString(), Mockito.anyString(), Mockito.anyInt())).thenReturn(new ArrayList<>());
+            Mockito.when(mock.getTrades(Mockito.anyString(), Mockito.anyString(), Mockito.anyInt(), Mockito.anyString())).thenReturn(new ArrayList<>());
         } catch (Exception e) {
             // Mock 설정 중 예외 처리
         }
@@ -0,0 +1,67 @@
+package com.autocoin.global.config.web;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PooledHttpClientFactory 테스트 (keep-alive 재사용, 풀 메트릭)
+ */
+class PooledHttpClientFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PooledHttpClientFactory factory = new PooledHttpClientFactory(meterRegistry, 1000, 30, 30);
+    private HttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("연속 요청은 같은 커넥션을 재사용하고 반납 후 유휴 커넥션으로 집계")
+    void reusesKeepAliveConnection() throws Exception {
+        // given
+        Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        RestTemplate restTemplate = new RestTemplate(factory.create("test", 1000, 1000, 2, 2));
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/ping";
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(restTemplate.getForObject(url, String.class)).isEqualTo("pong");
+        }
+
+        // then
+        assertThat(clientPorts).hasSize(1);
+        assertThat(gauge("http.client.pool.leased")).isZero();
+        assertThat(gauge("http.client.pool.available")).isEqualTo(1);
+        assertThat(gauge("http.client.pool.max")).isEqualTo(2);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("client", "test").gauge().value();
+    }
+}
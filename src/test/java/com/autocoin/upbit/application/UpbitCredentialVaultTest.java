@@ -0,0 +1,96 @@
+package com.autocoin.upbit.application;
+
+import com.autocoin.global.util.AESUtil;
+import com.autocoin.upbit.domain.entity.UpbitAccount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UpbitCredentialVault 테스트 (복호화 재사용, 암호문 변경 감지, 무효화/만료 시 키/서명기 폐기)
+ */
+class UpbitCredentialVaultTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpbitCryptoService cryptoService = cryptoService();
+    private final UpbitCredentialVault vault = new UpbitCredentialVault(cryptoService, meterRegistry, 60_000, 2);
+
+    @Test
+    @DisplayName("같은 계정은 TTL 동안 한 번만 복호화하고 암호문이 바뀌면 다시 복호화")
+    void reusesDecryptedKeysUntilCiphertextChanges() {
+        // given
+        UpbitAccount account = account(1L, "access-1", "secret-1");
+
+        // when
+        UpbitCredentialVault.UpbitCredentials first = vault.get(account, 0);
+        UpbitCredentialVault.UpbitCredentials second = vault.get(account, 1_000);
+        account.updateApiKeys(cryptoService.encrypt("access-2"), cryptoService.encrypt("secret-2"));
+        UpbitCredentialVault.UpbitCredentials rotated = vault.get(account, 2_000);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.isDestroyed()).isTrue();
+        assertThat(first.signer().isDestroyed()).isTrue();
+        assertThat(rotated.signer().accessKey()).isEqualTo("access-2");
+        assertThat(rotated.signer().sign(null)).startsWith("Bearer ");
+        assertThat(rotated.accessKey()).isEqualTo("access-2");
+        assertThat(rotated.secretKey()).isEqualTo("secret-2");
+        assertThat(meterRegistry.counter("upbit.credential.vault", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("upbit.credential.vault", "result", "miss").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화/만료된 키는 0으로 지워지고 더 이상 꺼낼 수 없음")
+    void destroysInvalidatedAndExpiredKeys() {
+        // given
+        UpbitCredentialVault.UpbitCredentials invalidated = vault.get(account(1L, "access-1", "secret-1"), 0);
+        UpbitCredentialVault.UpbitCredentials expired = vault.get(account(2L, "access-2", "secret-2"), 0);
+
+        // when
+        vault.invalidate(1L);
+        vault.sweep(60_000);
+
+        // then
+        assertThat(invalidated.isDestroyed()).isTrue();
+        assertThat(expired.isDestroyed()).isTrue();
+        assertThatThrownBy(invalidated::secretKey).isInstanceOf(IllegalStateException.class);
+        assertThat(invalidated.signer().isDestroyed()).isTrue();
+        assertThat(expired.signer().isDestroyed()).isTrue();
+        assertThatThrownBy(() -> invalidated.signer().sign(null)).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("upbit.credential.vault.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("max-entries를 넘으면 가장 먼저 만료될 항목부터 제거")
+    void evictsOldestBeyondMaxEntries() {
+        // given
+        UpbitCredentialVault.UpbitCredentials oldest = vault.get(account(1L, "access-1", "secret-1"), 0);
+        vault.get(account(2L, "access-2", "secret-2"), 10);
+
+        // when
+        vault.get(account(3L, "access-3", "secret-3"), 20);
+
+        // then
+        assertThat(oldest.isDestroyed()).isTrue();
+        assertThat(meterRegistry.get("upbit.credential.vault.size").gauge().value()).isEqualTo(2);
+    }
+
+    private UpbitAccount account(Long id, String accessKey, String secretKey) {
+        return UpbitAccount.builder()
+            .id(id)
+            .encryptedAccessKey(cryptoService.encrypt(accessKey))
+            .encryptedSecretKey(cryptoService.encrypt(secretKey))
+            .accountState(UpbitAccount.AccountState.ACTIVE)
+            .build();
+    }
+
+    private static UpbitCryptoService cryptoService() {
+        UpbitCryptoService service = new UpbitCryptoService(new AESUtil());
+        ReflectionTestUtils.setField(service, "encryptionKey", "test-encryption-key");
+        return service;
+    }
+}
@@ -0,0 +1,98 @@
+package com.autocoin.upbit.application;
+
+import com.autocoin.global.exception.core.CustomException;
+import com.autocoin.upbit.domain.model.OrderBook;
+import com.autocoin.upbit.dto.response.OrderbookResponseDto;
+import com.autocoin.upbit.infrastructure.OrderbookSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * UpbitOrderbookService 테스트 (첫 요청 조회, 공급원 갱신, 모아보기/depth 응답)
+ */
+class UpbitOrderbookServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderbookSource orderbookSource = mock(OrderbookSource.class);
+    private final UpbitOrderbookService service = new UpbitOrderbookService(orderbookSource, meterRegistry, 60_000, 60);
+
+    @Test
+    @DisplayName("첫 요청은 즉시 조회해 갱신 대상에 넣고 이후 요청은 공급원이 넣어준 호가로 응답")
+    @SuppressWarnings("unchecked")
+    void fetchesOnceThenServesFromSource() {
+        // given
+        ArgumentCaptor<Consumer<OrderBook>> sink = ArgumentCaptor.forClass(Consumer.class);
+        service.start();
+        verify(orderbookSource).start(sink.capture());
+        when(orderbookSource.fetch(List.of("KRW-BTC", "KRW-NONE"))).thenReturn(List.of(book("KRW-BTC", 100)));
+
+        // when
+        List<OrderbookResponseDto> first = service.getOrderbooks(List.of("krw-btc", "KRW-NONE"), 15, 1);
+        sink.getValue().accept(book("KRW-BTC", 200));
+        List<OrderbookResponseDto> second = service.getOrderbooks(List.of("KRW-BTC"), 2, 1);
+
+        // then
+        assertThat(first).extracting(OrderbookResponseDto::getMarket).containsExactly("KRW-BTC");
+        assertThat(second.get(0).getOrderbookUnits()).hasSize(2);
+        assertThat(second.get(0).getOrderbookUnits().get(0).getAskPrice()).isEqualTo(201);
+        verify(orderbookSource).updateMarkets(List.of("KRW-BTC"));
+        verify(orderbookSource, times(1)).fetch(any());
+        assertThat(meterRegistry.counter("upbit.orderbook.requests", "result", "memory").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모아보기 배수를 적용하고 미리 계산하지 않은 배수는 거절")
+    void appliesGrouping() {
+        // given
+        when(orderbookSource.fetch(List.of("KRW-BTC"))).thenReturn(List.of(book("KRW-BTC", 100)));
+
+        // when
+        OrderbookResponseDto grouped = service.getOrderbooks(List.of("KRW-BTC"), 15, 10).get(0);
+
+        // then
+        assertThat(grouped.getLevel()).isEqualTo(10);
+        assertThat(grouped.getOrderbookUnits().get(0).getAskPrice()).isEqualTo(110);
+        assertThat(grouped.getOrderbookUnits().get(0).getAskSize()).isEqualTo(10);
+        assertThatThrownBy(() -> service.getOrderbooks(List.of("KRW-BTC"), 15, 3)).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("요청이 끊긴 마켓은 갱신 대상에서 제외")
+    void sweepsIdleMarkets() {
+        // given
+        when(orderbookSource.fetch(List.of("KRW-BTC"))).thenReturn(List.of(book("KRW-BTC", 100)));
+        service.getOrderbooks(List.of("KRW-BTC"), 15, 1);
+
+        // when
+        service.sweep(System.currentTimeMillis() + 61_000);
+
+        // then
+        verify(orderbookSource).updateMarkets(List.of());
+        assertThat(meterRegistry.get("upbit.orderbook.markets").gauge().value()).isZero();
+    }
+
+    private static OrderBook book(String market, double mid) {
+        double[] askPrices = new double[10];
+        double[] bidPrices = new double[10];
+        double[] sizes = new double[10];
+        for (int i = 0; i < 10; i++) {
+            askPrices[i] = mid + 1 + i;
+            bidPrices[i] = mid - i;
+            sizes[i] = 1;
+        }
+        return OrderBook.of(market, 1L, 10, 10, askPrices, sizes, bidPrices, sizes.clone(), new int[]{1, 10});
+    }
+}
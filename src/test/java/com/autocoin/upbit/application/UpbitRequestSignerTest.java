@@ -0,0 +1,211 @@
+package com.autocoin.upbit.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UpbitRequestSigner 테스트 (JWT 형식/서명 검증, query_hash, 동시 사용, 폐기)
+ */
+class UpbitRequestSignerTest {
+
+    private static final String ACCESS_KEY = "test-access-key";
+    private static final String SECRET_KEY = "test-secret-key";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("query 없는 요청은 access_key/nonce만 담고 HS256 서명이 검증됨")
+    void signsWithoutQueryHash() throws Exception {
+        // given
+        UpbitRequestSigner signer = new UpbitRequestSigner(ACCESS_KEY, SECRET_KEY);
+
+        // when
+        String token = signer.sign(null);
+
+        // then
+        JsonNode payload = verify(token);
+        assertThat(payload.get("access_key").asText()).isEqualTo(ACCESS_KEY);
+        assertThat(UUID.fromString(payload.get("nonce").asText())).isNotNull();
+        assertThat(payload.has("query_hash")).isFalse();
+    }
+
+    @Test
+    @DisplayName("query가 있으면 SHA-512 hex query_hash와 query_hash_alg를 포함")
+    void signsWithQueryHash() throws Exception {
+        // given
+        UpbitRequestSigner signer = new UpbitRequestSigner(ACCESS_KEY, SECRET_KEY);
+        String query = "market=KRW-BTC&side=bid&price=10000&ord_type=price";
+        String expectedHash = HexFormat.of().formatHex(
+            MessageDigest.getInstance("SHA-512").digest(query.getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        signer.sign(null);
+        String token = signer.sign(query);
+
+        // then
+        JsonNode payload = verify(token);
+        assertThat(payload.get("query_hash").asText()).isEqualTo(expectedHash);
+        assertThat(payload.get("query_hash_alg").asText()).isEqualTo("SHA512");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 서명기를 써도 토큰마다 서명이 맞고 nonce가 겹치지 않음")
+    void signsConcurrently() throws Exception {
+        // given
+        UpbitRequestSigner signer = new UpbitRequestSigner(ACCESS_KEY, SECRET_KEY);
+        Set<String> nonces = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // when
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 250; j++) {
+                        String token = signer.sign(j % 2 == 0 ? null : "market=KRW-BTC&uuid=" + thread + "-" + j);
+                        nonces.add(verify(token).get("nonce").asText());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(nonces).hasSize(1_000);
+    }
+
+    @Test
+    @DisplayName("폐기된 서명기는 secret key를 지우고 더 이상 서명하지 않음")
+    void refusesToSignAfterDestroy() {
+        // given
+        byte[] secretKey = SECRET_KEY.getBytes(StandardCharsets.UTF_8);
+        UpbitRequestSigner signer = new UpbitRequestSigner(ACCESS_KEY, secretKey);
+        signer.sign(null);
+
+        // when
+        signer.destroy();
+
+        // then
+        assertThat(signer.isDestroyed()).isTrue();
+        // 서명기는 넘겨받은 배열을 복사해 쓰므로 호출자 원본은 그대로
+        assertThat(secretKey).isEqualTo(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> signer.sign(null)).isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * 기존 방식(호출마다 Mac.getInstance + String.format)과 서명기의 토큰 1개당 CPU 시간/할당량 비교
+     * (-Dbenchmark=true 일 때만 실행)
+     */
+    @Test
+    @DisplayName("기존 JWT 생성 대비 서명기 CPU 시간/할당량")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkSigning() throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        UpbitRequestSigner signer = new UpbitRequestSigner(ACCESS_KEY, SECRET_KEY);
+        String query = "market=KRW-BTC&side=bid&volume=0.01&price=95000000&ord_type=limit";
+
+        for (String queryString : new String[]{null, query}) {
+            long[] legacy = measure(threads, () -> legacyToken(ACCESS_KEY, SECRET_KEY, queryString));
+            long[] reused = measure(threads, () -> signer.sign(queryString));
+
+            System.out.printf("query=%s legacy=%dns/%dB signer=%dns/%dB%n", queryString != null,
+                legacy[0], legacy[1], reused[0], reused[1]);
+        }
+    }
+
+    private JsonNode verify(String token) throws Exception {
+        assertThat(token).startsWith("Bearer ");
+        String[] parts = token.substring("Bearer ".length()).split("\\.");
+        assertThat(parts).hasSize(3);
+
+        JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[0]));
+        assertThat(header.get("alg").asText()).isEqualTo("HS256");
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String expected = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(mac.doFinal((parts[0] + "." + parts[1]).getBytes(StandardCharsets.UTF_8)));
+        assertThat(parts[2]).isEqualTo(expected);
+
+        return objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+    }
+
+    private static long[] measure(com.sun.management.ThreadMXBean threads, Supplier<String> task) {
+        int rounds = 50_000;
+        long sink = 0;
+        for (int i = 0; i < rounds; i++) {
+            sink += task.get().length();
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytes = threads.getThreadAllocatedBytes(threadId);
+        long cpu = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < rounds; i++) {
+            sink += task.get().length();
+        }
+        long[] result = {
+            (threads.getCurrentThreadCpuTime() - cpu) / rounds,
+            (threads.getThreadAllocatedBytes(threadId) - bytes) / rounds
+        };
+        assertThat(sink).isPositive();
+        return result;
+    }
+
+    /**
+     * 변경 전 UpbitAuthService.generateAuthorizationToken 구현 (비교용)
+     */
+    private static String legacyToken(String accessKey, String secretKey, String queryString) {
+        try {
+            String encodedHeader = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+            String nonce = UUID.randomUUID().toString();
+            String payload;
+            if (queryString == null) {
+                payload = String.format("{\"access_key\":\"%s\",\"nonce\":\"%s\"}", accessKey, nonce);
+            } else {
+                MessageDigest md = MessageDigest.getInstance("SHA-512");
+                md.update(queryString.getBytes(StandardCharsets.UTF_8));
+                String queryHash = Base64.getEncoder().encodeToString(md.digest());
+                payload = String.format(
+                    "{\"access_key\":\"%s\",\"nonce\":\"%s\",\"query_hash\":\"%s\",\"query_hash_alg\":\"SHA512\"}",
+                    accessKey, nonce, queryHash);
+            }
+            String message = encodedHeader + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return "Bearer " + message + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.autocoin.upbit.application;
+
+import com.autocoin.upbit.dto.UpbitMarketDto;
+import com.autocoin.upbit.dto.UpbitTickerDto;
+import com.autocoin.upbit.infrastructure.CoalescingUpbitApiClient;
+import com.autocoin.upbit.infrastructure.UpbitApiClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * UpbitTickerSnapshotService 테스트 (KRW 일괄 갱신, 메모리 응답, 조회 대체)
+ */
+class UpbitTickerSnapshotServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpbitApiClient upbitApiClient = mock(UpbitApiClient.class);
+    private final CoalescingUpbitApiClient coalescingUpbitApiClient = mock(CoalescingUpbitApiClient.class);
+    private final UpbitTickerSnapshotService service =
+        new UpbitTickerSnapshotService(upbitApiClient, coalescingUpbitApiClient, meterRegistry, false, 1000, 5000);
+
+    @Test
+    @DisplayName("KRW 마켓 전체를 한 번에 갱신하고 요청 마켓은 메모리에서 요청 순서대로 응답")
+    void servesTickersFromSnapshot() {
+        // given
+        when(coalescingUpbitApiClient.getMarkets()).thenReturn(List.of(
+            market("KRW-BTC"), market("BTC-ETH"), market("KRW-ETH")));
+        when(upbitApiClient.getTickers(List.of("KRW-BTC", "KRW-ETH")))
+            .thenReturn(List.of(ticker("KRW-BTC", 95_000_000), ticker("KRW-ETH", 4_000_000)));
+
+        // when
+        service.refresh();
+        List<UpbitTickerDto> tickers = service.getTickers(List.of("krw-eth", " KRW-BTC"));
+
+        // then
+        assertThat(tickers).extracting(UpbitTickerDto::getMarket).containsExactly("KRW-ETH", "KRW-BTC");
+        assertThat(service.getSnapshot().tickers()).hasSize(2);
+        assertThat(meterRegistry.counter("upbit.ticker.snapshot.requests", "result", "memory").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("upbit.ticker.snapshot.age").timeGauge().value()).isLessThan(5);
+        verify(coalescingUpbitApiClient, never()).getTickers(anyList());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 마켓이 섞이면 Upbit 조회로 대체")
+    void fallsBackForUnknownMarkets() {
+        // given
+        when(coalescingUpbitApiClient.getMarkets()).thenReturn(List.of(market("KRW-BTC")));
+        when(upbitApiClient.getTickers(List.of("KRW-BTC"))).thenReturn(List.of(ticker("KRW-BTC", 95_000_000)));
+        when(coalescingUpbitApiClient.getTickers(List.of("KRW-BTC", "BTC-ETH")))
+            .thenReturn(List.of(ticker("KRW-BTC", 95_000_000), ticker("BTC-ETH", 0)));
+        service.refresh();
+
+        // when
+        List<UpbitTickerDto> tickers = service.getTickers(List.of("KRW-BTC", "BTC-ETH"));
+
+        // then
+        assertThat(tickers).hasSize(2);
+        assertThat(meterRegistry.counter("upbit.ticker.snapshot.requests", "result", "fallback").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 이전 스냅샷 유지")
+    void keepsPreviousSnapshotOnFailure() {
+        // given
+        when(coalescingUpbitApiClient.getMarkets()).thenReturn(List.of(market("KRW-BTC")));
+        when(upbitApiClient.getTickers(anyList()))
+            .thenReturn(List.of(ticker("KRW-BTC", 95_000_000)))
+            .thenThrow(new RuntimeException("시세 정보 조회 실패"));
+        service.refresh();
+        UpbitTickerSnapshotService.Snapshot before = service.getSnapshot();
+
+        // when
+        service.refresh();
+
+        // then
+        assertThat(service.getSnapshot()).isSameAs(before);
+        assertThat(meterRegistry.counter("upbit.ticker.snapshot.refresh.errors").count()).isEqualTo(1);
+    }
+
+    private static UpbitTickerDto ticker(String market, long price) {
+        return UpbitTickerDto.builder().market(market).tradePrice(BigDecimal.valueOf(price)).build();
+    }
+
+    private static UpbitMarketDto market(String market) {
+        return new UpbitMarketDto(market, null, null, null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.autocoin.upbit.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderBook 테스트 (기본 호가 단위 추정, 모아보기 집계)
+ */
+class OrderBookTest {
+
+    @Test
+    @DisplayName("기본 호가 단위를 추정하고 배수별로 매도는 올림, 매수는 내림 구간으로 합산")
+    void aggregatesByGrouping() {
+        // given
+        double[] askPrices = {1000, 1001, 1002, 1009, 1011};
+        double[] askSizes = {1, 2, 3, 4, 5};
+        double[] bidPrices = {999, 998, 990, 989};
+        double[] bidSizes = {1, 1, 1, 1};
+
+        // when
+        OrderBook book = OrderBook.of("KRW-TEST", 1L, 15, 4, askPrices, askSizes, bidPrices, bidSizes, new int[]{10, 1});
+
+        // then
+        assertThat(book.tickSize()).isEqualTo(1);
+        assertThat(book.groupings()).containsExactly(1, 10);
+        assertThat(book.levels(1).askCount()).isEqualTo(5);
+        assertThat(book.levels(5)).isNull();
+
+        OrderBook.Levels grouped = book.levels(10);
+        assertThat(grouped.unit()).isEqualTo(10);
+        assertThat(grouped.askCount()).isEqualTo(3);
+        assertThat(grouped.askPrice(0)).isEqualTo(1000);
+        assertThat(grouped.askSize(0)).isEqualTo(1);
+        assertThat(grouped.askPrice(1)).isEqualTo(1010);
+        assertThat(grouped.askSize(1)).isEqualTo(9);
+        assertThat(grouped.askPrice(2)).isEqualTo(1020);
+        assertThat(grouped.bidCount()).isEqualTo(2);
+        assertThat(grouped.bidPrice(0)).isEqualTo(990);
+        assertThat(grouped.bidSize(0)).isEqualTo(3);
+        assertThat(grouped.bidPrice(1)).isEqualTo(980);
+    }
+
+    @Test
+    @DisplayName("소수 호가 단위도 부동소수점 오차 없이 집계")
+    void aggregatesFractionalTicks() {
+        // when
+        OrderBook book = OrderBook.of("KRW-TEST", 1L, 3, 2,
+            new double[]{1.23, 1.24, 1.25}, new double[]{1, 1, 1},
+            new double[]{1.22, 1.21}, new double[]{1, 1}, new int[]{1, 10});
+
+        // then
+        assertThat(book.tickSize()).isEqualTo(0.01);
+        OrderBook.Levels grouped = book.levels(10);
+        assertThat(grouped.askCount()).isEqualTo(1);
+        assertThat(grouped.askPrice(0)).isEqualTo(1.3);
+        assertThat(grouped.askSize(0)).isEqualTo(3);
+        assertThat(grouped.bidPrice(0)).isEqualTo(1.2);
+    }
+}
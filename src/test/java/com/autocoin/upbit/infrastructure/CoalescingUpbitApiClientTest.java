@@ -0,0 +1,135 @@
+package com.autocoin.upbit.infrastructure;
+
+import com.autocoin.upbit.dto.UpbitMarketCandleDto;
+import com.autocoin.upbit.dto.UpbitMarketDto;
+import com.autocoin.upbit.dto.UpbitOrderbookDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CoalescingUpbitApiClient 테스트 (동시 요청 병합, TTL 캐시, 실패 비캐시)
+ */
+class CoalescingUpbitApiClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpbitApiClient upbitApiClient = mock(UpbitApiClient.class);
+
+    @Test
+    @DisplayName("동시에 들어온 같은 호가 요청은 Upbit을 한 번만 호출하고 결과를 공유")
+    void coalescesConcurrentRequests() throws Exception {
+        // given
+        CoalescingUpbitApiClient client = client(0);
+        CountDownLatch upstreamStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<UpbitOrderbookDto> orderbook = List.of(orderbook("KRW-BTC"));
+        when(upbitApiClient.getOrderbook(anyList())).thenAnswer(invocation -> {
+            upstreamStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return orderbook;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // when
+            List<Future<List<UpbitOrderbookDto>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> client.getOrderbook(List.of("KRW-BTC"))));
+            assertThat(upstreamStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> client.getOrderbook(List.of("KRW-BTC"))));
+            }
+            while (meterRegistry.counter("upbit.api.cache", "endpoint", "orderbook", "result", "coalesced").count() < 7) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // then
+            for (Future<List<UpbitOrderbookDto>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(orderbook);
+            }
+            verify(upbitApiClient, times(1)).getOrderbook(anyList());
+            assertThat(meterRegistry.counter("upbit.api.cache", "endpoint", "orderbook", "result", "miss").count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("TTL 안의 같은 요청은 캐시에서 응답하고 다른 파라미터는 새로 호출")
+    void servesFromCacheWithinTtl() {
+        // given
+        CoalescingUpbitApiClient client = client(60_000);
+        when(upbitApiClient.getMinuteCandles(1, "KRW-BTC", null, 200)).thenReturn(List.of(candle("KRW-BTC")));
+        when(upbitApiClient.getMinuteCandles(1, "KRW-ETH", null, 200)).thenReturn(List.of(candle("KRW-ETH")));
+
+        // when
+        client.getMinuteCandles(1, "KRW-BTC", null, 200);
+        client.getMinuteCandles(1, "KRW-BTC", null, 200);
+        client.getMinuteCandles(1, "KRW-ETH", null, 200);
+
+        // then
+        verify(upbitApiClient, times(1)).getMinuteCandles(1, "KRW-BTC", null, 200);
+        verify(upbitApiClient, times(1)).getMinuteCandles(1, "KRW-ETH", null, 200);
+        assertThat(meterRegistry.counter("upbit.api.cache", "endpoint", "candles", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("upbit.api.cache", "endpoint", "candles", "result", "miss").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패한 응답은 캐시하지 않고 다음 요청에서 다시 호출")
+    void doesNotCacheFailures() {
+        // given
+        CoalescingUpbitApiClient client = client(60_000);
+        when(upbitApiClient.getMarkets())
+            .thenThrow(new RuntimeException("마켓 코드 조회 실패"))
+            .thenReturn(List.of(new UpbitMarketDto("KRW-BTC", "비트코인", "Bitcoin", null)));
+
+        // when & then
+        assertThatThrownBy(client::getMarkets).hasMessage("마켓 코드 조회 실패");
+        assertThat(client.getMarkets()).hasSize(1);
+        verify(upbitApiClient, times(2)).getMarkets();
+    }
+
+    @Test
+    @DisplayName("로더가 Error를 던져도 항목을 정리해 다음 요청이 막히지 않음")
+    void releasesEntryOnError() {
+        // given
+        CoalescingUpbitApiClient client = client(60_000);
+        when(upbitApiClient.getMarkets())
+            .thenThrow(new StackOverflowError("파싱 중 스택 초과"))
+            .thenReturn(List.of(new UpbitMarketDto("KRW-BTC", "비트코인", "Bitcoin", null)));
+
+        // when & then
+        assertThatThrownBy(client::getMarkets).isInstanceOf(StackOverflowError.class);
+        assertThat(client.getMarkets()).hasSize(1);
+        verify(upbitApiClient, times(2)).getMarkets();
+    }
+
+    private CoalescingUpbitApiClient client(long ttlMillis) {
+        return new CoalescingUpbitApiClient(upbitApiClient, meterRegistry,
+            ttlMillis, ttlMillis, ttlMillis, ttlMillis, ttlMillis, 100);
+    }
+
+    private static UpbitOrderbookDto orderbook(String market) {
+        return new UpbitOrderbookDto(market, 1L, 0, 0, new double[0], new double[0], new double[0], new double[0]);
+    }
+
+    private static UpbitMarketCandleDto candle(String market) {
+        return new UpbitMarketCandleDto(market, null, null, 1, 1, 1, 1, 1L, 1, 1, 1, null, null, null, null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.autocoin.upbit.infrastructure;
+
+import com.autocoin.upbit.dto.UpbitTickerDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * UpbitApiClient 응답 파싱 테스트
+ */
+class UpbitApiClientTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final UpbitApiClient client = new UpbitApiClient(restTemplate, new ObjectMapper());
+
+    @Test
+    @DisplayName("Upbit snake_case 시세 응답을 UpbitTickerDto로 변환 (모르는 필드 무시)")
+    void parsesSnakeCaseTickers() {
+        // given
+        ReflectionTestUtils.setField(client, "upbitApiUrl", "https://api.upbit.com");
+        client.initReaders();
+        String body = """
+            [{"market":"KRW-BTC","trade_date":"20240101","trade_price":95000000.0,"change":"RISE",
+              "acc_trade_price_24h":123456789.5,"highest_52_week_price":100000000.0,
+              "trade_date_kst":"20240101","stream_type":"SNAPSHOT"}]
+            """;
+        when(restTemplate.getForEntity(anyString(), eq(String.class))).thenReturn(ResponseEntity.ok(body));
+
+        // when
+        List<UpbitTickerDto> tickers = client.getTickers(List.of("KRW-BTC"));
+
+        // then
+        UpbitTickerDto ticker = tickers.get(0);
+        assertThat(ticker.getMarket()).isEqualTo("KRW-BTC");
+        assertThat(ticker.getTradeDate()).isEqualTo("20240101");
+        assertThat(ticker.getTradePrice()).isEqualByComparingTo(BigDecimal.valueOf(95_000_000));
+        assertThat(ticker.getAccTradePrice24h()).isEqualByComparingTo("123456789.5");
+        assertThat(ticker.getHighest52WeekPrice()).isEqualByComparingTo(BigDecimal.valueOf(100_000_000));
+    }
+}
@@ -0,0 +1,108 @@
+package com.autocoin.upbit.infrastructure;
+
+import com.autocoin.upbit.application.UpbitRequestSigner;
+import com.autocoin.upbit.exception.UpbitApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * UpbitRateLimiter 테스트 (로컬 버킷, Remaining-Req 보정, 계정별 분리)
+ */
+class UpbitRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("버킷을 다 쓰면 최대 대기 시간을 넘는 요청은 보내지 않고 거절")
+    void rejectsWhenWaitExceedsLimit() {
+        // given
+        UpbitRateLimiter rateLimiter = rateLimiter(2, 0);
+
+        // when
+        rateLimiter.acquire("ticker", null);
+        rateLimiter.acquire("ticker", null);
+
+        // then
+        assertThatThrownBy(() -> rateLimiter.acquire("ticker", null)).isInstanceOf(UpbitApiException.class);
+        assertThat(meterRegistry.counter("upbit.ratelimit.rejected", "group", "ticker").count()).isEqualTo(1);
+        rateLimiter.acquire("candles", null);
+    }
+
+    @Test
+    @DisplayName("토큰이 모자라면 다음 토큰까지 기다린 뒤 통과")
+    void waitsForNextToken() {
+        // given
+        UpbitRateLimiter rateLimiter = rateLimiter(10, 1000);
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.acquire("orderbook", null)).isZero();
+        }
+
+        // when
+        long waited = rateLimiter.acquire("orderbook", null);
+
+        // then
+        assertThat(waited).isBetween(1L, 100L);
+        assertThat(meterRegistry.timer("upbit.ratelimit.wait", "group", "orderbook").count()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Remaining-Req sec=0이면 남은 토큰과 관계없이 다음 요청을 막고 잔여량 게이지에 반영")
+    void remainingReqClampsBucket() {
+        // given
+        UpbitRateLimiter rateLimiter = rateLimiter(10, 0);
+
+        // when
+        rateLimiter.onResponse("ticker", null, 200, "group=ticker; min=600; sec=0");
+
+        // then
+        assertThatThrownBy(() -> rateLimiter.acquire("ticker", null)).isInstanceOf(UpbitApiException.class);
+        assertThat(meterRegistry.get("upbit.ratelimit.remaining").tag("group", "ticker").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Exchange API는 access key별 버킷, 429 응답은 해당 계정만 정지")
+    void exchangeBucketsPerAccount() {
+        // given
+        UpbitRateLimiter rateLimiter = rateLimiter(30, 0);
+
+        // when
+        rateLimiter.onResponse("default", "account-a", 429, null);
+
+        // then
+        assertThatThrownBy(() -> rateLimiter.acquire("default", "account-a")).isInstanceOf(UpbitApiException.class);
+        assertThat(rateLimiter.acquire("default", "account-b")).isZero();
+        assertThat(meterRegistry.counter("upbit.ratelimit.throttled", "group", "default").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 경로별 그룹과 JWT access key 해시 계정 식별자")
+    void resolvesGroupAndAccount() {
+        // given
+        String token = new UpbitRequestSigner("access-key", "secret-key").sign(null);
+
+        // when
+        String account = UpbitRateLimitInterceptor.accountOf(token);
+
+        // then
+        assertThat(UpbitRateLimiter.resolveGroup(HttpMethod.GET, "/v1/candles/minutes/1")).isEqualTo("candles");
+        assertThat(UpbitRateLimiter.resolveGroup(HttpMethod.GET, "/v1/market/all")).isEqualTo("market");
+        assertThat(UpbitRateLimiter.resolveGroup(HttpMethod.GET, "/v1/accounts")).isEqualTo("default");
+        assertThat(UpbitRateLimiter.resolveGroup(HttpMethod.POST, "/v1/orders")).isEqualTo("order");
+        assertThat(account).hasSize(16).doesNotContain("access-key");
+        assertThat(UpbitRateLimitInterceptor.accountOf(
+            new UpbitRequestSigner("access-key", "other-secret").sign(null))).isEqualTo(account);
+    }
+
+    @SuppressWarnings("unchecked")
+    private UpbitRateLimiter rateLimiter(int perSecond, long maxWaitMillis) {
+        return new UpbitRateLimiter(meterRegistry, mock(ObjectProvider.class), true, "local",
+            perSecond, perSecond, perSecond, maxWaitMillis, 1000);
+    }
+}
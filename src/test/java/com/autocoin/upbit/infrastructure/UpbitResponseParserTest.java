@@ -0,0 +1,190 @@
+package com.autocoin.upbit.infrastructure;
+
+import com.autocoin.upbit.dto.UpbitMarketCandleDto;
+import com.autocoin.upbit.dto.UpbitMarketDto;
+import com.autocoin.upbit.dto.UpbitOrderbookDto;
+import com.autocoin.upbit.dto.UpbitTradeDto;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UpbitResponseParser 테스트 (snake_case 필드 매핑, 모르는 필드 무시)
+ */
+class UpbitResponseParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("마켓/캔들/체결 응답을 타입 객체로 변환하고 모르는 필드는 건너뜀")
+    void parsesMarketsCandlesAndTrades() throws IOException {
+        // given
+        String markets = """
+            [{"market":"KRW-BTC","korean_name":"비트코인","english_name":"Bitcoin",
+              "market_event":{"warning":false,"caution":{"PRICE_FLUCTUATIONS":false}}}]
+            """;
+        String candles = """
+            [{"market":"KRW-BTC","candle_date_time_utc":"2024-01-01T00:00:00","candle_date_time_kst":"2024-01-01T09:00:00",
+              "opening_price":95000000.0,"high_price":96000000.0,"low_price":94000000.0,"trade_price":95500000.0,
+              "timestamp":1704067200000,"candle_acc_trade_price":1234.5,"candle_acc_trade_volume":0.25,
+              "unit":1,"prev_closing_price":null,"extra":[1,2,{"a":3}]}]
+            """;
+        String trades = """
+            [{"market":"KRW-BTC","trade_date_utc":"2024-01-01","trade_time_utc":"00:00:01","timestamp":1704067201000,
+              "trade_price":95000000,"trade_volume":0.001,"prev_closing_price":94000000.0,"change_price":1000000.0,
+              "ask_bid":"BID","sequential_id":17040672010000000}]
+            """;
+
+        // when
+        List<UpbitMarketDto> parsedMarkets = parse(markets, UpbitResponseParser::markets);
+        List<UpbitMarketCandleDto> parsedCandles = parse(candles, UpbitResponseParser::candles);
+        List<UpbitTradeDto> parsedTrades = parse(trades, UpbitResponseParser::trades);
+
+        // then
+        assertThat(parsedMarkets).containsExactly(new UpbitMarketDto("KRW-BTC", "비트코인", "Bitcoin", null));
+
+        UpbitMarketCandleDto candle = parsedCandles.get(0);
+        assertThat(candle.candleDateTimeKst()).isEqualTo("2024-01-01T09:00:00");
+        assertThat(candle.tradePrice()).isEqualTo(95_500_000.0);
+        assertThat(candle.timestamp()).isEqualTo(1_704_067_200_000L);
+        assertThat(candle.unit()).isEqualTo(1);
+        assertThat(candle.prevClosingPrice()).isNull();
+
+        UpbitTradeDto trade = parsedTrades.get(0);
+        assertThat(trade.tradePrice()).isEqualTo(95_000_000.0);
+        assertThat(trade.askBid()).isEqualTo("BID");
+        assertThat(trade.sequentialId()).isEqualTo(17_040_672_010_000_000L);
+
+        // 응답 형식은 기존과 같은 snake_case
+        assertThat(objectMapper.writeValueAsString(parsedMarkets.get(0)))
+            .isEqualTo("{\"market\":\"KRW-BTC\",\"korean_name\":\"비트코인\",\"english_name\":\"Bitcoin\"}");
+    }
+
+    @Test
+    @DisplayName("호가 응답의 단위별 가격/잔량을 배열로 변환")
+    void parsesOrderbookUnits() throws IOException {
+        // given
+        String units = IntStream.range(0, 40)
+            .mapToObj(i -> "{\"ask_price\":" + (1000 + i) + ",\"bid_price\":" + (999 - i)
+                + ",\"ask_size\":" + (i + 1) + ".5,\"bid_size\":" + (i + 1) + ",\"level\":0}")
+            .collect(Collectors.joining(",", "[", "]"));
+        String body = "[{\"market\":\"KRW-BTC\",\"timestamp\":1704067200000,\"total_ask_size\":12.5,"
+            + "\"total_bid_size\":7.0,\"orderbook_units\":" + units + ",\"level\":0}]";
+
+        // when
+        List<UpbitOrderbookDto> orderbooks = parse(body, UpbitResponseParser::orderbooks);
+
+        // then
+        UpbitOrderbookDto orderbook = orderbooks.get(0);
+        assertThat(orderbook.market()).isEqualTo("KRW-BTC");
+        assertThat(orderbook.totalAskSize()).isEqualTo(12.5);
+        assertThat(orderbook.askPrices()).hasSize(40).startsWith(1000.0, 1001.0);
+        assertThat(orderbook.bidPrices()[39]).isEqualTo(960.0);
+        assertThat(orderbook.askSizes()[39]).isEqualTo(40.5);
+        assertThat(orderbook.bidSizes()).hasSize(40);
+    }
+
+    @Test
+    @DisplayName("배열이 아닌 응답(에러 객체 등)은 파싱 예외")
+    void rejectsNonArrayBody() {
+        assertThatThrownBy(() -> parse("{\"error\":{\"name\":\"404\"}}", UpbitResponseParser::markets))
+            .isInstanceOf(JsonParseException.class);
+    }
+
+    /**
+     * 기존 방식(String 본문 -> List&lt;Map&gt;)과 스트리밍 파서의 파싱 1회당 CPU 시간/할당량 비교
+     * (-Dbenchmark=true 일 때만 실행)
+     */
+    @Test
+    @DisplayName("Map 변환 대비 스트리밍 파싱 CPU 시간/할당량")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkParsing() throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        byte[] candles = IntStream.range(0, 200)
+            .mapToObj(i -> "{\"market\":\"KRW-BTC\",\"candle_date_time_utc\":\"2024-01-01T00:%02d:00\","
+                .formatted(i % 60)
+                + "\"candle_date_time_kst\":\"2024-01-01T09:00:00\",\"opening_price\":95000000.0,"
+                + "\"high_price\":96000000.0,\"low_price\":94000000.0,\"trade_price\":" + (95_000_000 + i) + ".0,"
+                + "\"timestamp\":" + (1_704_067_200_000L + i) + ",\"candle_acc_trade_price\":123456789.12345,"
+                + "\"candle_acc_trade_volume\":1.23456789,\"unit\":1}")
+            .collect(Collectors.joining(",", "[", "]"))
+            .getBytes(StandardCharsets.UTF_8);
+        byte[] markets = IntStream.range(0, 250)
+            .mapToObj(i -> "{\"market\":\"KRW-C" + i + "\",\"korean_name\":\"코인" + i + "\",\"english_name\":\"Coin"
+                + i + "\",\"market_event\":{\"warning\":false,\"caution\":{\"PRICE_FLUCTUATIONS\":false}}}")
+            .collect(Collectors.joining(",", "[", "]"))
+            .getBytes(StandardCharsets.UTF_8);
+
+        TypeReference<List<Map<String, Object>>> mapType = new TypeReference<>() {
+        };
+        for (Map.Entry<String, byte[]> payload : Map.of("candles(200)", candles, "markets(250)", markets).entrySet()) {
+            byte[] body = payload.getValue();
+            boolean isCandles = body == candles;
+            long[] mapResult = measure(threads, () ->
+                objectMapper.readValue(new String(body, StandardCharsets.UTF_8), mapType).size());
+            long[] streamResult = measure(threads, () -> isCandles
+                ? parse(body, UpbitResponseParser::candles).size()
+                : parse(body, UpbitResponseParser::markets).size());
+
+            System.out.printf("%s map=%dus/%dKB streaming=%dus/%dKB%n", payload.getKey(),
+                mapResult[0] / 1_000, mapResult[1] / 1_024, streamResult[0] / 1_000, streamResult[1] / 1_024);
+        }
+    }
+
+    private static long[] measure(com.sun.management.ThreadMXBean threads, ParseTask task) throws IOException {
+        int rounds = 2_000;
+        long sink = 0;
+        for (int i = 0; i < rounds; i++) {
+            sink += task.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytes = threads.getThreadAllocatedBytes(threadId);
+        long cpu = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < rounds; i++) {
+            sink += task.run();
+        }
+        long[] result = {
+            (threads.getCurrentThreadCpuTime() - cpu) / rounds,
+            (threads.getThreadAllocatedBytes(threadId) - bytes) / rounds
+        };
+        assertThat(sink).isPositive();
+        return result;
+    }
+
+    private <T> List<T> parse(String body, Parser<T> parser) throws IOException {
+        return parse(body.getBytes(StandardCharsets.UTF_8), parser);
+    }
+
+    private <T> List<T> parse(byte[] body, Parser<T> parser) throws IOException {
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(new ByteArrayInputStream(body))) {
+            return parser.parse(jsonParser);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Parser<T> {
+        List<T> parse(JsonParser parser) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ParseTask {
+        int run() throws IOException;
+    }
+}